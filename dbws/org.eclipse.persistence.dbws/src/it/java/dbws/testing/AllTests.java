@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -28,6 +28,7 @@
 //testing imports
 import dbws.testing.keymappings.KeyMappingsTestSuite;
 import dbws.testing.relationships.RelationshipsTestSuite;
+import dbws.testing.streaming.StreamingTestSuite;
 import dbws.testing.xrdynamicentity.XRDynamicEntityTestSuite;
 import static dbws.testing.DBWSTestHelper.DATABASE_PASSWORD_KEY;
 import static dbws.testing.DBWSTestHelper.DATABASE_URL_KEY;
@@ -41,6 +42,7 @@
 @SuiteClasses({
     KeyMappingsTestSuite.class,
     RelationshipsTestSuite.class,
+    StreamingTestSuite.class,
     XRDynamicEntityTestSuite.class
   }
 )
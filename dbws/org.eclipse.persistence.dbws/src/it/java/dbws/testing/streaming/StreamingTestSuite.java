@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package dbws.testing.streaming;
+
+//javase imports
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+//java eXtension imports
+import static javax.xml.XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI;
+import static javax.xml.XMLConstants.XMLNS_ATTRIBUTE;
+import static javax.xml.XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.dom.DOMSource;
+import jakarta.servlet.ServletContext;
+import jakarta.xml.soap.MessageFactory;
+import jakarta.xml.soap.SOAPMessage;
+
+//JUnit4 imports
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+//EclipseLink imports
+import org.eclipse.persistence.dbws.DBWSModel;
+import org.eclipse.persistence.dbws.DBWSModelProject;
+import org.eclipse.persistence.exceptions.DBWSException;
+import org.eclipse.persistence.internal.databaseaccess.Platform;
+import org.eclipse.persistence.internal.dbws.ProviderHelper;
+import org.eclipse.persistence.internal.helper.ConversionManager;
+import org.eclipse.persistence.internal.xr.Invocation;
+import org.eclipse.persistence.internal.xr.QueryOperation;
+import org.eclipse.persistence.internal.xr.Result;
+import org.eclipse.persistence.internal.xr.XRDynamicClassLoader;
+import org.eclipse.persistence.internal.xr.XRServiceAdapter;
+import org.eclipse.persistence.internal.xr.sxf.SimpleXMLFormatProject;
+import org.eclipse.persistence.oxm.XMLContext;
+import org.eclipse.persistence.oxm.XMLMarshaller;
+import org.eclipse.persistence.oxm.XMLUnmarshaller;
+import org.eclipse.persistence.oxm.record.WriterRecord;
+import org.eclipse.persistence.platform.database.MySQLPlatform;
+import org.eclipse.persistence.platform.xml.XMLComparer;
+import org.eclipse.persistence.platform.xml.XMLParser;
+import org.eclipse.persistence.platform.xml.XMLPlatform;
+import org.eclipse.persistence.platform.xml.XMLPlatformFactory;
+import org.eclipse.persistence.queries.CursorPolicy;
+import org.eclipse.persistence.queries.DataReadQuery;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+
+import dbws.testing.AllTests;
+
+// testing imports
+import static dbws.testing.DBWSTestHelper.DATABASE_DRIVER_KEY;
+import static dbws.testing.DBWSTestHelper.DATABASE_PASSWORD_KEY;
+import static dbws.testing.DBWSTestHelper.DATABASE_URL_KEY;
+import static dbws.testing.DBWSTestHelper.DATABASE_USERNAME_KEY;
+import static dbws.testing.DBWSTestHelper.DATABASE_DDL_CREATE_KEY;
+import static dbws.testing.DBWSTestHelper.DATABASE_DDL_DROP_KEY;
+import static dbws.testing.DBWSTestHelper.DATABASE_DDL_DEBUG_KEY;
+import static dbws.testing.DBWSTestHelper.DEFAULT_DATABASE_DDL_CREATE;
+import static dbws.testing.DBWSTestHelper.DEFAULT_DATABASE_DDL_DROP;
+import static dbws.testing.DBWSTestHelper.DEFAULT_DATABASE_DDL_DEBUG;
+
+/**
+ * Tests the simple-xml-format query operations whose result is streaming: the rows
+ * are read through a cursor and written into a record as they are read. A SOAP request
+ * cannot invoke a streaming operation.
+ */
+public class StreamingTestSuite extends ProviderHelper {
+
+    static final String CREATE_DDL =
+        "CREATE TABLE IF NOT EXISTS XR_STREAMING_EMPLOYEE (" +
+        "    EMP_ID NUMERIC(15) NOT NULL," +
+        "    F_NAME VARCHAR(40)," +
+        "    L_NAME VARCHAR(40)," +
+        "    PRIMARY KEY (EMP_ID)" +
+        ")|" +
+        "INSERT INTO XR_STREAMING_EMPLOYEE (EMP_ID, F_NAME, L_NAME) VALUES (1, 'Mike', 'Norman')|" +
+        "INSERT INTO XR_STREAMING_EMPLOYEE (EMP_ID, F_NAME, L_NAME) VALUES (2, 'Rick', 'Barkhouse')|" +
+        "INSERT INTO XR_STREAMING_EMPLOYEE (EMP_ID, F_NAME, L_NAME) VALUES (3, 'Blaise', 'Doughan')|";
+
+    static final String DROP_DDL =
+        "DROP TABLE XR_STREAMING_EMPLOYEE|";
+
+    static final String STREAMING_SCHEMA =
+        "<?xml version='1.0' encoding='UTF-8'?>" +
+        "<xsd:schema targetNamespace=\"urn:streaming\" xmlns=\"urn:streaming\" elementFormDefault=\"qualified\"\n" +
+          "xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\"\n" +
+          ">\n" +
+        "</xsd:schema>";
+    static final String STREAMING_WSDL =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+        "<wsdl:definitions name=\"streamingService\" targetNamespace=\"urn:streamingService\"\n" +
+          "xmlns:tns=\"urn:streamingService\"\n" +
+          "xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\"\n" +
+          "xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\"\n" +
+          ">\n" +
+          "<wsdl:types>\n" +
+            "<xsd:schema elementFormDefault=\"qualified\" targetNamespace=\"urn:streamingService\"\n" +
+              "xmlns:tns=\"urn:streamingService\"\n" +
+              ">\n" +
+              "<xsd:complexType name=\"findAllEmployeesRequestType\">\n" +
+                "<xsd:sequence/>\n" +
+              "</xsd:complexType>\n" +
+              "<xsd:complexType name=\"streamAllEmployeesRequestType\">\n" +
+                "<xsd:sequence/>\n" +
+              "</xsd:complexType>\n" +
+              "<xsd:element name=\"findAllEmployees\" type=\"tns:findAllEmployeesRequestType\"/>\n" +
+              "<xsd:element name=\"streamAllEmployees\" type=\"tns:streamAllEmployeesRequestType\"/>\n" +
+            "</xsd:schema>\n" +
+          "</wsdl:types>\n" +
+        "</wsdl:definitions>\n";
+    static final String STREAMING_DBWS =
+        "<?xml version='1.0' encoding='UTF-8'?>\n" +
+        "<dbws\n" +
+          "xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\"\n" +
+          "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+          ">\n" +
+          "<name>streaming</name>\n" +
+          "<query>\n" +
+            "<name>findAllEmployees</name>\n" +
+            "<result isCollection=\"true\">\n" +
+              "<type>simple-xml-format</type>\n" +
+              "<simple-xml-format>\n" +
+                "<simple-xml-format-tag>employees</simple-xml-format-tag>\n" +
+                "<simple-xml-tag>employee</simple-xml-tag>\n" +
+              "</simple-xml-format>\n" +
+            "</result>\n" +
+            "<sql><![CDATA[select * from XR_STREAMING_EMPLOYEE order by EMP_ID]]></sql>\n" +
+          "</query>\n" +
+          "<query>\n" +
+            "<name>streamAllEmployees</name>\n" +
+            "<result isCollection=\"true\" streaming=\"true\" fetchSize=\"2\">\n" +
+              "<type>simple-xml-format</type>\n" +
+              "<simple-xml-format>\n" +
+                "<simple-xml-format-tag>employees</simple-xml-format-tag>\n" +
+                "<simple-xml-tag>employee</simple-xml-tag>\n" +
+              "</simple-xml-format>\n" +
+            "</result>\n" +
+            "<sql><![CDATA[select * from XR_STREAMING_EMPLOYEE order by EMP_ID]]></sql>\n" +
+          "</query>\n" +
+        "</dbws>\n";
+    static final String EMPLOYEES_XML =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+        "<employees xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"simple-xml-format\">" +
+          "<employee>" +
+            "<EMP_ID>1</EMP_ID>" +
+            "<F_NAME>Mike</F_NAME>" +
+            "<L_NAME>Norman</L_NAME>" +
+          "</employee>" +
+          "<employee>" +
+            "<EMP_ID>2</EMP_ID>" +
+            "<F_NAME>Rick</F_NAME>" +
+            "<L_NAME>Barkhouse</L_NAME>" +
+          "</employee>" +
+          "<employee>" +
+            "<EMP_ID>3</EMP_ID>" +
+            "<F_NAME>Blaise</F_NAME>" +
+            "<L_NAME>Doughan</L_NAME>" +
+          "</employee>" +
+        "</employees>";
+    static final String FIND_ALL_EMPLOYEES_REQUEST =
+        "<env:Envelope xmlns:env=\"http://schemas.xmlsoap.org/soap/envelope/\">" +
+          "<env:Body>" +
+            "<srvc:findAllEmployees xmlns:srvc=\"urn:streamingService\"/>" +
+          "</env:Body>" +
+        "</env:Envelope>";
+    static final String STREAM_ALL_EMPLOYEES_REQUEST =
+        "<env:Envelope xmlns:env=\"http://schemas.xmlsoap.org/soap/envelope/\">" +
+          "<env:Body>" +
+            "<srvc:streamAllEmployees xmlns:srvc=\"urn:streamingService\"/>" +
+          "</env:Body>" +
+        "</env:Envelope>";
+
+    // test fixtures
+    public static XMLComparer comparer = new XMLComparer();
+    public static XMLPlatform xmlPlatform = XMLPlatformFactory.getInstance().getXMLPlatform();
+    public static XMLParser xmlParser = xmlPlatform.newXMLParser();
+    public static StreamingTestSuite provider = null;
+    public static XRServiceAdapter dbwsService = null;
+    static String username = null;
+    static String password = null;
+    static String url = null;
+    static String driver = null;
+    static boolean ddlCreate = false;
+    static boolean ddlDrop = false;
+    static boolean ddlDebug = false;
+
+    @BeforeClass
+    public static void setUp() {
+        final String ddlCreateProp = System.getProperty(DATABASE_DDL_CREATE_KEY, DEFAULT_DATABASE_DDL_CREATE);
+        if ("true".equalsIgnoreCase(ddlCreateProp)) {
+            ddlCreate = true;
+        }
+        final String ddlDropProp = System.getProperty(DATABASE_DDL_DROP_KEY, DEFAULT_DATABASE_DDL_DROP);
+        if ("true".equalsIgnoreCase(ddlDropProp)) {
+            ddlDrop = true;
+        }
+        final String ddlDebugProp = System.getProperty(DATABASE_DDL_DEBUG_KEY, DEFAULT_DATABASE_DDL_DEBUG);
+        if ("true".equalsIgnoreCase(ddlDebugProp)) {
+            ddlDebug = true;
+        }
+
+        username = System.getProperty(DATABASE_USERNAME_KEY);
+        if (username == null) {
+            fail("error retrieving database username");
+        }
+        password = System.getProperty(DATABASE_PASSWORD_KEY);
+        if (password == null) {
+            fail("error retrieving database password");
+        }
+        url = System.getProperty(DATABASE_URL_KEY);
+        if (url == null) {
+            fail("error retrieving database url");
+        }
+        driver = System.getProperty(DATABASE_DRIVER_KEY);
+        if (driver == null) {
+            fail("error retrieving database driver");
+        }
+
+        if (ddlCreate) {
+            try {
+                AllTests.runDdl(CREATE_DDL, ddlDebug);
+            } catch (Exception e) {
+                // e.printStackTrace();
+            }
+        }
+
+        provider = new StreamingTestSuite();
+        provider.init(StreamingTestSuite.class.getClassLoader(), null, false);
+        dbwsService = provider.xrService;
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (provider != null) {
+            provider.destroy();
+        }
+        if (ddlDrop) {
+            try {
+                AllTests.runDdl(DROP_DDL, ddlDebug);
+            } catch (Exception e) {
+                // e.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    protected InputStream initXRServiceStream(ClassLoader parentClassLoader, ServletContext sc) {
+        return new ByteArrayInputStream(STREAMING_DBWS.getBytes());
+    }
+
+    @Override
+    protected InputStream initXRSchemaStream(ClassLoader parentClassLoader, ServletContext sc) {
+        return new ByteArrayInputStream(STREAMING_SCHEMA.getBytes());
+    }
+
+    @Override
+    protected InputStream initWSDLInputStream(ClassLoader parentClassLoader, ServletContext sc) {
+        return new ByteArrayInputStream(STREAMING_WSDL.getBytes());
+    }
+
+    @Override
+    public void buildSessions() {
+        XRDynamicClassLoader xrdecl = new XRDynamicClassLoader(parentClassLoader);
+        DatabaseLogin login = new DatabaseLogin();
+        login.setUserName(username);
+        login.setPassword(password);
+        login.setConnectionString(url);
+        login.setDriverClassName(driver);
+        Platform platform = new MySQLPlatform();
+        ConversionManager conversionManager = platform.getConversionManager();
+        if (conversionManager != null) {
+            conversionManager.setLoader(xrdecl);
+        }
+        login.setDatasourcePlatform(platform);
+        login.bindAllParameters();
+        Project orProject = new Project();
+        orProject.setName("streaming-or");
+        orProject.setDatasourceLogin(login);
+        xrService.setORSession(orProject.createDatabaseSession());
+        xrService.getORSession().dontLogMessages();
+        // the rows of simple-xml-format results need no O-X mappings
+        Project oxProject = new SimpleXMLFormatProject();
+        xrService.setXMLContext(new XMLContext(oxProject));
+        xrService.setOXSession(xrService.getXMLContext().getSession(0));
+    }
+
+    @Override
+    protected void logoutSessions() {
+        if (xrService.getORSession() != null) {
+            ((DatabaseSession)xrService.getORSession()).logout();
+        }
+    }
+
+    @Test
+    public void streamingModel() {
+        XMLContext context = new XMLContext(new DBWSModelProject());
+        XMLUnmarshaller unmarshaller = context.createUnmarshaller();
+        DBWSModel model = (DBWSModel)unmarshaller.unmarshal(new StringReader(STREAMING_DBWS));
+        assertStreamingResults(model);
+
+        Document doc = xmlPlatform.createDocument();
+        XMLMarshaller marshaller = context.createMarshaller();
+        marshaller.marshal(model, doc);
+        Element result = resultElement(doc, "findAllEmployees");
+        assertFalse("streaming should not be written when it is false", result.hasAttribute("streaming"));
+        assertFalse("fetchSize should not be written when it is not set", result.hasAttribute("fetchSize"));
+        Element streamingResult = resultElement(doc, "streamAllEmployees");
+        assertEquals("true", streamingResult.getAttribute("streaming"));
+        assertEquals("2", streamingResult.getAttribute("fetchSize"));
+        assertStreamingResults((DBWSModel)unmarshaller.unmarshal(doc));
+    }
+
+    static void assertStreamingResults(DBWSModel model) {
+        Result result = ((QueryOperation)model.getOperation("findAllEmployees")).getResult();
+        assertFalse(result.isStreaming());
+        assertFalse(result.isFetchSizeSet());
+        Result streamingResult = ((QueryOperation)model.getOperation("streamAllEmployees")).getResult();
+        assertTrue(streamingResult.isStreaming());
+        assertTrue(streamingResult.isFetchSizeSet());
+        assertEquals(2, streamingResult.getFetchSize());
+    }
+
+    static Element resultElement(Document doc, String operationName) {
+        NodeList queries = doc.getElementsByTagName("query");
+        for (int i = 0; i < queries.getLength(); i++) {
+            Element query = (Element)queries.item(i);
+            if (operationName.equals(query.getElementsByTagName("name").item(0).getTextContent())) {
+                return (Element)query.getElementsByTagName("result").item(0);
+            }
+        }
+        fail("no result for operation " + operationName);
+        return null;
+    }
+
+    @Test
+    public void streamingQuery() {
+        QueryOperation op = (QueryOperation)dbwsService.getOperation("findAllEmployees");
+        assertFalse(op.isStreaming());
+        DatabaseQuery query = op.getQueryHandler().getDatabaseQuery();
+        assertFalse("a query that is not streaming should not use a cursor",
+            ((DataReadQuery)query).getContainerPolicy().isCursorPolicy());
+
+        QueryOperation streamingOp = (QueryOperation)dbwsService.getOperation("streamAllEmployees");
+        assertTrue(streamingOp.isStreaming());
+        DataReadQuery streamingQuery = (DataReadQuery)streamingOp.getQueryHandler().getDatabaseQuery();
+        assertTrue("a streaming query should use a scrollable cursor",
+            streamingQuery.getContainerPolicy().isScrollableCursorPolicy());
+        assertEquals(2, streamingQuery.getFetchSize());
+        assertEquals(2, ((CursorPolicy)streamingQuery.getContainerPolicy()).getPageSize());
+    }
+
+    @Test
+    public void findAllEmployees() {
+        Invocation invocation = new Invocation("findAllEmployees");
+        Object result = dbwsService.getOperation(invocation.getName()).invoke(dbwsService, invocation);
+        assertNotNull("result is null", result);
+        Document doc = xmlPlatform.createDocument();
+        XMLMarshaller marshaller = dbwsService.getXMLContext().createMarshaller();
+        marshaller.marshal(result, doc);
+        Document controlDoc = xmlParser.parse(new StringReader(EMPLOYEES_XML));
+        assertTrue("control document not same as XRService instance document",
+            comparer.isNodeEqual(controlDoc, doc));
+    }
+
+    @Test
+    public void streamAllEmployees() {
+        // invoked without a record, the operation returns the complete result
+        Invocation invocation = new Invocation("streamAllEmployees");
+        Object result = dbwsService.getOperation(invocation.getName()).invoke(dbwsService, invocation);
+        assertNotNull("result is null", result);
+        Document doc = xmlPlatform.createDocument();
+        XMLMarshaller marshaller = dbwsService.getXMLContext().createMarshaller();
+        marshaller.marshal(result, doc);
+        Document controlDoc = xmlParser.parse(new StringReader(EMPLOYEES_XML));
+        assertTrue("control document not same as XRService instance document",
+            comparer.isNodeEqual(controlDoc, doc));
+    }
+
+    @Test
+    public void streamAllEmployeesToWriter() {
+        Invocation invocation = new Invocation("streamAllEmployees");
+        QueryOperation op = (QueryOperation)dbwsService.getOperation(invocation.getName());
+        StringWriter writer = new StringWriter();
+        WriterRecord record = new WriterRecord();
+        record.setMarshaller(dbwsService.getXMLContext().createMarshaller());
+        record.setWriter(writer);
+        op.invoke(dbwsService, invocation, record);
+        record.flush();
+        Document doc = xmlParser.parse(new StringReader(writer.toString()));
+        Document controlDoc = xmlParser.parse(new StringReader(EMPLOYEES_XML));
+        assertTrue("control document not same as streamed document",
+            comparer.isNodeEqual(controlDoc, doc));
+    }
+
+    @Test
+    public void findAllEmployeesRequest() throws Exception {
+        SOAPMessage response = provider.invoke(createRequest(FIND_ALL_EMPLOYEES_REQUEST));
+        assertNotNull("response is null", response);
+        assertFalse("response should not be a fault", response.getSOAPBody().hasFault());
+        Element responseElement = ProviderHelper.getSOAPBodyElement(response.getSOAPPart().getEnvelope());
+        assertNotNull("response element is null", responseElement);
+        assertEquals("findAllEmployeesResponse", responseElement.getLocalName());
+        Element resultElement = firstChildElement(responseElement);
+        assertNotNull("result element is null", resultElement);
+        assertEquals("result", resultElement.getLocalName());
+        Element employeesElement = firstChildElement(resultElement);
+        assertNotNull("employees element is null", employeesElement);
+        Document doc = xmlPlatform.createDocument();
+        Element employees = (Element)doc.importNode(employeesElement, true);
+        // the xsi prefix of the result is declared on the envelope
+        employees.setAttributeNS(XMLNS_ATTRIBUTE_NS_URI, XMLNS_ATTRIBUTE + ":xsi", W3C_XML_SCHEMA_INSTANCE_NS_URI);
+        doc.appendChild(employees);
+        Document controlDoc = xmlParser.parse(new StringReader(EMPLOYEES_XML));
+        assertTrue("control document not same as SOAP response result",
+            comparer.isNodeEqual(controlDoc, doc));
+    }
+
+    @Test
+    public void streamAllEmployeesRequest() throws Exception {
+        // a SOAP response would hold the complete result, so the streaming operation is rejected
+        SOAPMessage response = provider.invoke(createRequest(STREAM_ALL_EMPLOYEES_REQUEST));
+        assertNotNull("response is null", response);
+        assertTrue("response should be a fault", response.getSOAPBody().hasFault());
+        String faultString = response.getSOAPBody().getFault().getFaultString();
+        assertTrue("unexpected fault: " + faultString,
+            faultString.contains(String.valueOf(DBWSException.STREAMING_NOT_SUPPORTED_FOR_SOAP)));
+    }
+
+    static SOAPMessage createRequest(String request) throws Exception {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        Document requestDoc = dbf.newDocumentBuilder().parse(new InputSource(new StringReader(request)));
+        SOAPMessage message = MessageFactory.newInstance().createMessage();
+        message.getSOAPPart().setContent(new DOMSource(requestDoc));
+        return message;
+    }
+
+    static Element firstChildElement(Element element) {
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                return (Element)child;
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -333,6 +333,17 @@ public <T> Class<T> extractClassFromRow(DataRecord dataRecord, Session session)
         jdbcTypeMapping.setAttributeName("jdbcType");
         jdbcTypeMapping.setXPath("@jdbcType");
         descriptor.addMapping(jdbcTypeMapping);
+
+        XMLDirectMapping fetchSizeMapping = new XMLDirectMapping();
+        fetchSizeMapping.setAttributeName("fetchSize");
+        fetchSizeMapping.setXPath("@fetchSize");
+        descriptor.addMapping(fetchSizeMapping);
+
+        XMLDirectMapping streamingMapping = new XMLDirectMapping();
+        streamingMapping.setAttributeName("streaming");
+        streamingMapping.setXPath("@streaming");
+        streamingMapping.setNullValue(false);
+        descriptor.addMapping(streamingMapping);
         return descriptor;
     }
 
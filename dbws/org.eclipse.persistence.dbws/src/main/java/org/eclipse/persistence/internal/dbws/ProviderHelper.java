@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -74,6 +74,7 @@
 import org.eclipse.persistence.internal.xr.Invocation;
 import org.eclipse.persistence.internal.xr.Operation;
 import org.eclipse.persistence.internal.xr.Parameter;
+import org.eclipse.persistence.internal.xr.QueryOperation;
 import org.eclipse.persistence.internal.xr.ValueObject;
 import org.eclipse.persistence.internal.xr.XRServiceAdapter;
 import org.eclipse.persistence.internal.xr.XRServiceFactory;
@@ -607,6 +608,10 @@ public byte[] getAttachmentAsByteArray(String id) {
         }
         Object result;
         try {
+            if (op instanceof QueryOperation && ((QueryOperation)op).isStreaming()) {
+                // the SOAP message would hold the complete result
+                throw DBWSException.streamingNotSupportedForSOAP(op.getName());
+            }
             result = op.invoke(dbwsAdapter, invocation);
             if (result instanceof ValueObject) {
                 result = ((ValueObject)result).value;
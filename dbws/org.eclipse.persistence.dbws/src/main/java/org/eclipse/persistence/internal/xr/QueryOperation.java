@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -21,6 +21,8 @@
 import static org.eclipse.persistence.internal.oxm.Constants.DATE_QNAME;
 import static org.eclipse.persistence.internal.oxm.Constants.DATE_TIME_QNAME;
 import static org.eclipse.persistence.internal.oxm.Constants.INT_QNAME;
+import static org.eclipse.persistence.internal.oxm.Constants.SCHEMA_INSTANCE_PREFIX;
+import static org.eclipse.persistence.internal.oxm.Constants.SCHEMA_TYPE_ATTRIBUTE;
 import static org.eclipse.persistence.internal.oxm.Constants.TIME_QNAME;
 import static org.eclipse.persistence.internal.xr.Util.DEFAULT_ATTACHMENT_MIMETYPE;
 import static org.eclipse.persistence.internal.xr.Util.EMPTY_STR;
@@ -67,6 +69,7 @@
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.jpa.JPAQuery;
+import org.eclipse.persistence.internal.oxm.XPathFragment;
 import org.eclipse.persistence.internal.oxm.XMLConversionManager;
 import org.eclipse.persistence.internal.oxm.conversion.Base64;
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
@@ -87,6 +90,7 @@
 import org.eclipse.persistence.oxm.NamespaceResolver;
 import org.eclipse.persistence.oxm.XMLDescriptor;
 import org.eclipse.persistence.oxm.XMLRoot;
+import org.eclipse.persistence.oxm.record.MarshalRecord;
 import org.eclipse.persistence.oxm.mappings.XMLBinaryDataMapping;
 import org.eclipse.persistence.oxm.mappings.XMLDirectMapping;
 import org.eclipse.persistence.oxm.mappings.XMLFragmentCollectionMapping;
@@ -94,7 +98,9 @@
 import org.eclipse.persistence.oxm.schema.XMLSchemaURLReference;
 import org.eclipse.persistence.queries.DataReadQuery;
 import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.queries.ScrollableCursor;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.Session;
 import org.w3c.dom.Element;
@@ -126,6 +132,7 @@ public class QueryOperation extends Operation {
     protected static final String XSI_STR = "xmlns:xsi";
     protected static final String XSITYPE_STR = "xsi:type";
     protected static final String BASE64_BINARY_STR = "xsd:base64Binary";
+    protected static final int DEFAULT_STREAMING_PAGE_SIZE = 100;
 
     protected Result result;
     protected QueryHandler queryHandler;
@@ -169,6 +176,16 @@ public boolean isAttachment() {
         return result != null && result.getAttachment() != null;
     }
 
+    /**
+     * Indicates if the rows of this operation's simple-xml-format collection result
+     * are read through a cursor and written one at a time into the response.
+     * A SOAP request cannot invoke a streaming operation, as the SOAP message
+     * would hold the complete result.
+     */
+    public boolean isStreaming() {
+        return result != null && result.isStreaming() && isSimpleXMLFormat() && isCollection();
+    }
+
     public QName getResultType() {
         if (result != null) {
             return result.getType();
@@ -244,6 +261,7 @@ public void initializeCall(XRServiceAdapter xrService,
                 xrService.getORSession().getName());
         }
         queryHandler.initialize(xrService, this);
+        initializeFetching(queryHandler.getDatabaseQuery());
         Session oxSession = xrService.getOXSession();
         QName resultType = result == null ? null : result.getType();
         addSimpleXMLFormatModelDescriptor(xrService);
@@ -307,6 +325,28 @@ public void setAttributeValueInObject(Object object, Object value)
         }
     }
 
+    /**
+     * Set the result's fetch size on the query, and read the rows of a streaming
+     * operation through a scrollable cursor that fetches that many rows at a time.
+     */
+    protected void initializeFetching(DatabaseQuery query) {
+        if (query.getProperty(DATABASEQUERY_STR) != null) {
+            query = (DatabaseQuery) query.getProperty(DATABASEQUERY_STR);
+        }
+        if (result == null || !query.isReadQuery()) {
+            return;
+        }
+        if (result.isFetchSizeSet()) {
+            ((ReadQuery) query).setFetchSize(result.getFetchSize());
+        }
+        if (isStreaming() && query.isDataReadQuery()) {
+            int pageSize = result.isFetchSizeSet() && result.getFetchSize() > 0 ?
+                result.getFetchSize() : DEFAULT_STREAMING_PAGE_SIZE;
+            ((DataReadQuery) query).useScrollableCursor(pageSize);
+            query.setIsPrepared(false);
+        }
+    }
+
     protected void addValueObjectDescriptor(XRServiceAdapter xrService) {
         Session oxSession = xrService.getOXSession();
         XMLDescriptor descriptor = (XMLDescriptor)oxSession.getProject().getClassDescriptor(
@@ -369,6 +409,72 @@ protected void addSimpleXMLFormatModelDescriptor(XRServiceAdapter xrService) {
     @Override
     @SuppressWarnings({"unchecked"})
     public Object invoke(XRServiceAdapter xrService, Invocation invocation) {
+        Object value = executeQuery(xrService, invocation);
+        if (value instanceof ScrollableCursor) {
+            // a streaming operation invoked without a record to write into
+            ScrollableCursor cursor = (ScrollableCursor) value;
+            try {
+                Vector<Object> rows = new Vector<>();
+                while (cursor.hasNext()) {
+                    rows.add(cursor.next());
+                }
+                value = rows;
+            } finally {
+                cursor.close();
+            }
+        }
+        return buildResult(xrService, value);
+    }
+
+    /**
+     * Execute the <code>SELECT</code> operation of a streaming simple-xml-format result,
+     * writing each row into the record as it is read from the database cursor.
+     * The rows are not collected first, so a record writing to a <code>Writer</code> or
+     * an <code>OutputStream</code> holds one row at a time; a <code>NodeRecord</code>
+     * still builds the complete result as a DOM.
+     * @param   xrService parent <code>XRService</code> that owns this <code>Operation</code>
+     * @param   invocation contains runtime argument values to be bound to the list of
+     *          {@link Parameter}'s.
+     * @param   record the record the simple-xml-format element is written into.
+     *
+     * @see  #isStreaming()
+     */
+    public void invoke(XRServiceAdapter xrService, Invocation invocation, MarshalRecord<?> record) {
+        Object value = executeQuery(xrService, invocation);
+        XPathFragment<?> simpleXMLFormatFragment = new XPathFragment<>(getSimpleXMLFormatTag());
+        NamespaceResolver nr = new NamespaceResolver();
+        record.openStartElement(simpleXMLFormatFragment, nr);
+        if (!DEFAULT_SIMPLE_XML_FORMAT_TAG.equals(simpleXMLFormatFragment.getLocalName())) {
+            // the type of a renamed element is written, as when the simple-xml-format model is marshalled
+            record.namespaceDeclaration(SCHEMA_INSTANCE_PREFIX, SCHEMA_INSTANCE_URL);
+            record.attributeWithoutQName(SCHEMA_INSTANCE_URL, SCHEMA_TYPE_ATTRIBUTE, SCHEMA_INSTANCE_PREFIX, DEFAULT_SIMPLE_XML_FORMAT_TAG);
+        }
+        record.closeStartElement();
+        if (value instanceof ScrollableCursor) {
+            ScrollableCursor cursor = (ScrollableCursor) value;
+            try {
+                String xmlTag = getSimpleXMLTag();
+                while (cursor.hasNext()) {
+                    record.node(createSimpleXMLRowElement(xrService, (DatabaseRecord) cursor.next(), xmlTag), nr);
+                }
+            } finally {
+                cursor.close();
+            }
+        } else if (value != null) {
+            Object xmlRoot = buildResult(xrService, value);
+            if (xmlRoot instanceof XMLRoot) {
+                for (Object rowElement : ((SimpleXMLFormatModel) ((XMLRoot) xmlRoot).getObject()).simpleXML) {
+                    record.node((Element) rowElement, nr);
+                }
+            }
+        }
+        record.endElement(simpleXMLFormatFragment, nr);
+    }
+
+    /**
+     * Bind the invocation's arguments and execute the operation's query.
+     */
+    protected Object executeQuery(XRServiceAdapter xrService, Invocation invocation) {
         DatabaseQuery query = queryHandler.getDatabaseQuery();
 
         if (query.getProperty(DATABASEQUERY_STR) != null) {
@@ -398,8 +504,14 @@ public Object invoke(XRServiceAdapter xrService, Invocation invocation) {
         }
 
         // now execute the query
-        Object value = xrService.getORSession().getActiveSession().executeQuery(query, argVals);
+        return xrService.getORSession().getActiveSession().executeQuery(query, argVals);
+    }
 
+    /**
+     * Build the operation's result from the value returned by its query.
+     */
+    @SuppressWarnings({"unchecked"})
+    protected Object buildResult(XRServiceAdapter xrService, Object value) {
         if (value != null) {
             // a recent change in core results in an empty vector being returned in cases
             // where before we'd expect an int value (typically 1) - need to handle this
@@ -528,18 +640,8 @@ protected void populateTargetObjectFromRecord(Vector<DatabaseMapping> mappings,
     @SuppressWarnings({"unchecked"})
     public Object createSimpleXMLFormat(XRServiceAdapter xrService, Object value) {
         XMLRoot xmlRoot = new XMLRoot();
-        SimpleXMLFormat simpleXMLFormat = result.getSimpleXMLFormat();
-        String tempSimpleXMLFormatTag = SimpleXMLFormat.DEFAULT_SIMPLE_XML_FORMAT_TAG;
-        String simpleXMLFormatTag = simpleXMLFormat.getSimpleXMLFormatTag();
-        if (simpleXMLFormatTag != null && !EMPTY_STR.equals(simpleXMLFormatTag)) {
-            tempSimpleXMLFormatTag = simpleXMLFormatTag;
-        }
-        xmlRoot.setLocalName(tempSimpleXMLFormatTag);
-        String tempXMLTag = DEFAULT_SIMPLE_XML_TAG;
-        String xmlTag = simpleXMLFormat.getXMLTag();
-        if (xmlTag != null && !EMPTY_STR.equals(xmlTag)) {
-            tempXMLTag = xmlTag;
-        }
+        xmlRoot.setLocalName(getSimpleXMLFormatTag());
+        String tempXMLTag = getSimpleXMLTag();
         Vector<DatabaseRecord> records = null;
         if (value instanceof ArrayList) {
             // JPA query results in a list of raw values
@@ -591,98 +693,127 @@ public Object createSimpleXMLFormat(XRServiceAdapter xrService, Object value) {
             records.add(dr);
         }
         SimpleXMLFormatModel simpleXMLFormatModel = new SimpleXMLFormatModel();
+        for (DatabaseRecord dr : records) {
+            simpleXMLFormatModel.simpleXML.add(createSimpleXMLRowElement(xrService, dr, tempXMLTag));
+        }
+        xmlRoot.setObject(simpleXMLFormatModel);
+        return xmlRoot;
+    }
+
+    /**
+     * Return the tag of the simple-xml-format document element.
+     */
+    protected String getSimpleXMLFormatTag() {
+        String simpleXMLFormatTag = result.getSimpleXMLFormat().getSimpleXMLFormatTag();
+        if (simpleXMLFormatTag != null && !EMPTY_STR.equals(simpleXMLFormatTag)) {
+            return simpleXMLFormatTag;
+        }
+        return SimpleXMLFormat.DEFAULT_SIMPLE_XML_FORMAT_TAG;
+    }
+
+    /**
+     * Return the tag of the simple-xml-format row elements.
+     */
+    protected String getSimpleXMLTag() {
+        String xmlTag = result.getSimpleXMLFormat().getXMLTag();
+        if (xmlTag != null && !EMPTY_STR.equals(xmlTag)) {
+            return xmlTag;
+        }
+        return DEFAULT_SIMPLE_XML_TAG;
+    }
+
+    /**
+     * Create the simple-xml-format element of a single row.
+     */
+    protected Element createSimpleXMLRowElement(XRServiceAdapter xrService, DatabaseRecord dr, String tempXMLTag) {
         XMLConversionManager conversionManager =
             (XMLConversionManager) xrService.getOXSession().getDatasourcePlatform().getConversionManager();
         SessionLog log = xrService.getOXSession().getSessionLog();
-        for (DatabaseRecord dr : records) {
-            Element rowElement = TEMP_DOC.createElement(tempXMLTag);
-            for (DatabaseField field : dr.getFields()) {
-                // handle complex types, i.e. ones we have a descriptor for
-                if (field instanceof ObjectRelationalDatabaseField) {
-                    ObjectRelationalDatabaseField ordtField = (ObjectRelationalDatabaseField) field;
-                    if (xrService.getOXSession().getDescriptor(ordtField.getType()) != null) {
-                        xrService.getXMLContext().createMarshaller().marshal(dr.get(field), rowElement);
-                        continue;
-                    }
+        Element rowElement = TEMP_DOC.createElement(tempXMLTag);
+        for (DatabaseField field : dr.getFields()) {
+            // handle complex types, i.e. ones we have a descriptor for
+            if (field instanceof ObjectRelationalDatabaseField) {
+                ObjectRelationalDatabaseField ordtField = (ObjectRelationalDatabaseField) field;
+                if (xrService.getOXSession().getDescriptor(ordtField.getType()) != null) {
+                    xrService.getXMLContext().createMarshaller().marshal(dr.get(field), rowElement);
+                    continue;
+                }
+            }
+            Object fieldValue = dr.get(field);
+            if (fieldValue != null) {
+                if (fieldValue instanceof Calendar) {
+                    Calendar cValue = (Calendar)fieldValue;
+                    fieldValue = conversionManager.convertObject(cValue, STRING, DATE_TIME_QNAME);
                 }
-                Object fieldValue = dr.get(field);
-                if (fieldValue != null) {
-                    if (fieldValue instanceof Calendar) {
-                        Calendar cValue = (Calendar)fieldValue;
-                        fieldValue = conversionManager.convertObject(cValue, STRING, DATE_TIME_QNAME);
+                if (fieldValue instanceof Date) {
+                    Date dValue = (Date)fieldValue;
+                    fieldValue = conversionManager.convertObject(dValue, STRING, DATE_QNAME);
+                } else if (fieldValue instanceof Time) {
+                    Time tValue = (Time)fieldValue;
+                    fieldValue = conversionManager.convertObject(tValue, STRING, TIME_QNAME);
+                } else if (fieldValue instanceof Timestamp) {
+                    Timestamp tsValue = (Timestamp)fieldValue;
+                    fieldValue = conversionManager.convertObject(tsValue, STRING, DATE_TIME_QNAME);
+                } else if (fieldValue instanceof Blob) {
+                    fieldValue = conversionManager.convertObject(fieldValue, ClassConstants.APBYTE);
+                } else if (SQLXML.class.isAssignableFrom(fieldValue.getClass())) {
+                    // handle XMLType case where an oracle.jdbc.driver.OracleSQLXML instance was returned
+                    SQLXML sqlXml = (SQLXML) fieldValue;
+                    try {
+                        String str = sqlXml.getString();
+                        sqlXml.free();
+                        // Oracle 12c appends a \n character to the xml string
+                        fieldValue = str.endsWith("\n") ? str.substring(0, str.length() - 1) : str;
+                    } catch (SQLException e) {
+                        log.logThrowable(SessionLog.FINE, SessionLog.DBWS, e);
                     }
-                    if (fieldValue instanceof Date) {
-                        Date dValue = (Date)fieldValue;
-                        fieldValue = conversionManager.convertObject(dValue, STRING, DATE_QNAME);
-                    } else if (fieldValue instanceof Time) {
-                        Time tValue = (Time)fieldValue;
-                        fieldValue = conversionManager.convertObject(tValue, STRING, TIME_QNAME);
-                    } else if (fieldValue instanceof Timestamp) {
-                        Timestamp tsValue = (Timestamp)fieldValue;
-                        fieldValue = conversionManager.convertObject(tsValue, STRING, DATE_TIME_QNAME);
-                    } else if (fieldValue instanceof Blob) {
-                        fieldValue = conversionManager.convertObject(fieldValue, ClassConstants.APBYTE);
-                    } else if (SQLXML.class.isAssignableFrom(fieldValue.getClass())) {
-                        // handle XMLType case where an oracle.jdbc.driver.OracleSQLXML instance was returned
-                        SQLXML sqlXml = (SQLXML) fieldValue;
-                        try {
-                            String str = sqlXml.getString();
-                            sqlXml.free();
-                            // Oracle 12c appends a \n character to the xml string
-                            fieldValue = str.endsWith("\n") ? str.substring(0, str.length() - 1) : str;
-                        } catch (SQLException e) {
-                            log.logThrowable(SessionLog.FINE, SessionLog.DBWS, e);
-                        }
-                    } else if (fieldValue.getClass().getName().equalsIgnoreCase(ORACLEOPAQUE_STR)) {
-                        // handle XMLType case where an oracle.sql.OPAQUE instance was returned
-                        try {
-                            Class<?> oracleOPAQUE;
-                            Class<?> xmlTypeFactoryClass;
-                            Constructor<?> xmlTypeFactoryConstructor;
-                            Object xmlTypeFactory;
-                            Method getStringMethod;
-                            if (PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
-                                oracleOPAQUE = AccessController.doPrivileged(new PrivilegedClassForName<>(IORACLEOPAQUE_STR, true, this.getClass().getClassLoader()));
-                                xmlTypeFactoryClass = AccessController.doPrivileged(new PrivilegedClassForName<>(XMLTYPEFACTORY_STR, true, this.getClass().getClassLoader()));
-                                xmlTypeFactoryConstructor = AccessController.doPrivileged(new PrivilegedGetConstructorFor<>(xmlTypeFactoryClass, new Class<?>[0], true));
-                                xmlTypeFactory = AccessController.doPrivileged(new PrivilegedInvokeConstructor<>(xmlTypeFactoryConstructor, new Object[0]));
-                                getStringMethod = AccessController.doPrivileged(new PrivilegedGetDeclaredMethod(xmlTypeFactoryClass, GETSTRING_METHOD, new Class<?>[] {oracleOPAQUE}));
-                                fieldValue = AccessController.doPrivileged(new PrivilegedMethodInvoker<>(getStringMethod, xmlTypeFactory, new Object[] {fieldValue}));
-                            } else {
-                                oracleOPAQUE = PrivilegedAccessHelper.getClassForName(IORACLEOPAQUE_STR, false, this.getClass().getClassLoader());
-                                xmlTypeFactoryClass = PrivilegedAccessHelper.getClassForName(XMLTYPEFACTORY_STR, true, this.getClass().getClassLoader());
-                                xmlTypeFactoryConstructor = PrivilegedAccessHelper.getConstructorFor(xmlTypeFactoryClass, new Class<?>[0], true);
-                                xmlTypeFactory = PrivilegedAccessHelper.invokeConstructor(xmlTypeFactoryConstructor, new Object[0]);
-                                getStringMethod = PrivilegedAccessHelper.getDeclaredMethod(xmlTypeFactoryClass, GETSTRING_METHOD, new Class<?>[] {oracleOPAQUE});
-                                fieldValue = PrivilegedAccessHelper.invokeMethod(getStringMethod, xmlTypeFactory, new Object[] {fieldValue});
-                            }
-                        } catch (ReflectiveOperationException | PrivilegedActionException e) {
-                            // if the required resources are not available there's nothing we can do...
-                            log.logThrowable(SessionLog.FINE, SessionLog.DBWS, e);
+                } else if (fieldValue.getClass().getName().equalsIgnoreCase(ORACLEOPAQUE_STR)) {
+                    // handle XMLType case where an oracle.sql.OPAQUE instance was returned
+                    try {
+                        Class<?> oracleOPAQUE;
+                        Class<?> xmlTypeFactoryClass;
+                        Constructor<?> xmlTypeFactoryConstructor;
+                        Object xmlTypeFactory;
+                        Method getStringMethod;
+                        if (PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
+                            oracleOPAQUE = AccessController.doPrivileged(new PrivilegedClassForName<>(IORACLEOPAQUE_STR, true, this.getClass().getClassLoader()));
+                            xmlTypeFactoryClass = AccessController.doPrivileged(new PrivilegedClassForName<>(XMLTYPEFACTORY_STR, true, this.getClass().getClassLoader()));
+                            xmlTypeFactoryConstructor = AccessController.doPrivileged(new PrivilegedGetConstructorFor<>(xmlTypeFactoryClass, new Class<?>[0], true));
+                            xmlTypeFactory = AccessController.doPrivileged(new PrivilegedInvokeConstructor<>(xmlTypeFactoryConstructor, new Object[0]));
+                            getStringMethod = AccessController.doPrivileged(new PrivilegedGetDeclaredMethod(xmlTypeFactoryClass, GETSTRING_METHOD, new Class<?>[] {oracleOPAQUE}));
+                            fieldValue = AccessController.doPrivileged(new PrivilegedMethodInvoker<>(getStringMethod, xmlTypeFactory, new Object[] {fieldValue}));
+                        } else {
+                            oracleOPAQUE = PrivilegedAccessHelper.getClassForName(IORACLEOPAQUE_STR, false, this.getClass().getClassLoader());
+                            xmlTypeFactoryClass = PrivilegedAccessHelper.getClassForName(XMLTYPEFACTORY_STR, true, this.getClass().getClassLoader());
+                            xmlTypeFactoryConstructor = PrivilegedAccessHelper.getConstructorFor(xmlTypeFactoryClass, new Class<?>[0], true);
+                            xmlTypeFactory = PrivilegedAccessHelper.invokeConstructor(xmlTypeFactoryConstructor, new Object[0]);
+                            getStringMethod = PrivilegedAccessHelper.getDeclaredMethod(xmlTypeFactoryClass, GETSTRING_METHOD, new Class<?>[] {oracleOPAQUE});
+                            fieldValue = PrivilegedAccessHelper.invokeMethod(getStringMethod, xmlTypeFactory, new Object[] {fieldValue});
                         }
+                    } catch (ReflectiveOperationException | PrivilegedActionException e) {
+                        // if the required resources are not available there's nothing we can do...
+                        log.logThrowable(SessionLog.FINE, SessionLog.DBWS, e);
                     }
+                }
 
-                    String elementName;
-                    if (field.getName() == null || (elementName = sqlToXmlName(field.getName())).equals(EMPTY_STR)) {
-                        // return arg from stored function has no name
-                       elementName = RESULT_STR;
-                    }
-                    Element columnElement = TEMP_DOC.createElement(elementName);
-                    rowElement.appendChild(columnElement);
-                    String fieldValueString = fieldValue.toString();
-                    // handle binary content - attachments dealt with in invoke() above
-                    if (result.getType().equals(BASE_64_BINARY_QNAME)) {
-                        fieldValueString = Helper.buildHexStringFromBytes(Base64.base64Encode((byte[])fieldValue));
-                        columnElement.setAttributeNS(XMLNS_URL, XSD_STR, SCHEMA_URL);
-                        columnElement.setAttributeNS(XMLNS_URL, XSI_STR, SCHEMA_INSTANCE_URL);
-                        columnElement.setAttributeNS(SCHEMA_INSTANCE_URL, XSITYPE_STR, BASE64_BINARY_STR);
-                    }
-                    columnElement.appendChild(TEMP_DOC.createTextNode(fieldValueString));
+                String elementName;
+                if (field.getName() == null || (elementName = sqlToXmlName(field.getName())).equals(EMPTY_STR)) {
+                    // return arg from stored function has no name
+                   elementName = RESULT_STR;
+                }
+                Element columnElement = TEMP_DOC.createElement(elementName);
+                rowElement.appendChild(columnElement);
+                String fieldValueString = fieldValue.toString();
+                // handle binary content - attachments dealt with in invoke() above
+                if (result.getType().equals(BASE_64_BINARY_QNAME)) {
+                    fieldValueString = Helper.buildHexStringFromBytes(Base64.base64Encode((byte[])fieldValue));
+                    columnElement.setAttributeNS(XMLNS_URL, XSD_STR, SCHEMA_URL);
+                    columnElement.setAttributeNS(XMLNS_URL, XSI_STR, SCHEMA_INSTANCE_URL);
+                    columnElement.setAttributeNS(SCHEMA_INSTANCE_URL, XSITYPE_STR, BASE64_BINARY_STR);
                 }
+                columnElement.appendChild(TEMP_DOC.createTextNode(fieldValueString));
             }
-            simpleXMLFormatModel.simpleXML.add(rowElement);
         }
-        xmlRoot.setObject(simpleXMLFormatModel);
-        return xmlRoot;
+        return rowElement;
     }
 }
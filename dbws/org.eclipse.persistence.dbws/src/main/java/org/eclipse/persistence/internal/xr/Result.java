@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -39,6 +39,8 @@ public class Result {
     protected SimpleXMLFormat simpleXMLFormat;
     protected Boolean isCollection = null;
     protected Integer jdbcType = null;
+    protected Integer fetchSize = null;
+    protected boolean streaming = false;
 
     public Result() {
     }
@@ -94,4 +96,41 @@ public int getJdbcType() {
     public void setJdbcType(int jdbcType) {
         this.jdbcType = jdbcType;
     }
+
+    /**
+     * Indicates if the fetch size should be set on the query.
+     */
+    public boolean isFetchSizeSet() {
+        return fetchSize != null;
+    }
+
+    /**
+     * Indicates the number of rows fetched from the database per round trip.
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Set the number of rows fetched from the database per round trip.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Indicates if the rows of a simple-xml-format collection result are read
+     * through a cursor and written one at a time into the response, instead of
+     * being collected into a result document that is marshalled afterwards.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Set if the rows of a simple-xml-format collection result are streamed.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.descriptors;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.common.Address;
+import org.eclipse.persistence.testing.tests.junit.common.EmulatedSessionTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests building objects with the builder class generated for the mappings of a descriptor, using the emulated driver.
+ */
+public class AttributesBuilderTest extends EmulatedSessionTestBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        p.getDescriptor(Address.class).getObjectBuilder().setShouldUseAttributesBuilder(true);
+        return p.createDatabaseSession();
+    }
+
+    @Test
+    public void buildObjectsTest() {
+        List<?> addresses = getEmulatedSession().readAllObjects(Address.class);
+        ObjectBuilder objectBuilder = getEmulatedSession().getDescriptor(Address.class).getObjectBuilder();
+        Assert.assertNotNull("The builder should be generated", objectBuilder.getAttributesBuilder((AbstractSession) getEmulatedSession()));
+        Assert.assertTrue(objectBuilder.shouldUseAttributesBuilder());
+        verify(addresses);
+    }
+
+    @Test
+    public void buildWorkingCopiesTest() {
+        // Reading in an early transaction builds the working copies directly from the rows.
+        UnitOfWork uow = getEmulatedSession().acquireUnitOfWork();
+        try {
+            uow.beginEarlyTransaction();
+            verify(uow.readAllObjects(Address.class));
+        } finally {
+            uow.release();
+        }
+        Assert.assertNotNull(getEmulatedSession().getDescriptor(Address.class).getObjectBuilder().getAttributesBuilder((AbstractSession) getEmulatedSession()));
+    }
+
+    @Test
+    public void equivalenceTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.dontMaintainCache();
+        List<?> generated = (List<?>) getEmulatedSession().executeQuery(query);
+        getEmulatedSession().getDescriptor(Address.class).getObjectBuilder().setShouldUseAttributesBuilder(false);
+        query = new ReadAllQuery(Address.class);
+        query.dontMaintainCache();
+        List<?> iterated = (List<?>) getEmulatedSession().executeQuery(query);
+        Assert.assertEquals(iterated.size(), generated.size());
+        for (int index = 0; index < iterated.size(); index++) {
+            Assert.assertTrue(((AbstractSession) getEmulatedSession()).compareObjects(iterated.get(index), generated.get(index)));
+        }
+    }
+
+    private void verify(List<?> addresses) {
+        Assert.assertEquals(3, addresses.size());
+        Address address = (Address) addresses.get(0);
+        Assert.assertEquals(new BigDecimal(51), address.id);
+        Assert.assertEquals("Calgary", address.city);
+        Assert.assertEquals("Canada", address.country);
+        Assert.assertEquals("J5J2B5", address.postalCode);
+        Assert.assertEquals("ALB", address.province);
+        Assert.assertEquals("1111 Moose Rd.", address.street);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.function.Function;
+
+import org.eclipse.persistence.exceptions.ConversionException;
+import org.eclipse.persistence.internal.helper.ConversionManager;
+import org.eclipse.persistence.internal.helper.JPAConversionManager;
+import org.eclipse.persistence.internal.oxm.XMLConversionManager;
+import org.eclipse.persistence.platform.database.H2Platform;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that the conversion functions resolved for a class convert as ConversionManager.convertObject does.
+ */
+public class ConversionFunctionTest {
+
+    private static final Class<?>[] CLASSES = {String.class, Integer.class, int.class, Long.class, long.class,
+            Short.class, Double.class, double.class, Float.class, Byte.class, Boolean.class, boolean.class,
+            Character.class, BigDecimal.class, BigInteger.class, Number.class, java.util.Date.class,
+            java.sql.Date.class, Timestamp.class, LocalDate.class, LocalDateTime.class, Calendar.class,
+            byte[].class, char[].class, Object.class};
+
+    private static final Object[] VALUES = {null, "1", 1, 2L, (short) 3, 4.5d, 5.5f, (byte) 6, true,
+            new BigDecimal("7"), BigInteger.valueOf(8), 'c', new Timestamp(0), java.sql.Date.valueOf("2020-01-02"),
+            LocalDate.of(2020, 1, 2), "2020-01-02", "abc"};
+
+    @Test
+    public void equivalenceTest() {
+        ConversionManager manager = new ConversionManager();
+        for (Class<?> javaClass : CLASSES) {
+            Function<Object, Object> function = manager.getConversionFunction(javaClass);
+            Assert.assertNotNull(javaClass.getName(), function);
+            for (Object value : VALUES) {
+                Object expected;
+                try {
+                    expected = manager.convertObject(value, javaClass);
+                } catch (ConversionException exception) {
+                    try {
+                        function.apply(value);
+                        Assert.fail("Conversion of " + value + " to " + javaClass.getName() + " should fail");
+                    } catch (ConversionException expectedException) {
+                        Assert.assertEquals(exception.getErrorCode(), expectedException.getErrorCode());
+                    }
+                    continue;
+                }
+                Object actual = function.apply(value);
+                if (expected instanceof byte[]) {
+                    Assert.assertArrayEquals((byte[]) expected, (byte[]) actual);
+                } else if (expected instanceof char[]) {
+                    Assert.assertArrayEquals((char[]) expected, (char[]) actual);
+                } else {
+                    Assert.assertEquals(value + " to " + javaClass.getName(), expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void defaultNullValueTest() {
+        ConversionManager manager = new JPAConversionManager();
+        Assert.assertEquals(0, manager.getConversionFunction(int.class).apply(null));
+        manager.setDefaultNullValue(String.class, "");
+        Assert.assertEquals("", manager.getConversionFunction(String.class).apply(null));
+    }
+
+    @Test
+    public void customizedConversionTest() {
+        // Classes whose conversion depends on the source object, and subclasses that customize convertObject, are not resolved.
+        Assert.assertNull(new ConversionManager().getConversionFunction(Class.class));
+        Assert.assertNull(new XMLConversionManager().getConversionFunction(Integer.class));
+        Assert.assertNotNull(new H2Platform().getConversionFunction(Integer.class));
+        Assert.assertNull(new H2Platform() {
+            @Override
+            public <T> T convertObject(Object sourceObject, Class<T> javaClass) {
+                return super.convertObject(sourceObject, javaClass);
+            }
+        }.getConversionFunction(Integer.class));
+    }
+}
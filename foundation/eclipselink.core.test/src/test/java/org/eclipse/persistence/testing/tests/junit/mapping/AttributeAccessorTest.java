@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.mapping;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.exceptions.DescriptorException;
+import org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.VirtualAttributeAccessor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the field and method attribute accessors, which use method handles
+ * and fall back to reflection for conversions and errors.
+ */
+public class AttributeAccessorTest {
+
+    public static class Employee {
+        private String name;
+        private int age;
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            if ("invalid".equals(name)) {
+                throw new IllegalStateException(name);
+            }
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public Object get(String attribute) {
+            return attributes.get(attribute);
+        }
+
+        public void set(String attribute, Object value) {
+            attributes.put(attribute, value);
+        }
+    }
+
+    @Test
+    public void instanceVariableAccessorTest() {
+        InstanceVariableAttributeAccessor nameAccessor = new InstanceVariableAttributeAccessor();
+        nameAccessor.setAttributeName("name");
+        nameAccessor.initializeAttributes(Employee.class);
+        InstanceVariableAttributeAccessor ageAccessor = new InstanceVariableAttributeAccessor();
+        ageAccessor.setAttributeName("age");
+        ageAccessor.initializeAttributes(Employee.class);
+
+        Employee employee = new Employee();
+        nameAccessor.setAttributeValueInObject(employee, "Bob");
+        ageAccessor.setAttributeValueInObject(employee, 42);
+        Assert.assertEquals("Bob", nameAccessor.getAttributeValueFromObject(employee));
+        Assert.assertEquals(42, ageAccessor.getAttributeValueFromObject(employee));
+
+        // Values that cannot be set directly are handled reflectively, null into a primitive is ignored.
+        ageAccessor.setAttributeValueInObject(employee, null);
+        Assert.assertEquals(42, employee.age);
+        ageAccessor.setAttributeValueInObject(employee, "7");
+        Assert.assertEquals(7, employee.age);
+    }
+
+    @Test
+    public void methodAccessorTest() {
+        MethodAttributeAccessor nameAccessor = new MethodAttributeAccessor();
+        nameAccessor.setAttributeName("name");
+        nameAccessor.setGetMethodName("getName");
+        nameAccessor.setSetMethodName("setName");
+        nameAccessor.initializeAttributes(Employee.class);
+        MethodAttributeAccessor ageAccessor = new MethodAttributeAccessor();
+        ageAccessor.setAttributeName("age");
+        ageAccessor.setGetMethodName("getAge");
+        ageAccessor.setSetMethodName("setAge");
+        ageAccessor.initializeAttributes(Employee.class);
+
+        Employee employee = new Employee();
+        nameAccessor.setAttributeValueInObject(employee, "Bob");
+        ageAccessor.setAttributeValueInObject(employee, 42);
+        Assert.assertEquals("Bob", nameAccessor.getAttributeValueFromObject(employee));
+        Assert.assertEquals(42, ageAccessor.getAttributeValueFromObject(employee));
+
+        // A String value is converted reflectively.
+        ageAccessor.setAttributeValueInObject(employee, "7");
+        Assert.assertEquals(7, employee.getAge());
+
+        try {
+            nameAccessor.setAttributeValueInObject(employee, "invalid");
+            Assert.fail("The exception of the set method should be reported");
+        } catch (DescriptorException exception) {
+            Assert.assertEquals(DescriptorException.TARGET_INVOCATION_WHILE_SETTING_VALUE_THRU_METHOD_ACESSOR, exception.getErrorCode());
+            Assert.assertTrue(exception.getInternalException().getCause() instanceof IllegalStateException);
+        }
+        Assert.assertEquals("Bob", employee.getName());
+    }
+
+    @Test
+    public void virtualAccessorTest() {
+        VirtualAttributeAccessor accessor = new VirtualAttributeAccessor();
+        accessor.setAttributeName("salary");
+        accessor.setGetMethodName("get");
+        accessor.setSetMethodName("set");
+        accessor.initializeAttributes(Employee.class);
+
+        Employee employee = new Employee();
+        accessor.setAttributeValueInObject(employee, 1000L);
+        Assert.assertEquals(1000L, accessor.getAttributeValueFromObject(employee));
+        Assert.assertEquals(1000L, employee.get("salary"));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.partitioning;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.descriptors.partitioning.UnionPartitioningPolicy;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.common.Address;
+import org.eclipse.persistence.testing.tests.junit.common.EmulatedSessionTestBase;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UnionPartitioningTest extends EmulatedSessionTestBase<ServerSession> {
+
+    private UnionPartitioningPolicy policy;
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession();
+        session.addConnectionPool("partition", p.getDatasourceLogin(), 1, 2);
+        policy = new UnionPartitioningPolicy("default", "partition");
+        session.setPartitioningPolicy(policy);
+        return session;
+    }
+
+    private void assertUnion() {
+        List<?> addresses = getEmulatedSession().acquireClientSession().readAllObjects(Address.class);
+        Assert.assertEquals("Rows of both partitions expected", 2 * Address.getData(Address.descriptor()).size(), addresses.size());
+    }
+
+    @Test
+    public void sequentialUnionTest() {
+        assertUnion();
+    }
+
+    @Test
+    public void parallelUnionTest() {
+        policy.setShouldExecuteInParallel(true);
+        policy.setMaxParallelThreads(2);
+        for (int i = 0; i < 4; ++i) {
+            assertUnion();
+        }
+        Assert.assertEquals("Connections should be released", 0, getEmulatedSession().getConnectionPool("partition").getTotalNumberOfConnections() - getEmulatedSession().getConnectionPool("partition").getConnectionsAvailable().size());
+    }
+
+    @Test
+    public void executorTest() {
+        CountingExecutor executor = new CountingExecutor();
+        policy.setShouldExecuteInParallel(true);
+        policy.setExecutor(executor);
+        assertUnion();
+        Assert.assertEquals("The second partition should be queried through the executor", 1, executor.executions.get());
+    }
+
+    @Test
+    public void profiledUnionTest() {
+        CountingExecutor executor = new CountingExecutor();
+        policy.setShouldExecuteInParallel(true);
+        policy.setExecutor(executor);
+        PerformanceMonitor monitor = new PerformanceMonitor();
+        monitor.setProfileWeight(SessionProfiler.ALL);
+        getEmulatedSession().setProfiler(monitor);
+        assertUnion();
+        Assert.assertEquals("A profiled session should also query the partitions concurrently", 1, executor.executions.get());
+        Assert.assertNotNull("The first partition should be timed", monitor.getOperationTime(SessionProfiler.PartitionExecute + ":default"));
+        Assert.assertNotNull("The second partition should be timed", monitor.getOperationTime(SessionProfiler.PartitionExecute + ":partition"));
+    }
+
+    @Test
+    public void boundedExecutorTest() throws Exception {
+        policy.setMaxParallelThreads(1);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) policy.getExecutor();
+        Assert.assertEquals("The queue should be bounded", 1, executor.getQueue().remainingCapacity());
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> { });
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+        release.countDown();
+        Assert.assertSame("A task of a saturated executor should run on the calling thread", Thread.currentThread(), thread.get());
+    }
+
+    /**
+     * Runs the tasks on the calling thread, counting them.
+     */
+    private static final class CountingExecutor extends AbstractExecutorService {
+
+        final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public void execute(Runnable command) {
+            executions.incrementAndGet();
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.profiler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.common.Address;
+import org.eclipse.persistence.testing.tests.junit.common.EmulatedSessionTestBase;
+import org.eclipse.persistence.tools.profiler.JfrProfiler;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the flight recorder events emitted by the JfrProfiler,
+ * using the emulated driver.
+ */
+public class JfrProfilerTest extends EmulatedSessionTestBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        DatabaseSession session = p.createDatabaseSession();
+        session.setProfiler(new JfrProfiler());
+        return session;
+    }
+
+    @Test
+    public void lockWaitProfilerTest() {
+        Assert.assertNotNull("The lock wait profiler should be registered on login", ConcurrencyUtil.SINGLETON.getLockWaitProfiler());
+        getEmulatedSession().logout();
+        Assert.assertNull("The lock wait profiler should be unregistered on logout", ConcurrencyUtil.SINGLETON.getLockWaitProfiler());
+        getEmulatedSession().login();
+        Assert.assertNotNull("The lock wait profiler should be registered on a new login", ConcurrencyUtil.SINGLETON.getLockWaitProfiler());
+    }
+
+    @Test
+    public void queryEventsTest() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            List<?> addresses = getEmulatedSession().readAllObjects(Address.class);
+            Assert.assertEquals(3, addresses.size());
+            Assert.assertSame(addresses.get(0), getEmulatedSession().readObject(addresses.get(0)));
+        });
+
+        List<RecordedEvent> queries = events(events, "org.eclipse.persistence.Query");
+        Assert.assertEquals(2, queries.size());
+        RecordedEvent readAll = queries.get(0);
+        Assert.assertEquals("ReadAllQuery", readAll.getString("queryClass"));
+        Assert.assertEquals(3, readAll.getLong("rows"));
+        Assert.assertTrue(readAll.getString("sql"), readAll.getString("sql").contains("FROM ADDRESS"));
+        Assert.assertEquals(1, queries.get(1).getLong("rows"));
+
+        List<RecordedEvent> cache = events(events, "org.eclipse.persistence.Cache");
+        Assert.assertEquals(1, cache.size());
+        Assert.assertTrue(cache.get(0).getBoolean("hit"));
+        Assert.assertEquals(Address.class.getName(), cache.get(0).getString("entityClass"));
+    }
+
+    @Test
+    public void operationEventsTest() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            getEmulatedSession().acquireUnitOfWork().commit();
+            ConcurrencyManager lock = new ConcurrencyManager();
+            lock.putThreadAsWaitingToAcquireLockForReading(Thread.currentThread(), "test");
+            lock.removeThreadNoLongerWaitingToAcquireLockForReading(Thread.currentThread());
+        });
+
+        List<RecordedEvent> commits = events(events, "org.eclipse.persistence.UnitOfWorkCommit");
+        Assert.assertEquals(1, commits.size());
+        Assert.assertEquals("UnitOfWorkCommit", commits.get(0).getString("operation"));
+        Assert.assertEquals(1, events(events, "org.eclipse.persistence.CacheKeyWait").size());
+        Assert.assertTrue("Disabled events should not be recorded", events(events, "org.eclipse.persistence.Operation").isEmpty());
+    }
+
+    private List<RecordedEvent> record(Runnable operations) throws Exception {
+        Path file = Files.createTempFile("eclipselink", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.eclipse.persistence.Query");
+            recording.enable("org.eclipse.persistence.Cache");
+            recording.enable("org.eclipse.persistence.CacheKeyWait");
+            recording.enable("org.eclipse.persistence.UnitOfWorkCommit");
+            recording.start();
+            operations.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+}
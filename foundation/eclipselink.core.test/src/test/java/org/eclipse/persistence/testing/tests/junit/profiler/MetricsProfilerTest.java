@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.profiler;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.testing.tests.junit.common.Address;
+import org.eclipse.persistence.testing.tests.junit.common.EmulatedSessionTestBase;
+import org.eclipse.persistence.tools.profiler.LatencyHistogram;
+import org.eclipse.persistence.tools.profiler.MetricsProfiler;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the latencies and counters of the MetricsProfiler,
+ * using the emulated driver.
+ */
+public class MetricsProfilerTest extends EmulatedSessionTestBase<DatabaseSession> {
+
+    private MetricsProfiler profiler;
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        DatabaseSession session = p.createDatabaseSession();
+        profiler = new MetricsProfiler();
+        session.setProfiler(profiler);
+        return session;
+    }
+
+    @Test
+    public void queryMetricsTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setName("findAll");
+        for (int i = 0; i < 5; i++) {
+            getEmulatedSession().executeQuery(query);
+        }
+        Assert.assertEquals(5, profiler.getOperationLatencies().get(MetricsProfiler.QUERY_EXECUTION).getCount());
+        LatencyHistogram queryLatencies = profiler.getQueryLatencies().get(MetricsProfiler.QUERY_EXECUTION).get(query.getMonitorName());
+        Assert.assertEquals(5, queryLatencies.getCount());
+        Assert.assertTrue(queryLatencies.getPercentile(99) <= queryLatencies.getMax());
+        Assert.assertEquals(5, profiler.getDescriptorLatencies().get(MetricsProfiler.QUERY_EXECUTION).get(Address.class.getName()).getCount());
+        Assert.assertNotNull("Statement executions should be timed", profiler.getOperationLatencies().get(SessionProfiler.StatementExecute));
+
+        List<Object[]> rows = profiler.buildLatencyMetrics();
+        Assert.assertTrue(rows.stream().anyMatch(row -> "Query".equals(row[0]) && query.getMonitorName().equals(row[1]) && "QueryExecution".equals(row[2])));
+        Assert.assertTrue(profiler.buildSummary().contains(query.getMonitorName()));
+
+        profiler.reset();
+        Assert.assertTrue(profiler.buildLatencyMetrics().isEmpty());
+    }
+
+    @Test
+    public void maxMetricsTest() {
+        // Only query executions are recorded by query and descriptor at this weight.
+        profiler.setProfileWeight(SessionProfiler.NORMAL);
+        profiler.setMaxMetrics(2);
+        for (int i = 0; i < 5; i++) {
+            ReadAllQuery query = new ReadAllQuery(Address.class);
+            query.setName("query" + i);
+            getEmulatedSession().executeQuery(query);
+        }
+        Map<String, LatencyHistogram> queryLatencies = profiler.getQueryLatencies().get(MetricsProfiler.QUERY_EXECUTION);
+        // The descriptor metric of the first query is the second metric.
+        Assert.assertEquals(2, queryLatencies.size());
+        Assert.assertEquals(4, queryLatencies.get(MetricsProfiler.OTHER).getCount());
+    }
+
+    @Test
+    public void counterTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setName("findAll");
+        profiler.occurred(SessionProfiler.CacheHits, query, null);
+        profiler.occurred(SessionProfiler.CacheHits, query, null);
+        Map<String, Long> counters = profiler.getCounters();
+        Assert.assertEquals(Long.valueOf(2), counters.get(SessionProfiler.CacheHits));
+        Assert.assertEquals(Long.valueOf(2), counters.get("Counter:" + query.getMonitorName() + ":CacheHits"));
+    }
+
+    @Test
+    public void histogramTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(50));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(1000000, histogram.getMax());
+        Assert.assertEquals(500500, histogram.getMean());
+        assertWithin(500000, histogram.getPercentile(50));
+        assertWithin(990000, histogram.getPercentile(99));
+        assertWithin(999000, histogram.getPercentile(99.9));
+        Assert.assertEquals(1000000, histogram.getPercentile(100));
+    }
+
+    private void assertWithin(long expected, long actual) {
+        Assert.assertTrue("Expected " + expected + " but was " + actual, (actual >= expected) && (actual <= expected * 1.125));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.BatchFetchPolicy;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AutomaticBatchFetchTest {
+
+    private DatabaseSessionImpl session;
+    private OneToOneMapping mapping;
+
+    @Before
+    public void setUp() {
+        RelationalDescriptor target = new RelationalDescriptor();
+        target.setJavaClass(Target.class);
+        target.setTableName("TARGET");
+        target.setPrimaryKeyFieldName("ID");
+        target.addDirectMapping("id", "ID");
+
+        RelationalDescriptor owner = new RelationalDescriptor();
+        owner.setJavaClass(Owner.class);
+        owner.setTableName("OWNER");
+        owner.setPrimaryKeyFieldName("ID");
+        owner.addDirectMapping("id", "ID");
+        mapping = new OneToOneMapping();
+        mapping.setAttributeName("target");
+        mapping.setReferenceClass(Target.class);
+        mapping.addForeignKeyFieldName("OWNER.TARGET_ID", "TARGET.ID");
+        owner.addMapping(mapping);
+
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(target);
+        project.addDescriptor(owner);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+    }
+
+    @Test
+    public void disabledByDefault() {
+        AutomaticReadAllQuery query = new AutomaticReadAllQuery();
+        query.checkAutomaticBatchFetch(rows(3));
+        assertFalse(query.isAutomaticBatchFetch());
+        assertFalse(mapping.shouldUseAutomaticBatchReading(query));
+    }
+
+    @Test
+    public void automaticBatchFetch() {
+        session.getProject().setAutomaticBatchFetchSize(50);
+        AutomaticReadAllQuery query = new AutomaticReadAllQuery();
+        query.checkAutomaticBatchFetch(rows(3));
+        assertTrue(query.isAutomaticBatchFetch());
+        assertEquals(BatchFetchType.IN, query.getBatchFetchPolicy().getType());
+        assertEquals(50, query.getBatchFetchPolicy().getSize());
+        assertTrue(mapping.shouldUseAutomaticBatchReading(query));
+    }
+
+    @Test
+    public void existingPolicyIsKept() {
+        session.getProject().setAutomaticBatchFetchSize(50);
+        AutomaticReadAllQuery query = new AutomaticReadAllQuery();
+        BatchFetchPolicy policy = new BatchFetchPolicy(BatchFetchType.EXISTS);
+        query.setBatchFetchPolicy(policy);
+        query.checkAutomaticBatchFetch(rows(3));
+        assertSame(policy, query.getBatchFetchPolicy());
+        assertEquals(BatchFetchType.EXISTS, policy.getType());
+        assertTrue(query.isAutomaticBatchFetch());
+    }
+
+    @Test
+    public void singleRowNotBatched() {
+        session.getProject().setAutomaticBatchFetchSize(50);
+        AutomaticReadAllQuery query = new AutomaticReadAllQuery();
+        query.checkAutomaticBatchFetch(rows(1));
+        assertFalse(query.isAutomaticBatchFetch());
+        assertFalse(mapping.shouldUseAutomaticBatchReading(query));
+    }
+
+    @Test
+    public void lazyLoadHotspots() {
+        PerformanceMonitor monitor = new PerformanceMonitor();
+        monitor.setProfileWeight(SessionProfiler.NORMAL);
+        ReadObjectQuery owners = new ReadObjectQuery(Owner.class);
+        owners.setName("owner");
+        ReadObjectQuery targets = new ReadObjectQuery(Target.class);
+        targets.setName("target");
+        monitor.occurred(SessionProfiler.LazyLoads, owners, session);
+        for (int i = 0; i < 3; i++) {
+            monitor.occurred(SessionProfiler.LazyLoads, targets, session);
+        }
+        monitor.occurred(SessionProfiler.CacheHits, targets, session);
+
+        Map<String, Long> hotspots = monitor.getLazyLoadHotspots();
+        assertEquals(List.of(targets.getMonitorName(), owners.getMonitorName()), new ArrayList<>(hotspots.keySet()));
+        assertEquals(Long.valueOf(3), hotspots.get(targets.getMonitorName()));
+        assertEquals(Long.valueOf(1), hotspots.get(owners.getMonitorName()));
+    }
+
+    private List<AbstractRecord> rows(int size) {
+        List<AbstractRecord> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            DatabaseRecord row = new DatabaseRecord();
+            row.put("OWNER.ID", i);
+            row.put("OWNER.TARGET_ID", i);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Exposes the automatic batch fetch check of the query.
+     */
+    class AutomaticReadAllQuery extends ReadAllQuery {
+        AutomaticReadAllQuery() {
+            super(Owner.class);
+            setSession(AutomaticBatchFetchTest.this.session);
+        }
+
+        @Override
+        public void checkAutomaticBatchFetch(List<AbstractRecord> rows) {
+            super.checkAutomaticBatchFetch(rows);
+        }
+    }
+
+    public static class Owner {
+        public long id;
+        public ValueHolderInterface<Target> target;
+    }
+
+    public static class Target {
+        public long id;
+    }
+}
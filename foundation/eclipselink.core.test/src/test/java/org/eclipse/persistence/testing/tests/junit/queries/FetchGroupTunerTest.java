@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.FetchGroupManager;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.queries.FetchGroupTracker;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.tools.profiler.FetchGroupTuner;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FetchGroupTunerTest {
+
+    private DatabaseSessionImpl session;
+    private FetchGroupTuner tuner;
+
+    @Before
+    public void setUp() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(TunedEntity.class);
+        descriptor.setTableName("TUNED");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("name", "NAME");
+        descriptor.addDirectMapping("description", "DESCRIPTION");
+        descriptor.addDirectMapping("notes", "NOTES");
+        descriptor.addDirectMapping("code", "CODE");
+        descriptor.setFetchGroupManager(new FetchGroupManager());
+        RelationalDescriptor compositeDescriptor = new RelationalDescriptor();
+        compositeDescriptor.setJavaClass(CompositeEntity.class);
+        compositeDescriptor.setTableName("COMPOSITE");
+        compositeDescriptor.addPrimaryKeyFieldName("ID");
+        compositeDescriptor.addPrimaryKeyFieldName("CODE");
+        compositeDescriptor.addDirectMapping("id", "ID");
+        compositeDescriptor.addDirectMapping("code", "CODE");
+        compositeDescriptor.addDirectMapping("name", "NAME");
+        compositeDescriptor.setFetchGroupManager(new FetchGroupManager());
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        project.addDescriptor(compositeDescriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        tuner = new FetchGroupTuner();
+        tuner.setMinExecutions(2);
+        session.setFetchGroupTuner(tuner);
+    }
+
+    @Test
+    public void learningExecutions() {
+        ReadAllQuery query = buildQuery("findAll");
+        assertSame(query, tuner.tuneQuery(query, session));
+        assertSame(query, tuner.tuneQuery(query, session));
+
+        ObjectLevelReadQuery tuned = tuner.tuneQuery(query, session);
+        assertNotSame(query, tuned);
+        assertTrue(tuned.getFetchGroup() instanceof FetchGroupTuner.TunedFetchGroup);
+        assertNull(query.getFetchGroup());
+
+        FetchGroupTuner.QueryPlan plan = tuner.getPlan(TunedEntity.class, "findAll");
+        assertEquals(3, plan.getExecutions());
+        assertTrue(plan.getAttributes().isEmpty());
+        assertFalse(plan.isDisabled());
+        assertSame("The plan should be cached by the query", plan, query.getFetchGroupTunerPlan());
+        try {
+            plan.getJoinedAttributes().add("name");
+            fail("The joined attributes of a plan should be immutable");
+        } catch (UnsupportedOperationException expected) {
+            // The attributes are published as a snapshot.
+        }
+
+        tuner.reset();
+        tuner.tuneQuery(query, session);
+        assertNotSame("A reset should invalidate the cached plan", plan, query.getFetchGroupTunerPlan());
+        assertSame(tuner.getPlan(TunedEntity.class, "findAll"), query.getFetchGroupTunerPlan());
+    }
+
+    @Test
+    public void unfetchedAttributesWidenThePlan() {
+        ReadAllQuery query = buildQuery("findAll");
+        session.addQuery("findAll", query);
+        for (int i = 0; i <= tuner.getMinExecutions(); i++) {
+            tuner.tuneQuery(query, session);
+        }
+        ObjectLevelReadQuery tuned = tuner.tuneQuery(query, session);
+        assertSame("The tuned copy of a shared query should be reused", tuned, tuner.tuneQuery(query, session));
+
+        FetchGroupTuner.QueryPlan plan = tuner.getPlan(TunedEntity.class, "findAll");
+        FetchGroupTuner.TunedEntityFetchGroup entityFetchGroup = new FetchGroupTuner.TunedEntityFetchGroup(Set.of("id"), plan);
+        TunedEntity entity = new TunedEntity();
+        entity.fetchGroup = entityFetchGroup;
+        try {
+            entityFetchGroup.onUnfetchedAttribute(entity, "name");
+            fail("A detached partial entity cannot load its attributes");
+        } catch (IllegalStateException expected) {
+            // The access is recorded anyway.
+        }
+        assertEquals(Set.of("name"), plan.getAttributes());
+        assertEquals(1, plan.getWidenings());
+
+        ObjectLevelReadQuery widened = tuner.tuneQuery(query, session);
+        assertNotSame(tuned, widened);
+        FetchGroup fetchGroup = widened.getFetchGroup();
+        assertTrue(fetchGroup.containsAttributeInternal("name"));
+        assertFalse(fetchGroup.containsAttributeInternal("notes"));
+    }
+
+    @Test
+    public void clonesShareTheTunedQuery() {
+        ReadAllQuery query = buildQuery("findAll");
+        for (int i = 0; i < tuner.getMinExecutions(); i++) {
+            tuner.tuneQuery((ReadAllQuery) query.clone(), session);
+        }
+        // JPA executes a clone of the named query for each execution.
+        ObjectLevelReadQuery tuned = tuner.tuneQuery((ReadAllQuery) query.clone(), session);
+        assertNotSame(query, tuned);
+        assertSame("The clones of a query site should share its tuned query", tuned, tuner.tuneQuery((ReadAllQuery) query.clone(), session));
+
+        ReadAllQuery paged = (ReadAllQuery) query.clone();
+        paged.setMaxRows(5);
+        ObjectLevelReadQuery tunedPaged = tuner.tuneQuery(paged, session);
+        assertNotSame("A clone with other settings should not use the tuned query", tuned, tunedPaged);
+        assertEquals(5, tunedPaged.getMaxRows());
+        assertSame(tunedPaged, tuner.tuneQuery(paged, session));
+        paged.setMaxRows(10);
+        assertEquals("Changing the settings of a query should not reuse its tuned query", 10, tuner.tuneQuery(paged, session).getMaxRows());
+
+        tuner.getPlan(TunedEntity.class, "findAll").recordUnfetchedAttribute("name");
+        ObjectLevelReadQuery widened = tuner.tuneQuery((ReadAllQuery) query.clone(), session);
+        assertNotSame("A new version of the plan should build a new tuned query", tuned, widened);
+        assertTrue(widened.getFetchGroup().containsAttributeInternal("name"));
+        assertSame(widened, tuner.tuneQuery((ReadAllQuery) query.clone(), session));
+    }
+
+    @Test
+    public void guardrails() {
+        ReadAllQuery query = buildQuery("findAll");
+        tuner.tuneQuery(query, session);
+        FetchGroupTuner.QueryPlan plan = tuner.getPlan(TunedEntity.class, "findAll");
+        plan.recordUnfetchedAttribute("name");
+        plan.recordUnfetchedAttribute("description");
+        plan.recordUnfetchedAttribute("notes");
+        assertFalse(plan.isDisabled());
+        plan.recordUnfetchedAttribute("code");
+        assertEquals("not selective", plan.getDisabledReason());
+        for (int i = 0; i < 5; i++) {
+            assertSame(query, tuner.tuneQuery(query, session));
+        }
+
+        tuner.setMaxWidenings(1);
+        ReadAllQuery other = buildQuery("findOther");
+        tuner.tuneQuery(other, session);
+        FetchGroupTuner.QueryPlan otherPlan = tuner.getPlan(TunedEntity.class, "findOther");
+        otherPlan.recordUnfetchedAttribute("name");
+        otherPlan.recordUnfetchedAttribute("code");
+        assertEquals("unstable", otherPlan.getDisabledReason());
+
+        ReadAllQuery unmapped = buildQuery("findUnmapped");
+        tuner.tuneQuery(unmapped, session);
+        FetchGroupTuner.QueryPlan unmappedPlan = tuner.getPlan(TunedEntity.class, "findUnmapped");
+        unmappedPlan.recordUnfetchedAttribute("transientValue");
+        assertTrue(unmappedPlan.isDisabled());
+    }
+
+    @Test
+    public void queriesNotTuned() {
+        ReadAllQuery unnamed = new ReadAllQuery(TunedEntity.class);
+        ReadAllQuery locked = buildQuery("locked");
+        locked.acquireLocks();
+        ReadAllQuery cached = buildQuery("cached");
+        cached.cacheQueryResults();
+        ReadAllQuery fetchGroup = buildQuery("fetchGroup");
+        fetchGroup.setShouldUseDefaultFetchGroup(false);
+        ReadAllQuery unprepared = new ReadAllQuery(TunedEntity.class);
+        unprepared.setName("unprepared");
+        for (int i = 0; i < 5; i++) {
+            assertSame(unnamed, tuner.tuneQuery(unnamed, session));
+            assertSame(locked, tuner.tuneQuery(locked, session));
+            assertSame(cached, tuner.tuneQuery(cached, session));
+            assertSame(fetchGroup, tuner.tuneQuery(fetchGroup, session));
+            assertSame(unprepared, tuner.tuneQuery(unprepared, session));
+        }
+        assertTrue(tuner.getPlans().isEmpty());
+        assertFalse("The tuner should not prepare the queries", unprepared.isPrepared());
+        assertNull(unprepared.getDescriptor());
+    }
+
+    @Test
+    public void maxPlans() {
+        tuner.setMaxPlans(1);
+        tuner.tuneQuery(buildQuery("first"), session);
+        tuner.tuneQuery(buildQuery("second"), session);
+        assertEquals(1, tuner.getPlans().size());
+        tuner.reset();
+        assertTrue(tuner.getPlans().isEmpty());
+    }
+
+    @Test
+    public void exportPlans() {
+        ReadAllQuery query = buildQuery("findAll");
+        for (int i = 0; i <= tuner.getMinExecutions(); i++) {
+            tuner.tuneQuery(query, session);
+        }
+        tuner.getPlan(TunedEntity.class, "findAll").recordUnfetchedAttribute("name");
+        ReadAllQuery learned = buildQuery("findLearned");
+        for (int i = 0; i < tuner.getMinExecutions(); i++) {
+            tuner.tuneQuery(learned, session);
+        }
+        tuner.tuneQuery(buildQuery("findOther"), session);
+
+        String[] lines = tuner.exportPlans().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("Class\tQuery\tAttributes\tJoined\tBatched\tExecutions\tStatus", lines[0]);
+        assertEquals(TunedEntity.class.getName() + "\tfindAll\tname\t\t\t3\ttuned", lines[1]);
+        assertEquals("The next execution is tuned", TunedEntity.class.getName() + "\tfindLearned\t\t\t\t2\ttuned", lines[2]);
+        assertEquals(TunedEntity.class.getName() + "\tfindOther\t\t\t\t1\tlearning", lines[3]);
+    }
+
+    @Test
+    public void partialObjectsLoadedTogether() {
+        List<TunedEntity> entities = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            TunedEntity entity = new TunedEntity();
+            entity.id = i;
+            entities.add(entity);
+        }
+        List<Object> keys = loadPartialObjects(TunedEntity.class, entities);
+        assertEquals(Set.of(1L, 2L, 3L), new HashSet<>(keys));
+    }
+
+    @Test
+    public void partialObjectsWithCompositeKeyLoadedTogether() {
+        List<TunedEntity> entities = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            CompositeEntity entity = new CompositeEntity();
+            entity.id = i;
+            entity.code = "C" + i;
+            entities.add(entity);
+        }
+        List<Object> keys = loadPartialObjects(CompositeEntity.class, entities);
+        assertEquals(Set.of(List.of(1L, "C1"), List.of(2L, "C2"), List.of(3L, "C3")), new HashSet<>(keys));
+    }
+
+    /**
+     * Track the entities as returned by a tuned query in a unit of work, access an unfetched attribute
+     * of the first one, and return the primary keys the tuner loaded.
+     */
+    private List<Object> loadPartialObjects(Class<?> entityClass, List<TunedEntity> entities) {
+        RecordingTuner recordingTuner = new RecordingTuner();
+        session.setFetchGroupTuner(recordingTuner);
+        ReadAllQuery query = new ReadAllQuery(entityClass);
+        query.setName("findAll");
+        query.checkPrePrepare(session);
+        recordingTuner.tuneQuery(query, session);
+        FetchGroupTuner.QueryPlan plan = recordingTuner.getPlan(entityClass, "findAll");
+        FetchGroupTuner.TunedEntityFetchGroup entityFetchGroup = new FetchGroupTuner.TunedEntityFetchGroup(Set.of("id"), plan);
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) session.acquireUnitOfWork();
+        for (TunedEntity entity : entities) {
+            entity.fetchGroup = entityFetchGroup;
+            entity.session = unitOfWork;
+        }
+        TunedEntity loaded = new TunedEntity();
+        loaded.id = 99;
+        loaded.fetchGroup = entityFetchGroup;
+        loaded.session = unitOfWork;
+        List<TunedEntity> result = new ArrayList<>(entities);
+        result.add(loaded);
+        recordingTuner.track(unitOfWork, result);
+        recordingTuner.track(unitOfWork, entities.get(0));
+        // An entity loaded since it was returned is not loaded again.
+        loaded.fetchGroup = null;
+        recordingTuner.entities = entities;
+
+        assertNull(entityFetchGroup.onUnfetchedAttribute(entities.get(0), "name"));
+        assertEquals(Set.of("name"), plan.getAttributes());
+        assertEquals("The partial objects should be loaded by a single query", 1, recordingTuner.loads.size());
+        unitOfWork.release();
+        return recordingTuner.loads.get(0);
+    }
+
+    private ReadAllQuery buildQuery(String name) {
+        ReadAllQuery query = new ReadAllQuery(TunedEntity.class);
+        query.setName(name);
+        // The queries are pre-prepared by their first execution.
+        query.checkPrePrepare(session);
+        return query;
+    }
+
+    /**
+     * Tuner recording the primary keys of the partial objects it loads.
+     */
+    static class RecordingTuner extends FetchGroupTuner {
+        final List<List<Object>> loads = new ArrayList<>();
+        List<TunedEntity> entities;
+
+        void track(UnitOfWorkImpl unitOfWork, Object result) {
+            trackPartialObjects(unitOfWork, result);
+        }
+
+        @Override
+        protected void loadObjects(UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor, List<Object> primaryKeys) {
+            loads.add(primaryKeys);
+            for (TunedEntity entity : entities) {
+                entity.fetchGroup = null;
+            }
+        }
+    }
+
+    /**
+     * Entity with the fetch group support normally woven.
+     */
+    public static class TunedEntity implements FetchGroupTracker {
+        public long id;
+        public String name;
+        public String description;
+        public String notes;
+        public String code;
+        public transient String transientValue;
+        transient FetchGroup fetchGroup;
+        transient Session session;
+        transient boolean shouldRefreshFetchGroup;
+
+        @Override
+        public FetchGroup _persistence_getFetchGroup() {
+            return fetchGroup;
+        }
+
+        @Override
+        public void _persistence_setFetchGroup(FetchGroup group) {
+            this.fetchGroup = group;
+        }
+
+        @Override
+        public boolean _persistence_isAttributeFetched(String attribute) {
+            return (fetchGroup == null) || fetchGroup.containsAttributeInternal(attribute);
+        }
+
+        @Override
+        public void _persistence_resetFetchGroup() {
+        }
+
+        @Override
+        public boolean _persistence_shouldRefreshFetchGroup() {
+            return shouldRefreshFetchGroup;
+        }
+
+        @Override
+        public void _persistence_setShouldRefreshFetchGroup(boolean shouldRefreshFetchGroup) {
+            this.shouldRefreshFetchGroup = shouldRefreshFetchGroup;
+        }
+
+        @Override
+        public Session _persistence_getSession() {
+            return session;
+        }
+
+        @Override
+        public void _persistence_setSession(Session session) {
+            this.session = session;
+        }
+    }
+
+    /**
+     * Entity with a composite primary key.
+     */
+    public static class CompositeEntity extends TunedEntity {
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.mappings.converters.ObjectTypeConverter;
+import org.eclipse.persistence.platform.database.H2Platform;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.common.Address;
+import org.eclipse.persistence.testing.tests.junit.common.EmulatedSessionTestBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the padding and the array binding of IN clause parameters,
+ * using the emulated driver, which returns different rows for each expected SQL.
+ */
+public class INClauseBindingTest extends EmulatedSessionTestBase<DatabaseSession> {
+
+    private static final String SQL = Address.getSQL() + " WHERE (ADDRESS_ID IN (";
+
+    public enum Country { CANADA, FRANCE }
+
+    /** The platform records the arrays it creates, as the emulated driver does not create them. */
+    private ArrayRecordingPlatform platform;
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        // H2 supports the array binding of IN clauses.
+        platform = new ArrayRecordingPlatform();
+        platform.setPingSQL("SELECT 1");
+        p.getLogin().setPlatform(platform);
+        // The country is read as a code, so the values of the IN clause are converted by the mapping.
+        DirectToFieldMapping countryMapping = (DirectToFieldMapping) p.getDescriptor(Address.class).getMappingForAttributeName("country");
+        ObjectTypeConverter converter = new ObjectTypeConverter(countryMapping);
+        converter.addConversionValue("Canada", "CA");
+        converter.addConversionValue("France", "FR");
+        countryMapping.setConverter(converter);
+        return p.createDatabaseSession();
+    }
+
+    @Test
+    public void paddingTest() {
+        getEmulatedSession().getPlatform().setShouldPadINClauseParameters(true);
+        putRows(SQL + "?,?,?,?))", 2);
+        putRows(SQL + "?))", 1);
+        Assert.assertEquals(2, readAll(51, 52, 53).size());
+        Assert.assertEquals("IN clauses of 3 and 4 values should have the same SQL", 2, readAll(51, 52, 53, 51).size());
+        Assert.assertEquals(1, readAll(51).size());
+    }
+
+    @Test
+    public void arrayBindingTest() {
+        getEmulatedSession().getPlatform().setShouldBindINClauseAsArray(true);
+        putRows(Address.getSQL() + " WHERE (ADDRESS_ID = ANY(?))", 2);
+        Assert.assertEquals(2, readAll(51).size());
+        Assert.assertEquals("IN clauses of any size should have the same SQL", 2, readAll(51, 52, 53).size());
+        Assert.assertEquals("NUMERIC", platform.elementTypeName);
+        Assert.assertArrayEquals("The values should be converted to the type of the id", new Object[] { new BigDecimal(51), new BigDecimal(52), new BigDecimal(53) }, platform.elements);
+    }
+
+    @Test
+    public void arrayBindingDateTest() {
+        getEmulatedSession().getPlatform().setShouldBindINClauseAsArray(true);
+        putRows(Address.getSQL() + " WHERE (CITY = ANY(?))", 1);
+        Date date = new Date(1000000L);
+        Calendar calendar = new GregorianCalendar();
+        calendar.setTimeInMillis(2000000L);
+        readAllByField("CITY", date, calendar, new Timestamp(3000000L));
+        Assert.assertEquals("Dates and calendars should be bound as timestamps", "TIMESTAMP", platform.elementTypeName);
+        Assert.assertArrayEquals(new Object[] { new Timestamp(1000000L), new Timestamp(2000000L), new Timestamp(3000000L) }, platform.elements);
+        for (Object element : platform.elements) {
+            Assert.assertSame(Timestamp.class, element.getClass());
+        }
+    }
+
+    @Test
+    public void arrayBindingJavaTimeTest() {
+        getEmulatedSession().getPlatform().setShouldBindINClauseAsArray(true);
+        putRows(Address.getSQL() + " WHERE (CITY = ANY(?))", 1);
+        readAllByField("CITY", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2));
+        // java.time values are bound as they are by JDBC drivers.
+        Assert.assertEquals("DATE", platform.elementTypeName);
+        Assert.assertArrayEquals(new Object[] { LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2) }, platform.elements);
+    }
+
+    @Test
+    public void arrayBindingEnumTest() {
+        getEmulatedSession().getPlatform().setShouldBindINClauseAsArray(true);
+        // An enum without a converter has no database type, the IN clause is expanded.
+        putRows(Address.getSQL() + " WHERE (CITY IN (?,?))", 1);
+        Assert.assertEquals(1, readAllByField("CITY", Country.CANADA, Country.FRANCE).size());
+        Assert.assertNull("No array should be created", platform.elements);
+    }
+
+    @Test
+    public void arrayBindingConverterTest() {
+        getEmulatedSession().getPlatform().setShouldBindINClauseAsArray(true);
+        putRows(Address.getSQL() + " WHERE (COUNTRY = ANY(?))", 1);
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("country").in(builder.getParameter("COUNTRIES")));
+        execute(query, "COUNTRIES", "CA", "FR");
+        Assert.assertEquals("The values should be converted by the mapping", "VARCHAR", platform.elementTypeName);
+        Assert.assertArrayEquals(new Object[] { "Canada", "France" }, platform.elements);
+    }
+
+    @Test
+    public void defaultTest() {
+        putRows(SQL + "?,?,?))", 1);
+        Assert.assertEquals(1, readAll(51, 52, 53).size());
+    }
+
+    private List<?> readAll(Integer... ids) {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("id").in(builder.getParameter("IDS")));
+        return execute(query, "IDS", (Object[]) ids);
+    }
+
+    private List<?> readAllByField(String field, Object... values) {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.getField(field).in(builder.getParameter("VALUES")));
+        return execute(query, "VALUES", values);
+    }
+
+    private List<?> execute(ReadAllQuery query, String argument, Object... values) {
+        query.addArgument(argument, List.class);
+        query.dontMaintainCache();
+        Vector<Object> arguments = new Vector<>();
+        arguments.add(Arrays.asList(values));
+        return (List<?>) getEmulatedSession().executeQuery(query, arguments);
+    }
+
+    /**
+     * Return the first rows of the addresses for the SQL, so the SQL that was executed can be checked.
+     */
+    private void putRows(String sql, int size) {
+        EmulatedConnection connection = getEmulatedConnection();
+        connection.putRows(sql, new Vector<>(connection.getRows(Address.getSQL()).subList(0, size)));
+    }
+
+    /**
+     * H2 platform recording the last array created.
+     */
+    static class ArrayRecordingPlatform extends H2Platform {
+        String elementTypeName;
+        Object[] elements;
+
+        @Override
+        public Array createArray(String elementDataTypeName, Object[] elements, Connection connection) {
+            this.elementTypeName = elementDataTypeName;
+            this.elements = elements;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.platform.database.H2Platform;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.common.Address;
+import org.eclipse.persistence.testing.tests.junit.common.EmulatedSessionTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the SQL of keyset pagination, using the emulated driver.
+ */
+public class KeysetPaginationTest extends EmulatedSessionTestBase<DatabaseSession> {
+
+    private static final String SQL = Address.getSQL() + " WHERE ";
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        // H2 supports row value comparisons.
+        H2Platform platform = new H2Platform();
+        platform.setPingSQL("SELECT 1");
+        p.getLogin().setPlatform(platform);
+        return p.createDatabaseSession();
+    }
+
+    @Test
+    public void expandedComparisonTest() {
+        // The row value comparison is not used for mixed directions.
+        ReadAllQuery query = buildQuery(false);
+        query.setPageAfter(Arrays.asList("Calgary", 51));
+        Assert.assertEquals(SQL + "((CITY > ?) OR ((CITY = ?) AND (ADDRESS_ID < ?))) ORDER BY CITY ASC, ADDRESS_ID DESC", prepare(query));
+        query.setPageAfter(Arrays.asList("Calgary"));
+        Assert.assertEquals("Fewer values than orderings should be allowed", SQL + "(CITY > ?) ORDER BY CITY ASC, ADDRESS_ID DESC", prepare(query));
+        query.setPageAfter(null);
+        Assert.assertEquals(Address.getSQL() + " ORDER BY CITY ASC, ADDRESS_ID DESC", prepare(query));
+    }
+
+    @Test
+    public void rowValueComparisonTest() {
+        ReadAllQuery query = buildQuery(true);
+        query.setPageAfter(Arrays.asList("Calgary", 51));
+        Assert.assertEquals(SQL + "(CITY, ADDRESS_ID) > (?, ?) ORDER BY CITY ASC, ADDRESS_ID ASC", prepare(query));
+    }
+
+    @Test
+    public void extractPageAfterTest() {
+        List<?> addresses = getEmulatedSession().readAllObjects(Address.class);
+        ReadAllQuery query = buildQuery(false);
+        Address last = (Address) addresses.get(addresses.size() - 1);
+        Assert.assertEquals(Arrays.asList(last.city, last.id), query.extractPageAfter(last, getEmulatedSession()));
+    }
+
+    @Test
+    public void missingOrderingTest() {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        query.setPageAfter(Arrays.asList(51));
+        try {
+            prepare(query);
+            Assert.fail("Keyset pagination without ordering should fail");
+        } catch (QueryException exception) {
+            Assert.assertEquals(QueryException.PAGE_AFTER_REQUIRES_ORDERING, exception.getErrorCode());
+        }
+    }
+
+    private ReadAllQuery buildQuery(boolean ascending) {
+        ReadAllQuery query = new ReadAllQuery(Address.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.addOrdering(builder.get("city").ascending());
+        query.addOrdering(ascending ? builder.get("id").ascending() : builder.get("id").descending());
+        return query;
+    }
+
+    private String prepare(ReadAllQuery query) {
+        query.prepareCall(getEmulatedSession(), new DatabaseRecord());
+        return query.getSQLString();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ValueReadQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LazyJPAQueryPreparationTest {
+
+    private AbstractSession session;
+
+    @Before
+    public void setUp() {
+        session = (AbstractSession) new Project(new DatabaseLogin()).createDatabaseSession();
+    }
+
+    @Test
+    public void eagerPreparation() {
+        CountingQuery query = new CountingQuery("eager");
+        session.addJPAQuery(query);
+        session.processJPAQueries();
+
+        assertEquals(1, query.prepareCount);
+        assertFalse(session.hasUnpreparedJPAQueries());
+        assertSame(query.getProperty("databasequery"), session.getQuery("eager"));
+    }
+
+    @Test
+    public void preparationOnFirstUse() {
+        CountingQuery query = new CountingQuery("lazy");
+        session.setShouldPrepareJPAQueriesLazily(true);
+        session.addJPAQuery(query);
+        session.addJPAQuery(new CountingQuery("other"));
+        session.processJPAQueries();
+
+        assertEquals(0, query.prepareCount);
+        assertEquals(2, session.getUnpreparedJPAQueriesCount());
+        assertTrue(session.getQueries().isEmpty());
+
+        DatabaseQuery prepared = session.getQuery("lazy");
+        assertSame(query.getProperty("databasequery"), prepared);
+        assertSame(prepared, session.getQuery("lazy"));
+        assertEquals(1, query.prepareCount);
+        assertEquals(1, session.getUnpreparedJPAQueriesCount());
+    }
+
+    @Test
+    public void warmUp() {
+        CountingQuery first = new CountingQuery("first");
+        CountingQuery second = new CountingQuery("second");
+        session.setShouldPrepareJPAQueriesLazily(true);
+        session.addJPAQuery(first);
+        session.addJPAQuery(second);
+        session.processJPAQueries();
+        session.warmUpJPAQueries();
+
+        assertFalse(session.hasUnpreparedJPAQueries());
+        assertEquals(1, first.prepareCount);
+        assertEquals(1, second.prepareCount);
+        assertEquals(2, session.getQueries().size());
+    }
+
+    @Test
+    public void replacedBeforeFirstUse() {
+        CountingQuery query = new CountingQuery("replaced");
+        session.setShouldPrepareJPAQueriesLazily(true);
+        session.addJPAQuery(query);
+        session.processJPAQueries();
+
+        ValueReadQuery replacement = new ValueReadQuery("SELECT 1");
+        session.addQuery("replaced", replacement, true);
+
+        assertFalse(session.hasUnpreparedJPAQueries());
+        assertSame(replacement, session.getQuery("replaced"));
+        assertEquals(0, query.prepareCount);
+    }
+
+    @Test
+    public void lookupBeforeFirstUse() {
+        CountingQuery query = new CountingQuery("lazy");
+        session.setShouldPrepareJPAQueriesLazily(true);
+        session.addJPAQuery(query);
+        session.processJPAQueries();
+
+        assertNull(session.getQuery(null));
+        assertTrue(session.containsQuery("lazy"));
+        assertFalse(session.containsQuery("unknown"));
+        assertEquals(0, query.prepareCount);
+        assertTrue("Lazily prepared queries are added concurrently", session.getQueries() instanceof ConcurrentMap);
+    }
+
+    /**
+     * Stands for a JPA named query, which is translated to a database query when prepared.
+     */
+    private static final class CountingQuery extends DatabaseQuery {
+
+        int prepareCount;
+
+        CountingQuery(String name) {
+            setName(name);
+        }
+
+        @Override
+        protected void prepare() {
+            prepareCount++;
+            ValueReadQuery databaseQuery = new ValueReadQuery("SELECT 1");
+            databaseQuery.setName(getName());
+            setProperty("databasequery", databaseQuery);
+        }
+
+        @Override
+        public Object executeDatabaseQuery() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.queries.batch;
+
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.ConversionException;
+import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseJsonPlatform;
+import org.eclipse.persistence.internal.databaseaccess.JsonArrayAggregationParser;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DirectCollectionMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.mappings.OneToManyMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.platform.database.H2Platform;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.common.Address;
+import org.eclipse.persistence.testing.tests.junit.common.EmulatedSessionTestBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the JSON batch fetch type, which selects collections as JSON array aggregations
+ * in the source query, using the emulated driver.
+ */
+public class JsonAggregationFetchTest extends EmulatedSessionTestBase<DatabaseSession> {
+
+    private static final String SQL = "SELECT t0.CUSTOMER_ID, t0.NAME, t0.ADDRESS_ID, "
+            + "(SELECT JSON_ARRAYAGG(JSON_OBJECT(KEY 'TAG' VALUE t1.TAG)) FROM CUSTOMER_TAG t1 WHERE (t1.CUSTOMER_ID = t0.CUSTOMER_ID)), "
+            + "(SELECT JSON_ARRAYAGG(JSON_OBJECT(KEY 'ADDRESS_ID' VALUE t2.ADDRESS_ID, KEY 'CITY' VALUE t2.CITY, KEY 'COUNTRY' VALUE t2.COUNTRY, "
+            + "KEY 'P_CODE' VALUE t2.P_CODE, KEY 'PROVINCE' VALUE t2.PROVINCE, KEY 'STREET' VALUE t2.STREET) ORDER BY t2.CITY ASC) "
+            + "FROM ADDRESS t2 WHERE (t2.CUSTOMER_ID = t0.CUSTOMER_ID)) "
+            + "FROM CUSTOMER t0";
+
+    public static class Customer {
+        public BigDecimal id;
+        public String name;
+        public List<Address> addresses;
+        public List<String> tags;
+        public Address mainAddress;
+    }
+
+    @Override
+    protected DatabaseSession createSession(Project p) {
+        // H2 supports JSON array aggregations.
+        H2Platform platform = new H2Platform();
+        platform.setPingSQL("SELECT 1");
+        p.getLogin().setPlatform(platform);
+        p.addDescriptor(customerDescriptor());
+        return p.createDatabaseSession();
+    }
+
+    @Test
+    public void selectTest() {
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.prepareCall(getEmulatedSession(), new DatabaseRecord());
+        Assert.assertEquals(SQL, query.getSQLString());
+    }
+
+    @Test
+    public void buildObjectsTest() {
+        EmulatedConnection connection = getEmulatedConnection();
+        Vector<DatabaseField> fields = new Vector<>();
+        fields.add(new DatabaseField("CUSTOMER_ID"));
+        fields.add(new DatabaseField("NAME"));
+        fields.add(new DatabaseField("ADDRESS_ID"));
+        fields.add(new DatabaseField("TAGS"));
+        fields.add(new DatabaseField("ADDRESSES"));
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {1, "Bob", null, "[{\"TAG\":\"gold\"},{\"TAG\":\"new\"}]",
+                "[{\"ADDRESS_ID\":51,\"CITY\":\"Calgary\",\"COUNTRY\":\"Canada\",\"P_CODE\":\"J5J2B5\",\"PROVINCE\":\"ALB\",\"STREET\":\"1111 Moose Rd.\"},"
+                + "{\"STREET\":\"1 Habs Place\",\"PROVINCE\":\"QUE\",\"P_CODE\":\"Q2S5Z5\",\"COUNTRY\":\"Canada\",\"CITY\":\"Montreal\",\"ADDRESS_ID\":53}]" }));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {2, "Sue", null, null, null }));
+        connection.putRows(SQL, rows);
+
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.dontMaintainCache();
+        List<?> customers = (List<?>) getEmulatedSession().executeQuery(query);
+        Assert.assertEquals(2, customers.size());
+        Customer bob = (Customer) customers.get(0);
+        Assert.assertEquals(2, bob.addresses.size());
+        Assert.assertEquals("Calgary", bob.addresses.get(0).city);
+        Assert.assertEquals(new BigDecimal(53), bob.addresses.get(1).id);
+        Assert.assertEquals("1 Habs Place", bob.addresses.get(1).street);
+        Assert.assertEquals(List.of("gold", "new"), bob.tags);
+        Customer sue = (Customer) customers.get(1);
+        Assert.assertTrue("A null aggregation should be an empty collection", sue.addresses.isEmpty());
+        Assert.assertTrue(sue.tags.isEmpty());
+    }
+
+    @Test
+    public void unsupportedPlatformTest() {
+        // Platforms without JSON array aggregations fall back to JOIN batch fetching.
+        getEmulatedSession().getLogin().setPlatform(new H2Platform() {
+            @Override
+            public boolean supportsJsonArrayAggregation() {
+                return false;
+            }
+        });
+        ((DatabaseSessionImpl) getEmulatedSession()).setDatasourceLogin(getEmulatedSession().getLogin());
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.prepareCall(getEmulatedSession(), new DatabaseRecord());
+        Assert.assertEquals("SELECT CUSTOMER_ID, NAME, ADDRESS_ID FROM CUSTOMER", query.getSQLString());
+    }
+
+    @Test
+    public void lobTargetTest() {
+        // LOB values cannot be read back from JSON, the addresses fall back to JOIN batch fetching.
+        for (DatabaseField field : getEmulatedSession().getDescriptor(Address.class).getAllSelectionFields()) {
+            if (field.getName().equals("STREET")) {
+                field.setType(ClassConstants.CLOB);
+            }
+        }
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.prepareCall(getEmulatedSession(), new DatabaseRecord());
+        Assert.assertFalse("The addresses should not be aggregated", query.getSQLString().contains("FROM ADDRESS"));
+        Assert.assertTrue("The tags should still be aggregated", query.getSQLString().contains("FROM CUSTOMER_TAG"));
+    }
+
+    @Test
+    public void binaryDirectCollectionTest() {
+        // Binary values cannot be read back from JSON, the tags fall back to JOIN batch fetching.
+        DirectCollectionMapping tagsMapping = (DirectCollectionMapping) getEmulatedSession().getDescriptor(Customer.class).getMappingForAttributeName("tags");
+        tagsMapping.getDirectField().setType(ClassConstants.APBYTE);
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.prepareCall(getEmulatedSession(), new DatabaseRecord());
+        Assert.assertFalse("The tags should not be aggregated", query.getSQLString().contains("FROM CUSTOMER_TAG"));
+        Assert.assertTrue("The addresses should still be aggregated", query.getSQLString().contains("FROM ADDRESS"));
+    }
+
+    @Test
+    public void manyToOneFallbackTest() {
+        // A reference cannot be aggregated, it is batch fetched with a JOIN, which needs a DISTINCT.
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.setBatchFetchType(BatchFetchType.JSON);
+        query.addBatchReadAttribute("mainAddress");
+        query.prepareCall(getEmulatedSession(), new DatabaseRecord());
+        query.setSession((DatabaseSessionImpl) getEmulatedSession());
+        OneToOneMapping mainAddressMapping = (OneToOneMapping) getEmulatedSession().getDescriptor(Customer.class).getMappingForAttributeName("mainAddress");
+        ObjectLevelReadQuery batchQuery = (ObjectLevelReadQuery) mainAddressMapping.prepareNestedBatchQuery(query);
+        Assert.assertEquals(ObjectLevelReadQuery.USE_DISTINCT, batchQuery.getDistinctState());
+    }
+
+    @Test
+    public void parserTest() {
+        List<Map<String, Object>> objects = new JsonArrayAggregationParser(" [ {\"A\" : -1.5e2, \"B\" : \"x\\\"\\u0041\", \"C\" : [true, null]}, {} ] ").parse();
+        Assert.assertEquals(2, objects.size());
+        Assert.assertEquals(new BigDecimal("-1.5e2"), objects.get(0).get("A"));
+        Assert.assertEquals("x\"A", objects.get(0).get("B"));
+        Assert.assertEquals(Arrays.asList(true, null), objects.get(0).get("C"));
+        Assert.assertTrue(objects.get(1).isEmpty());
+        try {
+            new JsonArrayAggregationParser("[{\"A\":\"secret\"}").parse();
+            Assert.fail("Invalid JSON should fail");
+        } catch (QueryException exception) {
+            Assert.assertEquals(QueryException.INVALID_JSON_ARRAY_AGGREGATION, exception.getErrorCode());
+            Assert.assertTrue(exception.getMessage(), exception.getMessage().contains("[15]"));
+            Assert.assertFalse("The row data should not be reported", exception.getMessage().contains("secret"));
+        }
+    }
+
+    @Test
+    public void temporalValuesTest() {
+        // Databases write temporal values as ISO text, with a 'T' or a space separator and with an offset for time zone types.
+        DatabaseJsonPlatform jsonPlatform = new H2Platform().getJsonPlatform();
+        LocalDateTime dateTime = LocalDateTime.of(2026, 10, 19, 14, 21, 24, 500000000);
+        Timestamp timestamp = Timestamp.valueOf(dateTime);
+        Assert.assertEquals(dateTime, jsonPlatform.convertJsonAggregationValue("2026-10-19T14:21:24.5", LocalDateTime.class));
+        Assert.assertEquals(timestamp, jsonPlatform.convertJsonAggregationValue("2026-10-19T14:21:24.5", Timestamp.class));
+        Assert.assertEquals(timestamp, jsonPlatform.convertJsonAggregationValue("2026-10-19 14:21:24.500000", java.util.Date.class));
+        Assert.assertEquals(timestamp, jsonPlatform.convertJsonAggregationValue("2026-10-19T14:21:24.5", Calendar.class));
+
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(dateTime, ZoneOffset.ofHours(2));
+        Assert.assertEquals(offsetDateTime, jsonPlatform.convertJsonAggregationValue("2026-10-19T14:21:24.5+02:00", OffsetDateTime.class));
+        Assert.assertEquals(Timestamp.from(offsetDateTime.toInstant()), jsonPlatform.convertJsonAggregationValue("2026-10-19T14:21:24.5+02:00", LocalDateTime.class));
+        Assert.assertEquals(Timestamp.from(offsetDateTime.toInstant()), jsonPlatform.convertJsonAggregationValue("2026-10-19T12:21:24.5Z", Timestamp.class));
+
+        Assert.assertEquals(LocalDate.of(2026, 10, 19), jsonPlatform.convertJsonAggregationValue("2026-10-19", LocalDate.class));
+        Assert.assertEquals(java.sql.Date.valueOf("2026-10-19"), jsonPlatform.convertJsonAggregationValue("2026-10-19", java.sql.Date.class));
+        Assert.assertEquals(LocalTime.of(14, 21, 24), jsonPlatform.convertJsonAggregationValue("14:21:24", LocalTime.class));
+        Assert.assertEquals(Time.valueOf("14:21:24"), jsonPlatform.convertJsonAggregationValue("14:21:24", Time.class));
+
+        // Non temporal values are not converted
+        Assert.assertEquals("2026-10-19T14:21:24", jsonPlatform.convertJsonAggregationValue("2026-10-19T14:21:24", String.class));
+        Assert.assertNull(jsonPlatform.convertJsonAggregationValue(null, Timestamp.class));
+        try {
+            jsonPlatform.convertJsonAggregationValue("19/10/2026", LocalDate.class);
+            Assert.fail("An invalid date should fail");
+        } catch (ConversionException exception) {
+            // expected
+        }
+    }
+
+    private static RelationalDescriptor customerDescriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Customer.class);
+        descriptor.addTableName("CUSTOMER");
+        descriptor.addPrimaryKeyFieldName("CUSTOMER.CUSTOMER_ID");
+
+        DirectToFieldMapping idMapping = new DirectToFieldMapping();
+        idMapping.setAttributeName("id");
+        idMapping.setFieldName("CUSTOMER.CUSTOMER_ID");
+        descriptor.addMapping(idMapping);
+
+        DirectToFieldMapping nameMapping = new DirectToFieldMapping();
+        nameMapping.setAttributeName("name");
+        nameMapping.setFieldName("CUSTOMER.NAME");
+        descriptor.addMapping(nameMapping);
+
+        OneToManyMapping addressesMapping = new OneToManyMapping();
+        addressesMapping.setAttributeName("addresses");
+        addressesMapping.setReferenceClass(Address.class);
+        addressesMapping.dontUseIndirection();
+        addressesMapping.useCollectionClass(Vector.class);
+        addressesMapping.addTargetForeignKeyFieldName("ADDRESS.CUSTOMER_ID", "CUSTOMER.CUSTOMER_ID");
+        addressesMapping.addAscendingOrdering("city");
+        addressesMapping.useBatchReading();
+        addressesMapping.setBatchFetchType(BatchFetchType.JSON);
+        descriptor.addMapping(addressesMapping);
+
+        OneToOneMapping mainAddressMapping = new OneToOneMapping();
+        mainAddressMapping.setAttributeName("mainAddress");
+        mainAddressMapping.setReferenceClass(Address.class);
+        mainAddressMapping.dontUseIndirection();
+        mainAddressMapping.addForeignKeyFieldName("CUSTOMER.ADDRESS_ID", "ADDRESS.ADDRESS_ID");
+        descriptor.addMapping(mainAddressMapping);
+
+        DirectCollectionMapping tagsMapping = new DirectCollectionMapping();
+        tagsMapping.setAttributeName("tags");
+        tagsMapping.dontUseIndirection();
+        tagsMapping.useCollectionClass(Vector.class);
+        tagsMapping.setReferenceTableName("CUSTOMER_TAG");
+        tagsMapping.setDirectFieldName("CUSTOMER_TAG.TAG");
+        tagsMapping.setDirectFieldClassification(String.class);
+        tagsMapping.addReferenceKeyFieldName("CUSTOMER_TAG.CUSTOMER_ID", "CUSTOMER.CUSTOMER_ID");
+        tagsMapping.useBatchReading();
+        tagsMapping.setBatchFetchType(BatchFetchType.JSON);
+        descriptor.addMapping(tagsMapping);
+
+        return descriptor;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.schemaframework;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.common.EmulatedSessionTestBase;
+import org.eclipse.persistence.tools.schemaframework.SchemaManager;
+import org.eclipse.persistence.tools.schemaframework.TableCreator;
+import org.eclipse.persistence.tools.schemaframework.TableDefinition;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the concurrent execution of the DDL of a TableCreator, over the
+ * connection pool of the emulated driver.
+ */
+public class ConcurrentTableCreatorTest extends EmulatedSessionTestBase<ServerSession> {
+
+    /** Tables T1 to T9 reference the previous table, T10 to T19 are independent. */
+    private static final int TABLES = 20;
+
+    /** The DDL statements and the threads that executed them. */
+    private final List<String[]> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession(1, 8);
+        session.getEventManager().addListener(new SessionEventAdapter() {
+            @Override
+            public void preExecuteQuery(SessionEvent event) {
+                if (event.getQuery().getCall() instanceof SQLCall) {
+                    String sql = ((SQLCall) event.getQuery().getCall()).getSQLString();
+                    if (sql.contains("TABLE T")) {
+                        statements.add(new String[] { sql, Thread.currentThread().getName() });
+                        if (sql.startsWith("CREATE")) {
+                            // slow the statements down, so all threads take part
+                            try {
+                                Thread.sleep(5);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    }
+                }
+            }
+        });
+        return session;
+    }
+
+    private TableCreator buildTableCreator() {
+        TableCreator creator = new TableCreator();
+        for (int i = 0; i < TABLES; ++i) {
+            TableDefinition table = new TableDefinition();
+            table.setName("T" + i);
+            table.addPrimaryKeyField("ID", Integer.class);
+            table.addField("CODE", String.class, 20);
+            table.addUniqueKeyConstraint("T" + i + "_CODE", "CODE");
+            if (i > 0 && i < 10) {
+                table.addField("PREVIOUS_ID", Integer.class);
+                table.addForeignKeyConstraint("T" + i + "_PREVIOUS", "PREVIOUS_ID", "ID", "T" + (i - 1));
+            }
+            creator.addTableDefinition(table);
+        }
+        return creator;
+    }
+
+    private void createTables(int threads) {
+        SchemaManager schemaManager = new SchemaManager(getEmulatedSession());
+        schemaManager.setDDLThreads(threads);
+        buildTableCreator().createTables(getEmulatedSession(), schemaManager, true, false, false, false);
+    }
+
+    @Test
+    public void concurrentCreateTest() {
+        createTables(4);
+
+        int lastCreate = -1;
+        int firstAlter = statements.size();
+        Set<String> createThreads = new HashSet<>();
+        Set<String> foreignKeyThreads = new HashSet<>();
+        int creates = 0;
+        int uniqueKeys = 0;
+        int foreignKeys = 0;
+        for (int i = 0; i < statements.size(); ++i) {
+            String sql = statements.get(i)[0];
+            if (sql.startsWith("CREATE TABLE")) {
+                creates++;
+                lastCreate = i;
+                createThreads.add(statements.get(i)[1]);
+            } else if (sql.startsWith("ALTER TABLE")) {
+                firstAlter = Math.min(firstAlter, i);
+                if (sql.contains("FOREIGN KEY")) {
+                    foreignKeys++;
+                    foreignKeyThreads.add(statements.get(i)[1]);
+                } else if (sql.contains("UNIQUE")) {
+                    uniqueKeys++;
+                }
+            }
+        }
+        Assert.assertEquals("All tables should be created", TABLES, creates);
+        Assert.assertEquals("All unique constraints should be created", TABLES, uniqueKeys);
+        Assert.assertEquals("All foreign key constraints should be created", 9, foreignKeys);
+        Assert.assertTrue("Tables should be created before the constraints", lastCreate < firstAlter);
+        Assert.assertTrue("Tables should be created by several threads", createThreads.size() > 1);
+        Assert.assertFalse("Tables should not be created by the calling thread", createThreads.contains(Thread.currentThread().getName()));
+        Assert.assertEquals("Foreign keys of tables referencing each other should be created by one thread", 1, foreignKeyThreads.size());
+        Assert.assertEquals("Connections should be released", 0, getEmulatedSession().getReadConnectionPool().getTotalNumberOfConnections() - getEmulatedSession().getReadConnectionPool().getConnectionsAvailable().size());
+    }
+
+    @Test
+    public void sequentialCreateTest() {
+        createTables(1);
+
+        Assert.assertEquals("All statements should be executed", TABLES * 2 + 9, statements.size());
+        for (String[] statement : statements) {
+            Assert.assertEquals("Statements should be executed by the calling thread", Thread.currentThread().getName(), statement[1]);
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.sequencing;
+
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sequencing.TableSequence;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.common.Address;
+import org.eclipse.persistence.testing.tests.junit.common.EmulatedSessionTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the background prefetch of preallocated sequence values,
+ * using a sequence that generates the values in memory.
+ */
+public class SequencePrefetchTest extends EmulatedSessionTestBase<ServerSession> {
+
+    private CountingSequence sequence;
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        sequence = new CountingSequence();
+        p.getDatasourceLogin().getPlatform().addSequence(sequence);
+        ServerSession session = (ServerSession) p.createServerSession();
+        session.getSequencingControl().setPrefetchThreshold(50);
+        return session;
+    }
+
+    @Test
+    public void prefetchTest() throws Exception {
+        long previous = 0;
+        for (int i = 0; i < 7; ++i) {
+            long value = nextValue();
+            Assert.assertEquals("Sequence values should be consecutive", previous + 1, value);
+            previous = value;
+        }
+        // The 7th value of the first block of 10 is the trigger for the prefetch.
+        waitForAllocations(2);
+        Assert.assertEquals("The next block should be prefetched", 2, sequence.sizes.size());
+        for (int i = 0; i < 13; ++i) {
+            long value = nextValue();
+            Assert.assertEquals("Sequence values should be consecutive", previous + 1, value);
+            previous = value;
+        }
+        waitForAllocations(3);
+        Assert.assertEquals("The next block should be prefetched", 3, sequence.sizes.size());
+        for (int size : sequence.sizes) {
+            Assert.assertEquals("Blocks should have the preallocation size", 10, size);
+        }
+    }
+
+    @Test
+    public void adaptiveSizeTest() throws Exception {
+        getEmulatedSession().getSequencingControl().setMaxPrefetchSize(40);
+        for (int i = 0; i < 100; ++i) {
+            nextValue();
+        }
+        Assert.assertEquals("Blocks should grow up to the maximum prefetch size", Integer.valueOf(40), sequence.sizes.get(sequence.sizes.size() - 1));
+        Assert.assertEquals("Blocks should double in size", Integer.valueOf(20), sequence.sizes.get(1));
+    }
+
+    private long nextValue() {
+        return ((Number) getEmulatedSession().getSequencing().getNextValue(Address.class)).longValue();
+    }
+
+    private void waitForAllocations(int count) throws InterruptedException {
+        for (int i = 0; i < 500 && sequence.sizes.size() < count; ++i) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Table sequence that generates its values in memory, without a transaction.
+     */
+    static class CountingSequence extends TableSequence {
+        final List<Integer> sizes = new CopyOnWriteArrayList<>();
+        long next = 1;
+
+        CountingSequence() {
+            super("ADDRESS_SEQ", 10);
+        }
+
+        @Override
+        public boolean shouldUseTransaction() {
+            return false;
+        }
+
+        @Override
+        public Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+            Vector<Long> values = new Vector<>(size);
+            for (int i = 0; i < size; ++i) {
+                values.add(next++);
+            }
+            sizes.add(size);
+            return values;
+        }
+    }
+
+}
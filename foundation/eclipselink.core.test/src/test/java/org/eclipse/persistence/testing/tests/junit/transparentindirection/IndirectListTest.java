@@ -35,6 +35,7 @@
 import org.eclipse.persistence.descriptors.changetracking.CollectionChangeEvent;
 import org.eclipse.persistence.indirection.IndirectCollectionsFactory;
 import org.eclipse.persistence.indirection.IndirectList;
+import org.eclipse.persistence.indirection.NonSynchronizedIndirectList;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.indirection.QueryBasedValueHolder;
 import org.eclipse.persistence.queries.ReadAllQuery;
@@ -64,7 +65,8 @@ public class IndirectListTest {
     @Parameters(name = "{0}, {1}")
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][] {
-                 { IndirectList.class, true }, { IndirectList.class, false }, { L.class, true }, { L.class, false }
+                 { IndirectList.class, true }, { IndirectList.class, false }, { L.class, true }, { L.class, false },
+                 { NonSynchronizedIndirectList.class, true }, { NonSynchronizedIndirectList.class, false }
            });
     }
 
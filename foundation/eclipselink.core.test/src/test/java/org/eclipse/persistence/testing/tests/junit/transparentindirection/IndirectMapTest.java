@@ -40,6 +40,7 @@
 import org.eclipse.persistence.descriptors.changetracking.MapChangeEvent;
 import org.eclipse.persistence.indirection.IndirectCollectionsFactory;
 import org.eclipse.persistence.indirection.IndirectMap;
+import org.eclipse.persistence.indirection.NonSynchronizedIndirectMap;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.indirection.QueryBasedValueHolder;
 import org.eclipse.persistence.queries.ReadAllQuery;
@@ -70,7 +71,8 @@ public class IndirectMapTest {
     @Parameters(name = "{0}, {1}")
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][] {
-                 { IndirectMap.class, true }, { IndirectMap.class, false }, { M.class, true }, { M.class, false }
+                 { IndirectMap.class, true }, { IndirectMap.class, false }, { M.class, true }, { M.class, false },
+                 { NonSynchronizedIndirectMap.class, true }, { NonSynchronizedIndirectMap.class, false }
            });
     }
 
@@ -19,6 +19,8 @@
     requires transitive java.sql;
     requires transitive java.xml;
 
+    requires static jdk.jfr; //JfrProfiler
+
     requires static jakarta.activation;
     requires static jakarta.annotation;
     requires static jakarta.json;
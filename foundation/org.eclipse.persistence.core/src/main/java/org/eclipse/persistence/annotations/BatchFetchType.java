@@ -45,5 +45,16 @@ public enum BatchFetchType {
      * and can work better with cursors, or if joins cannot be used.
      * This may only work for singleton Ids on some databases.
      */
-    IN
+    IN,
+
+    /**
+     * This selects the target rows of a collection relationship as a JSON array aggregation
+     * (e.g. JSON_ARRAYAGG, or jsonb_agg on PostgreSQL) in a sub-select of the original query,
+     * and builds the target objects from the JSON in the same pass as the source objects.
+     * This has the advantage of a single SQL statement without the duplicate source rows of a join fetch.
+     * If the database platform or the relationship does not support it, JOIN batch fetching is used instead.
+     * @see org.eclipse.persistence.internal.databaseaccess.DatabasePlatform#supportsJsonArrayAggregation()
+     * @since EclipseLink 4.1
+     */
+    JSON
 }
@@ -87,6 +87,8 @@
 import org.eclipse.persistence.sessions.factories.SessionManager;
 import org.eclipse.persistence.sessions.remote.RemoteSession;
 import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.tools.profiler.JfrProfiler;
+import org.eclipse.persistence.tools.profiler.MetricsProfiler;
 import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
 import org.eclipse.persistence.tools.profiler.QueryMonitor;
@@ -1065,6 +1067,40 @@ public class PersistenceUnitProperties {
      */
     public static final String JDBC_FORCE_BIND_PARAMETERS = "eclipselink.jdbc.force-bind-parameters";
 
+    /**
+     * Property "<code>eclipselink.jdbc.pad-in-clause-parameters</code>" configures whether the bound
+     * parameters of an IN clause are padded to the next power of two, by repeating the last value.
+     * <p>
+     * Without padding, an IN clause generates a different SQL statement for each number of values,
+     * which defeats the statement cache and the database's statement cache.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>true</code>" - IN clause parameters are padded to 1, 2, 4, 8, ... values
+     * <li>"<code>false</code>" (DEFAULT) - one parameter is bound for each value
+     * </ul>
+     *
+     * @see #JDBC_BIND_IN_CLAUSE_AS_ARRAY
+     */
+    public static final String JDBC_PAD_IN_CLAUSE_PARAMETERS = "eclipselink.jdbc.pad-in-clause-parameters";
+
+    /**
+     * Property "<code>eclipselink.jdbc.bind-in-clause-as-array</code>" configures whether the values
+     * of an IN clause are bound as a single java.sql.Array parameter, i.e. "<code>= ANY(?)</code>",
+     * so the SQL is the same for any number of values.
+     * This requires database platform support, currently PostgreSQL and H2,
+     * other platforms ignore this property.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>true</code>" - IN clause values are bound as an array if the platform supports it
+     * <li>"<code>false</code>" (DEFAULT) - one parameter is bound for each value
+     * </ul>
+     *
+     * @see #JDBC_PAD_IN_CLAUSE_PARAMETERS
+     */
+    public static final String JDBC_BIND_IN_CLAUSE_AS_ARRAY = "eclipselink.jdbc.bind-in-clause-as-array";
+
     /**
      * The "<code>eclipselink.jdbc.exclusive-connection.mode</code>" property
      * specifies when reads are performed through the write connection.<br>
@@ -2040,6 +2076,44 @@ public class PersistenceUnitProperties {
      */
     public static final String WEAVING_FETCHGROUPS = "eclipselink.weaving.fetchgroups";
 
+    /**
+     * The "<code>eclipselink.fetch-group.tuning</code>" property configures
+     * whether the fetch group of JPQL and named queries is tuned from the attributes
+     * the application accesses on their results. Each query is executed with a
+     * fetch group of the attributes accessed on its previous results, and the
+     * relationships accessed are join fetched or batch read.
+     * <p>
+     * This property requires the FetchGroup support to be woven.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see #WEAVING_FETCHGROUPS
+     * @see org.eclipse.persistence.tools.profiler.FetchGroupTuner
+     */
+    public static final String FETCH_GROUP_TUNING = "eclipselink.fetch-group.tuning";
+
+    /**
+     * The "<code>eclipselink.batch.automatic-size</code>" property configures
+     * automatic batch fetching of lazy relationships. When a lazy relationship of an
+     * entity read by a query returning a list is accessed, the relationship is loaded for
+     * up to this number of the entities read by the query in a single IN batch query,
+     * instead of a query per entity (N+1 queries).
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>0</code>" - (DEFAULT) automatic batch fetching is disabled
+     * <li>a positive integer
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setAutomaticBatchFetchSize(int)
+     * @see QueryHints#BATCH_SIZE
+     */
+    public static final String BATCH_AUTOMATIC_SIZE = "eclipselink.batch.automatic-size";
+
     /**
      * The "<code>eclipselink.weaving.mappedsuperclass</code>" property configures
      * whether {@link MappedSuperclass}es with no direct sub-classes will be woven.
@@ -2428,6 +2502,42 @@ public class PersistenceUnitProperties {
      */
     public static final String SEQUENCING_START_AT_NEXTVAL = "eclipselink.sequencing.start-sequence-at-nextval";
 
+    /**
+     * The "<code>eclipselink.sequencing.prefetch-threshold</code>" property
+     * configures the percentage of a block of preallocated sequence values that is left when the
+     * next block is allocated in the background, so that inserts do not wait for the sequence allocation.
+     * Only applies to sequences that allocate their values outside of the write transaction
+     * on a separate sequencing connection or native sequence object.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>0</code>" - (DEFAULT) the next block is allocated once the values run out
+     * <li>a percentage between "<code>1</code>" and "<code>100</code>"
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sequencing.SequencingControl#setPrefetchThreshold(int)
+     * @see #SEQUENCING_PREFETCH_MAX_SIZE
+     */
+    public static final String SEQUENCING_PREFETCH_THRESHOLD = "eclipselink.sequencing.prefetch-threshold";
+
+    /**
+     * The "<code>eclipselink.sequencing.prefetch-max-size</code>" property
+     * configures the maximum number of values a prefetching table sequence allocates at once.
+     * If greater than the allocation size, the block size of table sequences adapts to the
+     * allocation rate between the allocation size and this maximum.
+     * Native sequences always use their allocation size, as it must match the sequence increment.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>0</code>" - (DEFAULT) blocks always have the allocation size
+     * <li>a positive integer
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sequencing.SequencingControl#setMaxPrefetchSize(int)
+     * @see #SEQUENCING_PREFETCH_THRESHOLD
+     */
+    public static final String SEQUENCING_PREFETCH_MAX_SIZE = "eclipselink.sequencing.prefetch-max-size";
+
     /**
      * The "<code>eclipselink.session.customizer</code>" property configures a
      * {@link SessionCustomizer} used to alter the runtime configuration through
@@ -2653,6 +2763,21 @@ public class PersistenceUnitProperties {
      */
     public static final String PROJECT_CACHE_FILE = "eclipselink.project-cache.java-serialization.file-location";
 
+    /**
+     * The property "<code>eclipselink.project-cache.java-serialization.resource</code>" specifies the name
+     * of the class loader resource to read a serialized project representing the application's metadata from.
+     * <p>The resource is meant to be generated at build time with
+     * {@code org.eclipse.persistence.jpa.metadata.ProjectCacheGenerator} and packaged with the application,
+     * so the metadata does not need to be processed on any deployment. The project is never stored to the resource.</p>
+     *
+     * <p>This property should be used in conjunction with
+     * "<code>eclipselink.project-cache</code>" set to "<code>java-serialization</code>".
+     * It takes precedence over "<code>eclipselink.project-cache.java-serialization.file-location</code>".</p>
+     *
+     * @see #PROJECT_CACHE
+     */
+    public static final String PROJECT_CACHE_RESOURCE = "eclipselink.project-cache.java-serialization.resource";
+
     /**
      * The "<code>eclipselink.temporal.mutable</code>" property configures the
      * default for detecting changes to temporal field (Date, Calendar). Default
@@ -3044,6 +3169,40 @@ public class PersistenceUnitProperties {
      */
     public static final String DDL_GENERATION_INDEX_FOREIGN_KEYS = "eclipselink.ddl-generation.index-foreign-keys";
 
+    /**
+     * The "<code>eclipselink.ddl-generation.threads</code>" property specifies the number of threads
+     * that execute the DDL concurrently when the tables are created on the database.
+     * Each statement is executed on a pooled connection, so the connection pools should allow as many
+     * connections as there are threads.
+     * <p>
+     * The tables are created first, then their unique constraints, then their foreign key constraints.
+     * The foreign key constraints of tables that reference each other are created by a single thread.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>1</code>" (DEFAULT) - the DDL is executed one statement at a time
+     * <li>a positive integer
+     * </ul>
+     *
+     * @see #DDL_GENERATION
+     */
+    public static final String DDL_GENERATION_THREADS = "eclipselink.ddl-generation.threads";
+
+    /**
+     * The "<code>eclipselink.ddl-generation.metadata-diff</code>" property specifies if the tables that
+     * already exist are read once from the JDBC metadata, so only the missing tables and their constraints
+     * are created. By default each table is checked with a query before it is created.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see #DDL_GENERATION
+     */
+    public static final String DDL_GENERATION_METADATA_DIFF = "eclipselink.ddl-generation.metadata-diff";
+
     /**
      * The parameter value "<code>sql-script</code>" specifies that DDL will be written to file(s).
      * <p>For use with the "<code>eclipselink.ddl-generation.output-mode</code>" property.</p>
@@ -3150,6 +3309,8 @@ public class PersistenceUnitProperties {
      * <li>"<code>PerformanceProfiler</code>" - use {@link PerformanceProfiler}
      * <li>"<code>QueryMonitor</code>" - use {@link QueryMonitor}
      * <li>"<code>DMSProfiler</code>" - use {@code org.eclipse.persistence.tools.profiler.oracle.DMSPerformanceProfiler}
+     * <li>"<code>JfrProfiler</code>" - use {@link JfrProfiler}
+     * <li>"<code>MetricsProfiler</code>" - use {@link MetricsProfiler}
      * <li>the fully qualified name for a class that implements {@link SessionProfiler} interface
      * </ul>
      *
@@ -3941,6 +4102,53 @@ public class PersistenceUnitProperties {
      */
     public static final String JPQL_TOLERATE = "eclipselink.tolerate-invalid-jpql";
 
+    /**
+     * The "<code>eclipselink.jpql.lazy-named-queries</code>" property allows JPA named
+     * queries to be registered unparsed during deployment and prepared on first use,
+     * reducing the time needed to create the {@link EntityManagerFactory}.
+     * Invalid named queries are only reported when first used.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see #JPQL_NAMED_QUERIES_WARM_UP
+     * @see org.eclipse.persistence.sessions.SessionProfiler#UnpreparedNamedQueries
+     */
+    public static final String JPQL_LAZY_NAMED_QUERIES = "eclipselink.jpql.lazy-named-queries";
+
+    /**
+     * The "<code>eclipselink.metadata.parallelism</code>" property specifies the
+     * number of threads used to read the class metadata (byte codes) of the persistence
+     * unit classes during deployment. Classes are read in parallel on a fork-join pool
+     * and registered in their declaration order, so the processing result does not depend
+     * on the number of threads.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>1</code>" (DEFAULT) - classes are read one by one when processed
+     * <li>an integer greater than 1 - the number of threads used to read the classes
+     * </ul>
+     */
+    public static final String METADATA_PARALLELISM = "eclipselink.metadata.parallelism";
+
+    /**
+     * The "<code>eclipselink.jpql.named-queries-warm-up</code>" property specifies
+     * whether the named queries left unprepared by "<code>eclipselink.jpql.lazy-named-queries</code>"
+     * are prepared by a low priority background task once the session has logged in.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see #JPQL_LAZY_NAMED_QUERIES
+     */
+    public static final String JPQL_NAMED_QUERIES_WARM_UP = "eclipselink.jpql.named-queries-warm-up";
+
     /**
      * The "<code>eclipselink.locking.timestamp.local</code>" property defines if locking policies
      * should default to local time(true) or server time(false).
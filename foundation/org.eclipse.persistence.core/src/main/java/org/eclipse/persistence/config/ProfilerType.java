@@ -26,6 +26,8 @@
  *
  * @see org.eclipse.persistence.tools.profiler.QueryMonitor
  * @see org.eclipse.persistence.tools.profiler.PerformanceProfiler
+ * @see org.eclipse.persistence.tools.profiler.JfrProfiler
+ * @see org.eclipse.persistence.tools.profiler.MetricsProfiler
  */
 public class ProfilerType {
     //A tool used to provide high level performance profiling information
@@ -33,6 +35,8 @@ public class ProfilerType {
     public static final String QueryMonitor = "QueryMonitor";
     public static final String PerformanceMonitor = "PerformanceMonitor";
     public static final String DMSProfiler = "DMSProfiler";
+    public static final String JfrProfiler = "JfrProfiler";
+    public static final String MetricsProfiler = "MetricsProfiler";
     public static final String NoProfiler = "NoProfiler";
 
     public static final String DEFAULT = NoProfiler;
@@ -313,7 +313,7 @@ public class QueryHints {
     /**
      * "eclipselink.batch.type"
      * <p>Configures the type of batch fetching to use for any batch fetched relationships on the query.
-     * Valid values are defined in BatchFetchType ("JOIN", "EXISTS", "IN").
+     * Valid values are defined in BatchFetchType ("JOIN", "EXISTS", "IN", "JSON").
      * @see #BATCH
      * @see BatchFetchType
      * @see BatchFetch
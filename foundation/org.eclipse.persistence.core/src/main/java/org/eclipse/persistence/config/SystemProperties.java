@@ -102,6 +102,17 @@ public class SystemProperties {
      */
     public static final String ONETOMANY_DEFER_INSERTS = "eclipselink.mapping.onetomany.defer-inserts";
 
+    /**
+     * This property can be set to <code>true</code> to use the non synchronized
+     * {@link org.eclipse.persistence.indirection.NonSynchronizedIndirectList} and
+     * {@link org.eclipse.persistence.indirection.NonSynchronizedIndirectMap}
+     * for all transparent indirection lists and maps instead of the
+     * Vector and Hashtable based IndirectList and IndirectMap.
+     * The value is read once when the indirect collections are first used.
+     * Allowed values are: true/false (DEFAULT).
+     */
+    public static final String INDIRECTION_NON_SYNCHRONIZED = "eclipselink.indirection.non-synchronized";
+
     /**
      * This system property in milliseconds can control thread management in org.eclipse.persistence.internal.helper.ConcurrencyManager.
      * It control how much time loop wait before it try acquire lock for current thread again. It value is set above above 0 dead lock detection
@@ -271,4 +282,36 @@ public class SystemProperties {
      */
     public static final String ASM_SERVICE = "eclipselink.asm.service";
 
+    /**
+     * <p>
+     * This property controls if the field and method attribute accessors of classes that are not woven
+     * use method handles built when the descriptor is initialized, instead of reflection.
+     * </p>
+     * <p>
+     * <b>Allowed Values</b> (case sensitive String)<b>:</b>
+     * <ul>
+     * <li>"<code>true</code>" (DEFAULT) - use method handles, reflection is still used if a handle cannot be built.</li>
+     * <li>"<code>false</code>" - use reflection.</li>
+     * </ul>
+     * @since EclipseLink 4.1
+     */
+    public static final String ATTRIBUTE_ACCESSOR_METHOD_HANDLES = "eclipselink.accessor.method-handles";
+
+    /**
+     * <p>
+     * This property controls if objects are built from rows by a builder class generated per descriptor,
+     * which calls each mapping from its own call site, instead of iterating the mappings of the descriptor.
+     * Generated builders are used for queries that read all the mappings, queries with fetch groups or
+     * partial attributes iterate the mappings.
+     * </p>
+     * <p>
+     * <b>Allowed Values</b> (case sensitive String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - iterate the mappings.</li>
+     * <li>"<code>true</code>" - generate builders, the mappings are iterated if a builder cannot be generated.</li>
+     * </ul>
+     * @since EclipseLink 4.1
+     */
+    public static final String GENERATED_ATTRIBUTES_BUILDERS = "eclipselink.descriptor.generated-builders";
+
 }
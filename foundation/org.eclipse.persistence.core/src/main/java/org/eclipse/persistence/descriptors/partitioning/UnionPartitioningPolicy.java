@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -21,6 +21,10 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * PUBLIC:
@@ -33,6 +37,12 @@
 public class UnionPartitioningPolicy extends ReplicationPartitioningPolicy {
 
     protected boolean replicateWrites = false;
+    protected boolean shouldExecuteInParallel = false;
+    protected boolean shouldAllowPartialResults = false;
+    /** The maximum number of threads querying partitions concurrently, when no executor is set. */
+    protected int maxParallelThreads = Runtime.getRuntime().availableProcessors();
+    /** The executor querying the partitions concurrently. */
+    protected transient volatile ExecutorService executor;
 
     public UnionPartitioningPolicy() {
         super();
@@ -71,6 +81,104 @@ public void setReplicateWrites(boolean replicateWrites) {
         this.replicateWrites = replicateWrites;
     }
 
+    /**
+     * PUBLIC:
+     * Return if read queries should be executed on all the partitions concurrently.
+     */
+    public boolean shouldExecuteInParallel() {
+        return shouldExecuteInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if read queries should be executed on all the partitions concurrently.
+     * The first partition is queried on the calling thread, the others through the policy's executor.
+     * Partitions are otherwise queried one after the other.
+     * Partitions are also queried one after the other while the session logs SQL,
+     * so the session log is only used from the calling thread.
+     * @see #setExecutor(ExecutorService)
+     * @see #setMaxParallelThreads(int)
+     */
+    public void setShouldExecuteInParallel(boolean shouldExecuteInParallel) {
+        this.shouldExecuteInParallel = shouldExecuteInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of threads of the executor created by the policy
+     * to query the partitions concurrently.
+     */
+    public int getMaxParallelThreads() {
+        return maxParallelThreads;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of threads of the executor created by the policy
+     * to query the partitions concurrently, across all the queries using the policy.
+     * Its threads are stopped when idle, so it does not need to be shut down.
+     * This must be set before the first parallel query, and is ignored if an executor is set.
+     * The default is the number of available processors.
+     */
+    public void setMaxParallelThreads(int maxParallelThreads) {
+        this.maxParallelThreads = maxParallelThreads;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the executor querying the partitions concurrently.
+     * Unless one was set, a bounded executor of daemon threads is created on first use.
+     * Its queue holds as many partitions as it has threads,
+     * a partition that does not fit is queried on the calling thread.
+     */
+    public ExecutorService getExecutor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    // unlike CallerRunsPolicy, a rejected partition also runs once the executor is shut down, so the query never waits for it
+                    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxParallelThreads, maxParallelThreads,
+                            60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(maxParallelThreads), runnable -> {
+                                Thread thread = new Thread(runnable, "UnionPartitioning-" + getName());
+                                thread.setDaemon(true);
+                                return thread;
+                            }, (runnable, pool) -> runnable.run());
+                    threadPool.allowCoreThreadTimeOut(true);
+                    executor = threadPool;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the executor querying the partitions concurrently, such as a managed executor of the container.
+     * The policy does not shut down an executor set by the application.
+     * A partition rejected by the executor is queried on the calling thread.
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if a read query should return the rows of the partitions that succeeded
+     * when some of the partitions fail.
+     */
+    public boolean shouldAllowPartialResults() {
+        return shouldAllowPartialResults;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if a read query should return the rows of the partitions that succeeded
+     * when some of the partitions fail. The failures are logged as warnings.
+     * By default the first failure is thrown once all the partitions have been queried.
+     */
+    public void setShouldAllowPartialResults(boolean shouldAllowPartialResults) {
+        this.shouldAllowPartialResults = shouldAllowPartialResults;
+    }
+
     /**
      * INTERNAL:
      * Get a connection from one of the pools in a round robin rotation fashion.
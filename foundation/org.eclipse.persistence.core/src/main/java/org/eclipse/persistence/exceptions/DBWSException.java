@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -44,6 +44,7 @@ public class DBWSException extends EclipseLinkException {
     public final static int COULD_NOT_LOCATE_OR_SESSION_FOR_SERVICE = 47010;
     public final static int COULD_NOT_LOCATE_OX_SESSION_FOR_SERVICE = 47011;
     public final static int COULD_NOT_PARSE_DBWS_FILE = 47012;
+    public final static int STREAMING_NOT_SUPPORTED_FOR_SOAP = 47013;
 
     public DBWSException() {
         super();
@@ -222,4 +223,17 @@ public static DBWSException couldNotParseDBWSFile() {
             return exception;
     }
 
+    /**
+     * INTERNAL:
+     * Exception when a SOAP request invokes an operation whose result is streaming
+     */
+    public static DBWSException streamingNotSupportedForSOAP(String operation) {
+        Object[] args = { operation };
+        DBWSException exception =
+        new DBWSException(ExceptionMessageGenerator.buildMessage(
+            DBWSException.class, STREAMING_NOT_SUPPORTED_FOR_SOAP, args));
+        exception.setErrorCode(STREAMING_NOT_SUPPORTED_FOR_SOAP);
+        return exception;
+    }
+
 }
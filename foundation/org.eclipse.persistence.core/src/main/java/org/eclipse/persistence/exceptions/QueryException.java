@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -214,6 +214,8 @@ public class QueryException extends ValidationException {
     public final static int SOP_OBJECT_WRONG_VERSION = 6181;
     public final static int SOP_OBJECT_WRONG_PK = 6182;
     public final static int UNSUPPORTED_MAPPING_FOR_QUERYBYEXAMPLE = 6183;
+    public final static int PAGE_AFTER_REQUIRES_ORDERING = 6184;
+    public final static int INVALID_JSON_ARRAY_AGGREGATION = 6185;
 
 
     /**
@@ -1685,5 +1687,20 @@ public static QueryException unsupportedMappingQueryByExample(String className,
         queryException.setErrorCode(UNSUPPORTED_MAPPING_FOR_QUERYBYEXAMPLE);
         return queryException;
     }
-}
 
+    public static QueryException pageAfterRequiresOrdering(DatabaseQuery query, int size) {
+        Object[] args = {size};
+
+        QueryException queryException = new QueryException(ExceptionMessageGenerator.buildMessage(QueryException.class, PAGE_AFTER_REQUIRES_ORDERING, args), query);
+        queryException.setErrorCode(PAGE_AFTER_REQUIRES_ORDERING);
+        return queryException;
+    }
+
+    public static QueryException invalidJsonArrayAggregation(int position) {
+        Object[] args = {position};
+
+        QueryException queryException = new QueryException(ExceptionMessageGenerator.buildMessage(QueryException.class, INVALID_JSON_ARRAY_AGGREGATION, args));
+        queryException.setErrorCode(INVALID_JSON_ARRAY_AGGREGATION);
+        return queryException;
+    }
+}
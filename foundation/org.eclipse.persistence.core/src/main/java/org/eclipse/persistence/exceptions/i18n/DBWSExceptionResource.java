@@ -36,6 +36,7 @@ public final class DBWSExceptionResource extends ListResourceBundle {
         {"47010", "Cannot locate O-R session for [{0}] service"},
         {"47011", "Cannot locate O-X session for [{0}] service"},
         {"47012", "Cannot parse DBWS file"},
+        {"47013", "The streaming result of [{0}] operation cannot be returned in a SOAP response, which holds the complete result; invoke the operation with a record that writes to a Writer or an OutputStream"},
     };
 
     /**
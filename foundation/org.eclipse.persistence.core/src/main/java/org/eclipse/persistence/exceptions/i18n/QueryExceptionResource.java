@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2023 IBM Corporation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -214,7 +214,9 @@ public final class QueryExceptionResource extends ListResourceBundle {
        { "6180", "serialized sopObject is not found in [{0}] in [{1}]"},
        { "6181", "sopObject has a wrong version [{0}] in [{1}] in [{2}]"},
        { "6182", "sopObject has a wrong primary key [{0}] in [{1}] in [{2}]"},
-       { "6183",  "The mapping type {1} for attribute {2} from {0} is not supported with Query By Example functionality.  If the attribute can safely be ignored then add it to the ignore list or set example validation to false in the policy."}
+       { "6183",  "The mapping type {1} for attribute {2} from {0} is not supported with Query By Example functionality.  If the attribute can safely be ignored then add it to the ignore list or set example validation to false in the policy."},
+       { "6184", "Keyset pagination requires the query to be ordered by at least as many expressions as the [{0}] values of the page."},
+       { "6185", "The value of a JSON array aggregation is not a valid JSON array of objects, the parsing failed at position [{0}]."}
 
     };
 
@@ -14,6 +14,9 @@
 //     Oracle - initial API and implementation
 package org.eclipse.persistence.indirection;
 
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+
 import java.util.Collection;
 import java.util.Map;
 
@@ -175,11 +178,16 @@ public static <K, V> IndirectMap<K, V> createIndirectMap(Map<? extends K, ? exte
     /**
      * As of EclipseLink 2.6.0 this returns Java SE 7- compatible provider by default
      * on Java SE 7 and Java SE 8+ compatible provider if Java SE 8+ is detected.
+     * The provider of non synchronized lists and maps is returned if the
+     * {@link SystemProperties#INDIRECTION_NON_SYNCHRONIZED} system property is set to true.
      *
      * @return default provider responsible for creating Java SE specific implementations
      * of {@link IndirectCollection}s
      */
     private static IndirectCollectionsProvider getProvider() {
+        if (PrivilegedAccessHelper.getSystemPropertyBoolean(SystemProperties.INDIRECTION_NON_SYNCHRONIZED, false)) {
+            return new NonSynchronizedProvider();
+        }
         return new DefaultProvider();
     }
 
@@ -340,4 +348,59 @@ public <K, V> IndirectMap<K, V> createIndirectMap(Map<? extends K, ? extends V>
             return new IndirectMap<>(map);
         }
     }
+
+    /**
+     * Provider for creating {@link IndirectCollection} implementations
+     * which do not synchronize their operations.
+     *
+     * @see NonSynchronizedIndirectList
+     * @see NonSynchronizedIndirectMap
+     */
+    private static final class NonSynchronizedProvider implements IndirectCollectionsProvider {
+
+        @Override
+        public Class<?> getListClass() {
+            return NonSynchronizedIndirectList.class;
+        }
+
+        @Override
+        public <E> IndirectList<E> createIndirectList(int initialCapacity, int capacityIncrement) {
+            return new NonSynchronizedIndirectList<>(initialCapacity, capacityIncrement);
+        }
+
+        @Override
+        public <E> IndirectList<E> createIndirectList(Collection<? extends E> collection) {
+            return new NonSynchronizedIndirectList<>(collection);
+        }
+
+        @Override
+        public Class<?> getSetClass() {
+            return IndirectSet.class;
+        }
+
+        @Override
+        public <E> IndirectSet<E> createIndirectSet(int initialCapacity, float loadFactor) {
+            return new IndirectSet<>(initialCapacity, loadFactor);
+        }
+
+        @Override
+        public <E> IndirectSet<E> createIndirectSet(Collection<? extends E> collection) {
+            return new IndirectSet<>(collection);
+        }
+
+        @Override
+        public Class<?> getMapClass() {
+            return NonSynchronizedIndirectMap.class;
+        }
+
+        @Override
+        public <K, V> IndirectMap<K, V> createIndirectMap(int initialCapacity, float loadFactor) {
+            return new NonSynchronizedIndirectMap<>(initialCapacity, loadFactor);
+        }
+
+        @Override
+        public <K, V> IndirectMap<K, V> createIndirectMap(Map<? extends K, ? extends V> map) {
+            return new NonSynchronizedIndirectMap<>(map);
+        }
+    }
 }
@@ -274,7 +274,7 @@ public void addElement(E obj) {
     protected Vector<E> buildDelegate() {
         Vector<E> newDelegate = (Vector<E>) getValueHolder().getValue();
         if (newDelegate == null) {
-            newDelegate = new Vector<>(this.initialCapacity, this.capacityIncrement);
+            newDelegate = buildEmptyDelegate();
         }
         // This can either be another indirect list or a Vector.
         // It can be another indirect list because the mapping's query uses the same container policy.
@@ -359,6 +359,14 @@ public synchronized Object clone() {
         return result;
     }
 
+    /**
+     * INTERNAL:
+     * Return a new empty delegate, used when the value holder has no value yet.
+     */
+    protected Vector<E> buildEmptyDelegate() {
+        return new Vector<>(this.initialCapacity, this.capacityIncrement);
+    }
+
     /**
      * PUBLIC:
      * @see java.util.Vector#contains(java.lang.Object)
@@ -485,7 +493,7 @@ public ValueHolderInterface<List<E>> getValueHolder() {
             synchronized(this) {
                 vh = this.valueHolder;
                 if (vh == null) {
-                        this.valueHolder = vh = new ValueHolder<>(new Vector<>(this.initialCapacity, this.capacityIncrement));
+                        this.valueHolder = vh = new ValueHolder<>(buildEmptyDelegate());
                 }
             }
         }
@@ -128,11 +128,19 @@ public IndirectMap(Map<? extends K, ? extends V> m) {
     protected Hashtable<K, V> buildDelegate() {
         Hashtable<K, V> value = (Hashtable<K, V>)getValueHolder().getValue();
         if (value == null) {
-            value = new Hashtable<>(this.initialCapacity, this.loadFactor);
+            value = buildEmptyDelegate();
         }
         return value;
     }
 
+    /**
+     * INTERNAL:
+     * Return a new empty delegate, used when the value holder has no value yet.
+     */
+    protected Hashtable<K, V> buildEmptyDelegate() {
+        return new Hashtable<>(this.initialCapacity, this.loadFactor);
+    }
+
     /**
      * @see java.util.Hashtable#clear()
      */
@@ -460,7 +468,7 @@ public ValueHolderInterface<Map<K, V>> getValueHolder() {
              synchronized(this){
                 vh = this.valueHolder;
                  if (vh == null) {
-                     this.valueHolder = vh = new ValueHolder<>(new Hashtable<>(initialCapacity, loadFactor));
+                     this.valueHolder = vh = new ValueHolder<>(buildEmptyDelegate());
                  }
              }
          }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.indirection;
+
+import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Vector;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * IndirectList that does not synchronize its operations.
+ * <p>
+ * IndirectList inherits the monitor based thread safety of Vector, both on itself and on
+ * its Vector delegate, although domain objects are normally only accessed by a single thread.
+ * This list stores its contents in a {@link NonSynchronizedVector} and does not lock on
+ * any access, but otherwise keeps the lazy loading and change tracking behavior of IndirectList.
+ * It must not be shared between threads without external synchronization.
+ * <p>To use a NonSynchronizedIndirectList:<ul>
+ * <li> Send the message #useTransparentList(Class) to the appropriate
+ * CollectionMapping with this class, or
+ * <li> set the "eclipselink.indirection.non-synchronized" system property to "true"
+ * to use it for all transparent lists.
+ * </ul>
+ *
+ * @param <E> the type of elements maintained by this list
+ * @see org.eclipse.persistence.indirection.IndirectList
+ * @see org.eclipse.persistence.config.SystemProperties#INDIRECTION_NON_SYNCHRONIZED
+ * @since EclipseLink 4.1
+ */
+public class NonSynchronizedIndirectList<E> extends IndirectList<E> {
+
+    /**
+     * PUBLIC:
+     * Construct an empty NonSynchronizedIndirectList with the default initial capacity.
+     */
+    public NonSynchronizedIndirectList() {
+        super();
+    }
+
+    /**
+     * PUBLIC:
+     * Construct an empty NonSynchronizedIndirectList with the specified initial capacity.
+     *
+     * @param   initialCapacity   the initial capacity of the list
+     */
+    public NonSynchronizedIndirectList(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct an empty NonSynchronizedIndirectList with the specified initial capacity and
+     * capacity increment.
+     *
+     * @param   initialCapacity     the initial capacity of the list
+     * @param   capacityIncrement   the amount by which the capacity is
+     *                              increased when the list overflows
+     */
+    public NonSynchronizedIndirectList(int initialCapacity, int capacityIncrement) {
+        super(initialCapacity, capacityIncrement);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct a NonSynchronizedIndirectList containing the elements of the specified
+     * collection, in the order they are returned by the collection's iterator.
+     * @param collection a collection containing the elements to construct this list with.
+     */
+    public NonSynchronizedIndirectList(Collection<? extends E> collection) {
+        super(0);
+        this.valueHolder = new ValueHolder<>(new NonSynchronizedVector<>(collection));
+    }
+
+    /**
+     * INTERNAL:
+     * Return a new empty non synchronized delegate.
+     */
+    @Override
+    protected Vector<E> buildEmptyDelegate() {
+        return new NonSynchronizedVector<>(this.initialCapacity, this.capacityIncrement);
+    }
+
+    /**
+     * @see java.util.Vector#copyInto(java.lang.Object[])
+     */
+    @Override
+    public void copyInto(Object[] anArray) {
+        getDelegate().copyInto(anArray);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        // Must trigger remove/add events if tracked or uow.
+        if (hasBeenRegistered() || hasTrackedPropertyChangeListener()) {
+            List<E> del = getDelegate();
+            for (int i = 0; i < del.size(); i++) {
+                set(i, operator.apply(del.get(i)));
+            }
+        } else {
+            getDelegate().replaceAll(operator);
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        // Must trigger remove events if tracked or uow.
+        if (hasBeenRegistered() || hasTrackedPropertyChangeListener()) {
+            boolean hasChanged = false;
+            Iterator<E> objects = iterator();
+            while (objects.hasNext()) {
+                if (filter.test(objects.next())) {
+                    objects.remove();
+                    hasChanged = true;
+                }
+            }
+            return hasChanged;
+        }
+        return getDelegate().removeIf(filter);
+    }
+}
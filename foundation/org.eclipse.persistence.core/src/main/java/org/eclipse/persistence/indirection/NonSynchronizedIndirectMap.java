@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.indirection;
+
+import org.eclipse.persistence.internal.helper.NonSynchronizedHashtable;
+
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * IndirectMap that does not synchronize its operations.
+ * <p>
+ * IndirectMap inherits the monitor based thread safety of Hashtable, both on itself and on
+ * its Hashtable delegate, although domain objects are normally only accessed by a single thread.
+ * This map stores its contents in a {@link NonSynchronizedHashtable} (backed by a HashMap) and
+ * does not lock on any access, but otherwise keeps the lazy loading and change tracking behavior
+ * of IndirectMap. It must not be shared between threads without external synchronization.
+ * <p>To use a NonSynchronizedIndirectMap:<ul>
+ * <li> Send the message #useTransparentMap(Class, String) to the appropriate
+ * CollectionMapping with this class, or
+ * <li> set the "eclipselink.indirection.non-synchronized" system property to "true"
+ * to use it for all transparent maps.
+ * </ul>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ * @see org.eclipse.persistence.indirection.IndirectMap
+ * @see org.eclipse.persistence.config.SystemProperties#INDIRECTION_NON_SYNCHRONIZED
+ * @since EclipseLink 4.1
+ */
+public class NonSynchronizedIndirectMap<K, V> extends IndirectMap<K, V> {
+
+    /**
+     * PUBLIC:
+     * Construct a new, empty NonSynchronizedIndirectMap with a default
+     * capacity and load factor.
+     */
+    public NonSynchronizedIndirectMap() {
+        super();
+    }
+
+    /**
+     * PUBLIC:
+     * Construct a new, empty NonSynchronizedIndirectMap with the specified initial capacity
+     * and default load factor.
+     *
+     * @param   initialCapacity   the initial capacity of the map
+     */
+    public NonSynchronizedIndirectMap(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct a new, empty NonSynchronizedIndirectMap with the specified initial
+     * capacity and load factor.
+     *
+     * @param      initialCapacity   the initial capacity of the map
+     * @param      loadFactor        a number between 0.0 and 1.0
+     */
+    public NonSynchronizedIndirectMap(int initialCapacity, float loadFactor) {
+        super(initialCapacity, loadFactor);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct a new NonSynchronizedIndirectMap with the same mappings as the given Map.
+     * @param m a map containing the mappings to use
+     */
+    public NonSynchronizedIndirectMap(Map<? extends K, ? extends V> m) {
+        super(m);
+    }
+
+    /**
+     * INTERNAL:
+     * Return a new empty non synchronized delegate.
+     */
+    @Override
+    protected Hashtable<K, V> buildEmptyDelegate() {
+        return new NonSynchronizedHashtable<>(this.initialCapacity, this.loadFactor);
+    }
+
+    /**
+     * Initialize the instance.
+     */
+    @Override
+    protected void initialize(Map<? extends K, ? extends V> m) {
+        this.delegate = null;
+        this.valueHolder = new ValueHolder<>(new NonSynchronizedHashtable<>(m));
+    }
+
+    @Override
+    public void clear() {
+        if (hasTrackedPropertyChangeListener()) {
+            Iterator<K> objects = this.keySet().iterator();
+            while (objects.hasNext()) {
+                objects.next();
+                objects.remove();
+            }
+        } else {
+            this.getDelegate().clear();
+        }
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return this.getDelegate().contains(value);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.getDelegate().containsKey(key);
+    }
+
+    @Override
+    public Enumeration<V> elements() {
+        return this.getDelegate().elements();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this.getDelegate().equals(o);
+    }
+
+    @Override
+    public V get(Object key) {
+        return this.getDelegate().get(key);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.getDelegate().hashCode();
+    }
+
+    @Override
+    public Enumeration<K> keys() {
+        return this.getDelegate().keys();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V oldValue = this.getDelegate().put(key, value);
+        if (oldValue != null){
+            raiseRemoveChangeEvent(key, oldValue);
+        }
+        raiseAddChangeEvent(key, value);
+        return oldValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends K,? extends V> t) {
+        // Must trigger add events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            for (Map.Entry<? extends K, ? extends V> newEntry : t.entrySet()) {
+                this.put(newEntry.getKey(), newEntry.getValue());
+            }
+        } else {
+            this.getDelegate().putAll(t);
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K,? super V,? extends V> remappingFunction) {
+        // Must trigger add events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            V oldValue = get(key);
+            V newValue = remappingFunction.apply(key, oldValue);
+            if (newValue != null) {
+                put(key, newValue);
+                return newValue;
+            }
+            if (oldValue != null) {
+                remove(key);
+            }
+            return null;
+        }
+        return getDelegate().compute(key, remappingFunction);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K,? extends V> mappingFunction) {
+        // Must trigger add events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            V oldValue = get(key);
+            if (oldValue == null) {
+                V newValue = mappingFunction.apply(key);
+                if (newValue != null) {
+                    put(key, newValue);
+                }
+                return newValue;
+            }
+            return oldValue;
+        }
+        return getDelegate().computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K,? super V,? extends V> remappingFunction) {
+        // Must trigger add events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            V oldValue = get(key);
+            if (oldValue != null) {
+                V newValue = remappingFunction.apply(key, oldValue);
+                if (newValue != null) {
+                    put(key, newValue);
+                    return newValue;
+                }
+                remove(key);
+            }
+            return null;
+        }
+        return getDelegate().computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K,? super V> action) {
+        getDelegate().forEach(action);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return getDelegate().getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V,? super V,? extends V> remappingFunction) {
+        // Must trigger add events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            V oldValue = get(key);
+            V newValue = (oldValue == null) ? value : remappingFunction.apply(oldValue, value);
+            if (newValue == null) {
+                remove(key);
+            } else {
+                put(key, newValue);
+            }
+            return newValue;
+        }
+        return getDelegate().merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        // Must trigger add events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            V current = getDelegate().get(key);
+            if (current == null) {
+                V v = getDelegate().put(key, value);
+                raiseAddChangeEvent(key, value);
+                return v;
+            }
+            return current;
+        }
+        return getDelegate().putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        // Must trigger remove events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            Map<K, V> del = getDelegate();
+            if (del.containsKey(key) && Objects.equals(del.get(key), value)) {
+                del.remove(key);
+                raiseRemoveChangeEvent(key, value);
+                return true;
+            }
+            return false;
+        }
+        return getDelegate().remove(key, value);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        // Must trigger add events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            if (getDelegate().containsKey(key)) {
+                return put(key, value);
+            }
+            return null;
+        }
+        return getDelegate().replace(key, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        // Must trigger add events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            Map<K, V> del = getDelegate();
+            if (del.containsKey(key) && Objects.equals(del.get(key), oldValue)) {
+                put(key, newValue);
+                return true;
+            }
+            return false;
+        }
+        return getDelegate().replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K,? super V,? extends V> function) {
+        // Must trigger add events if tracked or uow.
+        if (hasTrackedPropertyChangeListener()) {
+            for (Map.Entry<K, V> entry : getDelegate().entrySet()) {
+                K key = entry.getKey();
+                V oldValue = entry.getValue();
+                entry.setValue(function.apply(key, oldValue));
+                raiseRemoveChangeEvent(key, oldValue);
+                raiseAddChangeEvent(key, entry.getValue());
+            }
+            return;
+        }
+        getDelegate().replaceAll(function);
+    }
+
+    @Override
+    public V remove(Object key) {
+        V value = this.getDelegate().remove(key);
+        if (value != null){
+            raiseRemoveChangeEvent(key, value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * INTERNAL:
+ * Binds the values of an IN clause as a single java.sql.Array parameter.
+ * The array is created when the parameter is bound, as it requires the connection.
+ * The values must already be converted to the database type of the elements.
+ *
+ * @see DatabasePlatform#shouldBindINClauseAsArray()
+ * @since EclipseLink 4.1
+ */
+public class ArrayBindCallCustomParameter extends BindCallCustomParameter {
+    protected String elementTypeName;
+
+    public ArrayBindCallCustomParameter(Collection<?> values, String elementTypeName) {
+        super(values);
+        this.elementTypeName = elementTypeName;
+    }
+
+    public String getElementTypeName() {
+        return elementTypeName;
+    }
+
+    @Override
+    public void set(DatabasePlatform platform, PreparedStatement statement, int parameterIndex, AbstractSession session) throws SQLException {
+        statement.setArray(parameterIndex, createArray(platform, statement, session));
+    }
+
+    @Override
+    public void set(DatabasePlatform platform, CallableStatement statement, String parameterName, AbstractSession session) throws SQLException {
+        statement.setObject(parameterName, createArray(platform, statement, session));
+    }
+
+    protected Array createArray(DatabasePlatform platform, PreparedStatement statement, AbstractSession session) throws SQLException {
+        Object[] elements = ((Collection<?>)obj).toArray();
+        return platform.createArray(this.elementTypeName, elements, session, statement.getConnection());
+    }
+}
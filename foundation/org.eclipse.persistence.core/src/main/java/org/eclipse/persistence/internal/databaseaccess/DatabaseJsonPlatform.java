@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,11 +16,30 @@
 package org.eclipse.persistence.internal.databaseaccess;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.persistence.exceptions.ConversionException;
+
 /**
  * Database platform JSON extension.
  * Provides an interface to implement JSON specific features.
@@ -79,6 +98,70 @@ default String customParameterMarker() {
         return "?";
     }
 
+    /**
+     * Parse the value of a JSON array aggregation column, see {@link DatabasePlatform#buildJsonArrayAggregationOperator(List, int)}.
+     * The value is read as a {@code String}, a {@code byte[]} of UTF-8 text, or a driver specific JSON object.
+     * Default implementation parses the JSON text without a JSON-P implementation.
+     *
+     * @param value JSON array aggregation value from JDBC {@code ResultSet}, not {@code null}
+     * @return objects of the JSON array as {@code Map} of keys to values, numbers are returned as {@code BigDecimal}
+     * @throws org.eclipse.persistence.exceptions.QueryException when the value is not a JSON array of objects
+     */
+    default List<Map<String, Object>> parseJsonArrayAggregation(final Object value) {
+        final String json = value instanceof byte[]
+                ? new String((byte[]) value, StandardCharsets.UTF_8)
+                : value.toString();
+        return new JsonArrayAggregationParser(json).parse();
+    }
+
+    /**
+     * Convert the value of a field of a JSON array aggregation object to the value the field has in a JDBC row.
+     * Databases write temporal values to JSON as ISO text, with a {@code 'T'} separator and with an offset
+     * for the types with a time zone. The text of a temporal field is parsed and returned as the java.time type
+     * of the field, or as the {@code java.sql.Timestamp}, {@code java.sql.Date} or {@code java.sql.Time} a JDBC
+     * driver would return, values with an offset are moved to the default time zone.
+     * Other values are returned as they are.
+     *
+     * @param value value of the field from the JSON object, may be {@code null}
+     * @param type type of the field, may be {@code null}
+     * @return value of the field as read from JDBC {@code ResultSet}
+     * @throws ConversionException when the text of a temporal field is not an ISO date, time or date and time
+     */
+    default Object convertJsonAggregationValue(final Object value, final Class<?> type) {
+        if (!(value instanceof String) || (type == null)
+                || !(Date.class.isAssignableFrom(type) || Calendar.class.isAssignableFrom(type) || Temporal.class.isAssignableFrom(type))) {
+            return value;
+        }
+        final String text = ((String) value).trim();
+        final TemporalAccessor temporal;
+        try {
+            if ((text.length() > 2) && (text.charAt(2) == ':')) {
+                temporal = DateTimeFormatter.ISO_TIME.parseBest(text, OffsetTime::from, LocalTime::from);
+            } else if (text.length() > 10) {
+                // MySQL and H2 separate the date and the time with a space
+                final String dateTime = text.charAt(10) == ' ' ? text.substring(0, 10) + 'T' + text.substring(11) : text;
+                temporal = DateTimeFormatter.ISO_DATE_TIME.parseBest(dateTime, OffsetDateTime::from, LocalDateTime::from);
+            } else {
+                temporal = LocalDate.parse(text);
+            }
+        } catch (DateTimeParseException exception) {
+            throw ConversionException.couldNotBeConverted(value, type, exception);
+        }
+        if (type.isInstance(temporal)) {
+            return temporal;
+        } else if (temporal instanceof OffsetDateTime) {
+            return Timestamp.from(((OffsetDateTime) temporal).toInstant());
+        } else if (temporal instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) temporal);
+        } else if (temporal instanceof LocalDate) {
+            return java.sql.Date.valueOf((LocalDate) temporal);
+        } else if (temporal instanceof OffsetTime) {
+            final OffsetTime time = (OffsetTime) temporal;
+            return Time.valueOf(time.withOffsetSameInstant(ZoneId.systemDefault().getRules().getOffset(Instant.now())).toLocalTime());
+        }
+        return Time.valueOf((LocalTime) temporal);
+    }
+
     /**
      * Unwrap this {@link DatabaseJsonPlatform} instance as provided class.
      *
@@ -43,6 +43,7 @@
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
 import org.eclipse.persistence.internal.databaseaccess.DatasourceCall.ParameterType;
 import org.eclipse.persistence.internal.expressions.ExpressionSQLPrinter;
 import org.eclipse.persistence.internal.expressions.ParameterExpression;
@@ -101,6 +102,7 @@
 import java.sql.Statement;
 import java.sql.Struct;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.HashMap;
@@ -150,6 +152,12 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** Bind some arguments to any SQL statement. */
     protected boolean shouldBindPartialParameters;
 
+    /** Pad the bound IN clause parameters to the next power of two, to limit the number of distinct statements. */
+    protected boolean shouldPadINClauseParameters;
+
+    /** Bind the IN clause parameters as a single array parameter, if supported by the platform. */
+    protected boolean shouldBindINClauseAsArray;
+
     /** Cache all prepared statements, this requires full parameter binding as well. */
     protected boolean shouldCacheAllStatements;
 
@@ -791,6 +799,8 @@ public void copyInto(Platform platform) {
         databasePlatform.shouldBindAllParameters = this.shouldBindAllParameters;
         databasePlatform.shouldForceBindAllParameters = this.shouldForceBindAllParameters;
         databasePlatform.shouldBindPartialParameters = this.shouldBindPartialParameters;
+        databasePlatform.shouldPadINClauseParameters = this.shouldPadINClauseParameters;
+        databasePlatform.shouldBindINClauseAsArray = this.shouldBindINClauseAsArray;
         databasePlatform.setShouldCacheAllStatements(shouldCacheAllStatements());
         databasePlatform.setStatementCacheSize(getStatementCacheSize());
         databasePlatform.setTransactionIsolation(getTransactionIsolation());
@@ -3512,6 +3522,156 @@ public boolean isXDBDocument(Object obj) {
         return false;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the bound parameters of an IN clause are padded to the next power of two,
+     * by repeating the last value.
+     * This limits the number of distinct SQL statements for IN clauses of different sizes,
+     * which improves the statement cache and the database's statement cache.
+     */
+    public boolean shouldPadINClauseParameters() {
+        return this.shouldPadINClauseParameters;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the bound parameters of an IN clause are padded to the next power of two,
+     * by repeating the last value.
+     * This limits the number of distinct SQL statements for IN clauses of different sizes,
+     * which improves the statement cache and the database's statement cache.
+     */
+    public void setShouldPadINClauseParameters(boolean shouldPadINClauseParameters) {
+        this.shouldPadINClauseParameters = shouldPadINClauseParameters;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the values of an IN clause are bound as a single array parameter,
+     * if the platform supports it.
+     * The SQL of the IN clause is then the same for any number of values.
+     * @see #supportsINClauseArrayBinding()
+     */
+    public boolean shouldBindINClauseAsArray() {
+        return this.shouldBindINClauseAsArray && supportsINClauseArrayBinding();
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the values of an IN clause are bound as a single array parameter,
+     * if the platform supports it.
+     * The SQL of the IN clause is then the same for any number of values.
+     * @see #supportsINClauseArrayBinding()
+     */
+    public void setShouldBindINClauseAsArray(boolean shouldBindINClauseAsArray) {
+        this.shouldBindINClauseAsArray = shouldBindINClauseAsArray;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the platform supports row value comparisons, i.e. "(A, B) &gt; (?, ?)".
+     * This is used for keyset pagination, otherwise the comparison is expanded to
+     * "(A &gt; ?) OR ((A = ?) AND (B &gt; ?))".
+     * Platforms that support it should override this method.
+     */
+    public boolean supportsRowValueComparison() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the platform can aggregate the rows of a sub-select into a JSON array of objects,
+     * i.e. "JSON_ARRAYAGG(JSON_OBJECT(KEY 'A' VALUE t1.A, ...))".
+     * This is used by the JSON batch fetch type to select a collection as a single column of the source query.
+     * Platforms that support it should override this method.
+     */
+    public boolean supportsJsonArrayAggregation() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the platform can order the elements of a JSON array aggregation,
+     * i.e. "JSON_ARRAYAGG(JSON_OBJECT(...) ORDER BY t1.A)".
+     */
+    public boolean supportsOrderedJsonArrayAggregation() {
+        return supportsJsonArrayAggregation();
+    }
+
+    /**
+     * INTERNAL:
+     * Build the operator that aggregates rows into a JSON array of objects with the keys.
+     * The arguments of the operator are the values of the keys, followed by the orderings.
+     * The SQL standard syntax is used by default.
+     */
+    public ExpressionOperator buildJsonArrayAggregationOperator(List<String> keys, int orderingsSize) {
+        List<String> databaseStrings = new ArrayList<>(keys.size() + orderingsSize + 1);
+        databaseStrings.add(getJsonArrayAggregationPrefix() + buildJsonObjectKey(keys.get(0)));
+        for (int index = 1; index < keys.size(); index++) {
+            databaseStrings.add(", " + buildJsonObjectKey(keys.get(index)));
+        }
+        if (orderingsSize > 0) {
+            databaseStrings.add(") ORDER BY ");
+            for (int index = 1; index < orderingsSize; index++) {
+                databaseStrings.add(", ");
+            }
+            databaseStrings.add(getJsonArrayAggregationSuffix());
+        } else {
+            databaseStrings.add(")" + getJsonArrayAggregationSuffix());
+        }
+        ExpressionOperator operator = new ExpressionOperator();
+        operator.setType(ExpressionOperator.AggregateOperator);
+        operator.printsAs(databaseStrings);
+        operator.bePrefix();
+        return operator;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the start of a JSON array aggregation, up to the first key of the JSON object.
+     */
+    protected String getJsonArrayAggregationPrefix() {
+        return "JSON_ARRAYAGG(JSON_OBJECT(";
+    }
+
+    /**
+     * INTERNAL:
+     * Return the key of a JSON object, followed by the separator of its value.
+     */
+    protected String buildJsonObjectKey(String key) {
+        return "KEY '" + key.replace("'", "''") + "' VALUE ";
+    }
+
+    /**
+     * INTERNAL:
+     * Return the end of a JSON array aggregation, after the JSON object and its orderings.
+     */
+    protected String getJsonArrayAggregationSuffix() {
+        return ")";
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the platform can compare a value to the elements of a bound java.sql.Array,
+     * i.e. "= ANY(?)" and "&lt;&gt; ALL(?)".
+     * Platforms that support it should override this method.
+     */
+    public boolean supportsINClauseArrayBinding() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the database type name of the elements of an IN clause array of the class,
+     * or null if the values cannot be bound as an array.
+     */
+    public String getINClauseArrayElementTypeName(Class<?> elementClass) {
+        FieldTypeDefinition definition = getFieldTypeDefinition(elementClass);
+        if (definition == null) {
+            return null;
+        }
+        return definition.getName();
+    }
+
     /**
      * PUBLIC:
      * Allows platform to choose whether to bind literals in DatabaseCalls or not.
@@ -1,6 +1,6 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
- * Copyright (c) 2019, 2023 IBM Corporation. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -1361,12 +1361,25 @@ public void translateQueryStringForParameterizedIN(AbstractRecord translationRow
                 } else {
                     token = queryString.substring(lastIndex, tokenIndex);
                 }
-                writer.write(token);
+                Object parameter = (tokenIndex == -1) ? null : parameters.get(parameterIndex);
+                ArrayBindCallCustomParameter arrayParameter = null;
+                if (parameter instanceof Collection) {
+                    arrayParameter = buildINClauseArrayParameter(token, (Collection<?>)parameter, session);
+                }
+                if (arrayParameter != null) {
+                    // Bind the values as a single array, so the SQL is the same for any number of values.
+                    boolean not = token.endsWith(" NOT IN ");
+                    writer.write(token, 0, token.length() - (not ? " NOT IN " : " IN ").length());
+                    writer.write(not ? " <> ALL(?)" : " = ANY(?)");
+                } else {
+                    writer.write(token);
+                }
                 if (tokenIndex != -1) {
                     // Process next parameter.
-                    Object parameter = parameters.get(parameterIndex);
                     // Parameter expressions are used for nesting and correct mapping conversion of the value.
-                    if (parameter instanceof Collection) {
+                    if (arrayParameter != null) {
+                        parametersValues.add(arrayParameter);
+                    } else if (parameter instanceof Collection) {
                         Collection<?> values = (Collection<?>)parameter;
                         writer.write("(");
                         if ((values.size() > 0) && (values.iterator().next() instanceof List)) {
@@ -1390,6 +1403,9 @@ public void translateQueryStringForParameterizedIN(AbstractRecord translationRow
                                 }
                             }
                         } else {
+                            if (session.getPlatform().shouldPadINClauseParameters()) {
+                                values = padINClauseParameters(values);
+                            }
                             parametersValues.addAll(values);
                             int size = values.size();
 
@@ -1439,6 +1455,67 @@ public void translateQueryStringForParameterizedIN(AbstractRecord translationRow
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the parameter binding the values of the IN clause as a single array, otherwise null.
+     * The values are bound as an array if the platform supports it, the values are not nested lists
+     * and the type of the values is known.
+     * The values were converted by the mappings of the parameters, they are converted to the
+     * database types as bound parameters are, i.e. dates and calendars are bound as timestamps.
+     */
+    protected ArrayBindCallCustomParameter buildINClauseArrayParameter(String token, Collection<?> values, AbstractSession session) {
+        DatabasePlatform platform = session.getPlatform();
+        if (!platform.shouldBindINClauseAsArray() || !token.endsWith(" IN ")) {
+            return null;
+        }
+        List<Object> elements = new ArrayList<>(values.size());
+        Class<?> elementClass = null;
+        for (Object value : values) {
+            if (value instanceof Collection) {
+                return null;
+            }
+            value = platform.convertToDatabaseType(value);
+            elements.add(value);
+            if (value != null) {
+                if ((elementClass != null) && (elementClass != value.getClass())) {
+                    return null;
+                }
+                elementClass = value.getClass();
+            }
+        }
+        if (elementClass == null) {
+            return null;
+        }
+        String elementTypeName = platform.getINClauseArrayElementTypeName(elementClass);
+        if (elementTypeName == null) {
+            return null;
+        }
+        return new ArrayBindCallCustomParameter(elements, elementTypeName);
+    }
+
+    /**
+     * INTERNAL:
+     * Pad the values of the IN clause to the next power of two by repeating the last value,
+     * so that IN clauses of similar sizes have the same SQL.
+     */
+    protected Collection<?> padINClauseParameters(Collection<?> values) {
+        int size = values.size();
+        if (size < 2) {
+            return values;
+        }
+        int paddedSize = Integer.highestOneBit(size - 1) << 1;
+        if (paddedSize == size) {
+            return values;
+        }
+        List<Object> paddedValues = new ArrayList<>(paddedSize);
+        paddedValues.addAll(values);
+        Object lastValue = paddedValues.get(size - 1);
+        for (int index = size; index < paddedSize; index++) {
+            paddedValues.add(lastValue);
+        }
+        return paddedValues;
+    }
+
     /**
      * INTERNAL:
      * Returns value for IN parameter. Called by translate and translateSQLString methods.
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.exceptions.QueryException;
+
+/**
+ * INTERNAL:
+ * Parses the JSON array of objects returned by a JSON array aggregation.
+ * Objects are returned as maps, arrays as lists, numbers as BigDecimal,
+ * and strings, booleans and null as themselves.
+ * This avoids a dependency on a JSON-P implementation for the JSON batch fetch type.
+ *
+ * @see DatabasePlatform#buildJsonArrayAggregationOperator(List, int)
+ * @since EclipseLink 4.1
+ */
+public class JsonArrayAggregationParser {
+    protected final String json;
+    protected int index;
+
+    public JsonArrayAggregationParser(String json) {
+        this.json = json;
+    }
+
+    /**
+     * Parse the JSON array of objects.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> parse() {
+        skipWhitespace();
+        Object value = parseValue();
+        skipWhitespace();
+        if (!(value instanceof List) || (this.index < this.json.length())) {
+            throw error();
+        }
+        for (Object element : (List<Object>)value) {
+            if (!(element instanceof Map)) {
+                throw error();
+            }
+        }
+        return (List<Map<String, Object>>)value;
+    }
+
+    protected Object parseValue() {
+        if (this.index >= this.json.length()) {
+            throw error();
+        }
+        char next = this.json.charAt(this.index);
+        switch (next) {
+            case '[':
+                return parseArray();
+            case '{':
+                return parseObject();
+            case '"':
+                return parseString();
+            case 't':
+                return parseLiteral("true", Boolean.TRUE);
+            case 'f':
+                return parseLiteral("false", Boolean.FALSE);
+            case 'n':
+                return parseLiteral("null", null);
+            default:
+                return parseNumber();
+        }
+    }
+
+    protected List<Object> parseArray() {
+        List<Object> array = new ArrayList<>();
+        this.index++;
+        skipWhitespace();
+        if (consume(']')) {
+            return array;
+        }
+        do {
+            skipWhitespace();
+            array.add(parseValue());
+            skipWhitespace();
+        } while (consume(','));
+        if (!consume(']')) {
+            throw error();
+        }
+        return array;
+    }
+
+    protected Map<String, Object> parseObject() {
+        Map<String, Object> object = new HashMap<>();
+        this.index++;
+        skipWhitespace();
+        if (consume('}')) {
+            return object;
+        }
+        do {
+            skipWhitespace();
+            if ((this.index >= this.json.length()) || (this.json.charAt(this.index) != '"')) {
+                throw error();
+            }
+            String key = parseString();
+            skipWhitespace();
+            if (!consume(':')) {
+                throw error();
+            }
+            skipWhitespace();
+            object.put(key, parseValue());
+            skipWhitespace();
+        } while (consume(','));
+        if (!consume('}')) {
+            throw error();
+        }
+        return object;
+    }
+
+    protected String parseString() {
+        StringBuilder value = new StringBuilder();
+        this.index++;
+        while (this.index < this.json.length()) {
+            char next = this.json.charAt(this.index++);
+            if (next == '"') {
+                return value.toString();
+            } else if (next == '\\') {
+                if (this.index >= this.json.length()) {
+                    break;
+                }
+                char escaped = this.json.charAt(this.index++);
+                switch (escaped) {
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'u':
+                        if (this.index + 4 > this.json.length()) {
+                            throw error();
+                        }
+                        try {
+                            value.append((char)Integer.parseInt(this.json.substring(this.index, this.index + 4), 16));
+                        } catch (NumberFormatException exception) {
+                            throw error();
+                        }
+                        this.index = this.index + 4;
+                        break;
+                    default:
+                        value.append(escaped);
+                }
+            } else {
+                value.append(next);
+            }
+        }
+        throw error();
+    }
+
+    protected Object parseLiteral(String literal, Object value) {
+        if (!this.json.startsWith(literal, this.index)) {
+            throw error();
+        }
+        this.index = this.index + literal.length();
+        return value;
+    }
+
+    protected BigDecimal parseNumber() {
+        int start = this.index;
+        while (this.index < this.json.length()) {
+            char next = this.json.charAt(this.index);
+            if (((next >= '0') && (next <= '9')) || (next == '-') || (next == '+') || (next == '.') || (next == 'e') || (next == 'E')) {
+                this.index++;
+            } else {
+                break;
+            }
+        }
+        try {
+            return new BigDecimal(this.json.substring(start, this.index));
+        } catch (NumberFormatException exception) {
+            throw error();
+        }
+    }
+
+    protected boolean consume(char expected) {
+        if ((this.index < this.json.length()) && (this.json.charAt(this.index) == expected)) {
+            this.index++;
+            return true;
+        }
+        return false;
+    }
+
+    protected void skipWhitespace() {
+        while ((this.index < this.json.length()) && Character.isWhitespace(this.json.charAt(this.index))) {
+            this.index++;
+        }
+    }
+
+    /**
+     * Build the exception for invalid JSON, only the position is reported as the JSON contains row data.
+     */
+    protected QueryException error() {
+        return QueryException.invalidJsonArrayAggregation(this.index);
+    }
+}
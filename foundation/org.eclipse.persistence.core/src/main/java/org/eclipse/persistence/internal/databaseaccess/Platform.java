@@ -30,6 +30,7 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Platform is private to TopLink. It encapsulates behavior specific to a datasource platform
@@ -54,6 +55,14 @@ public interface Platform extends CorePlatform<ConversionManager>, Serializable,
      */
     @Override <T> T convertObject(Object sourceObject, Class<T> javaClass) throws ConversionException;
 
+    /**
+     * Return a function that converts objects to the class in the same way as {@link #convertObject(Object, Class)},
+     * resolved once for the class, or null if convertObject must be used.
+     * @param javaClass the class that objects must be converted to
+     * @return the conversion function, or null
+     */
+    Function<Object, Object> getConversionFunction(Class<?> javaClass);
+
     /**
      * Copy the state into the new platform.
      */
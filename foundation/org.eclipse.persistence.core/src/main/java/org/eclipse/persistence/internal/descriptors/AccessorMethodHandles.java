@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+
+/**
+ * INTERNAL:
+ * Builds the method handles used by the field and method attribute accessors of classes that are not woven.
+ * The handles are built once when the accessor is initialized and adapted to generic signatures,
+ * so calling them avoids the argument checks and the privileged actions of reflective access.
+ * If a handle cannot be built, null is returned and the accessor uses reflection.
+ *
+ * @see SystemProperties#ATTRIBUTE_ACCESSOR_METHOD_HANDLES
+ * @since EclipseLink 4.1
+ */
+public final class AccessorMethodHandles {
+
+    /** Generic signature of field getters, (Object)Object. */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    /** Generic signature of field setters, (Object, Object)void. */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** Method handles are used unless disabled by the system property. */
+    private static final boolean isEnabled = PrivilegedAccessHelper.getSystemPropertyBoolean(SystemProperties.ATTRIBUTE_ACCESSOR_METHOD_HANDLES, true);
+
+    private AccessorMethodHandles() {
+    }
+
+    /**
+     * Return if attribute accessors should use method handles.
+     */
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Return a handle of signature (Object)Object that gets the value of the instance field,
+     * or null if method handles are disabled or the field is not accessible.
+     */
+    public static MethodHandle buildGetter(Field field) {
+        if (!isEnabled || (field == null) || Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Return a handle of signature (Object, Object)void that sets the value of the instance field,
+     * or null if method handles are disabled or the field is final or not accessible.
+     */
+    public static MethodHandle buildSetter(Field field) {
+        if (!isEnabled || (field == null) || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Return a handle of signature (Object, Object[])Object that invokes the instance get method with the spread arguments,
+     * or null if method handles are disabled or the method is not accessible.
+     */
+    public static MethodHandle buildGetMethodInvoker(Method method) {
+        return buildInvoker(method, Object.class);
+    }
+
+    /**
+     * Return a handle of signature (Object, Object[])void that invokes the instance set method with the spread arguments,
+     * or null if method handles are disabled or the method is not accessible.
+     */
+    public static MethodHandle buildSetMethodInvoker(Method method) {
+        return buildInvoker(method, void.class);
+    }
+
+    private static MethodHandle buildInvoker(Method method, Class<?> returnType) {
+        if (!isEnabled || (method == null) || Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            return handle.asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(returnType, Object.class, Object[].class));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Return if the value can be passed to a handle for the type without a conversion or an exception.
+     * Null cannot be passed for a primitive type, the accessors handle that case reflectively.
+     */
+    public static boolean isAssignable(Class<?> type, Object value) {
+        if (value == null) {
+            return !type.isPrimitive();
+        }
+        if (type.isPrimitive()) {
+            return Helper.getObjectClass(type) == value.getClass();
+        }
+        return type.isInstance(value);
+    }
+
+    /**
+     * Return if the arguments can be passed to a handle for the parameter types, see {@link #isAssignable(Class, Object)}.
+     */
+    public static boolean areAssignable(Class<?>[] types, Object[] values) {
+        int size = (values == null) ? 0 : values.length;
+        if (types.length != size) {
+            return false;
+        }
+        for (int index = 0; index < size; index++) {
+            if (!isAssignable(types[index], values[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import org.eclipse.persistence.asm.ClassWriter;
+import org.eclipse.persistence.asm.EclipseLinkASMClassWriter;
+import org.eclipse.persistence.asm.MethodVisitor;
+import org.eclipse.persistence.asm.Opcodes;
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.queries.JoinedAttributeManager;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.queries.ObjectBuildingQuery;
+
+/**
+ * INTERNAL:
+ * Builds the attributes of an object from a row for all the mappings of a descriptor.
+ * <p>
+ * Subclasses are generated per descriptor with ASM and defined as hidden classes.
+ * The generated code holds each mapping in its own final field and calls it from its own call site,
+ * instead of iterating the mapping list, so each call site only sees one mapping class
+ * and the JIT can inline the mapping's code into the builder.
+ *
+ * @see ObjectBuilder#buildAttributesIntoObject
+ * @see SystemProperties#GENERATED_ATTRIBUTES_BUILDERS
+ * @since EclipseLink 4.1
+ */
+public abstract class AttributesBuilder {
+
+    /** Generated builders are only used if enabled by the system property. */
+    private static final boolean isEnabled = PrivilegedAccessHelper.getSystemPropertyBoolean(SystemProperties.GENERATED_ATTRIBUTES_BUILDERS, false);
+
+    /** Name of the generated classes, hidden classes must be in the package of this class. */
+    private static final String GENERATED_CLASS_NAME = "org/eclipse/persistence/internal/descriptors/AttributesBuilder$Generated";
+    private static final String SUPER_CLASS_NAME = "org/eclipse/persistence/internal/descriptors/AttributesBuilder";
+    private static final String CONSTRUCTOR_DESCRIPTOR = "([Lorg/eclipse/persistence/mappings/DatabaseMapping;)V";
+    private static final String BUILD_ATTRIBUTES_DESCRIPTOR = "(Ljava/lang/Object;Lorg/eclipse/persistence/internal/identitymaps/CacheKey;"
+            + "Lorg/eclipse/persistence/internal/sessions/AbstractRecord;Lorg/eclipse/persistence/queries/ObjectBuildingQuery;"
+            + "Lorg/eclipse/persistence/internal/queries/JoinedAttributeManager;Lorg/eclipse/persistence/internal/sessions/AbstractSession;Z)V";
+    private static final String READ_FROM_ROW_DESCRIPTOR = "(Lorg/eclipse/persistence/internal/sessions/AbstractRecord;"
+            + "Lorg/eclipse/persistence/internal/queries/JoinedAttributeManager;Ljava/lang/Object;Lorg/eclipse/persistence/internal/identitymaps/CacheKey;"
+            + "Lorg/eclipse/persistence/queries/ObjectBuildingQuery;Lorg/eclipse/persistence/internal/sessions/AbstractSession;Z)Ljava/lang/Object;";
+    private static final String BUILD_CLONE_DESCRIPTOR = "(Ljava/lang/Object;Lorg/eclipse/persistence/internal/identitymaps/CacheKey;"
+            + "Lorg/eclipse/persistence/queries/ObjectBuildingQuery;Lorg/eclipse/persistence/internal/queries/JoinedAttributeManager;"
+            + "Lorg/eclipse/persistence/internal/sessions/AbstractRecord;Lorg/eclipse/persistence/internal/sessions/UnitOfWorkImpl;)V";
+    private static final String BUILD_CLONE_FROM_ROW_DESCRIPTOR = "(Lorg/eclipse/persistence/internal/sessions/AbstractRecord;"
+            + "Lorg/eclipse/persistence/internal/queries/JoinedAttributeManager;Ljava/lang/Object;Lorg/eclipse/persistence/internal/identitymaps/CacheKey;"
+            + "Lorg/eclipse/persistence/queries/ObjectBuildingQuery;Lorg/eclipse/persistence/internal/sessions/UnitOfWorkImpl;"
+            + "Lorg/eclipse/persistence/internal/sessions/AbstractSession;)V";
+
+    protected AttributesBuilder() {
+    }
+
+    /**
+     * Return if generated builders should be used, see {@link SystemProperties#GENERATED_ATTRIBUTES_BUILDERS}.
+     */
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Read the value of each mapping from the row into the object,
+     * as {@link DatabaseMapping#readFromRowIntoObject} does.
+     */
+    public abstract void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, AbstractRecord databaseRow, ObjectBuildingQuery query, JoinedAttributeManager joinManager, AbstractSession targetSession, boolean isTargetProtected);
+
+    /**
+     * Build the value of each mapping from the row into the working copy clone,
+     * as {@link DatabaseMapping#buildCloneFromRow} does.
+     */
+    public abstract void buildAttributesIntoWorkingCopyClone(Object clone, CacheKey sharedCacheKey, ObjectBuildingQuery query, JoinedAttributeManager joinManager, AbstractRecord databaseRow, UnitOfWorkImpl unitOfWork);
+
+    /**
+     * Generate a builder for the mappings.
+     * @throws ReflectiveOperationException if the class cannot be defined or instantiated, the caller should then use the mappings directly.
+     */
+    public static AttributesBuilder generate(List<DatabaseMapping> mappings) throws ReflectiveOperationException {
+        DatabaseMapping[] mappingsArray = mappings.toArray(new DatabaseMapping[0]);
+        String[] fieldTypes = new String[mappingsArray.length];
+        for (int index = 0; index < mappingsArray.length; index++) {
+            fieldTypes[index] = getFieldType(mappingsArray[index].getClass());
+        }
+        byte[] bytes = writeClass(fieldTypes);
+        MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+        return (AttributesBuilder)lookup.lookupClass().getConstructor(DatabaseMapping[].class).newInstance((Object)mappingsArray);
+    }
+
+    /**
+     * Return the internal name of the class the generated code can use for the mapping,
+     * the class itself if it is public and visible from EclipseLink, otherwise its closest such superclass.
+     */
+    private static String getFieldType(Class<?> mappingClass) {
+        Class<?> type = mappingClass;
+        while (type != DatabaseMapping.class) {
+            if (Modifier.isPublic(type.getModifiers()) && (type.getClassLoader() == DatabaseMapping.class.getClassLoader())) {
+                break;
+            }
+            type = type.getSuperclass();
+        }
+        return type.getName().replace('.', '/');
+    }
+
+    private static byte[] writeClass(String[] fieldTypes) {
+        ClassWriter cw = new EclipseLinkASMClassWriter();
+        cw.visit(Opcodes.valueInt("ACC_PUBLIC") + Opcodes.valueInt("ACC_FINAL") + Opcodes.valueInt("ACC_SUPER"), GENERATED_CLASS_NAME, null, SUPER_CLASS_NAME, null);
+
+        // private final <MappingClass> mapping<index>;
+        for (int index = 0; index < fieldTypes.length; index++) {
+            cw.visitField(Opcodes.valueInt("ACC_PRIVATE") + Opcodes.valueInt("ACC_FINAL"), "mapping" + index, "L" + fieldTypes[index] + ";", null, null);
+        }
+
+        // public <init>(DatabaseMapping[] mappings) { this.mapping<index> = (<MappingClass>)mappings[<index>]; }
+        MethodVisitor mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "<init>", CONSTRUCTOR_DESCRIPTOR, null, null);
+        mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+        mv.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), SUPER_CLASS_NAME, "<init>", "()V", false);
+        for (int index = 0; index < fieldTypes.length; index++) {
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            pushInt(mv, index);
+            mv.visitInsn(Opcodes.valueInt("AALOAD"));
+            mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), fieldTypes[index]);
+            mv.visitFieldInsn(Opcodes.valueInt("PUTFIELD"), GENERATED_CLASS_NAME, "mapping" + index, "L" + fieldTypes[index] + ";");
+        }
+        mv.visitInsn(Opcodes.valueInt("RETURN"));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // public void buildAttributesIntoObject(domainObject, cacheKey, databaseRow, query, joinManager, targetSession, isTargetProtected) {
+        //     this.mapping<index>.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+        // }
+        mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "buildAttributesIntoObject", BUILD_ATTRIBUTES_DESCRIPTOR, null, null);
+        for (int index = 0; index < fieldTypes.length; index++) {
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+            mv.visitFieldInsn(Opcodes.valueInt("GETFIELD"), GENERATED_CLASS_NAME, "mapping" + index, "L" + fieldTypes[index] + ";");
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 3);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 5);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 2);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 4);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 6);
+            mv.visitVarInsn(Opcodes.valueInt("ILOAD"), 7);
+            mv.visitMethodInsn(Opcodes.valueInt("INVOKEVIRTUAL"), fieldTypes[index], "readFromRowIntoObject", READ_FROM_ROW_DESCRIPTOR, false);
+            mv.visitInsn(Opcodes.valueInt("POP"));
+        }
+        mv.visitInsn(Opcodes.valueInt("RETURN"));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // public void buildAttributesIntoWorkingCopyClone(clone, sharedCacheKey, query, joinManager, databaseRow, unitOfWork) {
+        //     this.mapping<index>.buildCloneFromRow(databaseRow, joinManager, clone, sharedCacheKey, query, unitOfWork, unitOfWork);
+        // }
+        mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "buildAttributesIntoWorkingCopyClone", BUILD_CLONE_DESCRIPTOR, null, null);
+        for (int index = 0; index < fieldTypes.length; index++) {
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+            mv.visitFieldInsn(Opcodes.valueInt("GETFIELD"), GENERATED_CLASS_NAME, "mapping" + index, "L" + fieldTypes[index] + ";");
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 5);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 4);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 2);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 3);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 6);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 6);
+            mv.visitMethodInsn(Opcodes.valueInt("INVOKEVIRTUAL"), fieldTypes[index], "buildCloneFromRow", BUILD_CLONE_FROM_ROW_DESCRIPTOR, false);
+        }
+        mv.visitInsn(Opcodes.valueInt("RETURN"));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(Opcodes.valueInt("ICONST_0") + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.valueInt("BIPUSH"), value);
+        } else {
+            mv.visitIntInsn(Opcodes.valueInt("SIPUSH"), value);
+        }
+    }
+}
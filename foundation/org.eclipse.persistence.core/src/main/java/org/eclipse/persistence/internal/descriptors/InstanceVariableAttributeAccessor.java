@@ -20,6 +20,7 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.mappings.AttributeAccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 /**
@@ -34,6 +35,10 @@ public class InstanceVariableAttributeAccessor extends AttributeAccessor {
     /** The attribute name of an object is converted to Field type to access it reflectively */
     protected transient Field attributeField;
 
+    /** Method handles of the field built on initialization, used instead of reflection, null if not available. */
+    protected transient MethodHandle attributeGetter;
+    protected transient MethodHandle attributeSetter;
+
     /**
      * Returns the class type of the attribute.
      */
@@ -66,6 +71,14 @@ public Class<?> getAttributeType() {
      */
     @Override
     public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        // PERF: Use the method handle if the object can be passed to it, errors are reported through reflection.
+        if ((this.attributeGetter != null) && this.attributeField.getDeclaringClass().isInstance(anObject)) {
+            try {
+                return (Object)this.attributeGetter.invokeExact(anObject);
+            } catch (Throwable exception) {
+                // Fall through to reflection.
+            }
+        }
         return PrivilegedAccessHelper.callDoPrivilegedWithException(
                 () -> attributeField.get(anObject),
                 (ex) -> {
@@ -120,6 +133,8 @@ public boolean isInstanceVariableAttributeAccessor() {
      */
     protected void setAttributeField(Field field) {
         attributeField = field;
+        attributeGetter = AccessorMethodHandles.buildGetter(field);
+        attributeSetter = AccessorMethodHandles.buildSetter(field);
     }
 
     /**
@@ -127,6 +142,16 @@ protected void setAttributeField(Field field) {
      */
     @Override
     public void setAttributeValueInObject(final Object anObject, final Object value) throws DescriptorException {
+        // PERF: Use the method handle if the values can be passed to it, conversions and errors are handled through reflection.
+        if ((this.attributeSetter != null) && this.attributeField.getDeclaringClass().isInstance(anObject)
+                && AccessorMethodHandles.isAssignable(this.attributeField.getType(), value)) {
+            try {
+                this.attributeSetter.invokeExact(anObject, value);
+                return;
+            } catch (Throwable exception) {
+                // Fall through to reflection.
+            }
+        }
         try {
             // PERF: Direct variable access.
             PrivilegedAccessHelper.callDoPrivilegedWithException(
@@ -28,6 +28,7 @@
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.mappings.AttributeAccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -45,6 +46,12 @@ public class MethodAttributeAccessor extends AttributeAccessor {
     protected transient Method setMethod;
     protected transient Method getMethod;
 
+    /** Method handles of the methods built on initialization, used instead of reflection, null if not available. */
+    protected transient MethodHandle getMethodHandle;
+    protected transient MethodHandle setMethodHandle;
+    protected transient Class<?>[] getMethodParameterTypes;
+    protected transient Class<?>[] setMethodParameterTypes;
+
     /**
      * Return the return type of the method accessor.
      */
@@ -69,6 +76,16 @@ public Object getAttributeValueFromObject(Object anObject) throws DescriptorExce
      * Gets the value of an instance variable in the object.
      */
     protected Object getAttributeValueFromObject(final Object anObject, final Object[] parameters) throws DescriptorException {
+        // PERF: Use the method handle if the arguments can be passed to it, errors are reported through reflection.
+        if ((this.getMethodHandle != null) && this.getMethod.getDeclaringClass().isInstance(anObject)
+                && AccessorMethodHandles.areAssignable(this.getMethodParameterTypes, parameters)) {
+            try {
+                return (Object)this.getMethodHandle.invokeExact(anObject, parameters);
+            } catch (Throwable exception) {
+                // The exception was thrown by the method, report it as reflection would.
+                throw DescriptorException.targetInvocationWhileGettingValueThruMethodAccessor(getGetMethodName(), anObject.getClass().getName(), new InvocationTargetException(exception));
+            }
+        }
         return PrivilegedAccessHelper.callDoPrivilegedWithException(
                 // PERF: Direct-var access.
                 () -> getMethod.invoke(anObject, parameters),
@@ -216,6 +233,17 @@ public void setAttributeValueInObject(Object domainObject, Object attributeValue
      * Sets the value of the instance variable in the object to the value.
      */
     protected void setAttributeValueInObject(final Object domainObject, final Object attributeValue, final Object[] parameters) throws DescriptorException {
+        // PERF: Use the method handle if the arguments can be passed to it, conversions and errors are handled through reflection.
+        if ((this.setMethodHandle != null) && this.setMethod.getDeclaringClass().isInstance(domainObject)
+                && AccessorMethodHandles.areAssignable(this.setMethodParameterTypes, parameters)) {
+            try {
+                this.setMethodHandle.invokeExact(domainObject, parameters);
+                return;
+            } catch (Throwable exception) {
+                // The exception was thrown by the method, report it as reflection would.
+                throw DescriptorException.targetInvocationWhileSettingValueThruMethodAccessor(getSetMethodName(), attributeValue, new InvocationTargetException(exception));
+            }
+        }
         try {
             PrivilegedAccessHelper.callDoPrivilegedWithException(
                     () -> this.setMethod.invoke(domainObject, parameters)
@@ -269,6 +297,8 @@ protected void setAttributeValueInObject(final Object domainObject, final Object
      */
     protected void setGetMethod(Method getMethod) {
         this.getMethod = getMethod;
+        this.getMethodHandle = AccessorMethodHandles.buildGetMethodInvoker(getMethod);
+        this.getMethodParameterTypes = (getMethod == null) ? null : getMethod.getParameterTypes();
     }
 
     /**
@@ -283,6 +313,8 @@ public void setGetMethodName(String getMethodName) {
      */
     protected void setSetMethod(Method setMethod) {
         this.setMethod = setMethod;
+        this.setMethodHandle = AccessorMethodHandles.buildSetMethodInvoker(setMethod);
+        this.setMethodParameterTypes = (setMethod == null) ? null : setMethod.getParameterTypes();
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2023 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -185,6 +185,10 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
     protected boolean shouldKeepRow = false;
     /** PERF: is there an cache index field that's would not be selected by SOP query. Ignored unless descriptor uses SOP and CachePolicy has cache indexes. */
     protected boolean hasCacheIndexesInSopObject = false;
+    /** PERF: Indicates if a builder class should be generated for the mappings, reset if it cannot be generated. */
+    protected boolean shouldUseAttributesBuilder = AttributesBuilder.isEnabled();
+    /** PERF: Builder class generated for the mappings on first use, calls each mapping from its own call site. */
+    protected transient volatile AttributesBuilder attributesBuilder;
     /** Semaphore related properties. Transient to avoid serialization in clustered/replicated environments see CORBA tests*/
     private static final transient ThreadLocal<Boolean> SEMAPHORE_THREAD_LOCAL_VAR = new ThreadLocal<>();
     private static final transient int SEMAPHORE_MAX_NUMBER_THREADS = ConcurrencyUtil.SINGLETON.getNoOfThreadsAllowedToObjectBuildInParallel();
@@ -536,17 +540,24 @@ public void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, Ab
                 return;
             }
         }
-        // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
-        List<DatabaseMapping> mappings = this.descriptor.getMappings();
-
         // PERF: Cache if all mappings should be read.
         boolean readAllMappings = query.shouldReadAllMappings();
         boolean isTargetProtected = targetSession.isProtectedSession();
-        int size = mappings.size();
-        for (int index = 0; index < size; index++) {
-            DatabaseMapping mapping = mappings.get(index);
-            if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
-                mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+        AttributesBuilder builder = null;
+        if (readAllMappings && this.shouldUseAttributesBuilder) {
+            builder = getAttributesBuilder(targetSession);
+        }
+        if (builder != null) {
+            builder.buildAttributesIntoObject(domainObject, cacheKey, databaseRow, query, joinManager, targetSession, isTargetProtected);
+        } else {
+            // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
+            List<DatabaseMapping> mappings = this.descriptor.getMappings();
+            int size = mappings.size();
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = mappings.get(index);
+                if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
+                    mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+                }
             }
         }
 
@@ -556,6 +567,44 @@ public void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, Ab
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the builder class generated for the mappings of the descriptor, generating it on first use.
+     * Return null if it cannot be generated, the mappings are then iterated.
+     */
+    public AttributesBuilder getAttributesBuilder(AbstractSession session) {
+        AttributesBuilder builder = this.attributesBuilder;
+        if ((builder == null) && this.shouldUseAttributesBuilder) {
+            try {
+                builder = AttributesBuilder.generate(this.descriptor.getMappings());
+                this.attributesBuilder = builder;
+            } catch (Exception exception) {
+                this.shouldUseAttributesBuilder = false;
+                session.log(SessionLog.FINE, SessionLog.QUERY, "attributes_builder_not_generated", this.descriptor.getJavaClassName(), exception);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * INTERNAL:
+     * Set if a builder class should be generated for the mappings of the descriptor,
+     * instead of iterating the mappings to build objects from rows.
+     * The default is set by the {@link org.eclipse.persistence.config.SystemProperties#GENERATED_ATTRIBUTES_BUILDERS} system property.
+     */
+    public void setShouldUseAttributesBuilder(boolean shouldUseAttributesBuilder) {
+        this.shouldUseAttributesBuilder = shouldUseAttributesBuilder;
+        this.attributesBuilder = null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if a builder class is generated for the mappings of the descriptor.
+     */
+    public boolean shouldUseAttributesBuilder() {
+        return this.shouldUseAttributesBuilder;
+    }
+
     /**
      * Each mapping is recursed to assign values from the Record to the attributes in the domain object.
      * Should not be called unless (this.descriptor.hasSerializedObjectPolicy() &amp;&amp; query.shouldUseSerializedObjectPolicy())
@@ -2102,13 +2151,21 @@ public void buildAttributesIntoWorkingCopyClone(Object clone, CacheKey sharedCac
         }
         // PERF: Cache if all mappings should be read.
         boolean readAllMappings = query.shouldReadAllMappings();
-        List<DatabaseMapping> mappings = this.descriptor.getMappings();
-        int size = mappings.size();
-        FetchGroup executionFetchGroup = query.getExecutionFetchGroup(this.descriptor);
-        for (int index = 0; index < size; index++) {
-            DatabaseMapping mapping = mappings.get(index);
-            if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
-                mapping.buildCloneFromRow(databaseRow, joinManager, clone, sharedCacheKey, query, unitOfWork, unitOfWork);
+        AttributesBuilder builder = null;
+        if (readAllMappings && this.shouldUseAttributesBuilder) {
+            builder = getAttributesBuilder(unitOfWork);
+        }
+        if (builder != null) {
+            builder.buildAttributesIntoWorkingCopyClone(clone, sharedCacheKey, query, joinManager, databaseRow, unitOfWork);
+        } else {
+            List<DatabaseMapping> mappings = this.descriptor.getMappings();
+            int size = mappings.size();
+            FetchGroup executionFetchGroup = query.getExecutionFetchGroup(this.descriptor);
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = mappings.get(index);
+                if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
+                    mapping.buildCloneFromRow(databaseRow, joinManager, clone, sharedCacheKey, query, unitOfWork, unitOfWork);
+                }
             }
         }
 
@@ -2557,6 +2614,8 @@ public Object clone() {
             objectBuilder.setNonPrimaryKeyMappings(new ArrayList(getNonPrimaryKeyMappings()));
         }
         objectBuilder.cloningMappings = new ArrayList(this.cloningMappings);
+        // The generated builder references the mappings of this descriptor.
+        objectBuilder.attributesBuilder = null;
         objectBuilder.eagerMappings = new ArrayList(this.eagerMappings);
         objectBuilder.relationshipMappings = new ArrayList(this.relationshipMappings);
 
@@ -3755,6 +3814,7 @@ public DatabaseField getTargetFieldForQueryKeyName(String queryKeyName) {
      * Cache all the mappings by their attribute and fields.
      */
     public void initialize(AbstractSession session) throws DescriptorException {
+        this.attributesBuilder = null;
         getMappingsByField().clear();
         getReadOnlyMappingsByField().clear();
         getMappingsByAttribute().clear();
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.expressions;
+
+import java.util.List;
+
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.queries.ReportQuery;
+
+/**
+ * INTERNAL:
+ * A sub-select in the select clause that aggregates the target rows of a collection mapping into a JSON array.
+ * Its value is stored in the row under the field of the mapping, so the mapping can find it.
+ *
+ * @see org.eclipse.persistence.mappings.CollectionMapping#buildJsonAggregationExpression
+ * @since EclipseLink 4.1
+ */
+public class JsonArrayAggregationExpression extends SubSelectExpression {
+    protected DatabaseField field;
+
+    public JsonArrayAggregationExpression() {
+        super();
+    }
+
+    public JsonArrayAggregationExpression(ReportQuery query, Expression baseExpression, DatabaseField field) {
+        super(query, baseExpression);
+        this.field = field;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the field of the aggregated JSON array in the row.
+     */
+    public DatabaseField getField() {
+        return field;
+    }
+
+    /**
+     * INTERNAL:
+     * Used in debug printing of this node.
+     */
+    @Override
+    public String descriptionOfNodeType() {
+        return "JsonArrayAggregation";
+    }
+
+    /**
+     * INTERNAL: called from SQLSelectStatement.writeFieldsFromExpression(...)
+     * Add the field of the mapping instead of an anonymous field.
+     */
+    @Override
+    public void writeFields(ExpressionSQLPrinter printer, List<DatabaseField> newFields, SQLSelectStatement statement) {
+        //print ", " before each selected field except the first one
+        if (printer.isFirstElementPrinted()) {
+            printer.printString(", ");
+        } else {
+            printer.setIsFirstElementPrinted(true);
+        }
+
+        DatabaseField selectField = this.field.clone();
+        selectField.setSqlType(DatabaseField.NULL_SQL_TYPE);
+        selectField.setType(ClassConstants.STRING);
+        newFields.add(selectField);
+
+        printSQL(printer);
+    }
+}
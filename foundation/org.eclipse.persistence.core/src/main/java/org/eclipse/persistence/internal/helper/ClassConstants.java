@@ -114,6 +114,7 @@ public final class ClassConstants extends CoreClassConstants {
     public static final Class<IndirectSet> IndirectSet_Class = (Class<IndirectSet>) IndirectCollectionsFactory.IndirectSet_Class;
     public static final Class<IndirectMap> IndirectMap_Class = (Class<IndirectMap>) IndirectCollectionsFactory.IndirectMap_Class;
     public static final Class<LogicalExpression> LogicalExpression_Class = LogicalExpression.class;
+    public static final Class<NonSynchronizedVector> NonSynchronizedVector_Class = NonSynchronizedVector.class;
     public static final Class<DatabaseSessionImpl> PublicInterfaceDatabaseSession_Class = DatabaseSessionImpl.class;
     public static final Class<PerformanceProfiler> PerformanceProfiler_Class = PerformanceProfiler.class;
     public static final Class<AbstractSession> PublicInterfaceSession_Class = AbstractSession.class;
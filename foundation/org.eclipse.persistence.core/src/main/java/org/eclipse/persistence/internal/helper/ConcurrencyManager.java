@@ -22,6 +22,7 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.logging.AbstractSessionLog;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 import java.io.Serializable;
 import java.io.StringWriter;
@@ -862,6 +863,7 @@ private static String getPropertyRecordStackOnLock() {
     public void putThreadAsWaitingToAcquireLockForWriting(Thread thread, String methodName){
         THREADS_TO_WAIT_ON_ACQUIRE.put(thread, this);
         THREADS_TO_WAIT_ON_ACQUIRE_NAME_OF_METHOD_CREATING_TRACE.put(thread, methodName);
+        startLockWaitProfile(thread);
     }
 
     /**
@@ -871,6 +873,7 @@ public void putThreadAsWaitingToAcquireLockForWriting(Thread thread, String meth
     public void removeThreadNoLongerWaitingToAcquireLockForWriting(Thread thread) {
         THREADS_TO_WAIT_ON_ACQUIRE.remove(thread);
         THREADS_TO_WAIT_ON_ACQUIRE_NAME_OF_METHOD_CREATING_TRACE.remove(thread);
+        endLockWaitProfile(thread);
     }
 
     /**
@@ -883,11 +886,33 @@ public void removeThreadNoLongerWaitingToAcquireLockForWriting(Thread thread) {
     public void putThreadAsWaitingToAcquireLockForReading(Thread currentThread, String methodName) {
         THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK.put(currentThread, this);
         THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK_NAME_OF_METHOD_CREATING_TRACE.put(currentThread, methodName);
+        startLockWaitProfile(currentThread);
     }
 
     public void removeThreadNoLongerWaitingToAcquireLockForReading(Thread thread) {
         THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK.remove(thread);
         THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK_NAME_OF_METHOD_CREATING_TRACE.remove(thread);
+        endLockWaitProfile(thread);
+    }
+
+    /**
+     * Notify the lock wait profiler, if any, that the thread starts waiting to acquire the lock.
+     */
+    private static void startLockWaitProfile(Thread thread) {
+        SessionProfiler profiler = ConcurrencyUtil.SINGLETON.getLockWaitProfiler();
+        if ((profiler != null) && (thread == Thread.currentThread())) {
+            profiler.startOperationProfile(SessionProfiler.CacheKeyWait);
+        }
+    }
+
+    /**
+     * Notify the lock wait profiler, if any, that the thread is no longer waiting to acquire the lock.
+     */
+    private static void endLockWaitProfile(Thread thread) {
+        SessionProfiler profiler = ConcurrencyUtil.SINGLETON.getLockWaitProfiler();
+        if ((profiler != null) && (thread == Thread.currentThread())) {
+            profiler.endOperationProfile(SessionProfiler.CacheKeyWait);
+        }
     }
 
     /** Getter for {@link #concurrencyManagerId} */
@@ -25,6 +25,7 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.logging.AbstractSessionLog;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 import java.io.StringWriter;
 import java.lang.management.ManagementFactory;
@@ -76,6 +77,12 @@ public class ConcurrencyUtil {
     private long concurrencySemaphoreMaxTimePermit = getLongProperty(SystemProperties.CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT, DEFAULT_CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT);
     private long concurrencySemaphoreLogTimeout = getLongProperty(SystemProperties.CONCURRENCY_SEMAPHORE_LOG_TIMEOUT, DEFAULT_CONCURRENCY_SEMAPHORE_LOG_TIMEOUT);
 
+    /**
+     * Profiler notified when threads start and stop waiting to acquire a cache key lock.
+     * The locks are shared by all the sessions of the JVM, so a single profiler can be notified.
+     */
+    private volatile SessionProfiler lockWaitProfiler;
+
     /**
      * Thread local variable that allows the current thread to know when was the last time that this specific thread
      * produced the "tiny dump" indicating that the thread is stuck.
@@ -279,6 +286,21 @@ public void setAllowInterruptedExceptionFired(boolean allowInterruptedExceptionF
         this.allowInterruptedExceptionFired = allowInterruptedExceptionFired;
     }
 
+    /**
+     * @return the profiler notified of the cache key lock waits, or null
+     */
+    public SessionProfiler getLockWaitProfiler() {
+        return this.lockWaitProfiler;
+    }
+
+    /**
+     * Set the profiler notified with the {@link SessionProfiler#CacheKeyWait} operation
+     * when a thread starts and stops waiting to acquire a cache key lock, null to disable.
+     */
+    public void setLockWaitProfiler(SessionProfiler lockWaitProfiler) {
+        this.lockWaitProfiler = lockWaitProfiler;
+    }
+
     /**
      * @return true if we are supposed to be firing up exception to abort the thread in a dead lock, false we are afraid
      *         of trying to abort the transaction and not managing to resolve the dead lock and prefer to system frozen
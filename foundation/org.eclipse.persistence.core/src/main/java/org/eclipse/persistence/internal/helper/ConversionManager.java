@@ -51,6 +51,7 @@
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -268,6 +269,119 @@ public <T> T convertObject(Object sourceObject, Class<T> javaClass) throws Conve
         throw ConversionException.couldNotBeConverted(sourceObject, javaClass);
     }
 
+    /**
+     * INTERNAL:
+     * Return a function that converts objects to the class in the same way as {@link #convertObject(Object, Class)}.
+     * The conversion routine is resolved once for the class, so callers that convert many values to the same class,
+     * such as direct mappings, avoid dispatching on the class for each value.
+     * Return null if the class has no specific conversion routine, or if a subclass customizes convertObject,
+     * in which case convertObject must be used.
+     */
+    public Function<Object, Object> getConversionFunction(Class<?> javaClass) {
+        if ((javaClass == null) || isConvertObjectCustomized()) {
+            return null;
+        }
+        final Function<Object, Object> routine = getConversionRoutine(javaClass);
+        if (routine == null) {
+            return null;
+        }
+        final Class<?> objectClass = Helper.getObjectClass(javaClass);
+        return sourceObject -> {
+            if (sourceObject == null) {
+                return getDefaultNullValue(javaClass);
+            }
+            if (sourceObject.getClass() == objectClass) {
+                return sourceObject;
+            }
+            try {
+                return routine.apply(sourceObject);
+            } catch (ConversionException ce) {
+                throw ce;
+            } catch (Exception e) {
+                throw ConversionException.couldNotBeConverted(sourceObject, javaClass, e);
+            }
+        };
+    }
+
+    /**
+     * Return the routine used by convertObject for a source object of another class than the class,
+     * or null if it depends on the source object.
+     */
+    private Function<Object, Object> getConversionRoutine(Class<?> javaClass) {
+        if ((javaClass == ClassConstants.OBJECT) || (javaClass == ClassConstants.BLOB) || (javaClass == ClassConstants.CLOB)
+                || javaClass.getName().contains("json")) {
+            return sourceObject -> sourceObject;
+        } else if (javaClass == ClassConstants.STRING) {
+            return this::convertObjectToString;
+        } else if (javaClass == ClassConstants.UTILDATE) {
+            return this::convertObjectToUtilDate;
+        } else if (javaClass == ClassConstants.SQLDATE) {
+            return this::convertObjectToDate;
+        } else if (javaClass == ClassConstants.TIME) {
+            return this::convertObjectToTime;
+        } else if (javaClass == ClassConstants.TIMESTAMP) {
+            return this::convertObjectToTimestamp;
+        } else if (javaClass == ClassConstants.TIME_LDATE) {
+            return this::convertObjectToLocalDate;
+        } else if (javaClass == ClassConstants.TIME_LDATETIME) {
+            return this::convertObjectToLocalDateTime;
+        } else if (javaClass == ClassConstants.TIME_LTIME) {
+            return this::convertObjectToLocalTime;
+        } else if (javaClass == ClassConstants.TIME_ODATETIME) {
+            return this::convertObjectToOffsetDateTime;
+        } else if (javaClass == ClassConstants.TIME_OTIME) {
+            return this::convertObjectToOffsetTime;
+        } else if ((javaClass == ClassConstants.CALENDAR) || (javaClass == ClassConstants.GREGORIAN_CALENDAR)) {
+            return this::convertObjectToCalendar;
+        } else if ((javaClass == ClassConstants.CHAR) || (javaClass == ClassConstants.PCHAR)) {
+            return this::convertObjectToChar;
+        } else if ((javaClass == ClassConstants.INTEGER) || (javaClass == ClassConstants.PINT)) {
+            return this::convertObjectToInteger;
+        } else if ((javaClass == ClassConstants.DOUBLE) || (javaClass == ClassConstants.PDOUBLE)) {
+            return this::convertObjectToDouble;
+        } else if ((javaClass == ClassConstants.FLOAT) || (javaClass == ClassConstants.PFLOAT)) {
+            return this::convertObjectToFloat;
+        } else if ((javaClass == ClassConstants.LONG) || (javaClass == ClassConstants.PLONG)) {
+            return this::convertObjectToLong;
+        } else if ((javaClass == ClassConstants.SHORT) || (javaClass == ClassConstants.PSHORT)) {
+            return this::convertObjectToShort;
+        } else if ((javaClass == ClassConstants.BYTE) || (javaClass == ClassConstants.PBYTE)) {
+            return this::convertObjectToByte;
+        } else if (javaClass == ClassConstants.BIGINTEGER) {
+            return this::convertObjectToBigInteger;
+        } else if (javaClass == ClassConstants.BIGDECIMAL) {
+            return this::convertObjectToBigDecimal;
+        } else if (javaClass == ClassConstants.NUMBER) {
+            return this::convertObjectToNumber;
+        } else if ((javaClass == ClassConstants.BOOLEAN) || (javaClass == ClassConstants.PBOOLEAN)) {
+            return this::convertObjectToBoolean;
+        } else if (javaClass == ClassConstants.APBYTE) {
+            return this::convertObjectToByteArray;
+        } else if (javaClass == ClassConstants.ABYTE) {
+            return this::convertObjectToByteObjectArray;
+        } else if (javaClass == ClassConstants.APCHAR) {
+            return this::convertObjectToCharArray;
+        } else if (javaClass == ClassConstants.ACHAR) {
+            return this::convertObjectToCharacterArray;
+        } else if (javaClass == ClassConstants.URL_Class) {
+            return this::convertObjectToUrl;
+        } else if (javaClass == ClassConstants.UUID) {
+            return this::convertObjectToUUID;
+        }
+        return null;
+    }
+
+    /**
+     * Return if a subclass overrides convertObject, so its routines cannot be resolved in advance.
+     */
+    private boolean isConvertObjectCustomized() {
+        try {
+            return getClass().getMethod("convertObject", Object.class, Class.class).getDeclaringClass() != ConversionManager.class;
+        } catch (NoSuchMethodException exception) {
+            return true;
+        }
+    }
+
     /**
      * Build a valid instance of BigDecimal from the given sourceObject
      *    @param sourceObject    Valid instance of String, BigInteger, any Number
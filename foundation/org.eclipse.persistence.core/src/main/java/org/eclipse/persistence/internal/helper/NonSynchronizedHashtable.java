@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Hashtable subclass that removes the synchronization.
+ * The entries are stored in a HashMap, the inherited Hashtable state is never used.
+ */
+public class NonSynchronizedHashtable<K, V> extends Hashtable<K, V> {
+
+    protected Map<K, V> values;
+
+    public NonSynchronizedHashtable() {
+        this(11);
+    }
+
+    public NonSynchronizedHashtable(int initialCapacity) {
+        this(initialCapacity, 0.75f);
+    }
+
+    public NonSynchronizedHashtable(int initialCapacity, float loadFactor) {
+        super(1);
+        this.values = new HashMap<>(initialCapacity, loadFactor);
+    }
+
+    public NonSynchronizedHashtable(Map<? extends K, ? extends V> map) {
+        super(1);
+        this.values = new HashMap<>(map);
+    }
+
+    @Override
+    public void clear() {
+        this.values.clear();
+    }
+
+    @Override
+    public Object clone() {
+        return new NonSynchronizedHashtable<>(this.values);
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return this.values.containsValue(value);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.values.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return this.values.containsValue(value);
+    }
+
+    @Override
+    public Enumeration<V> elements() {
+        return Collections.enumeration(this.values.values());
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return this.values.entrySet();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return (o == this) || this.values.equals(o);
+    }
+
+    @Override
+    public V get(Object key) {
+        return this.values.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return this.values.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.values.hashCode();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.values.isEmpty();
+    }
+
+    @Override
+    public Enumeration<K> keys() {
+        return Collections.enumeration(this.values.keySet());
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return this.values.keySet();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return this.values.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> t) {
+        this.values.putAll(t);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return this.values.putIfAbsent(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return this.values.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return this.values.remove(key, value);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        return this.values.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        return this.values.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        this.values.replaceAll(function);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return this.values.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return this.values.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return this.values.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return this.values.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        this.values.forEach(action);
+    }
+
+    @Override
+    public int size() {
+        return this.values.size();
+    }
+
+    @Override
+    public String toString() {
+        return this.values.toString();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return this.values.values();
+    }
+}
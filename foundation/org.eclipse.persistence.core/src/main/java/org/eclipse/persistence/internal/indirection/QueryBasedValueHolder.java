@@ -26,6 +26,7 @@
 import org.eclipse.persistence.queries.ObjectBuildingQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
 import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 /**
  * QueryBasedValueHolder wraps a database-stored object and implements behavior
@@ -133,6 +134,8 @@ protected T instantiate(AbstractSession session) throws DatabaseException {
         if (this.query.isObjectBuildingQuery() && ((ObjectBuildingQuery)this.query).shouldRefreshIdentityMapResult()){
             this.refreshCascade = this.query.getCascadePolicy();
         }
+        // Each lazy load executes its own query, frequent lazy loads of a relationship are N+1 queries.
+        session.incrementProfile(SessionProfiler.LazyLoads, this.query);
         Object result = session.executeQuery(getQuery(), getRow());
         // Bug 489898 - ensure that the query's session is dereferenced, post-execution
         getQuery().setSession(null);
@@ -263,7 +263,9 @@ public class ExceptionLocalizationResource extends ListResourceBundle {
                                            { "json_pgsql_pgobject_conversion", "Database PGobject conversion failed."},
                                            { "json_pgsql_unknown_type", "Unknown JSON type returned from database."},
                                            { "json_ora21c_jsonvalue_to_oraclevalue", "Could not convert JsonValue to OracleJsonValue."},
-                                           { "json_ora21c_resultset_to_jsonvalue", "Could not convert JDBC ResultSet type to JsonValue."}
+                                           { "json_ora21c_resultset_to_jsonvalue", "Could not convert JDBC ResultSet type to JsonValue."},
+                                           { "project_cache_generator_no_persistence_unit", "The project cache could not be generated: no persistence unit named {0} was found by the EclipseLink persistence provider."},
+                                           { "project_cache_generator_no_project_written", "The project cache could not be generated: the persistence unit {0} was deployed but its project was not written to {1}."}
                                         };
     /**
      * Return the lookup table.
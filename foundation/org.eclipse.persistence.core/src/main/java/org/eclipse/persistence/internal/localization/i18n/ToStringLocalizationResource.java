@@ -99,6 +99,14 @@ public class ToStringLocalizationResource extends ListResourceBundle {
                                            { "staticweave_commandline_help_message_18of19", "    and output to C:\\foo-target.jar:" },
                                            { "staticweave_commandline_help_message_19of19", "    StaticWeave -persistenceinfo C:\\foo-containing-persistence-xml.jar -classpath C:\\classpath1;C:\\classpath2 C:\\foo-source.jar C:\\foo-target.jar"},
 
+                                           { "projectcachegenerator_commandline_help_message_1of7", "  Usage: ProjectCacheGenerator [options] persistence-unit-name target" },
+                                           { "projectcachegenerator_commandline_help_message_2of7", "  Options:" },
+                                           { "projectcachegenerator_commandline_help_message_3of7", "    -classpath classpath" },
+                                           { "projectcachegenerator_commandline_help_message_4of7", "      Set the class path containing the persistence unit classes and META-INF/persistence.xml." },
+                                           { "projectcachegenerator_commandline_help_message_5of7", "    -property name=value" },
+                                           { "projectcachegenerator_commandline_help_message_6of7", "      Set a persistence unit property used to process the metadata, may be repeated." },
+                                           { "projectcachegenerator_commandline_help_message_7of7", "  The serialized project is written to the target file, to be packaged as the eclipselink.project-cache.java-serialization.resource resource." },
+
                                            { "sdo_classgenerator_usage_help_1of8", "{0} Usage: org.eclipse.persistence.sdo.helper.{0} [-options]" },
                                            { "sdo_classgenerator_usage_help_2of8", "Options:" },
                                            { "sdo_classgenerator_usage_help_3of8", "    -help                        Prints the help message text" },
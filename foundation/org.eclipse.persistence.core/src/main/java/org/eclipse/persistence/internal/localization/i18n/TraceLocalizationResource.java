@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2017, 2022 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -321,6 +321,7 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "sequencing_afterTransactionCommitted", "local sequencing preallocation is copied to preallocation after transaction commit" },
         { "sequencing_afterTransactionRolledBack", "local sequencing preallocation is discarded after transaction roll back" },
         { "sequencing_preallocation", "sequencing preallocation for {0}: objects: {1} , first: {2}, last: {3}" },
+        { "sequencing_prefetch", "sequencing prefetch for {0}: objects: {1} , first: {2}, last: {3}" },
         { "starting_rcm", "Starting Remote Command Manager {0}" },
         { "stopping_rcm", "Stopping Remote Command Manager {0}" },
         { "initializing_discovery_resources", "Initializing discovery resources - group={0} port={1}" },
@@ -544,12 +545,17 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "moxy_set_marshaller_property", "Setting marshaller property (name/value): {0}/{1}"},
         { "moxy_set_unmarshaller_property", "Setting unmarshaller property (name/value): {0}/{1}"},
         { "moxy_set_jaxb_context_property", "Setting JAXBContext property (name/value): {0}/{1}"},
+        { "moxy_metadata_cache_read", "JAXBContext metadata read from cache file {0}"},
+        { "moxy_metadata_cache_written", "JAXBContext metadata written to cache file {0}"},
+        { "moxy_metadata_cache_not_read", "JAXBContext metadata cache file {0} is out of date or could not be read: {1}"},
+        { "moxy_metadata_cache_not_written", "JAXBContext metadata could not be written to cache file {0}: {1}"},
         { "invalid_tzone", "Invalid timezone conversion property {0} value: {1}.  Will attempt to resolve default." },
         { "invalid_default_tzone", "Invalid timezone conversion property {0} value: {1}.  Defaulting to UTC." },
         { "using_conversion_tzone", "ConversionManager using default zone offset: {1}."},
         { "open_pkg", "Opening package {0} in {1} to {2} for reflection access."},
         { "set_accessible", "Cannot setAccessible {0} for {1}."},
-        { "set_accessible_in", "Cannot setAccessible {0} {1} in {2}."}
+        { "set_accessible_in", "Cannot setAccessible {0} {1} in {2}."},
+        { "attributes_builder_not_generated", "The attributes builder of {0} could not be generated, its mappings are used instead: {1}"}
     };
 
     /**
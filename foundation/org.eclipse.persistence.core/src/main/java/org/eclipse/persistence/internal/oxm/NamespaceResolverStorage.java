@@ -12,6 +12,8 @@
 
 package org.eclipse.persistence.internal.oxm;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -120,6 +122,12 @@ private void setModified(boolean modified) {
         this.modified = modified;
     }
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // the entries are read without put, the namespaces are built again on first use
+        setModified();
+    }
+
     private Vector<Namespace> buildNamespacesUnmodifiable() {
         Vector<Namespace> names = new Vector<>(size());
         for (Map.Entry<String, String> entry : entrySet()) {
@@ -14,6 +14,9 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.oxm;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
 import org.eclipse.persistence.core.descriptors.CoreInheritancePolicy;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.core.sessions.CoreAbstractSession;
@@ -51,13 +54,19 @@
  */
 public class TreeObjectBuilder extends XMLObjectBuilder implements ObjectBuilder<AbstractRecord, AbstractSession, ClassDescriptor, XMLMarshaller> {
 
-    private XPathObjectBuilder xPathObjectBuilder;
+    /** Built again when the descriptor is deserialized, its tree is only built when the descriptor is initialized. */
+    private transient XPathObjectBuilder xPathObjectBuilder;
 
     public TreeObjectBuilder(ClassDescriptor descriptor) {
         super(descriptor);
         xPathObjectBuilder = new XPathObjectBuilder(descriptor);
     }
 
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        xPathObjectBuilder = new XPathObjectBuilder(descriptor);
+    }
+
     @Override
     protected void initialize(ClassDescriptor descriptor) {
         int descriptorMappingsSize = descriptor.getMappings().size();
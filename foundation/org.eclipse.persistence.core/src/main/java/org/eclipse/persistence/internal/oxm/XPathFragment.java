@@ -17,6 +17,7 @@
 import org.eclipse.persistence.internal.oxm.mappings.Field;
 
 import javax.xml.namespace.QName;
+import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.HashSet;
 import java.util.Set;
@@ -34,7 +35,7 @@
  * b[2] would have an index value of 2.</li>
  * </ul>
  */
-public class XPathFragment<XML_FIELD extends Field> {
+public class XPathFragment<XML_FIELD extends Field> implements Serializable {
 
     public static final XPathFragment TEXT_FRAGMENT = new XPathFragment(Constants.TEXT);
     public static final String SELF_XPATH = ".";
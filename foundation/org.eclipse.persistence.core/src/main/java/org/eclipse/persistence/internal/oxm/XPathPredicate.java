@@ -14,7 +14,9 @@
 //     Blaise Doughan - 2.3 - initial implementation
 package org.eclipse.persistence.internal.oxm;
 
-public class XPathPredicate {
+import java.io.Serializable;
+
+public class XPathPredicate implements Serializable {
 
     private XPathFragment xPathFragment;
     private String value;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,11 +15,7 @@
 package org.eclipse.persistence.internal.oxm.record.json;
 
 import jakarta.json.Json;
-import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonException;
-import jakarta.json.JsonObjectBuilder;
-import jakarta.json.JsonStructure;
-import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser;
 import org.eclipse.persistence.exceptions.XMLMarshalException;
 import org.eclipse.persistence.internal.oxm.Constants;
@@ -40,11 +36,8 @@
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.ArrayDeque;
-import java.util.Deque;
 
 /**
  * Reader for JSR-353 stream (StAX) parser.
@@ -56,11 +49,6 @@ public final class JsonParserReader extends XMLReaderAdapter {
     private final JsonParser parser;
     private final JsonStructureReader structureReader;
 
-    /**
-     * Parsing stack
-     */
-    private final Deque<JsonStructureBuilder> stack = new ArrayDeque<>();
-
     /**
      * Private constructor
      * Use {@link JsonParserReader.JsonParserReaderBuilder} to instantiate the class;
@@ -81,14 +69,14 @@ public void parse(InputSource input) throws IOException, SAXException {
         }
 
         if (null != input.getCharacterStream()) {
-            doParsing(Json.createParser(input.getCharacterStream()));
+            doParsingAndClose(Json.createParser(input.getCharacterStream()));
             return;
         }
 
         InputStream inputStream = null;
         try {
             if (null != (inputStream = input.getByteStream())) {
-                doParsing(Json.createParser(inputStream));
+                doParsingAndClose(Json.createParser(inputStream));
                 return;
             }
 
@@ -102,7 +90,7 @@ public void parse(InputSource input) throws IOException, SAXException {
                     throw malformedURLException;
                 }
             }
-            doParsing(Json.createParser(inputStream));
+            doParsingAndClose(Json.createParser(inputStream));
         } catch (JsonException je) {
             throw XMLMarshalException.unmarshalException(je);
         } finally {
@@ -121,67 +109,19 @@ public void parse(String systemId) {
         }
     }
 
-    private void doParsing(JsonParser parser) throws SAXException, IOException {
-        JsonStructureBuilder builder = null;
-        while (parser.hasNext()) {
-            builder = parseEvent(parser);
-        }
-        assert builder != null;
-        JsonStructure jsonStructure = builder.build();
-        structureReader.parseRoot(jsonStructure);
+    private void doParsing(JsonParser parser) throws SAXException {
+        structureReader.parseRoot(parser);
     }
 
-    private JsonStructureBuilder parseEvent(JsonParser jp) throws SAXException {
-        JsonParser.Event e = jp.next();
-
-        JsonStructureBuilder top = stack.peek();
-        switch (e) {
-            case START_ARRAY: {
-                JsonStructureBuilder b = new ArrayBuilder(Json.createArrayBuilder());
-                stack.push(b);
-                break;
-            }
-            case START_OBJECT: {
-                JsonStructureBuilder b = new ObjectBuilder(Json.createObjectBuilder());
-                stack.push(b);
-                break;
-            }
-            case KEY_NAME: {
-                top.setKey(jp.getString());
-                break;
-            }
-            case VALUE_STRING: {
-                top.add(jp.getString());
-                break;
-            }
-            case VALUE_NUMBER: {
-                top.add(jp.getBigDecimal());
-                break;
-            }
-            case VALUE_TRUE: {
-                top.add(Boolean.TRUE);
-                break;
-            }
-            case VALUE_FALSE: {
-                top.add(Boolean.FALSE);
-                break;
-            }
-            case VALUE_NULL: {
-                top.addNull();
-                break;
-            }
-            case END_ARRAY:
-            case END_OBJECT: { // adding build element to the upper one
-                JsonStructureBuilder b = stack.pop();
-                top = stack.peek();
-                if (top != null)
-                    top.add(b.build());
-                return b;
-            }
-            default:
-                throw new IllegalStateException("Unhandled event: " + e);
+    /**
+     * Parse the document of a parser created by this reader, then close the parser.
+     */
+    private void doParsingAndClose(JsonParser parser) throws SAXException {
+        try {
+            doParsing(parser);
+        } finally {
+            parser.close();
         }
-        return null;
     }
 
     // ******************************** Redirecting requests to JsonStructureReader *******************************
@@ -231,25 +171,6 @@ public boolean isNamespaceAware() {
     }
     // ************************************************************************************************************
 
-    /**
-     * JsonStructure builder
-     */
-    private interface JsonStructureBuilder {
-        JsonStructure build();
-
-        void add(JsonValue value);
-
-        void add(String value);
-
-        void add(BigDecimal value);
-
-        void add(boolean value);
-
-        void addNull();
-
-        void setKey(String key);
-    }
-
     /**
      * Builder for JsonParserReader
      */
@@ -278,91 +199,4 @@ public JsonParserReader build() {
             return new JsonParserReader(this);
         }
     }
-
-    private static final class ObjectBuilder implements JsonStructureBuilder {
-        private final JsonObjectBuilder b;
-        private String key;
-
-        public ObjectBuilder(JsonObjectBuilder b) {
-            this.b = b;
-        }
-
-        @Override
-        public JsonStructure build() {
-            return b.build();
-        }
-
-        @Override
-        public void add(JsonValue value) {
-            b.add(key, value);
-        }
-
-        @Override
-        public void add(String value) {
-            b.add(key, value);
-        }
-
-        @Override
-        public void add(BigDecimal value) {
-            b.add(key, value);
-        }
-
-        @Override
-        public void add(boolean value) {
-            b.add(key, value);
-        }
-
-        @Override
-        public void addNull() {
-            b.addNull(key);
-        }
-
-        @Override
-        public void setKey(String key) {
-            this.key = key;
-        }
-    }
-
-    private static final class ArrayBuilder implements JsonStructureBuilder {
-        private final JsonArrayBuilder b;
-
-        public ArrayBuilder(JsonArrayBuilder b) {
-            this.b = b;
-        }
-
-        @Override
-        public JsonStructure build() {
-            return b.build();
-        }
-
-        @Override
-        public void add(JsonValue value) {
-            b.add(value);
-        }
-
-        @Override
-        public void add(String value) {
-            b.add(value);
-        }
-
-        @Override
-        public void add(BigDecimal value) {
-            b.add(value);
-        }
-
-        @Override
-        public void add(boolean value) {
-            b.add(value);
-        }
-
-        @Override
-        public void addNull() {
-            b.addNull();
-        }
-
-        @Override
-        public void setKey(String key) {
-            // noop
-        }
-    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -17,16 +17,18 @@
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonException;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
-import jakarta.json.JsonReader;
 import jakarta.json.JsonString;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonValue.ValueType;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
 import org.eclipse.persistence.exceptions.XMLMarshalException;
 import org.eclipse.persistence.internal.oxm.CollectionGroupingElementNodeValue;
 import org.eclipse.persistence.internal.oxm.Constants;
@@ -63,6 +65,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 public class JsonStructureReader extends XMLReaderAdapter {
@@ -77,6 +80,7 @@ public class JsonStructureReader extends XMLReaderAdapter {
     private boolean isInCollection;
     private JsonStructure jsonStructure;
     private JsonAttributes attributes = new JsonAttributes();
+    private JsonBuilderFactory builderFactory;
 
     /**
      * If we should treat unqualified type property in JSON as MOXy type discriminator.
@@ -118,12 +122,12 @@ public void parse(InputSource input) throws IOException, SAXException, JsonExcep
 
         try {
             InputStream inputStream = null;
-            JsonReader jsonReader;
+            JsonParser jsonParser;
             if (null != input.getByteStream()) {
                 inputStream = input.getByteStream();
-                jsonReader = Json.createReader(inputStream);
+                jsonParser = Json.createParser(inputStream);
             } else if (null != input.getCharacterStream()) {
-                jsonReader = Json.createReader(input.getCharacterStream());
+                jsonParser = Json.createParser(input.getCharacterStream());
             } else {
                 try {
                     URL url = new URL(input.getSystemId());
@@ -135,11 +139,12 @@ public void parse(InputSource input) throws IOException, SAXException, JsonExcep
                         throw malformedURLException;
                     }
                 }
-                jsonReader = Json.createReader(inputStream);
+                jsonParser = Json.createParser(inputStream);
             }
-            if (jsonReader != null) {
-                JsonStructure structure = jsonReader.read();
-                parseRoot(structure);
+            try {
+                parseRoot(jsonParser);
+            } finally {
+                jsonParser.close();
             }
 
             if (null != inputStream) {
@@ -159,13 +164,135 @@ public void parse(String systemId) {
         }
     }
 
-    public void parseRoot(JsonValue jsonValue) throws SAXException {
+    /**
+     * Unmarshal the JSON document of the parser, which must hold a single value.
+     * The elements of a root level array are read and unmarshalled one at a time,
+     * so the whole array never has to be held in memory as a JsonArray.
+     * Only the parser events are used, so any JSON-P parser is supported.
+     */
+    public void parseRoot(final JsonParser jsonParser) throws SAXException {
+        if (!jsonParser.hasNext()) {
+            throw new JsonParsingException("Unexpected end of JSON input", jsonParser.getLocation());
+        }
+        JsonParser.Event event = jsonParser.next();
+        if (event == JsonParser.Event.START_ARRAY) {
+            startPrefixMappings();
+            parseRootArray(() -> new RootArrayIterator(jsonParser), new ArrayList<>());
+        } else {
+            parseRoot(readValue(jsonParser, event));
+        }
+        if (jsonParser.hasNext()) {
+            throw new JsonParsingException("Unexpected " + jsonParser.next() + " after the end of the JSON value", jsonParser.getLocation());
+        }
+    }
+
+    /**
+     * Return the value starting with the event the parser is positioned at.
+     */
+    private JsonValue readValue(JsonParser jsonParser, JsonParser.Event event) {
+        switch (event) {
+            case START_OBJECT:
+                return readObject(jsonParser);
+            case START_ARRAY:
+                return readArray(jsonParser);
+            case VALUE_TRUE:
+                return JsonValue.TRUE;
+            case VALUE_FALSE:
+                return JsonValue.FALSE;
+            case VALUE_NULL:
+                return JsonValue.NULL;
+            default:
+                // strings and numbers are created through an array, JsonProvider.createValue is optional
+                return readArrayElement(getBuilderFactory().createArrayBuilder(), jsonParser, event).build().get(0);
+        }
+    }
+
+    private JsonObject readObject(JsonParser jsonParser) {
+        JsonObjectBuilder builder = getBuilderFactory().createObjectBuilder();
+        JsonParser.Event event;
+        while ((event = jsonParser.next()) != JsonParser.Event.END_OBJECT) {
+            if (event != JsonParser.Event.KEY_NAME) {
+                throw new JsonParsingException("Unexpected " + event + " instead of a key name", jsonParser.getLocation());
+            }
+            String key = jsonParser.getString();
+            event = jsonParser.next();
+            switch (event) {
+                case START_OBJECT:
+                    builder.add(key, readObject(jsonParser));
+                    break;
+                case START_ARRAY:
+                    builder.add(key, readArray(jsonParser));
+                    break;
+                case VALUE_STRING:
+                    builder.add(key, jsonParser.getString());
+                    break;
+                case VALUE_NUMBER:
+                    builder.add(key, jsonParser.getBigDecimal());
+                    break;
+                case VALUE_TRUE:
+                    builder.add(key, true);
+                    break;
+                case VALUE_FALSE:
+                    builder.add(key, false);
+                    break;
+                case VALUE_NULL:
+                    builder.addNull(key);
+                    break;
+                default:
+                    throw new JsonParsingException("Unexpected " + event + " instead of a value", jsonParser.getLocation());
+            }
+        }
+        return builder.build();
+    }
+
+    private JsonArray readArray(JsonParser jsonParser) {
+        JsonArrayBuilder builder = getBuilderFactory().createArrayBuilder();
+        JsonParser.Event event;
+        while ((event = jsonParser.next()) != JsonParser.Event.END_ARRAY) {
+            readArrayElement(builder, jsonParser, event);
+        }
+        return builder.build();
+    }
+
+    private JsonArrayBuilder readArrayElement(JsonArrayBuilder builder, JsonParser jsonParser, JsonParser.Event event) {
+        switch (event) {
+            case START_OBJECT:
+                return builder.add(readObject(jsonParser));
+            case START_ARRAY:
+                return builder.add(readArray(jsonParser));
+            case VALUE_STRING:
+                return builder.add(jsonParser.getString());
+            case VALUE_NUMBER:
+                return builder.add(jsonParser.getBigDecimal());
+            case VALUE_TRUE:
+                return builder.add(true);
+            case VALUE_FALSE:
+                return builder.add(false);
+            case VALUE_NULL:
+                return builder.addNull();
+            default:
+                throw new JsonParsingException("Unexpected " + event + " instead of a value", jsonParser.getLocation());
+        }
+    }
+
+    private JsonBuilderFactory getBuilderFactory() {
+        if (builderFactory == null) {
+            builderFactory = Json.createBuilderFactory(null);
+        }
+        return builderFactory;
+    }
+
+    private void startPrefixMappings() throws SAXException {
         if (namespaces != null) {
             Map<String, String> namespacePairs = namespaces.getPrefixesToNamespaces();
             for (Entry<String, String> namespacePair : namespacePairs.entrySet()) {
                 contentHandler.startPrefixMapping(namespacePair.getKey(), namespacePair.getValue());
             }
         }
+    }
+
+    public void parseRoot(JsonValue jsonValue) throws SAXException {
+        startPrefixMappings();
 
         if (jsonValue.getValueType() == ValueType.OBJECT) {
             contentHandler.startDocument();
@@ -196,52 +323,52 @@ public void parseRoot(JsonValue jsonValue) throws SAXException {
             }
             contentHandler.endDocument();
         } else if (jsonValue.getValueType() == ValueType.ARRAY) {
-
-            SAXUnmarshallerHandler rootContentHandler = null;
-            if (getContentHandler() instanceof SAXUnmarshallerHandler) {
-                rootContentHandler = (SAXUnmarshallerHandler) getContentHandler();
-            }
             JsonArray jsonArray = (JsonArray) jsonValue;
+            parseRootArray(jsonArray, new ArrayList<>(jsonArray.size()));
+        } else {
+            getContentHandler().startDocument();
+            parseValue(jsonValue);
+        }
+    }
 
-            List<Object> list = new ArrayList<>(jsonArray.size());
-            for (JsonValue aJsonArray : jsonArray) {
-                parseRoot(aJsonArray);
-                if (getContentHandler() instanceof SAXUnmarshallerHandler) {
-                    SAXUnmarshallerHandler saxUnmarshallerHandler = (SAXUnmarshallerHandler) contentHandler;
-                    list.add(saxUnmarshallerHandler.getObject());
-                    saxUnmarshallerHandler.setObject(null);
-                } else if (getContentHandler() instanceof UnmarshalRecord) {
-                    UnmarshalRecord unmarshalRecord = (UnmarshalRecord) contentHandler;
-                    Object unmarshalledObject = unmarshalRecord.getCurrentObject();
-                    if (includeRoot && unmarshalClass != null) {
-                        if (!(unmarshalledObject instanceof Root)) {
-                            Root xmlRoot = unmarshalRecord.createRoot();
-                            xmlRoot.setNamespaceURI(unmarshalRecord.getRootElementNamespaceUri());
-                            xmlRoot.setLocalName(unmarshalRecord.getLocalName());
-                            xmlRoot.setObject(unmarshalledObject);
-                            unmarshalledObject = xmlRoot;
-                        }
-                    }
-                    list.add(unmarshalledObject);
-                    unmarshalRecord.setCurrentObject(null);
-                    unmarshalRecord.setRootElementName(null);
-                    unmarshalRecord.setLocalName(null);
-                }
-            }
+    private void parseRootArray(Iterable<JsonValue> jsonArray, List<Object> list) throws SAXException {
+        SAXUnmarshallerHandler rootContentHandler = null;
+        if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+            rootContentHandler = (SAXUnmarshallerHandler) getContentHandler();
+        }
+        for (JsonValue aJsonArray : jsonArray) {
+            parseRoot(aJsonArray);
             if (getContentHandler() instanceof SAXUnmarshallerHandler) {
-                ((SAXUnmarshallerHandler) getContentHandler()).setObject(list);
+                SAXUnmarshallerHandler saxUnmarshallerHandler = (SAXUnmarshallerHandler) contentHandler;
+                list.add(saxUnmarshallerHandler.getObject());
+                saxUnmarshallerHandler.setObject(null);
             } else if (getContentHandler() instanceof UnmarshalRecord) {
-                ((UnmarshalRecord) getContentHandler()).setCurrentObject(list);
-                ((UnmarshalRecord) getContentHandler()).setRootElementName(Constants.EMPTY_STRING);
-                ((UnmarshalRecord) getContentHandler()).setLocalName(Constants.EMPTY_STRING);
-                if (rootContentHandler != null) {
-                    rootContentHandler.setObject(list);
+                UnmarshalRecord unmarshalRecord = (UnmarshalRecord) contentHandler;
+                Object unmarshalledObject = unmarshalRecord.getCurrentObject();
+                if (includeRoot && unmarshalClass != null) {
+                    if (!(unmarshalledObject instanceof Root)) {
+                        Root xmlRoot = unmarshalRecord.createRoot();
+                        xmlRoot.setNamespaceURI(unmarshalRecord.getRootElementNamespaceUri());
+                        xmlRoot.setLocalName(unmarshalRecord.getLocalName());
+                        xmlRoot.setObject(unmarshalledObject);
+                        unmarshalledObject = xmlRoot;
+                    }
                 }
+                list.add(unmarshalledObject);
+                unmarshalRecord.setCurrentObject(null);
+                unmarshalRecord.setRootElementName(null);
+                unmarshalRecord.setLocalName(null);
+            }
+        }
+        if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+            ((SAXUnmarshallerHandler) getContentHandler()).setObject(list);
+        } else if (getContentHandler() instanceof UnmarshalRecord) {
+            ((UnmarshalRecord) getContentHandler()).setCurrentObject(list);
+            ((UnmarshalRecord) getContentHandler()).setRootElementName(Constants.EMPTY_STRING);
+            ((UnmarshalRecord) getContentHandler()).setLocalName(Constants.EMPTY_STRING);
+            if (rootContentHandler != null) {
+                rootContentHandler.setObject(list);
             }
-
-        } else {
-            getContentHandler().startDocument();
-            parseValue(jsonValue);
         }
     }
 
@@ -722,4 +849,35 @@ protected Attribute[] attributes() {
 
     }
 
+    /**
+     * Iterates over the elements of the root level array the parser is positioned in,
+     * each element is only read from the parser when requested.
+     */
+    private final class RootArrayIterator implements Iterator<JsonValue> {
+
+        private final JsonParser jsonParser;
+        private JsonParser.Event event;
+
+        RootArrayIterator(JsonParser jsonParser) {
+            this.jsonParser = jsonParser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (event == null) {
+                event = jsonParser.next();
+            }
+            return event != JsonParser.Event.END_ARRAY;
+        }
+
+        @Override
+        public JsonValue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            JsonValue value = readValue(jsonParser, event);
+            event = null;
+            return value;
+        }
+    }
 }
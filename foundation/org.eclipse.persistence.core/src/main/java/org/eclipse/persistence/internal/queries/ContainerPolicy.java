@@ -29,6 +29,7 @@
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
@@ -619,6 +620,8 @@ public Object containerInstance() {
             return new ArrayList();
         } else if (containerClass == ClassConstants.Vector_class) {
             return new Vector();
+        } else if (containerClass == ClassConstants.NonSynchronizedVector_Class) {
+            return new NonSynchronizedVector();
         } else if (containerClass == ClassConstants.HashSet_class) {
             return new HashSet();
         }
@@ -659,6 +662,8 @@ public Object containerInstance(int initialCapacity) {
                 return new ArrayList(initialCapacity);
             } else if (containerClass == ClassConstants.Vector_class) {
                 return new Vector(initialCapacity);
+            } else if (containerClass == ClassConstants.NonSynchronizedVector_Class) {
+                return new NonSynchronizedVector(initialCapacity);
             } else if (containerClass == ClassConstants.HashSet_class) {
                 return new HashSet(initialCapacity);
             }
@@ -29,6 +29,7 @@
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
 import org.eclipse.persistence.internal.databaseaccess.DatasourceCall;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
@@ -62,6 +63,7 @@
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.mappings.AggregateCollectionMapping;
+import org.eclipse.persistence.mappings.CollectionMapping;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.mappings.DirectCollectionMapping;
 import org.eclipse.persistence.mappings.ForeignReferenceMapping;
@@ -265,6 +267,9 @@ public SQLSelectStatement buildBaseSelectStatement(boolean isSubSelect, Map clon
         if (query.hasOrderByExpressions()) {
             selectStatement.setOrderByExpressions(cloneExpressions(query.getOrderByExpressions(), clonedExpressions));
         }
+        if (!isSubSelect && query.isReadAllQuery() && ((ReadAllQuery)query).hasPageAfter()) {
+            selectStatement.setWhereClause(buildPageAfterCriteria(selectStatement.getWhereClause(), selectStatement.getOrderByExpressions(), ((ReadAllQuery)query).getPageAfter()));
+        }
         if (query.hasNonFetchJoinedAttributeExpressions()) {
             selectStatement.setNonSelectFields(cloneExpressions(query.getNonFetchJoinAttributeExpressions(), clonedExpressions));
         }
@@ -288,6 +293,65 @@ public SQLSelectStatement buildBaseSelectStatement(boolean isSubSelect, Map clon
         return selectStatement;
     }
 
+    /**
+     * Return the selection criteria and the keyset pagination criteria, that selects the results
+     * following the ordering values of the last result of the previous page.
+     * If all orderings have the same direction and the platform supports it, a row value comparison is used,
+     * i.e. "(A, B) &gt; (?, ?)", otherwise it is expanded to "(A &gt; ?) OR ((A = ?) AND (B &gt; ?))".
+     */
+    protected Expression buildPageAfterCriteria(Expression criteria, List<Expression> orderByExpressions, List<Object> pageAfter) {
+        int size = pageAfter.size();
+        if ((orderByExpressions == null) || (orderByExpressions.size() < size)) {
+            throw QueryException.pageAfterRequiresOrdering(getQuery(), size);
+        }
+        Expression[] keys = new Expression[size];
+        boolean[] isDescending = new boolean[size];
+        boolean hasSameDirection = true;
+        for (int index = 0; index < size; index++) {
+            Expression ordering = orderByExpressions.get(index);
+            keys[index] = ReadAllQuery.getOrderingKey(ordering);
+            isDescending[index] = ReadAllQuery.isDescendingOrdering(ordering);
+            hasSameDirection = hasSameDirection && (isDescending[index] == isDescending[0]);
+        }
+        Expression pageCriteria = null;
+        if ((size > 1) && hasSameDirection && getExecutionSession().getPlatform().supportsRowValueComparison()) {
+            List<String> databaseStrings = new ArrayList<>((size * 2) + 1);
+            databaseStrings.add("(");
+            for (int index = 1; index < size; index++) {
+                databaseStrings.add(", ");
+            }
+            databaseStrings.add(isDescending[0] ? ") < (" : ") > (");
+            for (int index = 1; index < size; index++) {
+                databaseStrings.add(", ");
+            }
+            databaseStrings.add(")");
+            ExpressionOperator operator = new ExpressionOperator();
+            operator.printsAs(databaseStrings);
+            operator.bePrefix();
+            List<Object> arguments = new ArrayList<>((size * 2) - 1);
+            for (int index = 1; index < size; index++) {
+                arguments.add(keys[index]);
+            }
+            arguments.addAll(pageAfter);
+            pageCriteria = keys[0].performOperator(operator, arguments);
+        } else {
+            // (A > ?) OR ((A = ?) AND (B > ?)) OR ...
+            for (int index = size - 1; index >= 0; index--) {
+                Object value = pageAfter.get(index);
+                Expression comparison = isDescending[index] ? keys[index].lessThan(value) : keys[index].greaterThan(value);
+                if (pageCriteria == null) {
+                    pageCriteria = comparison;
+                } else {
+                    pageCriteria = comparison.or(keys[index].equal(value).and(pageCriteria));
+                }
+            }
+        }
+        if (criteria == null) {
+            return pageCriteria;
+        }
+        return criteria.and(pageCriteria);
+    }
+
     /**
      * Return the appropriate select statement containing the fields in the table.
      * This is used as a second read to a concrete class with subclasses in an abstract-multiple table read.
@@ -1149,6 +1213,12 @@ public Vector getSelectionFields(SQLSelectStatement statement, boolean includeAl
             // Add additional fields, use for batch reading m-m.
             fields.addAll(owner.getAdditionalFields());
         }
+        if (owner.hasJsonAggregatedMappings()) {
+            // Add the JSON array aggregation sub-selects of the JSON batch fetched collections.
+            for (CollectionMapping mapping : owner.getJsonAggregatedMappings()) {
+                fields.add(mapping.buildJsonAggregationExpression(statement.getExpressionBuilder(), getSession().getPlatform()));
+            }
+        }
         return fields;
     }
 
@@ -19,6 +19,7 @@
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Handles the storage and allocation of sequence values.
@@ -27,6 +28,8 @@
  */
 class PreallocationHandler implements SequencingLogInOut {
     protected Map<String, Queue<Object>> preallocatedSequences;
+    /** Prefetch state of each sequence name, only used if prefetching is enabled. */
+    protected Map<String, PrefetchState> prefetchStates;
 
     public PreallocationHandler() {
         super();
@@ -51,6 +54,18 @@ public Queue<Object> getPreallocated(String sequenceName) {
         return sequences;
     }
 
+    /**
+     * Returns the prefetch state for the seqName.
+     * If there is not one, a new state is registered.
+     */
+    public PrefetchState getPrefetchState(String sequenceName) {
+        PrefetchState state = prefetchStates.get(sequenceName);
+        if (state == null) {
+            state = prefetchStates.computeIfAbsent(sequenceName, name -> new PrefetchState());
+        }
+        return state;
+    }
+
     // SequencingLogInOut
     @Override
     public void onConnect() {
@@ -60,6 +75,7 @@ public void onConnect() {
     @Override
     public void onDisconnect() {
         preallocatedSequences = null;
+        prefetchStates = null;
     }
 
     @Override
@@ -74,6 +90,7 @@ public boolean isConnected() {
      */
     public void initializePreallocated() {
         preallocatedSequences = new ConcurrentHashMap<>(20);
+        prefetchStates = new ConcurrentHashMap<>(20);
     }
 
     /**
@@ -83,6 +100,7 @@ public void initializePreallocated() {
      */
     public void initializePreallocated(String seqName) {
         preallocatedSequences.remove(seqName);
+        prefetchStates.remove(seqName);
     }
 
     /**
@@ -93,4 +111,19 @@ public void initializePreallocated(String seqName) {
     public void setPreallocated(String seqName, Vector<?> sequences) {
         getPreallocated(seqName).addAll(sequences);
     }
+
+    /**
+     * Tracks when the next block of preallocated values of a sequence should be allocated
+     * in the background, and the adaptive size of the blocks.
+     */
+    static final class PrefetchState {
+        /** The preallocated value which triggers the prefetch when acquired, compared by identity. */
+        volatile Object trigger;
+        /** Set while a prefetch is scheduled or running, to only run one at a time. */
+        final AtomicBoolean isPrefetching = new AtomicBoolean();
+        /** The current block size, only accessed holding the sequence lock. */
+        int size;
+        /** The time of the last allocation, only accessed holding the sequence lock. */
+        long lastAllocationTime;
+    }
 }
@@ -27,6 +27,8 @@
 import org.eclipse.persistence.sequencing.DefaultSequence;
 import org.eclipse.persistence.sequencing.Sequence;
 import org.eclipse.persistence.sequencing.SequencingControl;
+import org.eclipse.persistence.sequencing.TableSequence;
+import org.eclipse.persistence.sequencing.UnaryTableSequence;
 import org.eclipse.persistence.sessions.Login;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
@@ -127,6 +129,13 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private int maxPoolSize = -1;
     private int initialPoolSize = -1;
     private ConnectionPool connectionPool;
+    private int prefetchThreshold;
+    private int maxPrefetchSize;
+
+    /** Allocations closer together than this (in ms) increase the prefetch block size. */
+    private static final long PREFETCH_GROW_INTERVAL = 1000;
+    /** Allocations further apart than this (in ms) decrease the prefetch block size. */
+    private static final long PREFETCH_SHRINK_INTERVAL = 60000;
 
     public SequencingManager(DatabaseSessionImpl ownerSession) {
         this.ownerSession = ownerSession;
@@ -269,6 +278,26 @@ public void setInitialPoolSize(int size) {
         this.initialPoolSize = size;
     }
 
+    @Override
+    public int getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    @Override
+    public void setPrefetchThreshold(int threshold) {
+        this.prefetchThreshold = threshold;
+    }
+
+    @Override
+    public int getMaxPrefetchSize() {
+        return maxPrefetchSize;
+    }
+
+    @Override
+    public void setMaxPrefetchSize(int size) {
+        this.maxPrefetchSize = size;
+    }
+
     @Override
     public boolean isConnected() {
         return states != null;
@@ -355,6 +384,67 @@ protected void logDebugPreallocation(String seqName, Object firstSequenceValue,
         }
     }
 
+    protected void logDebugPrefetch(String seqName, Vector<?> sequences) {
+        if (getOwnerSession().shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
+            Object[] args = { seqName, sequences.size(), sequences.firstElement(), sequences.lastElement() };
+            getOwnerSession().log(SessionLog.FINEST, SessionLog.SEQUENCING, "sequencing_prefetch", args);
+        }
+    }
+
+    /**
+     * Return if the next block of preallocated values should be prefetched in the background.
+     * Only a ServerSession prefetches, as the values are allocated outside of any client's request.
+     */
+    protected boolean shouldPrefetch() {
+        return (this.prefetchThreshold > 0) && getOwnerSession().isServerSession()
+                && (getOwnerSession().getServerPlatform() != null);
+    }
+
+    /**
+     * Return the number of values to allocate for the sequence.
+     * Table sequences adapt the size to the allocation rate within the configured maximum prefetch size,
+     * the size of other sequences must match their increment in the database so is never changed.
+     * Must be called holding the sequence lock.
+     */
+    protected int getPrefetchSize(Sequence sequence, PreallocationHandler handler) {
+        int preallocationSize = sequence.getPreallocationSize();
+        Sequence actualSequence = sequence;
+        if (actualSequence instanceof DefaultSequence) {
+            actualSequence = ((DefaultSequence)actualSequence).getDefaultSequence();
+        }
+        if ((this.maxPrefetchSize <= preallocationSize)
+                || !((actualSequence instanceof TableSequence) || (actualSequence instanceof UnaryTableSequence))) {
+            return preallocationSize;
+        }
+        PreallocationHandler.PrefetchState state = handler.getPrefetchState(sequence.getName());
+        long now = System.currentTimeMillis();
+        int size = Math.max(state.size, preallocationSize);
+        if (state.lastAllocationTime != 0) {
+            long interval = now - state.lastAllocationTime;
+            if (interval < PREFETCH_GROW_INTERVAL) {
+                size = Math.min(size * 2, this.maxPrefetchSize);
+            } else if (interval > PREFETCH_SHRINK_INTERVAL) {
+                size = Math.max(size / 2, preallocationSize);
+            }
+        }
+        state.size = size;
+        state.lastAllocationTime = now;
+        return size;
+    }
+
+    /**
+     * Set the value that triggers the prefetch of the next block once it is acquired,
+     * it is the first of the last prefetch threshold percentage of the allocated values.
+     */
+    protected void setPrefetchTrigger(String seqName, Vector<?> sequences, PreallocationHandler handler) {
+        int size = sequences.size();
+        if (size == 0) {
+            return;
+        }
+        int remaining = Math.max(1, (int)(((long)size * this.prefetchThreshold) / 100));
+        handler.getPrefetchState(seqName).trigger = sequences.get(Math.max(0, size - remaining));
+    }
+
     protected void logDebugLocalPreallocation(AbstractSession writeSession, String seqName, Vector<?> sequences, Accessor accessor) {
         if (writeSession.shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
             Object[] args = { seqName, sequences.size(), sequences.firstElement(), sequences.lastElement() };
@@ -591,83 +681,140 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
     }
 
     /**
-     * Uses preallocation, uses transaction, and acquires an accessor.
-     * This is used in a ServerSession with a sequence connection pool.
-     * This is typically the default behavior.
+     * Base of the preallocation states that allocate sequence values outside of the write transaction.
+     * These states can prefetch the next block of values in the background
+     * before the preallocated values run out, if a prefetch threshold is set.
      */
-    class Preallocation_Transaction_Accessor_State extends State {
-        @Override
-        public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
+    abstract class Preallocation_Prefetch_State extends State {
+
+        /**
+         * Allocate a block of the given number of sequence values.
+         */
+        abstract Vector<?> allocate(Sequence sequence, AbstractSession writeSession, int size);
+
+        /**
+         * Return the next preallocated value, allocating the next block of values if none are left.
+         */
+        Object getNextPreallocatedValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
-            if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
-                Queue<Object> sequencesForName = handler.getPreallocated(seqName);
-                // First try to get the next sequence value without locking.
-                Object sequenceValue = sequencesForName.poll();
+            String context = getContext(writeSession);
+            PreallocationHandler handler = getPreallocationHandler(context);
+            Queue<Object> sequencesForName = handler.getPreallocated(seqName);
+            // Prefetching allocates using the owner session, so does not support tenant specific contexts.
+            boolean shouldPrefetch = shouldPrefetch() && "default".equals(context);
+            // First try to get the next sequence value without locking.
+            Object sequenceValue = sequencesForName.poll();
+            if (sequenceValue != null) {
+                if (shouldPrefetch) {
+                    prefetchIfRequired(sequence, sequenceValue, handler);
+                }
+                return sequenceValue;
+            }
+            // Sequences are empty, so must lock and allocate next batch of sequences.
+            ConcurrencyManager lock = acquireLock(seqName);
+            try {
+                sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
                     return sequenceValue;
                 }
-                // Sequences are empty, so must lock and allocate next batch of sequences.
+                int size = shouldPrefetch ? getPrefetchSize(sequence, handler) : sequence.getPreallocationSize();
+                Vector<?> sequences = allocate(sequence, writeSession, size);
+                // Remove the first value before adding to the global cache to ensure this thread gets one.
+                sequenceValue = sequences.remove(0);
+                // copy remaining values to global cache.
+                handler.setPreallocated(seqName, sequences);
+                if (shouldPrefetch) {
+                    setPrefetchTrigger(seqName, sequences, handler);
+                }
+                logDebugPreallocation(seqName, sequenceValue, sequences);
+            } finally {
+                lock.release();
+            }
+            return sequenceValue;
+        }
+
+        /**
+         * Schedule the allocation of the next block of values if the value is the prefetch trigger,
+         * and no prefetch is already in progress.
+         */
+        void prefetchIfRequired(Sequence sequence, Object sequenceValue, PreallocationHandler handler) {
+            PreallocationHandler.PrefetchState state = handler.getPrefetchState(sequence.getName());
+            if ((sequenceValue == state.trigger) && state.isPrefetching.compareAndSet(false, true)) {
+                try {
+                    getOwnerSession().getServerPlatform().launchContainerRunnable(() -> prefetch(sequence, handler, state));
+                } catch (RuntimeException exception) {
+                    state.isPrefetching.set(false);
+                    getOwnerSession().logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+                }
+            }
+        }
+
+        /**
+         * Allocate the next block of values in the background and add them to the preallocated values.
+         * On failure the values are allocated on demand once the preallocated values run out.
+         */
+        void prefetch(Sequence sequence, PreallocationHandler handler, PreallocationHandler.PrefetchState state) {
+            String seqName = sequence.getName();
+            try {
+                if (!isConnected() || !handler.isConnected()) {
+                    return;
+                }
                 ConcurrencyManager lock = acquireLock(seqName);
                 try {
-                    sequenceValue = sequencesForName.poll();
-                    if (sequenceValue != null) {
-                        return sequenceValue;
-                    }
-                    // note that accessor.getLogin().shouldUseExternalTransactionController()
-                    // should be set to false
-                    Accessor accessor = getConnectionHandler().acquireAccessor();
-                    try {
-                        accessor.beginTransaction(writeSession);
-                        try {
-                            Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
-                            accessor.commitTransaction(writeSession);
-                            // Remove the first value before adding to the global cache to ensure this thread gets one.
-                            sequenceValue = sequences.remove(0);
-                            // copy remaining values to global cache.
-                            handler.setPreallocated(seqName, sequences);
-                            logDebugPreallocation(seqName, sequenceValue, sequences);
-                        } catch (RuntimeException ex) {
-                            try {
-                                // make sure to rollback the transaction we've begun
-                                accessor.rollbackTransaction(writeSession);
-                            } catch (Exception rollbackException) {
-                                // ignore rollback exception
-                            }
-                            // don't eat the original exception
-                            throw ex;
-                        }
-                    } finally {
-                        getConnectionHandler().releaseAccessor(accessor);
-                    }
+                    Vector<?> sequences = allocate(sequence, getOwnerSession(), getPrefetchSize(sequence, handler));
+                    handler.setPreallocated(seqName, sequences);
+                    setPrefetchTrigger(seqName, sequences, handler);
+                    logDebugPrefetch(seqName, sequences);
                 } finally {
                     lock.release();
                 }
-                return sequenceValue;
+            } catch (RuntimeException exception) {
+                getOwnerSession().logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+            } finally {
+                state.isPrefetching.set(false);
+            }
+        }
+    }
+
+    /**
+     * Uses preallocation, uses transaction, and acquires an accessor.
+     * This is used in a ServerSession with a sequence connection pool.
+     * This is typically the default behavior.
+     */
+    class Preallocation_Transaction_Accessor_State extends Preallocation_Prefetch_State {
+        @Override
+        public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
+            if(sequence.getPreallocationSize() > 1) {
+                return getNextPreallocatedValue(sequence, writeSession);
             } else {
-                // note that accessor.getLogin().shouldUseExternalTransactionController()
-                // should be set to false
-                Accessor accessor = getConnectionHandler().acquireAccessor();
+                // preallocation size is 1 - just return the first (and only) element of the allocated vector.
+                return allocate(sequence, writeSession, 1).firstElement();
+            }
+        }
+
+        @Override
+        Vector<?> allocate(Sequence sequence, AbstractSession writeSession, int size) {
+            // note that accessor.getLogin().shouldUseExternalTransactionController()
+            // should be set to false
+            Accessor accessor = getConnectionHandler().acquireAccessor();
+            try {
+                accessor.beginTransaction(writeSession);
                 try {
-                    accessor.beginTransaction(writeSession);
+                    Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession, sequence.getName(), size);
+                    accessor.commitTransaction(writeSession);
+                    return sequences;
+                } catch (RuntimeException ex) {
                     try {
-                        // preallocation size is 1 - just return the first (and only) element of the allocated vector.
-                        Object sequenceValue = sequence.getGeneratedVector(accessor, writeSession).firstElement();
-                        accessor.commitTransaction(writeSession);
-                        return sequenceValue;
-                    } catch (RuntimeException ex) {
-                        try {
-                            // make sure to rollback the transaction we've begun
-                            accessor.rollbackTransaction(writeSession);
-                        } catch (Exception rollbackException) {
-                            // ignore rollback exception
-                        }
-                        // don't eat the original exception
-                        throw ex;
+                        // make sure to rollback the transaction we've begun
+                        accessor.rollbackTransaction(writeSession);
+                    } catch (Exception rollbackException) {
+                        // ignore rollback exception
                     }
-                } finally {
-                    getConnectionHandler().releaseAccessor(accessor);
+                    // don't eat the original exception
+                    throw ex;
                 }
+            } finally {
+                getConnectionHandler().releaseAccessor(accessor);
             }
         }
     }
@@ -677,40 +824,21 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
      * This is used by native sequence objects.
      * No transaction is required as sequence objects are non-transactional.
      */
-    class Preallocation_NoTransaction_State extends State {
+    class Preallocation_NoTransaction_State extends Preallocation_Prefetch_State {
         @Override
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
-            String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
-                Queue<Object> sequencesForName = handler.getPreallocated(seqName);
-                // First try to get the next sequence value without locking.
-                Object sequenceValue = sequencesForName.poll();
-                if (sequenceValue != null) {
-                    return sequenceValue;
-                }
-                // Sequences are empty, so must lock and allocate next batch of sequences.
-                ConcurrencyManager lock = acquireLock(seqName);
-                try {
-                    sequenceValue = sequencesForName.poll();
-                    if (sequenceValue != null) {
-                        return sequenceValue;
-                    }
-                    Vector<?> sequences = sequence.getGeneratedVector(null, writeSession);
-                    // Remove the first value before adding to the global cache to ensure this thread gets one.
-                    sequenceValue = sequences.remove(0);
-                    // copy remaining values to global cache.
-                    handler.setPreallocated(seqName, sequences);
-                    logDebugPreallocation(seqName, sequenceValue, sequences);
-                } finally {
-                    lock.release();
-                }
-                return sequenceValue;
+                return getNextPreallocatedValue(sequence, writeSession);
             } else {
                 // preallocation size is 1 - just return the first (and only) element of the allocated vector.
-                return sequence.getGeneratedVector(null, writeSession).firstElement();
+                return allocate(sequence, writeSession, 1).firstElement();
             }
         }
+
+        @Override
+        Vector<?> allocate(Sequence sequence, AbstractSession writeSession, int size) {
+            return sequence.getGeneratedVector(null, writeSession, sequence.getName(), size);
+        }
     }
 
     /**
@@ -44,6 +44,7 @@
 import org.eclipse.persistence.descriptors.TablePerMultitenantPolicy;
 import org.eclipse.persistence.descriptors.invalidation.CacheInvalidationPolicy;
 import org.eclipse.persistence.descriptors.partitioning.PartitioningPolicy;
+import org.eclipse.persistence.descriptors.partitioning.UnionPartitioningPolicy;
 import org.eclipse.persistence.exceptions.ConcurrencyException;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.EclipseLinkException;
@@ -58,6 +59,7 @@
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.core.sessions.CoreAbstractSession;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatasourceCall;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
@@ -99,8 +101,10 @@
 import org.eclipse.persistence.queries.JPQLCall;
 import org.eclipse.persistence.queries.ObjectBuildingQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
 import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.SQLCall;
 import org.eclipse.persistence.queries.UpdateObjectQuery;
 import org.eclipse.persistence.queries.WriteObjectQuery;
@@ -116,6 +120,7 @@
 import org.eclipse.persistence.sessions.coordination.CommandProcessor;
 import org.eclipse.persistence.sessions.coordination.MetadataRefreshListener;
 import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.tools.profiler.FetchGroupTuner;
 
 import java.io.Serializable;
 import java.io.StringWriter;
@@ -131,6 +136,11 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -343,12 +353,32 @@ public abstract class AbstractSession extends CoreAbstractSession<ClassDescripto
      */
     protected boolean shouldOptimizeResultSetAccess;
 
+    /**
+     * Tunes the fetch groups of read queries from the observed attribute access, null if not used.
+     */
+    transient protected FetchGroupTuner fetchGroupTuner;
+
     /**
      * Indicates whether Session creation should tolerate an invalid NamedQuery. If true, an exception
      * will be thrown on .createNamedQuery(..) rather than at init time.
      */
     protected boolean tolerateInvalidJPQL = false;
 
+    /**
+     * Indicates whether JPA named queries should be registered unparsed and
+     * only prepared on first use rather than during descriptor initialization.
+     */
+    protected boolean shouldPrepareJPAQueriesLazily = false;
+
+    /**
+     * Indicates whether the JPA named queries left unprepared by lazy preparation
+     * should be prepared by a low priority background task after login.
+     */
+    protected boolean shouldWarmUpJPAQueries = false;
+
+    /** Stores the JPA named queries, by name, that have not been prepared yet (lazy preparation only). */
+    protected transient Map<String, DatabaseQuery> unpreparedJPAQueries;
+
     /**
      * INTERNAL:
      * Create and return a new session.
@@ -627,12 +657,16 @@ public void addMultitenantContextProperty(String contextProperty) {
      * Add the query to the session queries.
      */
     protected synchronized void addQuery(DatabaseQuery query, boolean nameMustBeUnique) {
-        List<DatabaseQuery> queriesByName = getQueries().get(query.getName());
-        if (queriesByName == null) {
-            // lazily create Vector in Hashtable.
-            queriesByName = new ArrayList<>();
-            getQueries().put(query.getName(), queriesByName);
+        if (nameMustBeUnique && (this.unpreparedJPAQueries != null)) {
+            // The new query replaces any JPA named query still waiting to be prepared.
+            if (this.unpreparedJPAQueries.remove(query.getName()) != null) {
+                updateProfile(SessionProfiler.UnpreparedNamedQueries, this.unpreparedJPAQueries.size());
+            }
         }
+        // The queries of a name are copied and replaced rather than modified in place,
+        // as JPA named queries prepared lazily are added while other threads read them.
+        List<DatabaseQuery> existingQueries = getQueries().get(query.getName());
+        List<DatabaseQuery> queriesByName = (existingQueries == null) ? new ArrayList<>(1) : new ArrayList<>(existingQueries);
 
         if (nameMustBeUnique){ // JPA addNamedQuery
             if (queriesByName.size() <= 1){
@@ -650,6 +684,7 @@ protected synchronized void addQuery(DatabaseQuery query, boolean nameMustBeUniq
             }
         }
         queriesByName.add(query);
+        getQueries().put(query.getName(), queriesByName);
     }
 
     /**
@@ -1083,6 +1118,10 @@ public boolean compareObjectsDontMatch(Object firstObject, Object secondObject)
      */
     @Override
     public boolean containsQuery(String queryName) {
+        if (this.unpreparedJPAQueries != null) {
+            // The queries are concurrent with lazy preparation, which does not allow null keys.
+            return (queryName != null) && (this.unpreparedJPAQueries.containsKey(queryName) || getQueries().containsKey(queryName));
+        }
         return getQueries().containsKey(queryName);
     }
 
@@ -2047,13 +2086,15 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Databas
         try {
             if (query.getAccessors().size() == 1) {
                 result = query.getAccessor().executeCall(call, translationRow, this);
+            } else if (shouldExecuteCallInParallel(call, query)) {
+                result = executeCallInParallel(call, translationRow, query);
             } else {
                 RuntimeException exception = null;
                 // Replication or partitioning may require execution on multiple connections.
                 for (Accessor accessor : query.getAccessors()) {
                     Object object = null;
                     try {
-                        object = accessor.executeCall(call, translationRow, this);
+                        object = executePartitionCall(accessor, call, translationRow, query);
                     } catch (RuntimeException failed) {
                         // Catch any exceptions to allow execution on each connections.
                         // This is used to have DDL run on every database even if one db fails because table already exists.
@@ -2105,6 +2146,178 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Databas
         return result;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the rows of the call should be read from each of the query's accessors concurrently.
+     * This is only done for union partitioning of calls returning many rows,
+     * as cursors and writes rely on state shared across the accessors.
+     * The accessors log through the session, so the call is not executed concurrently while logging SQL,
+     * or when an accessor may reconnect through an external connection pool.
+     * Profiling does not prevent it, the partitions are timed on the calling thread.
+     */
+    protected boolean shouldExecuteCallInParallel(Call call, DatabaseQuery query) {
+        if (!(call instanceof DatasourceCall) || !((DatasourceCall)call).areManyRowsReturned()) {
+            return false;
+        }
+        PartitioningPolicy policy = getPartitioningPolicy(query);
+        if (!(policy instanceof UnionPartitioningPolicy) || !((UnionPartitioningPolicy)policy).shouldExecuteInParallel()) {
+            return false;
+        }
+        if (shouldLog(SessionLog.FINE, SessionLog.SQL)) {
+            return false;
+        }
+        for (Accessor accessor : query.getAccessors()) {
+            if (accessor.usesExternalConnectionPooling()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the most specific partitioning policy for the query.
+     */
+    protected PartitioningPolicy getPartitioningPolicy(DatabaseQuery query) {
+        if (query.getPartitioningPolicy() != null) {
+            return query.getPartitioningPolicy();
+        }
+        ClassDescriptor descriptor = query.getDescriptor();
+        if ((descriptor != null) && (descriptor.getPartitioningPolicy() != null)) {
+            return descriptor.getPartitioningPolicy();
+        }
+        return getPartitioningPolicy();
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the call on each of the query's accessors concurrently and union the rows.
+     * The first accessor is executed on the calling thread, the others through the executor of the
+     * union partitioning policy, each with its own clone of the call. The rows are added in the order of the accessors.
+     * When profiling, each partition is timed on the calling thread, from the start of the call to the join of its rows.
+     * @see #shouldExecuteCallInParallel(Call, DatabaseQuery)
+     */
+    protected Object executeCallInParallel(Call call, AbstractRecord translationRow, DatabaseQuery query) {
+        PartitioningPolicy policy = getPartitioningPolicy(query);
+        ExecutorService executor = ((UnionPartitioningPolicy)policy).getExecutor();
+        List<Accessor> accessors = new ArrayList<>(query.getAccessors());
+        List<String> operationNames = new ArrayList<>(accessors.size());
+        for (Accessor accessor : accessors) {
+            String operationName = getPartitionOperationName(accessor);
+            // the profilers time one operation of a name at a time per thread
+            if ((operationName != null) && !operationNames.contains(operationName)) {
+                startOperationProfile(operationName, query, SessionProfiler.ALL);
+                operationNames.add(operationName);
+            } else {
+                operationNames.add(null);
+            }
+        }
+        List<FutureTask<Object>> tasks = new ArrayList<>(accessors.size() - 1);
+        for (int index = 1; index < accessors.size(); index++) {
+            Accessor accessor = accessors.get(index);
+            Call partitionCall = (Call)((DatasourceCall)call).clone();
+            FutureTask<Object> task = new FutureTask<>(() -> accessor.executeCall(partitionCall, translationRow, this));
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException rejected) {
+                // A stopped or saturated executor must not fail the query.
+                task.run();
+            }
+            tasks.add(task);
+        }
+        List<RuntimeException> failures = new ArrayList<>();
+        List<Object> results = new ArrayList<>(accessors.size());
+        try {
+            results.add(accessors.get(0).executeCall(call, translationRow, this));
+        } catch (RuntimeException failed) {
+            failures.add(failed);
+        } finally {
+            endPartitionProfile(operationNames.get(0), query);
+        }
+        boolean interrupted = false;
+        for (int index = 0; index < tasks.size(); index++) {
+            FutureTask<Object> task = tasks.get(index);
+            try {
+                while (true) {
+                    try {
+                        results.add(task.get());
+                        break;
+                    } catch (InterruptedException exception) {
+                        // The connections are in use until every partition returns, so wait for all of them.
+                        interrupted = true;
+                    }
+                }
+            } catch (ExecutionException exception) {
+                // The partition calls only throw unchecked exceptions.
+                if (exception.getCause() instanceof Error) {
+                    throw (Error)exception.getCause();
+                }
+                failures.add((RuntimeException)exception.getCause());
+            } finally {
+                endPartitionProfile(operationNames.get(index + 1), query);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (!failures.isEmpty()) {
+            if (results.isEmpty() || !(policy instanceof UnionPartitioningPolicy) || !((UnionPartitioningPolicy)policy).shouldAllowPartialResults()) {
+                throw failures.get(0);
+            }
+            for (RuntimeException failure : failures) {
+                logThrowable(SessionLog.WARNING, SessionLog.QUERY, failure);
+            }
+        }
+        Object result = null;
+        for (Object object : results) {
+            if (result == null) {
+                result = object;
+            } else if (object != null) {
+                ((List)result).addAll((List)object);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the call on one of the query's accessors,
+     * timing each connection pool separately when profiling.
+     */
+    protected Object executePartitionCall(Accessor accessor, Call call, AbstractRecord translationRow, DatabaseQuery query) {
+        String operationName = getPartitionOperationName(accessor);
+        if (operationName != null) {
+            startOperationProfile(operationName, query, SessionProfiler.ALL);
+        }
+        try {
+            return accessor.executeCall(call, translationRow, this);
+        } finally {
+            endPartitionProfile(operationName, query);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the name of the operation timing calls on the accessor's connection pool,
+     * or null if the session is not profiled.
+     */
+    protected String getPartitionOperationName(Accessor accessor) {
+        if (!this.isInProfile || (accessor.getPool() == null)) {
+            return null;
+        }
+        return SessionProfiler.PartitionExecute + ":" + accessor.getPool().getName();
+    }
+
+    /**
+     * INTERNAL:
+     * End timing a call on a connection pool, if it was timed.
+     */
+    protected void endPartitionProfile(String operationName, DatabaseQuery query) {
+        if (operationName != null) {
+            endOperationProfile(operationName, query, SessionProfiler.ALL);
+        }
+    }
+
     /**
      * INTERNAL:
      */
@@ -3069,7 +3282,16 @@ public DatabaseQuery getQuery(String name, Vector arguments) {
      * @see #getQuery(String, List)
      */
     public DatabaseQuery getQuery(String name, Vector arguments, boolean shouldSearchParent) {
-        List<DatabaseQuery> queries = getQueries().get(name);
+        List<DatabaseQuery> queries = null;
+        if (this.unpreparedJPAQueries == null) {
+            queries = getQueries().get(name);
+        } else if (name != null) {
+            // The queries are concurrent with lazy preparation, which does not allow null keys.
+            if (!this.unpreparedJPAQueries.isEmpty()) {
+                prepareJPAQuery(name);
+            }
+            queries = getQueries().get(name);
+        }
         if ((queries != null) && !queries.isEmpty()) {
             // Short circuit the simple, most common case of only one query.
             if (queries.size() == 1) {
@@ -4412,8 +4634,15 @@ public void processCommand(Object command) {
     public void processJPAQueries() {
         if (! jpaQueriesProcessed) {
             // Process the JPA queries that do not query table per tenant entities.
-            for (DatabaseQuery jpaQuery : getJPAQueries()) {
-                processJPAQuery(jpaQuery);
+            // With lazy preparation they are only registered and get parsed on first use.
+            if (this.shouldPrepareJPAQueriesLazily) {
+                for (DatabaseQuery jpaQuery : getJPAQueries()) {
+                    addUnpreparedJPAQuery(jpaQuery);
+                }
+            } else {
+                for (DatabaseQuery jpaQuery : getJPAQueries()) {
+                    processJPAQuery(jpaQuery);
+                }
             }
 
             // Process the JPA queries that query table per tenant entities. At
@@ -4468,6 +4697,128 @@ protected void processJPAQuery(DatabaseQuery jpaQuery) {
                                         // is set to false.
     }
 
+    /**
+     * INTERNAL:
+     * Register the JPA named query to be prepared on first use.
+     * A query sharing its name with a query already waiting to be prepared is
+     * processed right away, so name conflicts are still reported at deployment.
+     */
+    protected void addUnpreparedJPAQuery(DatabaseQuery jpaQuery) {
+        if (this.unpreparedJPAQueries == null) {
+            this.unpreparedJPAQueries = new ConcurrentHashMap<>();
+            // Lazily prepared queries are added to the session queries by the threads using them
+            // and by the warm-up task, while other threads read them.
+            if (!(getQueries() instanceof ConcurrentHashMap)) {
+                this.queries = new ConcurrentHashMap<>(getQueries());
+            }
+        }
+        DatabaseQuery existingQuery = this.unpreparedJPAQueries.remove(jpaQuery.getName());
+        if (existingQuery != null) {
+            processJPAQuery(existingQuery);
+            processJPAQuery(jpaQuery);
+        } else {
+            this.unpreparedJPAQueries.put(jpaQuery.getName(), jpaQuery);
+        }
+        updateProfile(SessionProfiler.UnpreparedNamedQueries, this.unpreparedJPAQueries.size());
+    }
+
+    /**
+     * INTERNAL:
+     * Prepare the JPA named query of the given name if it is still waiting to be prepared
+     * and add it to the session queries.
+     * A query that fails to prepare stays unprepared, so the error is raised again on next use.
+     */
+    protected void prepareJPAQuery(String name) {
+        DatabaseQuery jpaQuery = this.unpreparedJPAQueries.get(name);
+        if (jpaQuery == null) {
+            return;
+        }
+        synchronized (jpaQuery) {
+            // Another thread may have prepared the query while waiting on the lock.
+            if (this.unpreparedJPAQueries.get(name) != jpaQuery) {
+                return;
+            }
+            processJPAQuery(jpaQuery);
+            DatabaseQuery databaseQuery = (DatabaseQuery) jpaQuery.getProperty("databasequery");
+            initializeDefaultQueryResultsCachePolicy((databaseQuery == null) ? jpaQuery : databaseQuery);
+            this.unpreparedJPAQueries.remove(name);
+        }
+        updateProfile(SessionProfiler.UnpreparedNamedQueries, this.unpreparedJPAQueries.size());
+    }
+
+    /**
+     * INTERNAL:
+     * Set the project's default query results cache policy on the named query,
+     * unless the query caches its results already.
+     */
+    protected void initializeDefaultQueryResultsCachePolicy(DatabaseQuery query) {
+        QueryResultsCachePolicy defaultQueryCachePolicy = getProject().getDefaultQueryResultsCachePolicy();
+        if ((defaultQueryCachePolicy != null) && query.isReadQuery() && (query.getDescriptor() != null) && !query.getDescriptor().getCachePolicy().isIsolated()) {
+            ReadQuery readQuery = (ReadQuery)query;
+            if (!readQuery.shouldCacheQueryResults()) {
+                readQuery.setQueryResultsCachePolicy(defaultQueryCachePolicy.clone());
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if some JPA named queries registered for lazy preparation have not been prepared yet.
+     */
+    public boolean hasUnpreparedJPAQueries() {
+        return (this.unpreparedJPAQueries != null) && !this.unpreparedJPAQueries.isEmpty();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of JPA named queries registered for lazy preparation that have not been prepared yet.
+     */
+    public int getUnpreparedJPAQueriesCount() {
+        return (this.unpreparedJPAQueries == null) ? 0 : this.unpreparedJPAQueries.size();
+    }
+
+    /**
+     * INTERNAL:
+     * Prepare all JPA named queries still waiting to be prepared.
+     * Queries failing to prepare are logged and left unprepared, so the error is raised on their first use.
+     */
+    public void warmUpJPAQueries() {
+        if (!hasUnpreparedJPAQueries()) {
+            return;
+        }
+        for (String name : new ArrayList<>(this.unpreparedJPAQueries.keySet())) {
+            try {
+                prepareJPAQuery(name);
+            } catch (RuntimeException exception) {
+                logThrowable(SessionLog.WARNING, SessionLog.QUERY, exception);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Launch a low priority background task through the server platform
+     * that prepares all JPA named queries still waiting to be prepared.
+     */
+    public void launchJPAQueriesWarmUp() {
+        if (!hasUnpreparedJPAQueries()) {
+            return;
+        }
+        getServerPlatform().launchContainerRunnable(new Runnable() {
+            @Override
+            public void run() {
+                Thread thread = Thread.currentThread();
+                int priority = thread.getPriority();
+                thread.setPriority(Thread.MIN_PRIORITY);
+                try {
+                    warmUpJPAQueries();
+                } finally {
+                    thread.setPriority(priority);
+                }
+            }
+        });
+    }
+
     /**
      * PUBLIC:
      * Return the CommandManager that allows this session to act as a
@@ -5296,6 +5647,26 @@ public boolean shouldOptimizeResultSetAccess() {
        return this.shouldOptimizeResultSetAccess;
    }
 
+   /**
+    * ADVANCED:
+    * Return the tuner of the fetch groups of read queries, null if fetch groups are not tuned.
+    * @see FetchGroupTuner
+    */
+   public FetchGroupTuner getFetchGroupTuner() {
+       return this.fetchGroupTuner;
+   }
+
+   /**
+    * ADVANCED:
+    * Set the tuner of the fetch groups of read queries, null to not tune fetch groups.
+    * The tuner is only used for entities woven with fetch group support.
+    * Must be set before client sessions and units of work are acquired.
+    * @see FetchGroupTuner
+    */
+   public void setFetchGroupTuner(FetchGroupTuner fetchGroupTuner) {
+       this.fetchGroupTuner = fetchGroupTuner;
+   }
+
    /**
     * ADVANCED: Indicates whether an invalid NamedQuery will be tolerated at init time.
     *
@@ -5313,4 +5684,48 @@ public void setTolerateInvalidJPQL(boolean b) {
    public boolean shouldTolerateInvalidJPQL() {
        return this.tolerateInvalidJPQL;
    }
+
+   /**
+    * ADVANCED: Set whether JPA named queries are registered unparsed during deployment
+    * and only prepared on first use. This reduces deployment time for persistence units
+    * with many named queries, but invalid queries are only reported on first use.
+    * Queries not yet prepared are not returned from {@link #getQueries()},
+    * {@link #warmUpJPAQueries()} prepares all of them.
+    *
+    * Default is false.
+    */
+   public void setShouldPrepareJPAQueriesLazily(boolean shouldPrepareJPAQueriesLazily) {
+       this.shouldPrepareJPAQueriesLazily = shouldPrepareJPAQueriesLazily;
+   }
+
+   /**
+    * ADVANCED: Indicates whether JPA named queries are registered unparsed during deployment
+    * and only prepared on first use.
+    *
+    * Default is false.
+    */
+   public boolean shouldPrepareJPAQueriesLazily() {
+       return this.shouldPrepareJPAQueriesLazily;
+   }
+
+   /**
+    * ADVANCED: Set whether the JPA named queries left unprepared by lazy preparation
+    * are prepared by a low priority background task once the session is logged in.
+    *
+    * Default is false.
+    * @see #setShouldPrepareJPAQueriesLazily(boolean)
+    */
+   public void setShouldWarmUpJPAQueries(boolean shouldWarmUpJPAQueries) {
+       this.shouldWarmUpJPAQueries = shouldWarmUpJPAQueries;
+   }
+
+   /**
+    * ADVANCED: Indicates whether the JPA named queries left unprepared by lazy preparation
+    * are prepared by a low priority background task once the session is logged in.
+    *
+    * Default is false.
+    */
+   public boolean shouldWarmUpJPAQueries() {
+       return this.shouldWarmUpJPAQueries;
+   }
 }
@@ -57,8 +57,6 @@
 import org.eclipse.persistence.queries.AttributeGroup;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
-import org.eclipse.persistence.queries.QueryResultsCachePolicy;
-import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sequencing.Sequence;
 import org.eclipse.persistence.sequencing.SequencingControl;
 import org.eclipse.persistence.sessions.DatasourceLogin;
@@ -645,16 +643,11 @@ public void initializeDescriptors() {
         processJPAQueries();
 
         // Configure default query cache for all named queries.
-        QueryResultsCachePolicy defaultQueryCachePolicy = getProject().getDefaultQueryResultsCachePolicy();
-        if (defaultQueryCachePolicy != null) {
+        // Queries registered for lazy preparation get it when prepared.
+        if (getProject().getDefaultQueryResultsCachePolicy() != null) {
             for (List<DatabaseQuery> queries : getQueries().values()) {
                 for (DatabaseQuery query : queries) {
-                    if (query.isReadQuery() && (query.getDescriptor() != null) && !query.getDescriptor().getCachePolicy().isIsolated()) {
-                        ReadQuery readQuery = (ReadQuery)query;
-                        if (!readQuery.shouldCacheQueryResults()) {
-                            readQuery.setQueryResultsCachePolicy(defaultQueryCachePolicy.clone());
-                        }
-                    }
+                    initializeDefaultQueryResultsCachePolicy(query);
                 }
             }
         }
@@ -925,7 +918,9 @@ protected void postConnectDatasource(){
         if ((getDatasourcePlatform() instanceof DatabasePlatform) && getPlatform().getBatchWritingMechanism() != null) {
             getPlatform().getBatchWritingMechanism().initialize(this);
         }
-
+        if (this.shouldWarmUpJPAQueries) {
+            launchJPAQueriesWarmUp();
+        }
     }
 
     /**
@@ -230,6 +230,8 @@ protected static abstract class Prop {
             addProp(new ConnectionPoolProp());
             addProp(new BooleanProp(PersistenceUnitProperties.JDBC_RESULT_SET_ACCESS_OPTIMIZATION, Boolean.toString(ObjectLevelReadQuery.isResultSetAccessOptimizedQueryDefault)));
             addProp(new BooleanProp(PersistenceUnitProperties.JPQL_TOLERATE, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.JPQL_LAZY_NAMED_QUERIES, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.JPQL_NAMED_QUERIES_WARM_UP, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.MULTITENANT_SHARED_CACHE, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.MULTITENANT_SHARED_EMF, "true"));
             //Enhancement
@@ -380,6 +380,7 @@ public UnitOfWorkImpl(AbstractSession parent, ReferenceMode referenceMode) {
         this.queryTimeoutDefault = parent.queryTimeoutDefault;
         this.queryTimeoutUnitDefault = parent.queryTimeoutUnitDefault;
         this.shouldOptimizeResultSetAccess = parent.shouldOptimizeResultSetAccess;
+        this.fetchGroupTuner = parent.fetchGroupTuner;
         this.serializer = parent.serializer;
         this.isConcurrent = parent.isConcurrent;
         // Initialize the readOnlyClasses variable.
@@ -1588,7 +1589,12 @@ protected void commitToDatabaseWithChangeSet(boolean commitTransaction) throws D
                         this.unitOfWorkChangeSet = new UnitOfWorkChangeSet(this);
                     }
                     // PERF: clone is faster than new.
-                    calculateChanges(getCloneMapping(), this.unitOfWorkChangeSet, true, true);
+                    startOperationProfile(SessionProfiler.UowCalculateChanges);
+                    try {
+                        calculateChanges(getCloneMapping(), this.unitOfWorkChangeSet, true, true);
+                    } finally {
+                        endOperationProfile(SessionProfiler.UowCalculateChanges);
+                    }
 
                 } catch (RuntimeException exception){
                     // The number of SQL statements been prepared need be stored into UOW
@@ -1603,7 +1609,12 @@ protected void commitToDatabaseWithChangeSet(boolean commitTransaction) throws D
             if (hasChanges) {
                 // Also must first set the commit manager active.
                 getCommitManager().setIsActive(true);
-                commitToDatabase(commitTransaction);
+                startOperationProfile(SessionProfiler.UowCommitToDatabase);
+                try {
+                    commitToDatabase(commitTransaction);
+                } finally {
+                    endOperationProfile(SessionProfiler.UowCommitToDatabase);
+                }
             } else {
                 try {
                     // CR#... need to commit the transaction if begun early.
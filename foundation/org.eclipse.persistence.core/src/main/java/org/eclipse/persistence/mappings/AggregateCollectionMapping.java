@@ -1306,6 +1306,15 @@ protected Object extractKeyFromTargetRow(AbstractRecord row, AbstractSession ses
         return new CacheId(key);
     }
 
+    /**
+     * INTERNAL:
+     * Return if the mapping supports IN batch reading, and so can be batch read automatically.
+     */
+    @Override
+    protected boolean isAutomaticBatchReadingSupported() {
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Extract the primary key value from the source row.
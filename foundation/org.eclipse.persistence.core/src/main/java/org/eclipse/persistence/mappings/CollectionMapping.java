@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2023 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -45,6 +45,8 @@
 import org.eclipse.persistence.indirection.IndirectCollection;
 import org.eclipse.persistence.indirection.IndirectList;
 import org.eclipse.persistence.indirection.IndirectSet;
+import org.eclipse.persistence.indirection.NonSynchronizedIndirectList;
+import org.eclipse.persistence.indirection.NonSynchronizedIndirectMap;
 import org.eclipse.persistence.indirection.ValueHolder;
 import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
 import org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor;
@@ -52,12 +54,17 @@
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.changetracking.AttributeChangeListener;
 import org.eclipse.persistence.internal.descriptors.changetracking.ObjectChangeListener;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseJsonPlatform;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.expressions.FunctionExpression;
+import org.eclipse.persistence.internal.expressions.JsonArrayAggregationExpression;
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.IdentityHashSet;
+import org.eclipse.persistence.internal.helper.NonSynchronizedHashtable;
+import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.indirection.TransparentIndirectionPolicy;
 import org.eclipse.persistence.internal.queries.AttributeItem;
@@ -79,6 +86,10 @@
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.internal.sessions.remote.ObjectDescriptor;
 import org.eclipse.persistence.internal.sessions.remote.RemoteSessionController;
+import org.eclipse.persistence.mappings.converters.Converter;
+import org.eclipse.persistence.mappings.converters.SerializedObjectConverter;
+import org.eclipse.persistence.mappings.converters.TypeConversionConverter;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
 import org.eclipse.persistence.queries.Call;
 import org.eclipse.persistence.queries.ComplexQueryResult;
 import org.eclipse.persistence.queries.DataModifyQuery;
@@ -92,6 +103,7 @@
 import org.eclipse.persistence.queries.QueryByExamplePolicy;
 import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.queries.ReportQuery;
 import org.eclipse.persistence.queries.WriteObjectQuery;
 import org.eclipse.persistence.sessions.CopyGroup;
 import org.eclipse.persistence.sessions.DatabaseRecord;
@@ -100,6 +112,7 @@
 
 import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -141,6 +154,9 @@ public abstract class CollectionMapping extends ForeignReferenceMapping implemen
     /** Store if the mapping can batch delete reference objects. */
     protected Boolean mustDeleteReferenceObjectsOneByOne = null;
 
+    /** Field of the JSON array aggregation of the target rows in the source row, used by the JSON batch fetch type. */
+    protected transient DatabaseField jsonAggregationField;
+
     /** Flag to indicate if collection needs to be synchronized instead of cloning during merge. */
     protected static boolean isSynchronizeOnMerge = Boolean.getBoolean("eclipselink.synchronizeCollectionOnMerge");
 
@@ -2502,9 +2518,23 @@ public void useTransparentSet() {
      * ValueHolderInterface.
      */
     public void useTransparentList() {
+        useTransparentList(ClassConstants.IndirectList_Class);
+    }
+
+    /**
+     * PUBLIC:
+     * Same as useTransparentList(), but an instance of the specified IndirectList class is placed
+     * in the source object's attribute.
+     * This allows a NonSynchronizedIndirectList to be used for this mapping to avoid the
+     * synchronization of IndirectList.
+     * @see org.eclipse.persistence.indirection.NonSynchronizedIndirectList
+     */
+    public void useTransparentList(Class<?> indirectListClass) {
         setIndirectionPolicy(new TransparentIndirectionPolicy());
-        useCollectionClass(ClassConstants.IndirectList_Class);
-        setSelectionQueryContainerPolicy(ContainerPolicy.buildPolicyFor(Vector.class, hasOrderBy() || listOrderField != null));
+        useCollectionClass(indirectListClass);
+        // The selection query result becomes the list's delegate, so must match its synchronization.
+        Class<?> selectionContainerClass = NonSynchronizedIndirectList.class.isAssignableFrom(indirectListClass) ? NonSynchronizedVector.class : Vector.class;
+        setSelectionQueryContainerPolicy(ContainerPolicy.buildPolicyFor(selectionContainerClass, hasOrderBy() || listOrderField != null));
     }
 
     /**
@@ -2522,9 +2552,23 @@ public void useTransparentList() {
      * inherited) by the value to be inserted into the Map.
      */
     public void useTransparentMap(String methodName) {
+        useTransparentMap(ClassConstants.IndirectMap_Class, methodName);
+    }
+
+    /**
+     * PUBLIC:
+     * Same as useTransparentMap(String), but an instance of the specified IndirectMap class is placed
+     * in the source object's attribute.
+     * This allows a NonSynchronizedIndirectMap to be used for this mapping to avoid the
+     * synchronization of IndirectMap.
+     * @see org.eclipse.persistence.indirection.NonSynchronizedIndirectMap
+     */
+    public void useTransparentMap(Class<?> indirectMapClass, String methodName) {
         setIndirectionPolicy(new TransparentIndirectionPolicy());
-        useMapClass(ClassConstants.IndirectMap_Class, methodName);
-        ContainerPolicy policy = ContainerPolicy.buildPolicyFor(Hashtable.class);
+        useMapClass(indirectMapClass, methodName);
+        // The selection query result becomes the map's delegate, so must match its synchronization.
+        Class<?> selectionContainerClass = NonSynchronizedIndirectMap.class.isAssignableFrom(indirectMapClass) ? NonSynchronizedHashtable.class : Hashtable.class;
+        ContainerPolicy policy = ContainerPolicy.buildPolicyFor(selectionContainerClass);
         policy.setKeyName(methodName, getReferenceClass());
         setSelectionQueryContainerPolicy(policy);
     }
@@ -2644,6 +2688,189 @@ public Object valueFromPKList(Object[] pks, AbstractRecord foreignKeys, Abstract
         return cp.valueFromPKList(pks, foreignKeys, this, session);
     }
 
+    /**
+     * INTERNAL:
+     * Return if the target rows of the mapping can be selected as a JSON array aggregation
+     * in a sub-select of the source query, for the JSON batch fetch type.
+     * Mappings that do not support it use JOIN batch fetching instead.
+     */
+    public boolean isJsonAggregationSupported(DatabasePlatform platform) {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the target rows can be selected as a JSON array aggregation.
+     * The target objects must be built from the fields of a single table,
+     * and the collection must not require an order column or map keys from other tables.
+     * The fields must not be LOBs or binary values, which JSON cannot represent.
+     */
+    protected boolean isJsonAggregationSupportedByTarget(DatabasePlatform platform) {
+        ClassDescriptor referenceDescriptor = getReferenceDescriptor();
+        if (!platform.supportsJsonArrayAggregation() || (referenceDescriptor == null)
+                || referenceDescriptor.hasInheritance() || (referenceDescriptor.getTables().size() != 1)
+                || referenceDescriptor.getObjectBuilder().hasJoinedAttributes()
+                || (this.listOrderField != null) || this.containerPolicy.isMappedKeyMapPolicy()
+                || hasCustomSelectionQuery() || !this.selectionQuery.isReadAllQuery()) {
+            return false;
+        }
+        if (((ReadAllQuery)this.selectionQuery).hasOrderByExpressions() && !platform.supportsOrderedJsonArrayAggregation()) {
+            return false;
+        }
+        for (DatabaseField field : getJsonAggregationFields()) {
+            DatabaseMapping mapping = referenceDescriptor.getObjectBuilder().getMappingForField(field);
+            if ((mapping != null) && mapping.isAbstractDirectMapping()) {
+                AbstractDirectMapping directMapping = (AbstractDirectMapping)mapping;
+                if (!isJsonRepresentable(field, directMapping.getConverter(), directMapping.getAttributeClassification())) {
+                    return false;
+                }
+            } else if (!isJsonRepresentable(field, null, null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the values of the field can be read back from JSON without loss.
+     * JSON only has strings, numbers and booleans, so LOBs and binary values
+     * (including serialized objects) are not aggregated.
+     * If the field has no type, the type is taken from the converter or the attribute.
+     */
+    protected static boolean isJsonRepresentable(DatabaseField field, Converter converter, Class<?> attributeClassification) {
+        if (Helper.isLob(field) || (converter instanceof SerializedObjectConverter)) {
+            return false;
+        }
+        Class<?> type = field.getType();
+        if (type == null) {
+            if (converter instanceof TypeConversionConverter) {
+                type = ((TypeConversionConverter)converter).getDataClass();
+            } else if (converter == null) {
+                type = attributeClassification;
+            }
+        }
+        return (type == null) || !((type == ClassConstants.APBYTE) || (type == ClassConstants.ABYTE)
+                || ClassConstants.BLOB.isAssignableFrom(type) || ClassConstants.CLOB.isAssignableFrom(type));
+    }
+
+    /**
+     * INTERNAL:
+     * Return the field of the JSON array aggregation of the target rows in the source row.
+     */
+    public DatabaseField getJsonAggregationField() {
+        if (this.jsonAggregationField == null) {
+            this.jsonAggregationField = new DatabaseField(getAttributeName() + "-json");
+        }
+        return this.jsonAggregationField;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the fields of the target rows that are aggregated into the JSON objects.
+     */
+    protected List<DatabaseField> getJsonAggregationFields() {
+        return getReferenceDescriptor().getAllSelectionFields();
+    }
+
+    /**
+     * INTERNAL:
+     * Build the sub-select that aggregates the target rows of the source object into a JSON array.
+     * The builder is the builder of the source query, the sub-select is correlated using the mapping's selection criteria,
+     * i.e. "(SELECT JSON_ARRAYAGG(JSON_OBJECT(...) ORDER BY ...) FROM TARGET t1 WHERE t1.FK = t0.PK)".
+     */
+    public Expression buildJsonAggregationExpression(ExpressionBuilder builder, DatabasePlatform platform) {
+        ClassDescriptor referenceDescriptor = getReferenceDescriptor();
+        ExpressionBuilder subBuilder = new ExpressionBuilder(this.referenceClass);
+        subBuilder.setQueryClassAndDescriptor(this.referenceClass, referenceDescriptor);
+        ReportQuery subQuery = new ReportQuery(this.referenceClass, subBuilder);
+        subQuery.setDescriptor(referenceDescriptor);
+        subQuery.setSelectionCriteria(builder.twist(getSelectionCriteria(), subBuilder));
+        List<Expression> orderings = new ArrayList<>();
+        if (((ReadAllQuery)this.selectionQuery).hasOrderByExpressions()) {
+            for (Expression ordering : ((ReadAllQuery)this.selectionQuery).getOrderByExpressions()) {
+                orderings.add(ordering.rebuildOn(subBuilder));
+            }
+        }
+        subQuery.addItem(getAttributeName(), buildJsonArrayAggregation(subBuilder, orderings, platform));
+        return new JsonArrayAggregationExpression(subQuery, builder, getJsonAggregationField());
+    }
+
+    /**
+     * INTERNAL:
+     * Build the JSON array aggregation of the fields of the base, keyed by their names.
+     */
+    protected Expression buildJsonArrayAggregation(Expression base, List<Expression> orderings, DatabasePlatform platform) {
+        List<DatabaseField> fields = getJsonAggregationFields();
+        List<String> keys = new ArrayList<>(fields.size());
+        List<Expression> arguments = new ArrayList<>(fields.size() + orderings.size());
+        for (DatabaseField field : fields) {
+            keys.add(field.getName());
+            arguments.add(base.getField(field));
+        }
+        arguments.addAll(orderings);
+        Expression first = arguments.remove(0);
+        return first.performOperator(platform.buildJsonArrayAggregationOperator(keys, orderings.size()), arguments);
+    }
+
+    /**
+     * INTERNAL:
+     * Parse the JSON array aggregation of the source row into the target rows.
+     * Temporal values are converted by the JSON platform to the values of a JDBC row.
+     */
+    protected List<AbstractRecord> buildJsonAggregationRows(AbstractRecord row, AbstractSession executionSession) {
+        Object json = row.get(getJsonAggregationField());
+        if (json == null) {
+            return Collections.emptyList();
+        }
+        List<DatabaseField> fields = getJsonAggregationFields();
+        DatabaseJsonPlatform jsonPlatform = executionSession.getPlatform().getJsonPlatform();
+        List<Map<String, Object>> objects = jsonPlatform.parseJsonArrayAggregation(json);
+        List<AbstractRecord> rows = new ArrayList<>(objects.size());
+        for (Map<String, Object> object : objects) {
+            AbstractRecord targetRow = new DatabaseRecord(fields.size());
+            for (DatabaseField field : fields) {
+                // Temporal values are ISO text in JSON, with a 'T' separator and possibly an offset.
+                targetRow.put(field, jsonPlatform.convertJsonAggregationValue(object.get(field.getName()), field.getType()));
+            }
+            rows.add(targetRow);
+        }
+        return rows;
+    }
+
+    /**
+     * INTERNAL:
+     * Build the target objects from the JSON array aggregation selected by the source query.
+     */
+    @Override
+    protected Object valueFromJsonAggregation(AbstractRecord row, ObjectLevelReadQuery sourceQuery, CacheKey parentCacheKey, AbstractSession executionSession, boolean isTargetProtected) throws DatabaseException {
+        Object value = this.containerPolicy.containerInstance();
+        List<AbstractRecord> targetRows = buildJsonAggregationRows(row, executionSession);
+        if (targetRows.isEmpty()) {
+            return this.indirectionPolicy.valueFromRow(value);
+        }
+        // A nested query must be built to pass to the descriptor that looks like the real query execution would.
+        ObjectLevelReadQuery nestedQuery = (ObjectLevelReadQuery)this.selectionQuery.clone();
+        nestedQuery.setIsExecutionClone(true);
+        nestedQuery.setSession(executionSession);
+        nestedQuery.setShouldMaintainCache(sourceQuery.shouldMaintainCache());
+        nestedQuery.setShouldRefreshIdentityMapResult(sourceQuery.shouldRefreshIdentityMapResult());
+        //CR #4365 - used to prevent infinite recursion on refresh object cascade all
+        nestedQuery.setQueryId(sourceQuery.getQueryId());
+        nestedQuery.setExecutionTime(sourceQuery.getExecutionTime());
+        nestedQuery.setPrefetchedCacheKeys(sourceQuery.getPrefetchedCacheKeys());
+        // The target rows do not contain the JSON aggregations of the target's own mappings.
+        nestedQuery.setJsonAggregatedMappings(null);
+        ObjectBuilder referenceBuilder = getReferenceDescriptor().getObjectBuilder();
+        for (AbstractRecord targetRow : targetRows) {
+            nestedQuery.setTranslationRow(targetRow);
+            Object targetObject = referenceBuilder.buildObject(nestedQuery, targetRow, null);
+            nestedQuery.setTranslationRow(null);
+            this.containerPolicy.addInto(targetObject, value, executionSession);
+        }
+        return this.indirectionPolicy.valueFromRow(value);
+    }
+
     /**
      * INTERNAL:
      * Return the value of the field from the row or a value holder on the query to obtain the object.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2019 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -45,12 +45,14 @@
 import org.eclipse.persistence.indirection.IndirectCollection;
 import org.eclipse.persistence.indirection.IndirectList;
 import org.eclipse.persistence.indirection.ValueHolder;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
 import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.changetracking.AttributeChangeListener;
 import org.eclipse.persistence.internal.descriptors.changetracking.ObjectChangeListener;
 import org.eclipse.persistence.internal.expressions.ForUpdateClause;
+import org.eclipse.persistence.internal.expressions.JsonArrayAggregationExpression;
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
 import org.eclipse.persistence.internal.expressions.SQLDeleteStatement;
 import org.eclipse.persistence.internal.expressions.SQLInsertStatement;
@@ -104,6 +106,7 @@
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -1029,6 +1032,15 @@ protected Object extractKeyFromTargetRow(AbstractRecord row, AbstractSession ses
         return new CacheId(key);
     }
 
+    /**
+     * INTERNAL:
+     * Return if the mapping supports IN batch reading, and so can be batch read automatically.
+     */
+    @Override
+    protected boolean isAutomaticBatchReadingSupported() {
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Extract the primary key value from the source row.
@@ -1918,6 +1930,75 @@ public boolean isJoiningSupported() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the direct values can be selected as a JSON array aggregation of the reference table.
+     * The type of the direct values must be known, as JSON only preserves strings, numbers and booleans,
+     * and must not be a LOB or binary type.
+     */
+    @Override
+    public boolean isJsonAggregationSupported(DatabasePlatform platform) {
+        return platform.supportsJsonArrayAggregation() && !isDirectMapMapping() && (this.listOrderField == null)
+                && (this.historyPolicy == null) && !hasCustomSelectionQuery()
+                && ((this.valueConverter != null) || (this.directField.getType() != null))
+                && isJsonRepresentable(this.directField, this.valueConverter, null)
+                && (this.orderByExpressions.isEmpty() || platform.supportsOrderedJsonArrayAggregation());
+    }
+
+    /**
+     * INTERNAL:
+     * Return the direct field, which is the only field aggregated into the JSON objects.
+     */
+    @Override
+    protected List<DatabaseField> getJsonAggregationFields() {
+        return Collections.singletonList(this.directField);
+    }
+
+    /**
+     * INTERNAL:
+     * Build the sub-select that aggregates the direct values of the source object into a JSON array,
+     * i.e. "(SELECT JSON_ARRAYAGG(JSON_OBJECT(...)) FROM REFERENCE_TABLE t1 WHERE t1.FK = t0.PK)".
+     */
+    @Override
+    public Expression buildJsonAggregationExpression(ExpressionBuilder builder, DatabasePlatform platform) {
+        Class<?> sourceClass = this.descriptor.getJavaClass();
+        ExpressionBuilder subBuilder = new ExpressionBuilder(sourceClass);
+        subBuilder.setQueryClassAndDescriptor(sourceClass, this.descriptor);
+        ReportQuery subQuery = new ReportQuery(sourceClass, subBuilder);
+        subQuery.setDescriptor(this.descriptor);
+        subQuery.setSelectionCriteria(builder.twist(getSelectionCriteria(), subBuilder));
+        Expression table = subBuilder.getTable(this.referenceTable);
+        List<Expression> orderings = new ArrayList<>(this.orderByExpressions.size());
+        for (Expression ordering : this.orderByExpressions) {
+            orderings.add(ordering.rebuildOn(table));
+        }
+        subQuery.addItem(getAttributeName(), buildJsonArrayAggregation(table, orderings, platform));
+        return new JsonArrayAggregationExpression(subQuery, builder, getJsonAggregationField());
+    }
+
+    /**
+     * INTERNAL:
+     * Build the direct values from the JSON array aggregation selected by the source query.
+     */
+    @Override
+    protected Object valueFromJsonAggregation(AbstractRecord row, ObjectLevelReadQuery sourceQuery, CacheKey parentCacheKey, AbstractSession executionSession, boolean isTargetProtected) throws DatabaseException {
+        ContainerPolicy policy = getContainerPolicy();
+        Object value = policy.containerInstance();
+        Converter valueConverter = getValueConverter();
+        Class<?> directType = this.directField.getType();
+        for (AbstractRecord targetRow : buildJsonAggregationRows(row, executionSession)) {
+            Object directValue = targetRow.get(this.directField);
+            // Allow for value conversion.
+            if (valueConverter != null) {
+                directValue = valueConverter.convertDataValueToObjectValue(directValue, executionSession);
+            } else if (directValue != null) {
+                directValue = executionSession.getDatasourcePlatform().convertObject(directValue, directType);
+            }
+            policy.addInto(directValue, value, executionSession, targetRow, sourceQuery, parentCacheKey, isTargetProtected);
+        }
+        return getIndirectionPolicy().valueFromRow(value);
+    }
+
     /**
      * INTERNAL:
      * Checks if source and target keys are mentioned by the user or not.
@@ -3202,8 +3283,11 @@ public Object valueFromRow(AbstractRecord row, JoinedAttributeManager joinManage
         if (row.hasSopObject()) {
             return getAttributeValueFromObject(row.getSopObject());
         }
+        if (sourceQuery.isObjectLevelReadQuery() && ((ObjectLevelReadQuery)sourceQuery).isAttributeJsonAggregated(this)) {
+            return valueFromJsonAggregation(row, (ObjectLevelReadQuery)sourceQuery, cacheKey, session, isTargetProtected);
+        }
         if (sourceQuery.isObjectLevelReadQuery() && (((ObjectLevelReadQuery)sourceQuery).isAttributeBatchRead(this.descriptor, getAttributeName())
-                || (sourceQuery.isReadAllQuery() && shouldUseBatchReading()))) {
+                || (sourceQuery.isReadAllQuery() && (shouldUseBatchReading() || shouldUseAutomaticBatchReading((ObjectLevelReadQuery)sourceQuery))))) {
             return batchedValueFromRow(row, (ObjectLevelReadQuery)sourceQuery, cacheKey);
         }
 
@@ -1934,6 +1934,25 @@ public boolean shouldUseBatchReading() {
         return this.batchFetchType != null;
     }
 
+    /**
+     * INTERNAL:
+     * Indicates whether the lazy relationship should be batch read because the
+     * originating read all query batch fetches its lazy relationships automatically.
+     * @see org.eclipse.persistence.sessions.Project#setAutomaticBatchFetchSize(int)
+     */
+    public boolean shouldUseAutomaticBatchReading(ObjectLevelReadQuery query) {
+        return query.isAutomaticBatchFetch() && isAutomaticBatchReadingSupported() && usesIndirection()
+                && !this.hasCustomSelectionQuery && !this.descriptor.isDescriptorTypeAggregate();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the mapping supports IN batch reading, and so can be batch read automatically.
+     */
+    protected boolean isAutomaticBatchReadingSupported() {
+        return false;
+    }
+
     /**
      * PUBLIC:
      * Indirection means that a ValueHolder will be put in-between the attribute and the real object.
@@ -2175,10 +2194,14 @@ public Object valueFromRow(AbstractRecord row, JoinedAttributeManager joinManage
         if (shouldUseValueFromRowWithJoin(joinManager, sourceQuery)) {
             return valueFromRowInternalWithJoin(row, joinManager, sourceQuery, cacheKey, executionSession, isTargetProtected);
         }
+        // If the query selected the target rows as a JSON array aggregation, build the target objects from it.
+        if (sourceQuery.isObjectLevelReadQuery() && ((ObjectLevelReadQuery)sourceQuery).isAttributeJsonAggregated(this)) {
+            return valueFromJsonAggregation(row, (ObjectLevelReadQuery)sourceQuery, cacheKey, executionSession, isTargetProtected);
+        }
         // If the query uses batch reading, return a special value holder
         // or retrieve the object from the query property.
         if (sourceQuery.isObjectLevelReadQuery() && (((ObjectLevelReadQuery)sourceQuery).isAttributeBatchRead(this.descriptor, getAttributeName())
-                || (sourceQuery.isReadAllQuery() && shouldUseBatchReading()))) {
+                || (sourceQuery.isReadAllQuery() && (shouldUseBatchReading() || shouldUseAutomaticBatchReading((ObjectLevelReadQuery)sourceQuery))))) {
             return batchedValueFromRow(row, (ObjectLevelReadQuery)sourceQuery, cacheKey);
         } else {
             return valueFromRowInternal(row, joinManager, sourceQuery, executionSession, false);
@@ -2203,6 +2226,15 @@ protected Object valueFromRowInternalWithJoin(AbstractRecord row, JoinedAttribut
         throw ValidationException.mappingDoesNotOverrideValueFromRowInternalWithJoin(getClass().getSimpleName());
     }
 
+    /**
+     * INTERNAL:
+     * If the query selected the target rows as a JSON array aggregation, build the target objects from it.
+     * Only collection mappings support the JSON batch fetch type, so by default the value is read normally.
+     */
+    protected Object valueFromJsonAggregation(AbstractRecord row, ObjectLevelReadQuery sourceQuery, CacheKey parentCacheKey, AbstractSession executionSession, boolean isTargetProtected) throws DatabaseException {
+        return valueFromRowInternal(row, null, sourceQuery, executionSession, false);
+    }
+
     /**
      * INTERNAL:
      * Return the value of the reference attribute or a value holder.
@@ -24,6 +24,7 @@
 import org.eclipse.persistence.expressions.ExpressionBuilder;
 import org.eclipse.persistence.history.AsOfClause;
 import org.eclipse.persistence.history.HistoryPolicy;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
 import org.eclipse.persistence.internal.expressions.SQLDeleteStatement;
 import org.eclipse.persistence.internal.expressions.SQLUpdateStatement;
@@ -234,6 +235,15 @@ protected Object extractKeyFromTargetRow(AbstractRecord row, AbstractSession ses
         return this.mechanism.extractKeyFromTargetRow(row, session);
     }
 
+    /**
+     * INTERNAL:
+     * Return if the mapping supports IN batch reading, and so can be batch read automatically.
+     */
+    @Override
+    protected boolean isAutomaticBatchReadingSupported() {
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Extract the primary key value from the source row.
@@ -773,6 +783,16 @@ public boolean isJoiningSupported() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the target rows can be selected as a JSON array aggregation, for the JSON batch fetch type.
+     * The relation table is joined in the sub-select.
+     */
+    @Override
+    public boolean isJsonAggregationSupported(DatabasePlatform platform) {
+        return isJsonAggregationSupportedByTarget(platform) && (this.historyPolicy == null);
+    }
+
     @Override
     public boolean isManyToManyMapping() {
         return true;
@@ -23,6 +23,7 @@
 import org.eclipse.persistence.exceptions.OptimisticLockException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.descriptors.CascadeLockingPolicy;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.expressions.FieldExpression;
@@ -421,6 +422,15 @@ protected Object extractKeyFromTargetRow(AbstractRecord row, AbstractSession ses
         return new CacheId(key);
     }
 
+    /**
+     * INTERNAL:
+     * Return if the mapping supports IN batch reading, and so can be batch read automatically.
+     */
+    @Override
+    protected boolean isAutomaticBatchReadingSupported() {
+        return true;
+    }
+
     /**
      * Extract the key field values from the specified row.
      * Used for batch reading. Keep the fields in the same order
@@ -1508,6 +1518,15 @@ public boolean isJoiningSupported() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the target rows can be selected as a JSON array aggregation, for the JSON batch fetch type.
+     */
+    @Override
+    public boolean isJsonAggregationSupported(DatabasePlatform platform) {
+        return isJsonAggregationSupportedByTarget(platform);
+    }
+
     /**
      * INTERNAL:
      * Update target foreign keys after a new source was inserted. This follows following steps.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2020 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,6 +19,7 @@
 //       - 365931: @JoinColumn(name="FK_DEPT",insertable = false, updatable = true) causes INSERT statement to include this data value that it is associated with
 package org.eclipse.persistence.mappings;
 
+import org.eclipse.persistence.annotations.BatchFetchType;
 import org.eclipse.persistence.annotations.CacheKeyType;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.ConversionException;
@@ -699,6 +700,15 @@ public void extendPessimisticLockScopeInSourceQuery(ObjectLevelReadQuery sourceQ
         sourceQuery.setSelectionCriteria(exp);
     }
 
+    /**
+     * INTERNAL:
+     * Return if the mapping supports IN batch reading, and so can be batch read automatically.
+     */
+    @Override
+    protected boolean isAutomaticBatchReadingSupported() {
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Extract the foreign key value from the source row.
@@ -812,7 +822,9 @@ protected void postPrepareNestedBatchQuery(ReadQuery batchQuery, ObjectLevelRead
         super.postPrepareNestedBatchQuery(batchQuery, query);
         // Force a distinct to filter out m-1 duplicates.
         // Only set if really a m-1, not a 1-1
-        if (!this.isOneToOneRelationship && ((ObjectLevelReadQuery)batchQuery).getBatchFetchPolicy().isJOIN()) {
+        BatchFetchType batchType = ((ObjectLevelReadQuery)batchQuery).getBatchFetchPolicy().getType();
+        // The JSON type is only supported by collections, a reference is batch fetched with JOIN instead.
+        if (!this.isOneToOneRelationship && ((batchType == BatchFetchType.JOIN) || (batchType == BatchFetchType.JSON))) {
             if (!((ObjectLevelReadQuery)batchQuery).isDistinctComputed() && (batchQuery.getSession().getPlatform().isLobCompatibleWithDistinct() || !Helper.hasLob(batchQuery.getDescriptor().getSelectionFields((ObjectLevelReadQuery)batchQuery)))) {
                 ((ObjectLevelReadQuery)batchQuery).useDistinct();
             }
@@ -27,6 +27,7 @@
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
 import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.databaseaccess.Platform;
 import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
 import org.eclipse.persistence.internal.expressions.SQLSelectStatement;
 import org.eclipse.persistence.internal.helper.ClassConstants;
@@ -78,6 +79,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.function.Function;
 
 /**
  * <b>Purpose</b>: Maps an attribute to the corresponding database field type.
@@ -103,6 +105,15 @@ public abstract class AbstractDirectMapping extends AbstractColumnMapping implem
     /** PERF: Also store object class of attribute in case of primitive. */
     protected transient Class<?> attributeObjectClassification;
 
+    /** PERF: Conversion to the attribute classification resolved on initialization, and the platform it was resolved from. */
+    protected transient Function<Object, Object> attributeConversionFunction;
+    protected transient Platform attributeConversionPlatform;
+
+    /** PERF: Conversion to the field classification resolved on initialization, the classification and the platform it was resolved from. */
+    protected transient Function<Object, Object> fieldConversionFunction;
+    protected transient Class<?> fieldConversionClassification;
+    protected transient Platform fieldConversionPlatform;
+
     /** Support specification of the value to use for null. */
     protected transient Object nullValue;
 
@@ -657,7 +668,13 @@ public Object getObjectValue(Object fieldValue, Session session) {
             if ((attributeValue == null) || (attributeValue.getClass() != this.attributeObjectClassification)) {
                 if ((attributeValue != null) || !this.bypassDefaultNullValueCheck) {
                     try {
-                        attributeValue = session.getDatasourcePlatform().convertObject(attributeValue, this.attributeClassification);
+                        Platform platform = session.getDatasourcePlatform();
+                        // PERF: Use the conversion resolved on initialization if the platform is the same.
+                        if ((this.attributeConversionFunction != null) && (this.attributeConversionPlatform == platform)) {
+                            attributeValue = this.attributeConversionFunction.apply(attributeValue);
+                        } else {
+                            attributeValue = platform.convertObject(attributeValue, this.attributeClassification);
+                        }
                     } catch (ConversionException e) {
                         throw ConversionException.couldNotBeConverted(this, getDescriptor(), e);
                     }
@@ -826,7 +843,14 @@ public Object getFieldValue(Object attributeValue, AbstractSession session) {
         if ((fieldValue == null) || (fieldClassification != fieldValue.getClass())) {
             if ((fieldValue != null) || !this.bypassDefaultNullValueCheck) {
                 try {
-                    fieldValue = session.getPlatform(this.descriptor.getJavaClass()).convertObject(fieldValue, fieldClassification);
+                    Platform platform = session.getPlatform(this.descriptor.getJavaClass());
+                    // PERF: Use the conversion resolved on initialization if the classification and platform are the same.
+                    if ((this.fieldConversionFunction != null) && (this.fieldConversionClassification == fieldClassification)
+                            && (this.fieldConversionPlatform == platform)) {
+                        fieldValue = this.fieldConversionFunction.apply(fieldValue);
+                    } else {
+                        fieldValue = platform.convertObject(fieldValue, fieldClassification);
+                    }
                 } catch (ConversionException exception) {
                     throw ConversionException.couldNotBeConverted(this, this.descriptor, exception);
                 }
@@ -1023,6 +1047,30 @@ public void initialize(AbstractSession session) throws DescriptorException {
         if (getField().getSqlType() == java.sql.Types.STRUCT) {
             getDescriptor().setIsNativeConnectionRequired(true);
         }
+
+        initializeConversionFunctions(session);
+    }
+
+    /**
+     * INTERNAL:
+     * Resolve the conversions between the field and attribute classifications once,
+     * instead of dispatching on the classification for each value in getObjectValue and getFieldValue.
+     * The conversions are only used with the platform they were resolved from, otherwise the platform converts.
+     */
+    protected void initializeConversionFunctions(AbstractSession session) {
+        if ((this.converter == null) && (this.attributeClassification != null)) {
+            this.attributeConversionPlatform = session.getDatasourcePlatform();
+            this.attributeConversionFunction = this.attributeConversionPlatform.getConversionFunction(this.attributeClassification);
+        }
+        Class<?> fieldClassification = this.field.type;
+        if (fieldClassification == null) {
+            fieldClassification = getFieldClassification(this.field);
+        }
+        if (fieldClassification != null) {
+            this.fieldConversionPlatform = session.getPlatform(this.descriptor.getJavaClass());
+            this.fieldConversionClassification = fieldClassification;
+            this.fieldConversionFunction = this.fieldConversionPlatform.getConversionFunction(fieldClassification);
+        }
     }
 
     /**
@@ -14,12 +14,18 @@
 //     Iaroslav Savytskyi - 2.6 - initial implementation
 package org.eclipse.persistence.oxm.json;
 
+import jakarta.json.JsonException;
 import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+import org.eclipse.persistence.exceptions.XMLMarshalException;
 import org.eclipse.persistence.internal.oxm.Unmarshaller;
 import org.eclipse.persistence.internal.oxm.record.ExtendedSource;
 import org.eclipse.persistence.internal.oxm.record.XMLReader;
 import org.eclipse.persistence.internal.oxm.record.json.JsonParserReader;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
  *   Object to be used with Unmarshaller to unmarshal {@link jakarta.json.stream.JsonParser} objects
  *
@@ -52,4 +58,97 @@ public XMLReader createReader(Unmarshaller unmarshaller, Class<?> unmarshalClass
                 .setUnmarshaller(unmarshaller)
                 .build();
     }
+
+    /**
+     * Return the values of the array found at the given path of the document,
+     * each as a separate source. The parser is advanced one value at a time, so
+     * only the value being read is held in memory.
+     *
+     * @param path the names of the objects leading to the array, separated by
+     * '/', or an empty string for an array at the root of the document
+     * @since EclipseLink 4.1
+     */
+    public Iterator<JsonStructureSource> getArrayValues(String path) {
+        return new ArrayValueIterator(path);
+    }
+
+    private final class ArrayValueIterator implements Iterator<JsonStructureSource> {
+        private final String[] names;
+        private boolean started;
+        private boolean finished;
+        private JsonStructureSource next;
+
+        ArrayValueIterator(String path) {
+            this.names = path.isEmpty() ? new String[0] : path.split("/");
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == next && !finished) {
+                try {
+                    if (!started) {
+                        started = true;
+                        finished = !findArray();
+                    }
+                    if (!finished) {
+                        JsonParser.Event event = parser.next();
+                        if (event == JsonParser.Event.START_OBJECT) {
+                            next = new JsonStructureSource(parser.getObject());
+                        } else if (event == JsonParser.Event.START_ARRAY) {
+                            next = new JsonStructureSource(parser.getArray());
+                        } else if (event == JsonParser.Event.END_ARRAY) {
+                            finished = true;
+                        } else {
+                            throw new JsonParsingException("Expected an object or an array, found " + event, parser.getLocation());
+                        }
+                    }
+                } catch (JsonException e) {
+                    throw XMLMarshalException.unmarshalException(e);
+                }
+            }
+            return null != next;
+        }
+
+        @Override
+        public JsonStructureSource next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            JsonStructureSource value = next;
+            next = null;
+            return value;
+        }
+
+        /**
+         * Advance the parser to the start of the array, skipping the values
+         * of the other names. Return false if there is no such array.
+         */
+        private boolean findArray() {
+            if (!parser.hasNext()) {
+                return false;
+            }
+            JsonParser.Event event = parser.next();
+            for (String name : names) {
+                if (event != JsonParser.Event.START_OBJECT) {
+                    return false;
+                }
+                event = null;
+                while (null == event) {
+                    if (parser.next() != JsonParser.Event.KEY_NAME) {
+                        return false;
+                    }
+                    boolean found = name.equals(parser.getString());
+                    JsonParser.Event valueEvent = parser.next();
+                    if (found) {
+                        event = valueEvent;
+                    } else if (valueEvent == JsonParser.Event.START_OBJECT) {
+                        parser.skipObject();
+                    } else if (valueEvent == JsonParser.Event.START_ARRAY) {
+                        parser.skipArray();
+                    }
+                }
+            }
+            return event == JsonParser.Event.START_ARRAY;
+        }
+    }
 }
@@ -116,7 +116,7 @@ public class XMLChoiceCollectionMapping extends DatabaseMapping implements Choic
 
     private boolean isAny;
     private boolean isWriteOnly;
-    private static final AttributeAccessor temporaryAccessor = new InstanceVariableAttributeAccessor();
+    private static final AttributeAccessor temporaryAccessor = new TemporaryAttributeAccessor();
     private boolean reuseContainer;
     private Converter converter;
     private XMLCompositeDirectCollectionMapping mixedContentMapping;
@@ -1080,4 +1080,14 @@ public Object convertDataValueToObjectValue(Object fieldValue, Session session,
         }
         return fieldValue;
     }
+
+    /**
+     * Placeholder accessor of the nested mappings until they are initialized,
+     * it is compared by identity so a deserialized copy resolves to the shared instance.
+     */
+    private static final class TemporaryAttributeAccessor extends InstanceVariableAttributeAccessor {
+        private Object readResolve() {
+            return temporaryAccessor;
+        }
+    }
 }
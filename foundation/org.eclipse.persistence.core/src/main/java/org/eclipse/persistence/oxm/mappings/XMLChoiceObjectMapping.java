@@ -109,7 +109,7 @@ public class XMLChoiceObjectMapping extends DatabaseMapping implements ChoiceObj
     private Converter converter;
     private boolean isWriteOnly;
 
-    private static final AttributeAccessor temporaryAccessor = new InstanceVariableAttributeAccessor();
+    private static final AttributeAccessor temporaryAccessor = new TemporaryAttributeAccessor();
 
     private static final String DATA_HANDLER = "jakarta.activation.DataHandler";
     private static final String MIME_MULTIPART = "jakarta.mail.internet.MimeMultipart";
@@ -914,4 +914,14 @@ public Object convertDataValueToObjectValue(Object fieldValue, Session session,
         return fieldValue;
     }
 
+    /**
+     * Placeholder accessor of the nested mappings until they are initialized,
+     * it is compared by identity so a deserialized copy resolves to the shared instance.
+     */
+    private static final class TemporaryAttributeAccessor extends InstanceVariableAttributeAccessor {
+        private Object readResolve() {
+            return temporaryAccessor;
+        }
+    }
+
 }
@@ -45,6 +45,9 @@
 import org.eclipse.persistence.queries.ObjectBuildingQuery;
 import org.eclipse.persistence.sessions.Session;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Enumeration;
 import java.util.Vector;
 
@@ -625,4 +628,18 @@ public void setNullValue(Object nullValue) {
         this.nullValue = nullValue;
     }
 
+    /**
+     * The value used for null is transient, it is written here as the
+     * generated metadata of a JAXB context may be serialized.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(nullValue);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        nullValue = in.readObject();
+    }
+
 }
@@ -14,6 +14,10 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.oxm.mappings;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.ConversionException;
 import org.eclipse.persistence.exceptions.DescriptorException;
@@ -552,4 +556,18 @@ public Object convertDataValueToObjectValue(Object fieldValue, Session session,
         return fieldValue;
     }
 
+    /**
+     * The value used for null is transient in the superclass, it is written
+     * here as the generated metadata of a JAXB context may be serialized.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(nullValue);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        nullValue = in.readObject();
+    }
+
 }
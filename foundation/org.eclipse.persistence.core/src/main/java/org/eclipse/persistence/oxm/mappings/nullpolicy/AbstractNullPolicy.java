@@ -14,6 +14,8 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.oxm.mappings.nullpolicy;
 
+import java.io.Serializable;
+
 import org.eclipse.persistence.core.sessions.CoreSession;
 import org.eclipse.persistence.internal.core.sessions.CoreAbstractSession;
 import org.eclipse.persistence.internal.oxm.Constants;
@@ -87,7 +89,7 @@
  * @see org.eclipse.persistence.internal.oxm.NullCapableValue
  * @since Oracle TopLink 11<i>g</i> Release 1 (11.1.1)
  */
-public abstract class AbstractNullPolicy {
+public abstract class AbstractNullPolicy implements Serializable {
     protected static final String TRUE = "true";
     protected static final String COLON_W_SCHEMA_NIL_ATTRIBUTE = Constants.COLON + Constants.SCHEMA_NIL_ATTRIBUTE;
     protected static final String XSI_NIL_ATTRIBUTE = Constants.SCHEMA_INSTANCE_PREFIX + COLON_W_SCHEMA_NIL_ATTRIBUTE;
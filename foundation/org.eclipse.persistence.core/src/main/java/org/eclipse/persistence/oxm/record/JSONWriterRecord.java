@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -71,6 +71,9 @@ public class JSONWriterRecord extends MarshalRecord<XMLMarshaller> {
 
     protected boolean isProcessingCData = false;
     protected static final String NULL="null";
+    protected static final String TRUE="true";
+    protected static final String FALSE="false";
+    private static final char[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
     protected String attributePrefix;
     protected boolean charactersAllowed = false;
     protected CharsetEncoder encoder;
@@ -423,15 +426,7 @@ public void characters(String value) {
      * INTERNAL:
      */
      public void characters(String value, boolean isString, boolean isAttribute) {
-          boolean textWrapperOpened = false;
-          if(!charactersAllowed){
-               if(textWrapperFragment != null){
-                   openStartElement(textWrapperFragment, namespaceResolver);
-                   textWrapperOpened = true;
-               }
-           }
-
-           level.setNeedToOpenComplex(false);
+           boolean textWrapperOpened = startCharacters();
            try {
                if(isString){
                       writer.write('"');
@@ -444,6 +439,26 @@ public void characters(String value, boolean isString, boolean isAttribute) {
            } catch (IOException e) {
                throw XMLMarshalException.marshalException(e);
            }
+           endCharacters(textWrapperOpened);
+     }
+
+     /**
+      * Open the text wrapper if the value is not allowed without it.
+      * Return true if the text wrapper was opened and must be closed by {@link #endCharacters(boolean)}.
+      */
+     private boolean startCharacters() {
+          boolean textWrapperOpened = false;
+          if(!charactersAllowed){
+               if(textWrapperFragment != null){
+                   openStartElement(textWrapperFragment, namespaceResolver);
+                   textWrapperOpened = true;
+               }
+           }
+           level.setNeedToOpenComplex(false);
+           return textWrapperOpened;
+     }
+
+     private void endCharacters(boolean textWrapperOpened) {
            if(textWrapperOpened){
                  if(textWrapperFragment != null){
                       endElement(textWrapperFragment, namespaceResolver);
@@ -478,7 +493,9 @@ public void characters(QName schemaType, Object value, String mimeType, boolean
                      value, marshaller, mimeType).getData();
              }
          }
-         if(schemaType != null && Constants.QNAME_QNAME.equals(schemaType)){
+         if(!isCDATA && isPrimitiveValue(value) && (schemaType == null || isNumericOrBooleanType(schemaType))){
+             primitiveCharacters(value);
+         } else if(schemaType != null && Constants.QNAME_QNAME.equals(schemaType)){
              String convertedValue = getStringForQName((QName)value);
              characters(convertedValue);
          } else if(value.getClass() == String.class){
@@ -517,6 +534,41 @@ public void characters(QName schemaType, Object value, String mimeType, boolean
      }
 
 
+     /**
+      * INTERNAL:
+      * Write a boolean or integral number value directly to the output,
+      * without first converting it to a String.
+      */
+     protected void primitiveCharacters(Object value) {
+           boolean textWrapperOpened = startCharacters();
+           try {
+               if(value.getClass() == CoreClassConstants.BOOLEAN){
+                   writer.write(((Boolean) value) ? TRUE : FALSE);
+               }else{
+                   writer.writeNumber(((Number) value).longValue());
+               }
+           } catch (IOException e) {
+               throw XMLMarshalException.marshalException(e);
+           }
+           endCharacters(textWrapperOpened);
+     }
+
+     /**
+      * Boolean and integral number values have the same JSON representation
+      * regardless of the conversion manager, so they can bypass it.
+      */
+     private static boolean isPrimitiveValue(Object value){
+         if(value == null){
+             return false;
+         }
+         Class<?> valueClass = value.getClass();
+         return valueClass == CoreClassConstants.INTEGER
+                 || valueClass == CoreClassConstants.LONG
+                 || valueClass == CoreClassConstants.BOOLEAN
+                 || valueClass == CoreClassConstants.SHORT
+                 || valueClass == CoreClassConstants.BYTE;
+     }
+
      private boolean isNumericOrBooleanType(QName schemaType){
          if(schemaType == null){
              return false;
@@ -681,46 +733,49 @@ protected void writeValue(String value, boolean isAttribute) {
                    return;
                }
 
-              char[] chars = value.toCharArray();
-              for (int x = 0, charsSize = chars.length; x < charsSize; x++) {
-                  char character = chars[x];
+              for (int x = 0, length = value.length(); x < length; x++) {
+                  char character = value.charAt(x);
+                  // printable ASCII is encodable by every supported charset
+                  if (character >= ' ' && character < 0x7F && character != '"' && character != '\\') {
+                      writer.write(character);
+                      continue;
+                  }
                   switch (character){
                       case '"' : {
-                          writer.write("\\\"");
+                          writeEscaped('"');
                           break;
                       }
                       case '\b': {
-                          writer.write("\\b");
+                          writeEscaped('b');
                           break;
                       }
                       case '\f': {
-                          writer.write("\\f");
+                          writeEscaped('f');
                           break;
                       }
                       case '\n': {
-                          writer.write("\\n");
+                          writeEscaped('n');
                           break;
                       }
                       case '\r': {
-                          writer.write("\\r");
+                          writeEscaped('r');
                           break;
                       }
                       case '\t': {
-                          writer.write("\\t");
+                          writeEscaped('t');
                           break;
                       }
                       case '\\': {
-                          writer.write("\\\\");
+                          writeEscaped('\\');
                           break;
                       }
                       default: {
                           if(Character.isISOControl(character) || !encoder.canEncode(character)){
-                              writer.write("\\u");
-                              String hex = Integer.toHexString(character).toUpperCase();
-                              for(int i=hex.length(); i<4; i++){
-                                  writer.write("0");
-                              }
-                              writer.write(hex);
+                              writeEscaped('u');
+                              writer.write(HEX_DIGITS[(character >> 12) & 0xF]);
+                              writer.write(HEX_DIGITS[(character >> 8) & 0xF]);
+                              writer.write(HEX_DIGITS[(character >> 4) & 0xF]);
+                              writer.write(HEX_DIGITS[character & 0xF]);
                           }else{
                               writer.write(character);
                           }
@@ -732,6 +787,11 @@ protected void writeValue(String value, boolean isAttribute) {
         }
     }
 
+    private void writeEscaped(char character) throws IOException {
+        writer.write('\\');
+        writer.write(character);
+    }
+
     @Override
     protected String getStringForQName(QName qName){
         if(null == qName) {
@@ -1004,6 +1064,13 @@ protected interface Output {
 
         void write(String text) throws IOException;
 
+        /**
+         * Write the decimal representation of the value.
+         */
+        default void writeNumber(long value) throws IOException {
+            write(Long.toString(value));
+        }
+
         void writeAttributePrefix() throws IOException;
 
         void writeCR() throws IOException;
@@ -1027,6 +1094,7 @@ protected static class OutputStreamOutput implements Output {
         private byte[] cr = System.lineSeparator().getBytes(Constants.DEFAULT_CHARSET);
         private XMLMarshaller marshaller;
         private char namespaceSeparator;
+        private byte[] numberBuffer;
         private OutputStream outputStream;
 
         protected OutputStreamOutput(OutputStream writer) {
@@ -1129,9 +1197,48 @@ private void write(byte b) {
 
         @Override
         public void write(String text) throws IOException {
+            int length = text.length();
+            if(bufferIndex + length < BUFFER_SIZE) {
+                // ASCII text is copied straight into the buffer, the index is
+                // only moved on once the whole text turned out to be ASCII
+                int index = bufferIndex;
+                for(int x = 0; x < length; x++) {
+                    char character = text.charAt(x);
+                    if(character > 0x7F) {
+                        write(text.getBytes(Constants.DEFAULT_CHARSET));
+                        return;
+                    }
+                    buffer[index++] = (byte) character;
+                }
+                bufferIndex = index;
+                return;
+            }
             write(text.getBytes(Constants.DEFAULT_CHARSET));
         }
 
+        @Override
+        public void writeNumber(long value) throws IOException {
+            if(value == Long.MIN_VALUE) {
+                write(Long.toString(value));
+                return;
+            }
+            if(numberBuffer == null) {
+                numberBuffer = new byte[20];
+            }
+            int index = numberBuffer.length;
+            long remaining = value < 0 ? -value : value;
+            do {
+                numberBuffer[--index] = (byte) ('0' + (remaining % 10));
+                remaining /= 10;
+            } while(remaining != 0);
+            if(value < 0) {
+                numberBuffer[--index] = '-';
+            }
+            for(; index < numberBuffer.length; index++) {
+                write(numberBuffer[index]);
+            }
+        }
+
         @Override
         public void writeAttributePrefix() throws IOException {
             write(attributePrefix);
@@ -1174,6 +1281,7 @@ private static class WriterOutput implements Output {
         private String cr = System.lineSeparator();
         private XMLMarshaller marshaller;
         private char namespaceSeparator;
+        private char[] numberBuffer;
         private Writer writer;
 
         @Override
@@ -1223,6 +1331,27 @@ public void write(String text) throws IOException {
             writer.write(text);
         }
 
+        @Override
+        public void writeNumber(long value) throws IOException {
+            if(value == Long.MIN_VALUE) {
+                writer.write(Long.toString(value));
+                return;
+            }
+            if(numberBuffer == null) {
+                numberBuffer = new char[20];
+            }
+            int index = numberBuffer.length;
+            long remaining = value < 0 ? -value : value;
+            do {
+                numberBuffer[--index] = (char) ('0' + (remaining % 10));
+                remaining /= 10;
+            } while(remaining != 0);
+            if(value < 0) {
+                numberBuffer[--index] = '-';
+            }
+            writer.write(numberBuffer, index, numberBuffer.length - index);
+        }
+
         @Override
         public void writeCR() throws IOException {
             writer.write(cr);
@@ -23,7 +23,7 @@
  * A schema reference for accessing an XML Schema from the class path.
  */
 public class XMLSchemaClassPathReference extends XMLSchemaReference {
-    ClassLoader loader;
+    transient ClassLoader loader;
 
     public XMLSchemaClassPathReference() {
         super();
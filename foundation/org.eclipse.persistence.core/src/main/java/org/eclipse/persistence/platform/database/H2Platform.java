@@ -173,6 +173,21 @@ public boolean supportsGlobalTempTables() {
         return true;
     }
 
+    @Override
+    public boolean supportsINClauseArrayBinding() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsJsonArrayAggregation() {
+        return true;
+    }
+
     @Override
     protected String getCreateTempTableSqlPrefix() {
         return "CREATE TEMPORARY TABLE IF NOT EXISTS ";
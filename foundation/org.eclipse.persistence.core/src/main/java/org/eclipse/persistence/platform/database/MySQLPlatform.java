@@ -677,6 +677,34 @@ public boolean supportsCountDistinctWithMultipleFields() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * MySQL supports row value comparisons, i.e. "(A, B) &gt; (?, ?)".
+     */
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * MySQL supports JSON array aggregations, but not their ordering.
+     */
+    @Override
+    public boolean supportsJsonArrayAggregation() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsOrderedJsonArrayAggregation() {
+        return false;
+    }
+
+    @Override
+    protected String buildJsonObjectKey(String key) {
+        return "'" + key.replace("'", "''") + "', ";
+    }
+
     /**
      * INTERNAL:
      * Return if this database requires the table name when dropping an index.
@@ -22,4 +22,19 @@ public class Oracle18Platform extends Oracle12Platform {
     public Oracle18Platform() {
         super();
     }
+
+    /**
+     * INTERNAL:
+     * Oracle supports JSON array aggregations since 12.2,
+     * the aggregation is returned as a CLOB as VARCHAR2 is limited to 4000 bytes by default.
+     */
+    @Override
+    public boolean supportsJsonArrayAggregation() {
+        return true;
+    }
+
+    @Override
+    protected String getJsonArrayAggregationSuffix() {
+        return " RETURNING CLOB)";
+    }
 }
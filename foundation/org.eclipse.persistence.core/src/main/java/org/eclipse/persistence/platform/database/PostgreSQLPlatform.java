@@ -490,6 +490,43 @@ public boolean supportsLocalTempTables() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * PostgreSQL supports "= ANY(?)" with a bound array.
+     */
+    @Override
+    public boolean supportsINClauseArrayBinding() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * PostgreSQL supports row value comparisons, i.e. "(A, B) &gt; (?, ?)".
+     */
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * PostgreSQL supports JSON array aggregations, using jsonb so the column can be used with DISTINCT.
+     */
+    @Override
+    public boolean supportsJsonArrayAggregation() {
+        return true;
+    }
+
+    @Override
+    protected String getJsonArrayAggregationPrefix() {
+        return "jsonb_agg(jsonb_build_object(";
+    }
+
+    @Override
+    protected String buildJsonObjectKey(String key) {
+        return "'" + key.replace("'", "''") + "', ";
+    }
+
     /**
      * INTERNAL:
      */
@@ -51,6 +51,8 @@ public class BatchFetchPolicy implements Serializable, Cloneable {
     protected transient Map<Object, List<AbstractRecord>> dataResults;
     /** Stores temporary map of batched objects (this queries results). */
     protected transient Map<Object, Object> batchObjects;
+    /** Indicates if all the lazy relationships of the query results are batch fetched. */
+    protected boolean isAutomatic;
 
     public BatchFetchPolicy() {
         this(BatchFetchType.JOIN);
@@ -118,6 +120,24 @@ public void setType(BatchFetchType type) {
         this.type = type;
     }
 
+    /**
+     * INTERNAL:
+     * Return if all the lazy relationships of the query results are batch fetched,
+     * as configured by the project's automatic batch fetch size.
+     * @see org.eclipse.persistence.sessions.Project#setAutomaticBatchFetchSize(int)
+     */
+    public boolean isAutomatic() {
+        return isAutomatic;
+    }
+
+    /**
+     * INTERNAL:
+     * Set if all the lazy relationships of the query results are batch fetched.
+     */
+    public void setIsAutomatic(boolean isAutomatic) {
+        this.isAutomatic = isAutomatic;
+    }
+
     /**
      * Return the batch fetch size.
      */
@@ -1,6 +1,6 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
- * Copyright (c) 1998, 2023 IBM Corporation. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -39,6 +39,7 @@
 import org.eclipse.persistence.expressions.ExpressionBuilder;
 import org.eclipse.persistence.history.AsOfClause;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
 import org.eclipse.persistence.internal.expressions.FieldExpression;
 import org.eclipse.persistence.internal.expressions.ForUpdateClause;
@@ -61,6 +62,7 @@
 import org.eclipse.persistence.mappings.CollectionMapping;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.tools.profiler.FetchGroupTuner;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -120,6 +122,9 @@ public abstract class ObjectLevelReadQuery extends ObjectBuildingQuery {
      */
     protected List<Object> additionalFields;
 
+    /** Collection mappings whose target rows are selected as a JSON array aggregation, computed during prepare. */
+    protected List<CollectionMapping> jsonAggregatedMappings;
+
     /** Allow for a complex result to be return including the rows and objects, used for m-m batch reading. */
     protected boolean shouldIncludeData;
 
@@ -153,6 +158,9 @@ public abstract class ObjectLevelReadQuery extends ObjectBuildingQuery {
     /** Flag to turn on/off the use of the default fetch group. */
     protected boolean shouldUseDefaultFetchGroup = true;
 
+    /** PERF: Cache the plan of the fetch group tuner for the query site of this query and its clones. */
+    protected transient volatile FetchGroupTuner.QueryPlan fetchGroupTunerPlan;
+
     /** Specifies indirection that should be instantiated before returning result */
     protected LoadGroup loadGroup;
 
@@ -1191,6 +1199,15 @@ public Object execute(AbstractSession session, AbstractRecord translationRow) th
         if (shouldRefreshIdentityMapResult() && shouldCheckCacheOnly()) {
             throw QueryException.refreshNotPossibleWithCheckCacheOnly(this);
         }
+        // A query with a fetch group is never tuned, this includes the tuned queries.
+        // The tuner does not prepare the queries, they are tuned once pre-prepared by a previous execution.
+        FetchGroupTuner tuner = session.getFetchGroupTuner();
+        if ((tuner != null) && (this.fetchGroup == null) && this.isPrePrepared) {
+            ObjectLevelReadQuery tunedQuery = tuner.tuneQuery(this, session);
+            if (tunedQuery != this) {
+                return tuner.executeTunedQuery(tunedQuery, session, translationRow);
+            }
+        }
 
         return super.execute(session, translationRow);
     }
@@ -2109,6 +2126,7 @@ public void prepareFromQuery(DatabaseQuery query) {
             this.aggregateQueries = objectQuery.aggregateQueries;
             this.concreteSubclassJoinedMappingIndexes = objectQuery.concreteSubclassJoinedMappingIndexes;
             this.additionalFields = objectQuery.additionalFields;
+            this.jsonAggregatedMappings = objectQuery.jsonAggregatedMappings;
             this.partialAttributeExpressions = objectQuery.partialAttributeExpressions;
             if (objectQuery.hasOrderByExpressions()) {
                 this.orderByExpressions = objectQuery.orderByExpressions;
@@ -2182,6 +2200,8 @@ protected void prePrepare() throws QueryException {
             }
         }
 
+        prepareJsonAggregatedMappings();
+
         if (this.lockModeType != null) {
             if (this.lockModeType.equals(NONE)) {
                 setLockMode(ObjectBuildingQuery.NO_LOCK);
@@ -3058,6 +3078,22 @@ public boolean hasExecutionFetchGroup() {
         return getExecutionFetchGroup() != null;
     }
 
+    /**
+     * INTERNAL:
+     * Return the plan of the fetch group tuner cached for the query site of this query, or null.
+     */
+    public FetchGroupTuner.QueryPlan getFetchGroupTunerPlan() {
+        return this.fetchGroupTunerPlan;
+    }
+
+    /**
+     * INTERNAL:
+     * Cache the plan of the fetch group tuner for the query site of this query.
+     */
+    public void setFetchGroupTunerPlan(FetchGroupTuner.QueryPlan fetchGroupTunerPlan) {
+        this.fetchGroupTunerPlan = fetchGroupTunerPlan;
+    }
+
     /**
      * Set a dynamic (use case) fetch group to the query.
      */
@@ -3273,6 +3309,81 @@ public boolean isAttributeBatchRead(ClassDescriptor mappingDescriptor, String at
         return this.batchFetchPolicy.isAttributeBatchRead(mappingDescriptor, attributeName);
     }
 
+    /**
+     * INTERNAL:
+     * Return if the target rows of the mapping are selected as a JSON array aggregation by the query.
+     */
+    public boolean isAttributeJsonAggregated(DatabaseMapping mapping) {
+        return (this.jsonAggregatedMappings != null) && this.jsonAggregatedMappings.contains(mapping);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if any collection mappings are selected as a JSON array aggregation by the query.
+     */
+    public boolean hasJsonAggregatedMappings() {
+        return (this.jsonAggregatedMappings != null) && !this.jsonAggregatedMappings.isEmpty();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the collection mappings selected as a JSON array aggregation by the query.
+     */
+    public List<CollectionMapping> getJsonAggregatedMappings() {
+        return this.jsonAggregatedMappings;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the collection mappings selected as a JSON array aggregation by the query.
+     */
+    public void setJsonAggregatedMappings(List<CollectionMapping> jsonAggregatedMappings) {
+        this.jsonAggregatedMappings = jsonAggregatedMappings;
+    }
+
+    /**
+     * INTERNAL:
+     * Compute the batch fetched collection mappings that use the JSON batch fetch type,
+     * their target rows are selected as a JSON array aggregation sub-select of this query.
+     * If the query, the mapping or the platform does not support it, JOIN batch fetching is used instead.
+     */
+    protected void prepareJsonAggregatedMappings() {
+        this.jsonAggregatedMappings = null;
+        if (!getQueryMechanism().isExpressionQueryMechanism() || isReportQuery() || hasPartialAttributeExpressions()
+                || hasUnionExpressions() || isLockQuery() || this.descriptor.hasInheritance()
+                || (getDistinctState() == USE_DISTINCT) || !(this.session.getDatasourcePlatform() instanceof DatabasePlatform)) {
+            return;
+        }
+        BatchFetchType queryBatchType = (this.batchFetchPolicy == null) ? null : this.batchFetchPolicy.getType();
+        FetchGroup executionFetchGroup = getExecutionFetchGroup();
+        for (DatabaseMapping mapping : this.descriptor.getMappings()) {
+            if (!mapping.isCollectionMapping()) {
+                continue;
+            }
+            CollectionMapping collectionMapping = (CollectionMapping)mapping;
+            BatchFetchType batchType = (collectionMapping.getBatchFetchType() == null) ? queryBatchType : collectionMapping.getBatchFetchType();
+            if ((batchType == BatchFetchType.JSON)
+                    && (isAttributeBatchRead(this.descriptor, mapping.getAttributeName()) || (isReadAllQuery() && collectionMapping.shouldUseBatchReading()))
+                    && !isAttributeJoined(this.descriptor, mapping.getAttributeName())
+                    && ((executionFetchGroup == null) || executionFetchGroup.containsAttributeInternal(mapping.getAttributeName()))
+                    && collectionMapping.isJsonAggregationSupported(this.session.getPlatform())) {
+                if (this.jsonAggregatedMappings == null) {
+                    this.jsonAggregatedMappings = new ArrayList<>();
+                }
+                this.jsonAggregatedMappings.add(collectionMapping);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the lazy relationships of the query results are batch fetched automatically.
+     * @see org.eclipse.persistence.sessions.Project#setAutomaticBatchFetchSize(int)
+     */
+    public boolean isAutomaticBatchFetch() {
+        return (this.batchFetchPolicy != null) && this.batchFetchPolicy.isAutomatic();
+    }
+
     /**
      * INTERNAL:
      * Used to optimize joining by pre-computing the nested join queries for the mappings.
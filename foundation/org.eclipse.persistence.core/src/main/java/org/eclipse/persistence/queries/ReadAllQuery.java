@@ -18,14 +18,17 @@
 //       - 356197: Add new VPD type to MultitenantType
 package org.eclipse.persistence.queries;
 
+import org.eclipse.persistence.annotations.BatchFetchType;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
 import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.expressions.FunctionExpression;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.DatabaseField;
@@ -80,6 +83,9 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
     protected List<Expression> orderSiblingsByExpressions;
     protected Direction direction;
 
+    /** Used for keyset pagination, the ordering values of the last result of the previous page. */
+    protected List<Object> pageAfter;
+
     /**
      * Specifies the direction in which the hierarchy is traversed in a
      * hierarchical query.
@@ -485,6 +491,26 @@ public Object execute(AbstractSession session, AbstractRecord row) throws Databa
         return super.execute(session, row);
     }
 
+    /**
+     * INTERNAL:
+     * Enable the automatic batch fetching of the lazy relationships of the results,
+     * if configured on the project and more than one object is read.
+     * The query uses IN batch fetching unless it configures its own batch fetching.
+     * @see org.eclipse.persistence.sessions.Project#setAutomaticBatchFetchSize(int)
+     */
+    protected void checkAutomaticBatchFetch(List<AbstractRecord> rows) {
+        int automaticBatchFetchSize = this.session.getProject().getAutomaticBatchFetchSize();
+        if ((automaticBatchFetchSize <= 0) || hasPartialAttributeExpressions()
+                || (!(rows instanceof ThreadCursoredList) && (rows.size() < 2))) {
+            return;
+        }
+        if (this.batchFetchPolicy == null) {
+            this.batchFetchPolicy = new BatchFetchPolicy(BatchFetchType.IN);
+            this.batchFetchPolicy.setSize(automaticBatchFetchSize);
+        }
+        this.batchFetchPolicy.setIsAutomatic(true);
+    }
+
     /**
      * INTERNAL:
      * Execute the query.
@@ -588,6 +614,7 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
                     if (hasJoining() && this.joinedAttributeManager.isToManyJoin()) {
                         this.joinedAttributeManager.setDataResults(rows, this.session);
                     }
+                    checkAutomaticBatchFetch(rows);
                     // Batch fetching in IN requires access to the rows to build the id array.
                     if ((this.batchFetchPolicy != null) && this.batchFetchPolicy.isIN()) {
                         this.batchFetchPolicy.setDataResults(rows);
@@ -773,6 +800,7 @@ public boolean isDefaultPropertiesQuery() {
         return super.isDefaultPropertiesQuery()
             && (!hasBatchReadAttributes())
             && (!hasHierarchicalExpressions())
+            && (!hasPageAfter())
             && (!this.containerPolicy.isCursorPolicy());
     }
 
@@ -1205,6 +1233,115 @@ public void setHierarchicalQueryClause(Expression startWith, Expression connectB
         setIsPrepared(false);
     }
 
+    /**
+     * PUBLIC:
+     * Return the ordering values of the last result of the previous page, used for keyset pagination.
+     * @see #setPageAfter(List)
+     */
+    public List<Object> getPageAfter() {
+        return pageAfter;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the ordering values of the last result of the previous page, to read the next page with
+     * keyset (seek) pagination instead of setFirstResult.
+     * The values match the first ordering expressions of the query, which must order the results uniquely,
+     * i.e. end with the id, and the results must not have null values for them.
+     * The query selects the results that follow the values in the ordering,
+     * so the database can seek to the page using an index instead of reading and skipping the previous pages.
+     * <p>
+     * Example:
+     * <p>
+     * query.addOrdering(builder.get("orderDate").descending());<br>
+     * query.addOrdering(builder.get("id"));<br>
+     * query.setMaxRows(50);<br>
+     * query.setPageAfter(query.extractPageAfter(lastOrder, session));
+     * <p>
+     * This query would generate SQL like this:
+     * <p>
+     * SELECT ... FROM ORDERS WHERE ((ORDER_DATE &lt; ?) OR ((ORDER_DATE = ?) AND (ID &gt; ?))) ORDER BY ORDER_DATE DESC, ID
+     * <p>
+     * or, if all the orderings have the same direction and the platform supports row value comparisons:
+     * <p>
+     * SELECT ... FROM ORDERS WHERE ((ORDER_DATE, ID) &gt; (?, ?)) ORDER BY ORDER_DATE, ID
+     *
+     * @see #extractPageAfter(Object, org.eclipse.persistence.sessions.Session)
+     * @see DatabasePlatform#supportsRowValueComparison()
+     */
+    public void setPageAfter(List<?> pageAfter) {
+        if ((pageAfter == null) || pageAfter.isEmpty()) {
+            this.pageAfter = null;
+        } else {
+            this.pageAfter = new ArrayList<>(pageAfter);
+        }
+        setIsPrepared(false);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if keyset pagination is used.
+     */
+    public boolean hasPageAfter() {
+        return this.pageAfter != null;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the values of the ordering expressions of the query for the result.
+     * The values of the last result of a page are used to read the next page.
+     * @see #setPageAfter(List)
+     */
+    public List<Object> extractPageAfter(Object result, org.eclipse.persistence.sessions.Session session) {
+        List<Object> values = new ArrayList<>(getOrderByExpressions().size());
+        for (Expression ordering : getOrderByExpressions()) {
+            Expression key = getOrderingKey(ordering);
+            // The query may not have been prepared.
+            ExpressionBuilder builder = key.getBuilder();
+            if ((builder != null) && (builder.getSession() == null)) {
+                builder.setSession(((AbstractSession)session).getRootSession(null));
+                if (builder.getQueryClass() == null) {
+                    builder.setQueryClass(getReferenceClass());
+                }
+            }
+            values.add(key.valueFromObject(result, (AbstractSession)session, null, InMemoryQueryIndirectionPolicy.SHOULD_TRIGGER_INDIRECTION, false));
+        }
+        return values;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the expression that is ordered by, without the direction and null ordering.
+     */
+    public static Expression getOrderingKey(Expression ordering) {
+        while (ordering.isFunctionExpression()) {
+            int selector = ((FunctionExpression)ordering).getOperator().getSelector();
+            if ((selector != ExpressionOperator.Ascending) && (selector != ExpressionOperator.Descending)
+                    && (selector != ExpressionOperator.NullsFirst) && (selector != ExpressionOperator.NullsLast)) {
+                break;
+            }
+            ordering = ((FunctionExpression)ordering).getBaseExpression();
+        }
+        return ordering;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the ordering is descending.
+     */
+    public static boolean isDescendingOrdering(Expression ordering) {
+        while (ordering.isFunctionExpression()) {
+            int selector = ((FunctionExpression)ordering).getOperator().getSelector();
+            if (selector == ExpressionOperator.Descending) {
+                return true;
+            } else if ((selector != ExpressionOperator.NullsFirst) && (selector != ExpressionOperator.NullsLast)) {
+                return false;
+            }
+            ordering = ((FunctionExpression)ordering).getBaseExpression();
+        }
+        return false;
+    }
+
     /**
      * PUBLIC:
      * Configure the mapping to use an instance of the specified container class
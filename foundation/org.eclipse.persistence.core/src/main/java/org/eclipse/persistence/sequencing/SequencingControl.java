@@ -184,6 +184,44 @@ public interface SequencingControl {
      */
     void setInitialPoolSize(int size);
 
+    /**
+     * PUBLIC:
+     * Returns the percentage of a block of preallocated values that is left
+     * when the next block is allocated in the background.
+     * Zero (the default) means the next block is only allocated once the values run out.
+     */
+    int getPrefetchThreshold();
+
+    /**
+     * PUBLIC:
+     * Sets the percentage of a block of preallocated values that is left
+     * when the next block is allocated in the background, on a separate sequencing connection,
+     * so that inserts do not wait for the sequence allocation.
+     * The set value is ignored if SequencingControl has been obtained not from ServerSession,
+     * and for sequences that allocate their values in the write transaction.
+     * By default is 0 (disabled).
+     * @since EclipseLink 4.1
+     */
+    void setPrefetchThreshold(int threshold);
+
+    /**
+     * PUBLIC:
+     * Returns the maximum number of values allocated at once by a prefetching table sequence.
+     */
+    int getMaxPrefetchSize();
+
+    /**
+     * PUBLIC:
+     * Sets the maximum number of values allocated at once by a prefetching table sequence.
+     * If greater than the preallocation size of a table sequence, the size of its blocks
+     * doubles while they are used up within a second and halves when they last over a minute,
+     * within the preallocation size and this maximum.
+     * Native sequences always use their preallocation size, as it must match their increment.
+     * By default is 0 (the blocks always have the preallocation size).
+     * @since EclipseLink 4.1
+     */
+    void setMaxPrefetchSize(int size);
+
     /**
      * ADVANCED:
      * Removes all preallocated sequencing objects.
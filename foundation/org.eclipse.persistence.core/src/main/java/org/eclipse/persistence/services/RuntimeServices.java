@@ -43,6 +43,7 @@
 import org.eclipse.persistence.sessions.Session;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.tools.profiler.MetricsProfiler;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
 
 import javax.management.openmbean.CompositeData;
@@ -528,6 +529,44 @@ public void printProfileSummaryByQuery() {
            getSession().getSessionLog().info(trimProfileString(performanceProfiler.buildProfileSummaryByQuery().toString()));
        }
 
+       /**
+        * PUBLIC: Provide an instance of 2 Dimensional Array simulating tabular format information about the
+        * latencies recorded by the MetricsProfiler of the session, empty if the session does not use a MetricsProfiler.
+        *
+        * The 2 Dimensional array contains each item with values being row object array. Each row object array
+        * represents the latencies of an operation, or of an operation for a query or descriptor,
+        * in nanoseconds, with respect to below attributes:
+        * ["Type", "Name", "Operation", "Count", "Mean", "p50", "p99", "p999", "Max"]
+        *
+        */
+       public Object[][] getLatencyMetrics() {
+           if (!(getSession().getProfiler() instanceof MetricsProfiler)) {
+               return new Object[0][];
+           }
+           return ((MetricsProfiler)getSession().getProfiler()).buildLatencyMetrics().toArray(new Object[0][]);
+       }
+
+       /**
+        *        This method assumes the MetricsProfiler is used.
+        *        This will log at the INFO level a summary of the latencies and counters.
+        */
+       public void printMetricsSummary() {
+           if (!(getSession().getProfiler() instanceof MetricsProfiler)) {
+               return;
+           }
+           getSession().getSessionLog().info(((MetricsProfiler)getSession().getProfiler()).buildSummary());
+       }
+
+       /**
+        *        This method assumes the MetricsProfiler is used.
+        *        This will clear the latencies and counters.
+        */
+       public void resetMetrics() {
+           if (getSession().getProfiler() instanceof MetricsProfiler) {
+               ((MetricsProfiler)getSession().getProfiler()).reset();
+           }
+       }
+
        /**
         *        This method is used to get the type of profiling.
         *   Possible values are: "EclipseLink" or "None".
@@ -433,6 +433,30 @@ public interface MBeanRuntimeServicesMBean {
     */
     void printProfileSummaryByQuery();
 
+    /**
+     *  Provide an instance of 2 Dimensional Array simulating tabular format information about the
+     * latencies recorded by the MetricsProfiler of the session, empty if the session does not use a MetricsProfiler.
+     *
+     * The 2 Dimensional array contains each item with values being row object array. Each row object array
+     * represents the latencies of an operation, or of an operation for a query or descriptor,
+     * in nanoseconds, with respect to below attributes:
+     * ["Type", "Name", "Operation", "Count", "Mean", "p50", "p99", "p999", "Max"]
+     *
+     */
+    Object[][] getLatencyMetrics();
+
+    /**
+    *        This method assumes the MetricsProfiler is used.
+    *        This will log at the INFO level a summary of the latencies and counters.
+    */
+    void printMetricsSummary();
+
+    /**
+    *        This method assumes the MetricsProfiler is used.
+    *        This will clear the latencies and counters.
+    */
+    void resetMetrics();
+
     /**
     * Return the log type, either "EclipseLink",  "Java" or the simple name of the logging class used.
     * @return the log type
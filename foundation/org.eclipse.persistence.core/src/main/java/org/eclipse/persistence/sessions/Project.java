@@ -114,6 +114,9 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** Define the default setting for configuring if dates and calendars are mutable. */
     protected boolean defaultTemporalMutable = false;
 
+    /** Number of objects for which lazy relationships are batch read together, 0 if disabled. */
+    protected int automaticBatchFetchSize = 0;
+
     /** Indicates whether there is at least one descriptor that has at least on mapping that
      *  require a call on deleted objects to update change sets.
      */
@@ -297,6 +300,32 @@ public void setDefaultTemporalMutable(boolean defaultTemporalMutable) {
         this.defaultTemporalMutable = defaultTemporalMutable;
     }
 
+    /**
+     * PUBLIC:
+     * Return the number of objects for which a lazy relationship is loaded together
+     * when automatic batch fetching is enabled, 0 if disabled.
+     * @see #setAutomaticBatchFetchSize(int)
+     */
+    public int getAutomaticBatchFetchSize() {
+        return automaticBatchFetchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Enable automatic batch fetching of lazy relationships.
+     * When a lazy relationship of an object read by a read all query is accessed,
+     * the relationship is loaded for up to this number of the objects read by the query
+     * using a single IN batch query, instead of a query per object (the N+1 query problem).
+     * This applies to the one to one, one to many, many to many, direct collection and
+     * aggregate collection mappings using indirection that are not otherwise batch read or joined.
+     * The queries that configure their own batch fetching use their batch fetch type.
+     * By default this is 0, which disables automatic batch fetching.
+     * @see org.eclipse.persistence.queries.BatchFetchPolicy
+     */
+    public void setAutomaticBatchFetchSize(int automaticBatchFetchSize) {
+        this.automaticBatchFetchSize = automaticBatchFetchSize;
+    }
+
     /**
      * INTERNAL:
      * Return all pre-defined not yet parsed JPQL queries.
@@ -35,6 +35,7 @@ public interface SessionProfiler {
     String LoginTime = "Info:LoginTime";
     String RcmStatus = "Info:CacheCoordinationStatus";
     String CacheSize = "Info:CacheSize";//TODO
+    String UnpreparedNamedQueries = "Info:UnpreparedNamedQueries";
 
     String ClientSessionCreated = "Counter:ClientSessionCreates";
     String ClientSessionReleased = "Counter:ClientSessionReleases";
@@ -52,6 +53,7 @@ public interface SessionProfiler {
     String CacheMisses = "Counter:CacheMisses";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
+    String LazyLoads = "Counter:LazyLoads";
 
     String DescriptorEvent = "Timer:DescriptorEvents";
     String SessionEvent = "Timer:SessionEvents";
@@ -59,6 +61,7 @@ public interface SessionProfiler {
     String SqlGeneration = "Timer:SqlGeneration";
     String SqlPrepare = "Timer:SqlPrepare";
     String StatementExecute = "Timer:StatementExecute";
+    String PartitionExecute = "Timer:PartitionExecute";
     String RowFetch = "Timer:RowFetch";
     String ObjectBuilding = "Timer:ObjectBuilding";
     String Register = "Timer:Register";
@@ -69,11 +72,15 @@ public interface SessionProfiler {
     String CacheCoordinationSerialize = "Timer:CacheCoordinationSerialize";
     String CacheCoordination = "Timer:CacheCoordination";
     String ConnectionManagement = "Timer:ConnectionManagement";
+    String ConnectionWait = "Timer:ConnectionWait";
+    String CacheKeyWait = "Timer:CacheKeyWait";
     String Logging = "Timer:Logging";
     String JtsBeforeCompletion = "Timer:TXBeforeCompletion";
     String JtsAfterCompletion = "Timer:TXAfterCompletion";
     String Transaction = "Timer:Transactions";
     String UowCommit = "Timer:UnitOfWorkCommit";
+    String UowCalculateChanges = "Timer:UnitOfWorkCalculateChanges";
+    String UowCommitToDatabase = "Timer:UnitOfWorkCommitToDatabase";
     String ConnectionPing = "Timer:ConnectionPing";
     String Remote = "Timer:Remote";
     String RemoteLazy = "Timer:RemoteLazy";
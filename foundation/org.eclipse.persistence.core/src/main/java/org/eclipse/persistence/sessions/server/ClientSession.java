@@ -129,6 +129,7 @@ public ClientSession(ServerSession parent, ConnectionPolicy connectionPolicy, Ma
         this.queryTimeoutUnitDefault = parent.getQueryTimeoutUnitDefault();
         this.isConcurrent = parent.isConcurrent();
         this.shouldOptimizeResultSetAccess = parent.shouldOptimizeResultSetAccess();
+        this.fetchGroupTuner = parent.getFetchGroupTuner();
         this.properties = properties;
         this.multitenantContextProperties = parent.getMultitenantContextProperties();
 
@@ -21,6 +21,7 @@
 import org.eclipse.persistence.internal.localization.ToStringLocalization;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -161,10 +162,13 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
                 }
                 return connection;
             }
+            this.owner.startOperationProfile(SessionProfiler.ConnectionWait);
             try {
                 wait(this.waitTimeout);// Notify is called when connections are released.
             } catch (InterruptedException exception) {
                 throw ConcurrencyException.waitFailureOnClientSession(exception);
+            } finally {
+                this.owner.endOperationProfile(SessionProfiler.ConnectionWait);
             }
         }
 
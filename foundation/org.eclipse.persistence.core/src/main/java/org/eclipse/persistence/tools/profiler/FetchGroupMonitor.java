@@ -30,6 +30,7 @@
  * This monitor is enabled through the System property "org.eclipse.persistence.fetchgroupmonitor=true".
  * It dumps the attribute used for a class every time a new attribute is accessed.
  *
+ * @see FetchGroupTuner
  * @author James Sutherland
  * @since TopLink 10.1.3.2
  */
@@ -0,0 +1,865 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.FetchGroupManager;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.queries.EntityFetchGroup;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.queries.FetchGroupTracker;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+
+/**
+ * <p><b>Purpose</b>:
+ * Tune the fetch group of queries from the attributes the application accesses.
+ * <p>
+ * Where {@link FetchGroupMonitor} only records the attributes accessed for a class, the tuner
+ * acts on what it observes: for each query site (the JPQL string, or the name of a named query)
+ * it learns a plan of the attributes that are accessed on the objects the query returns, and
+ * executes the query with a {@link FetchGroup} of these attributes instead of loading all of them.
+ * Relationships accessed from the query results are join fetched (to-one) or batch read (to-many).
+ * <p>
+ * A query site is executed untuned for {@link #getMinExecutions()} executions, then with a fetch group
+ * of the attributes accessed so far, initially only the primary key and version.
+ * Each access to an attribute that the fetch group did not load is recorded through the woven
+ * {@link FetchGroupTracker} hook, widens the plan, and loads the missing attributes:
+ * in a unit of work, the partial objects returned by the tuned query are loaded together to avoid a query per object.
+ * The plan stabilizes once every accessed attribute is part of it.
+ * <p>
+ * Guardrails: a plan that keeps widening (more than {@link #getMaxWidenings()} times), or that loads
+ * most of the attributes of the class (more than {@link #getMaxAttributePercentage()} percent), is
+ * disabled and the query is executed untuned. Queries that define their own fetch group, load group,
+ * partial attributes, pessimistic lock, refresh, custom SQL or a query results cache are never tuned,
+ * nor are queries for classes with inheritance. A query is only tuned once pre-prepared by its own execution,
+ * the tuner never prepares the queries, as they may be shared by concurrent sessions.
+ * <p>
+ * The tuner requires fetch group weaving of the entities, it is enabled through the persistence unit property
+ * "eclipselink.fetch-group.tuning=true", or by setting a tuner on the session.
+ * The learned plans can be exported through {@link #exportPlans(Writer)}.
+ *
+ * @see FetchGroupMonitor
+ * @see AbstractSession#setFetchGroupTuner(FetchGroupTuner)
+ * @since EclipseLink 4.1
+ */
+public class FetchGroupTuner {
+
+    /** Number of rows loaded together by a single query, when loading the partial objects of a plan. */
+    public static final int LOAD_CHUNK_SIZE = 500;
+
+    /** Property of a unit of work holding the partial objects returned by the tuned queries, by entity fetch group. */
+    protected static final String PARTIAL_OBJECTS = "eclipselink.fetch-group.tuning.partial-objects";
+
+    /** Plans by reference class and query site. */
+    protected final Map<Class<?>, Map<String, QueryPlan>> plans = new ConcurrentHashMap<>();
+
+    /** Number of plans, bounded by maxPlans. */
+    protected final AtomicInteger planCount = new AtomicInteger();
+
+    /** Incremented on reset, invalidates the plans cached by the queries. */
+    protected volatile int generation;
+
+    protected volatile int minExecutions = 10;
+    protected volatile int maxWidenings = 20;
+    protected volatile int maxAttributePercentage = 75;
+    protected volatile int maxPlans = 1000;
+
+    /**
+     * PUBLIC:
+     * Create a new tuner with the default guardrails.
+     */
+    public FetchGroupTuner() {
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of untuned executions of a query site before its fetch group is tuned.
+     */
+    public int getMinExecutions() {
+        return minExecutions;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of untuned executions of a query site before its fetch group is tuned.
+     * Default is 10.
+     */
+    public void setMinExecutions(int minExecutions) {
+        this.minExecutions = minExecutions;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of times a plan can be widened before it is disabled.
+     */
+    public int getMaxWidenings() {
+        return maxWidenings;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of times a plan can be widened before it is disabled.
+     * Default is 20.
+     */
+    public void setMaxWidenings(int maxWidenings) {
+        this.maxWidenings = maxWidenings;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the percentage of the attributes of a class above which a plan is disabled,
+     * as loading such a fetch group is not worth the partial objects.
+     */
+    public int getMaxAttributePercentage() {
+        return maxAttributePercentage;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the percentage of the attributes of a class above which a plan is disabled.
+     * Default is 75.
+     */
+    public void setMaxAttributePercentage(int maxAttributePercentage) {
+        this.maxAttributePercentage = maxAttributePercentage;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of query sites that are tracked.
+     */
+    public int getMaxPlans() {
+        return maxPlans;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of query sites that are tracked,
+     * other query sites are executed untuned.
+     * Default is 1000.
+     */
+    public void setMaxPlans(int maxPlans) {
+        this.maxPlans = maxPlans;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the learned plans.
+     */
+    public List<QueryPlan> getPlans() {
+        List<QueryPlan> result = new ArrayList<>();
+        for (Map<String, QueryPlan> classPlans : this.plans.values()) {
+            result.addAll(classPlans.values());
+        }
+        return result;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the plan learned for the query site of the class, or null.
+     */
+    public QueryPlan getPlan(Class<?> referenceClass, String querySite) {
+        Map<String, QueryPlan> classPlans = this.plans.get(referenceClass);
+        if (classPlans == null) {
+            return null;
+        }
+        return classPlans.get(querySite);
+    }
+
+    /**
+     * PUBLIC:
+     * Forget all the learned plans.
+     */
+    public void reset() {
+        this.generation++;
+        this.plans.clear();
+        this.planCount.set(0);
+    }
+
+    /**
+     * PUBLIC:
+     * Export the learned plans, one line per plan of tab separated values:
+     * class, query, fetched attributes, joined attributes, batched attributes, executions and status.
+     */
+    public void exportPlans(Writer writer) throws IOException {
+        writer.write("Class\tQuery\tAttributes\tJoined\tBatched\tExecutions\tStatus\n");
+        List<QueryPlan> sortedPlans = getPlans();
+        sortedPlans.sort((first, second) -> {
+            int result = first.getReferenceClass().getName().compareTo(second.getReferenceClass().getName());
+            if (result == 0) {
+                result = first.getQuerySite().compareTo(second.getQuerySite());
+            }
+            return result;
+        });
+        for (QueryPlan plan : sortedPlans) {
+            writer.write(plan.getReferenceClass().getName());
+            writer.write("\t");
+            writer.write(plan.getQuerySite().replace('\t', ' ').replace('\n', ' ').replace('\r', ' '));
+            writer.write("\t");
+            writer.write(String.join(",", new TreeSet<>(plan.getAttributes())));
+            writer.write("\t");
+            writer.write(String.join(",", new TreeSet<>(plan.getJoinedAttributes())));
+            writer.write("\t");
+            writer.write(String.join(",", new TreeSet<>(plan.getBatchedAttributes())));
+            writer.write("\t");
+            writer.write(String.valueOf(plan.getExecutions()));
+            writer.write("\t");
+            writer.write(getStatus(plan));
+            writer.write("\n");
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the learned plans in the format of {@link #exportPlans(Writer)}.
+     */
+    public String exportPlans() {
+        StringWriter writer = new StringWriter();
+        try {
+            exportPlans(writer);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Return the status of the plan for the export.
+     */
+    protected String getStatus(QueryPlan plan) {
+        if (plan.isDisabled()) {
+            return "disabled: " + plan.getDisabledReason();
+        }
+        // The execution following the learning executions is tuned.
+        if (plan.getExecutions() < this.minExecutions) {
+            return "learning";
+        }
+        return "tuned";
+    }
+
+    /**
+     * INTERNAL:
+     * Return the query to execute in place of the query.
+     * This is the query itself unless it is eligible for tuning and its plan is past
+     * the learning executions, in which case a copy of the query with the plan's fetch group
+     * and join/batch fetching of the accessed relationships is returned.
+     */
+    public ObjectLevelReadQuery tuneQuery(ObjectLevelReadQuery query, AbstractSession session) {
+        // The descriptor, selection criteria and query mechanism of JPQL and custom queries are only known
+        // after the pre-prepare, which is left to the execution of the query, so only pre-prepared queries are given.
+        if (!isTunable(query)) {
+            return query;
+        }
+        ClassDescriptor descriptor = query.getDescriptor();
+        if ((descriptor == null) || !descriptor.hasFetchGroupManager()) {
+            return query;
+        }
+        QueryPlan plan = getPlan(query, descriptor);
+        if ((plan == null) || plan.isDisabled()) {
+            return query;
+        }
+        if (descriptor.hasInheritance() || descriptor.isAggregateDescriptor()) {
+            plan.disable("inheritance");
+            return query;
+        }
+        if (!query.getQueryMechanism().isExpressionQueryMechanism()) {
+            plan.disable("custom SQL");
+            return query;
+        }
+        if (query.hasFetchGroup()) {
+            plan.disable("default fetch group");
+            return query;
+        }
+        if (plan.executions.incrementAndGet() <= this.minExecutions) {
+            return query;
+        }
+        // The tuned query is shared by the executions of the query site, such as the clones
+        // JPA makes of a named query for each execution, as long as their settings are the same.
+        List<Object> settings = getSettings(query);
+        TunedQuery tunedQuery = plan.tunedQuery;
+        if ((tunedQuery != null) && (tunedQuery.version == plan.version) && tunedQuery.settings.equals(settings)) {
+            return tunedQuery.query;
+        }
+        int version;
+        Set<String> attributes;
+        synchronized (plan) {
+            version = plan.version;
+            attributes = plan.getAttributes();
+        }
+        ObjectLevelReadQuery tuned = buildTunedQuery(query, plan, attributes, version);
+        if (tuned == null) {
+            return query;
+        }
+        plan.tunedQuery = new TunedQuery(settings, tuned, version);
+        return tuned;
+    }
+
+    /**
+     * Return the settings of the query that its tuned query is built from,
+     * the tuned query of a query site is only reused by executions with the same settings.
+     * The expressions are compared by reference, the clones of a query share them.
+     */
+    protected List<Object> getSettings(ObjectLevelReadQuery query) {
+        List<Object> settings = new ArrayList<>(14);
+        settings.add(query.getSelectionCriteria());
+        settings.add(query.hasOrderByExpressions() ? new ArrayList<>(query.getOrderByExpressions()) : null);
+        settings.add(query.hasJoining() ? new ArrayList<>(query.getJoinedAttributeManager().getJoinedAttributeExpressions()) : null);
+        settings.add(query.hasBatchReadAttributes() ? new ArrayList<>(query.getBatchReadAttributeExpressions()) : null);
+        settings.add(query.getMaxRows());
+        settings.add(query.getFirstResult());
+        settings.add(query.getFetchSize());
+        settings.add(query.getQueryTimeout());
+        settings.add(query.getCacheUsage());
+        settings.add(query.getDistinctState());
+        settings.add(query.getHintString());
+        settings.add(query.getInMemoryQueryIndirectionPolicyState());
+        settings.add(query.shouldMaintainCache());
+        settings.add(query.isReadAllQuery() ? ((ReadAllQuery) query).getPageAfter() : null);
+        return settings;
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the tuned query. In a unit of work, the partial objects it returns are kept
+     * so they can be loaded together when one of them accesses an unfetched attribute.
+     */
+    public Object executeTunedQuery(ObjectLevelReadQuery tunedQuery, AbstractSession session, AbstractRecord translationRow) {
+        Object result = tunedQuery.execute(session, translationRow);
+        if (session.isUnitOfWork() && (result != null)) {
+            trackPartialObjects((UnitOfWorkImpl) session, result);
+        }
+        return result;
+    }
+
+    /**
+     * Keep the partial objects of the query result in the unit of work, by entity fetch group.
+     */
+    @SuppressWarnings("unchecked")
+    protected void trackPartialObjects(UnitOfWorkImpl unitOfWork, Object result) {
+        Collection<?> objects;
+        if (result instanceof Collection) {
+            objects = (Collection<?>) result;
+        } else if (result instanceof Map) {
+            objects = ((Map<?, ?>) result).values();
+        } else {
+            objects = Collections.singleton(result);
+        }
+        Map<TunedEntityFetchGroup, Set<FetchGroupTracker>> partialObjects = null;
+        for (Object object : objects) {
+            if ((object instanceof FetchGroupTracker)
+                    && (((FetchGroupTracker) object)._persistence_getFetchGroup() instanceof TunedEntityFetchGroup)) {
+                if (partialObjects == null) {
+                    partialObjects = (Map<TunedEntityFetchGroup, Set<FetchGroupTracker>>) unitOfWork.getProperties().get(PARTIAL_OBJECTS);
+                    if (partialObjects == null) {
+                        partialObjects = new IdentityHashMap<>();
+                        unitOfWork.getProperties().put(PARTIAL_OBJECTS, partialObjects);
+                    }
+                }
+                FetchGroupTracker tracker = (FetchGroupTracker) object;
+                // The same object can be returned by several executions, and entities may redefine equals.
+                partialObjects.computeIfAbsent((TunedEntityFetchGroup) tracker._persistence_getFetchGroup(),
+                        key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(tracker);
+            }
+        }
+    }
+
+    /**
+     * Return the key of the query site of the query: its JPQL string or its name.
+     * Queries without either are built by the application for a single execution and are not tuned.
+     */
+    protected String getQuerySite(ObjectLevelReadQuery query) {
+        String jpql = query.getJPQLString();
+        if (jpql != null) {
+            return jpql;
+        }
+        String name = query.getName();
+        if ((name == null) || name.isEmpty()) {
+            return null;
+        }
+        return name;
+    }
+
+    /**
+     * Return if the settings of the query allow to tune its fetch group.
+     */
+    protected boolean isTunable(ObjectLevelReadQuery query) {
+        return !query.isReportQuery()
+                && (query.getFetchGroupName() == null)
+                && (query.getLoadGroup() == null)
+                && query.shouldUseDefaultFetchGroup()
+                && !query.hasPartialAttributeExpressions()
+                && !query.isLockQuery()
+                && !query.shouldRefreshIdentityMapResult()
+                && !query.shouldCheckCacheOnly()
+                && !query.shouldIncludeData()
+                && !(query.isReadAllQuery() && ((ReadAllQuery) query).shouldCacheQueryResults())
+                && (query.getRedirector() == null);
+    }
+
+    /**
+     * Return the plan of the query site of the query, the plan is cached by the query and the clones made from it,
+     * so the query site is only looked up on the first execution.
+     */
+    protected QueryPlan getPlan(ObjectLevelReadQuery query, ClassDescriptor descriptor) {
+        String querySite = getQuerySite(query);
+        if (querySite == null) {
+            return null;
+        }
+        QueryPlan plan = query.getFetchGroupTunerPlan();
+        // The query site is compared by reference, the clones of a query share its JPQL string and name.
+        if ((plan != null) && (plan.tuner == this) && (plan.generation == this.generation)
+                && (plan.querySite == querySite) && (plan.referenceClass == descriptor.getJavaClass())) {
+            return plan;
+        }
+        plan = getPlan(descriptor, querySite);
+        if (plan != null) {
+            query.setFetchGroupTunerPlan(plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Return the plan of the query site, create it if missing and the plans are not full.
+     */
+    protected QueryPlan getPlan(ClassDescriptor descriptor, String querySite) {
+        Class<?> referenceClass = descriptor.getJavaClass();
+        Map<String, QueryPlan> classPlans = this.plans.computeIfAbsent(referenceClass, key -> new ConcurrentHashMap<>());
+        QueryPlan plan = classPlans.get(querySite);
+        if (plan == null) {
+            if (this.planCount.get() >= this.maxPlans) {
+                return null;
+            }
+            QueryPlan newPlan = new QueryPlan(this, descriptor, querySite);
+            plan = classPlans.putIfAbsent(querySite, newPlan);
+            if (plan == null) {
+                this.planCount.incrementAndGet();
+                plan = newPlan;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Build a copy of the query with the fetch group of the attributes of the plan's version,
+     * or return null if the query cannot use it.
+     */
+    protected ObjectLevelReadQuery buildTunedQuery(ObjectLevelReadQuery query, QueryPlan plan, Set<String> attributes, int version) {
+        ClassDescriptor descriptor = query.getDescriptor();
+        TunedFetchGroup fetchGroup = new TunedFetchGroup(plan);
+        for (String attribute : attributes) {
+            fetchGroup.addAttribute(attribute);
+        }
+        // The attributes already joined or batched by the query must be fetched.
+        List<Expression> joinedExpressions = new ArrayList<>();
+        if (query.hasJoining()) {
+            joinedExpressions.addAll(query.getJoinedAttributeManager().getJoinedAttributeExpressions());
+        }
+        List<Expression> batchedExpressions = new ArrayList<>();
+        if (query.isReadAllQuery() && ((ReadAllQuery) query).hasBatchReadAttributes()) {
+            batchedExpressions.addAll(((ReadAllQuery) query).getBatchReadAttributeExpressions());
+        }
+        Set<String> fetchedRelationships = new TreeSet<>();
+        for (Expression expression : joinedExpressions) {
+            String attribute = getRootAttributeName(expression);
+            if (attribute == null) {
+                plan.disable("unsupported join");
+                return null;
+            }
+            fetchGroup.addAttribute(attribute);
+            fetchedRelationships.add(attribute);
+        }
+        for (Expression expression : batchedExpressions) {
+            String attribute = getRootAttributeName(expression);
+            if (attribute == null) {
+                plan.disable("unsupported batch");
+                return null;
+            }
+            fetchGroup.addAttribute(attribute);
+            fetchedRelationships.add(attribute);
+        }
+        ObjectLevelReadQuery tunedQuery = (ObjectLevelReadQuery) query.clone();
+        tunedQuery.setFetchGroup(fetchGroup);
+        // Fetch the accessed relationships of the query results with the query.
+        Set<String> joined = new TreeSet<>();
+        Set<String> batched = new TreeSet<>();
+        ExpressionBuilder builder = tunedQuery.getExpressionBuilder();
+        for (String attribute : attributes) {
+            DatabaseMapping mapping = descriptor.getObjectBuilder().getMappingForAttributeName(attribute);
+            if ((mapping == null) || !mapping.isForeignReferenceMapping() || fetchedRelationships.contains(attribute)) {
+                continue;
+            }
+            ForeignReferenceMapping relationship = (ForeignReferenceMapping) mapping;
+            if (!relationship.usesIndirection() || relationship.isJoinFetched() || relationship.shouldUseBatchReading()) {
+                continue;
+            }
+            if (relationship.isCollectionMapping()) {
+                if (tunedQuery.isReadAllQuery()) {
+                    ReadAllQuery readAllQuery = (ReadAllQuery) tunedQuery;
+                    if (batchedExpressions.isEmpty()) {
+                        readAllQuery.setBatchFetchType(BatchFetchType.IN);
+                    }
+                    readAllQuery.addBatchReadAttribute(attribute);
+                    batched.add(attribute);
+                }
+            } else {
+                tunedQuery.addJoinedAttribute(builder.getAllowingNull(attribute));
+                joined.add(attribute);
+            }
+        }
+        // Publish immutable copies, unless a concurrent execution already built a more recent version.
+        synchronized (plan) {
+            if (version >= plan.builtVersion) {
+                plan.builtVersion = version;
+                plan.joinedAttributes = Collections.unmodifiableSet(joined);
+                plan.batchedAttributes = Collections.unmodifiableSet(batched);
+            }
+        }
+        return tunedQuery;
+    }
+
+    /**
+     * Return the name of the attribute of the query's class at the root of the expression,
+     * or null if the expression is not a path of query keys.
+     */
+    protected String getRootAttributeName(Expression expression) {
+        while (expression instanceof QueryKeyExpression) {
+            QueryKeyExpression queryKey = (QueryKeyExpression) expression;
+            Expression base = queryKey.getBaseExpression();
+            if ((base != null) && base.isExpressionBuilder()) {
+                return queryKey.getName();
+            }
+            expression = base;
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Load all the partial objects returned by the tuned queries in the entity's unit of work with the entity's fetch group.
+     * The objects of a query result are usually accessed alike, loading them together
+     * replaces a query per object with a query per chunk of objects.
+     * Return false if the objects could not be loaded together.
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean loadPartialObjects(TunedEntityFetchGroup fetchGroup, FetchGroupTracker entity) {
+        if (!(entity._persistence_getSession() instanceof UnitOfWorkImpl) || (fetchGroup.getRootEntity() != null)) {
+            return false;
+        }
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) entity._persistence_getSession();
+        Map<TunedEntityFetchGroup, Set<FetchGroupTracker>> partialObjects = (Map<TunedEntityFetchGroup, Set<FetchGroupTracker>>) unitOfWork.getProperties().get(PARTIAL_OBJECTS);
+        // The objects are loaded once, the objects left partial load their own attributes.
+        Set<FetchGroupTracker> objects = (partialObjects == null) ? null : partialObjects.remove(fetchGroup);
+        if (objects == null) {
+            return false;
+        }
+        ClassDescriptor descriptor = unitOfWork.getDescriptor(entity);
+        if ((descriptor == null) || descriptor.hasInheritance()) {
+            return false;
+        }
+        ObjectBuilder objectBuilder = descriptor.getObjectBuilder();
+        List<Object> primaryKeys = new ArrayList<>(objects.size());
+        for (FetchGroupTracker object : objects) {
+            // Skip the objects loaded since they were returned.
+            if (object._persistence_getFetchGroup() != fetchGroup) {
+                continue;
+            }
+            Object primaryKey = objectBuilder.extractPrimaryKeyFromObject(object, unitOfWork, true);
+            if (primaryKey instanceof CacheId) {
+                primaryKeys.add(Arrays.asList(((CacheId) primaryKey).getPrimaryKey()));
+            } else if (primaryKey != null) {
+                primaryKeys.add(primaryKey);
+            }
+        }
+        if (primaryKeys.size() < 2) {
+            return false;
+        }
+        for (int index = 0; index < primaryKeys.size(); index += LOAD_CHUNK_SIZE) {
+            loadObjects(unitOfWork, descriptor, new ArrayList<>(primaryKeys.subList(index, Math.min(index + LOAD_CHUNK_SIZE, primaryKeys.size()))));
+        }
+        return true;
+    }
+
+    /**
+     * Load the objects of the primary keys with all their attributes, composite primary keys are lists of values.
+     */
+    protected void loadObjects(UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor, List<Object> primaryKeys) {
+        ReadAllQuery query = new ReadAllQuery(descriptor.getJavaClass());
+        query.setShouldUseDefaultFetchGroup(false);
+        query.setIsExecutionClone(true);
+        query.addArgument(ForeignReferenceMapping.QUERY_BATCH_PARAMETER);
+        query.addArgumentValue(primaryKeys);
+        query.setSession(unitOfWork);
+        query.setSelectionCriteria(descriptor.buildBatchCriteriaByPK(query.getExpressionBuilder(), query));
+        unitOfWork.executeQuery(query);
+    }
+
+    /**
+     * <p><b>Purpose</b>:
+     * The attributes learned for a query site.
+     */
+    public static class QueryPlan {
+
+        protected final transient FetchGroupTuner tuner;
+        protected final Class<?> referenceClass;
+        protected final String querySite;
+        protected final int maxAttributes;
+        protected final Set<String> mappedAttributes;
+        protected final Set<String> attributes = ConcurrentHashMap.newKeySet();
+        protected final AtomicInteger executions = new AtomicInteger();
+        protected volatile Set<String> joinedAttributes = Set.of();
+        protected volatile Set<String> batchedAttributes = Set.of();
+        protected volatile int version;
+        /** The version of the plan the joined and batched attributes were built for. */
+        protected int builtVersion = -1;
+        protected final int generation;
+        protected volatile int widenings;
+        protected volatile String disabledReason;
+        protected volatile TunedQuery tunedQuery;
+
+        protected QueryPlan(FetchGroupTuner tuner, ClassDescriptor descriptor, String querySite) {
+            this.tuner = tuner;
+            this.referenceClass = descriptor.getJavaClass();
+            this.querySite = querySite;
+            this.mappedAttributes = new TreeSet<>();
+            for (DatabaseMapping mapping : descriptor.getMappings()) {
+                this.mappedAttributes.add(mapping.getAttributeName());
+            }
+            this.maxAttributes = (this.mappedAttributes.size() * tuner.getMaxAttributePercentage()) / 100;
+            this.generation = tuner.generation;
+        }
+
+        /**
+         * PUBLIC:
+         * Return the class queried.
+         */
+        public Class<?> getReferenceClass() {
+            return referenceClass;
+        }
+
+        /**
+         * PUBLIC:
+         * Return the query site: the JPQL string or the name of the query.
+         */
+        public String getQuerySite() {
+            return querySite;
+        }
+
+        /**
+         * PUBLIC:
+         * Return the attributes accessed on the query results, these are fetched by the query.
+         */
+        public Set<String> getAttributes() {
+            return new TreeSet<>(attributes);
+        }
+
+        /**
+         * PUBLIC:
+         * Return the relationships join fetched by the tuned query.
+         */
+        public Set<String> getJoinedAttributes() {
+            return joinedAttributes;
+        }
+
+        /**
+         * PUBLIC:
+         * Return the relationships batch read by the tuned query.
+         */
+        public Set<String> getBatchedAttributes() {
+            return batchedAttributes;
+        }
+
+        /**
+         * PUBLIC:
+         * Return the number of executions of the query site.
+         */
+        public int getExecutions() {
+            return executions.get();
+        }
+
+        /**
+         * PUBLIC:
+         * Return the number of times the plan was widened by an unfetched attribute.
+         */
+        public int getWidenings() {
+            return widenings;
+        }
+
+        /**
+         * PUBLIC:
+         * Return if the query site is no longer tuned.
+         */
+        public boolean isDisabled() {
+            return disabledReason != null;
+        }
+
+        /**
+         * PUBLIC:
+         * Return the reason the query site is no longer tuned, or null.
+         */
+        public String getDisabledReason() {
+            return disabledReason;
+        }
+
+        /**
+         * INTERNAL:
+         * Stop tuning the query site.
+         */
+        public void disable(String reason) {
+            if (this.disabledReason == null) {
+                this.disabledReason = reason;
+            }
+            this.tunedQuery = null;
+        }
+
+        /**
+         * INTERNAL:
+         * Record the access to an attribute that was not fetched by the plan's fetch group.
+         * The attribute is added to the plan for the next executions.
+         */
+        public void recordUnfetchedAttribute(String attributeName) {
+            if (attributeName == null) {
+                return;
+            }
+            FetchGroupMonitor.recordFetchedAttribute(this.referenceClass, attributeName);
+            if (!this.mappedAttributes.contains(attributeName)) {
+                disable("unmapped attribute " + attributeName);
+                return;
+            }
+            synchronized (this) {
+                if (!this.attributes.add(attributeName)) {
+                    return;
+                }
+                this.version++;
+                this.widenings++;
+                if (this.widenings > this.tuner.getMaxWidenings()) {
+                    disable("unstable");
+                } else if (this.attributes.size() > this.maxAttributes) {
+                    disable("not selective");
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(" + referenceClass.getName() + ", " + querySite + ", " + attributes + ")";
+        }
+    }
+
+    /**
+     * The tuned copy of the queries of a query site, for a version of its plan and the settings of the queries.
+     */
+    protected static class TunedQuery {
+        protected final List<Object> settings;
+        protected final ObjectLevelReadQuery query;
+        protected final int version;
+
+        protected TunedQuery(List<Object> settings, ObjectLevelReadQuery query, int version) {
+            this.settings = settings;
+            this.query = query;
+            this.version = version;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Fetch group of a tuned query, sets {@link TunedEntityFetchGroup} on the objects it builds.
+     */
+    public static class TunedFetchGroup extends FetchGroup {
+
+        protected transient QueryPlan plan;
+
+        public TunedFetchGroup(QueryPlan plan) {
+            super("tuned");
+            this.plan = plan;
+        }
+
+        /**
+         * INTERNAL:
+         * Return the plan this fetch group was built from.
+         */
+        public QueryPlan getPlan() {
+            return plan;
+        }
+
+        @Override
+        public EntityFetchGroup getEntityFetchGroup(FetchGroupManager fetchGroupManager) {
+            if ((this.entityFetchGroup == null) && !fetchGroupManager.isFullFetchGroup(this)) {
+                this.entityFetchGroup = new TunedEntityFetchGroup(getAttributeNames(), this.plan);
+            }
+            return this.entityFetchGroup;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Fetch group of the objects built by a tuned query,
+     * records the unfetched attributes accessed in the plan of the query.
+     */
+    public static class TunedEntityFetchGroup extends EntityFetchGroup {
+
+        protected transient QueryPlan plan;
+
+        public TunedEntityFetchGroup(Set<String> attributeNames, QueryPlan plan) {
+            super(attributeNames);
+            this.plan = plan;
+        }
+
+        /**
+         * INTERNAL:
+         * Return the plan this fetch group was built from.
+         */
+        public QueryPlan getPlan() {
+            return plan;
+        }
+
+        @Override
+        public String onUnfetchedAttribute(FetchGroupTracker entity, String attributeName) {
+            if (this.plan != null) {
+                this.plan.recordUnfetchedAttribute(attributeName);
+                if ((entity._persistence_getSession() != null) && this.plan.tuner.loadPartialObjects(this, entity)
+                        && (entity._persistence_getFetchGroup() != this)) {
+                    return null;
+                }
+            }
+            return super.onUnfetchedAttribute(entity, attributeName);
+        }
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DataRecord;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.SessionEventListener;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p><b>Purpose</b>: A profiler that emits JDK Flight Recorder events.
+ * <p>
+ * Unlike the other profilers this profiler does not keep any statistics in memory,
+ * it only creates events that are recorded by the JVM when a flight recording with the
+ * EclipseLink events enabled is running. When no recording is running the cost is a check
+ * of the event state, so the profiler can be left registered in production.
+ * <p>
+ * The following events are emitted, under the "EclipseLink" category:
+ * <ul>
+ * <li>{@link QueryEvent} - query execution, with its SQL and number of rows.
+ * <li>{@link ObjectBuildingEvent} - building of objects from rows, 1 ms threshold by default.
+ * <li>{@link CacheEvent} - cache hits and misses of read queries.
+ * <li>{@link CacheKeyWaitEvent} - waits to acquire a cache key lock.
+ * <li>{@link ConnectionWaitEvent} - waits to acquire a connection from a connection pool.
+ * <li>{@link UnitOfWorkCommitEvent} - the commit of a unit of work, and its phases.
+ * <li>{@link CacheCoordinationEvent} and {@link RemoteCommandEvent} - cache coordination
+ * (RCM) processing, and messages sent and received.
+ * <li>{@link OperationEvent} - the other profiled operations, disabled by default.
+ * </ul>
+ * The profiler is enabled through the persistence unit property "eclipselink.profiler=JfrProfiler",
+ * or by setting it on the session. The events are then enabled with the recording settings,
+ * i.e. {@code jcmd <pid> JFR.start settings=profile}. The jdk.jfr module must be available.
+ *
+ * @see org.eclipse.persistence.config.ProfilerType#JfrProfiler
+ * @since EclipseLink 4.1
+ */
+public class JfrProfiler implements SessionProfiler {
+    protected static final String TIMER = "Timer:";
+
+    /** Maximum number of started operations of a thread, as an operation started without end must not leak. */
+    protected static final int MAX_STARTED_EVENTS = 100;
+
+    /** Profiler notified of the cache key lock waits, shared by all the sessions as the lock waits are. */
+    protected static final JfrProfiler LOCK_WAIT_PROFILER = new JfrProfiler();
+
+    /** The logged in sessions profiled by a JfrProfiler, the lock wait profiler is registered while there are any. */
+    protected static final Set<Session> LOCK_WAIT_SESSIONS = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    protected AbstractSession session;
+    protected int profileWeight;
+    protected final ThreadLocal<ArrayDeque<EclipseLinkEvent>> startedEvents;
+    /** Registers the lock wait profiler on the login of the session, and unregisters it on its logout. */
+    protected SessionEventListener lockWaitListener;
+
+    /**
+     * PUBLIC:
+     * Create a new profiler.
+     * The profiler can be registered with a session to emit flight recorder events.
+     */
+    public JfrProfiler() {
+        this.profileWeight = SessionProfiler.ALL;
+        this.startedEvents = ThreadLocal.withInitial(ArrayDeque::new);
+    }
+
+    public AbstractSession getSession() {
+        return session;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the session, and register the profiler of the cache key lock waits while the session is logged in.
+     */
+    @Override
+    public void setSession(Session session) {
+        this.session = (AbstractSession)session;
+        if ((session != null) && session.isDatabaseSession() && (this.lockWaitListener == null)) {
+            this.lockWaitListener = new SessionEventAdapter() {
+                @Override
+                public void postLogin(SessionEvent event) {
+                    // The session may be profiled by another profiler since.
+                    if (event.getSession().getProfiler() == JfrProfiler.this) {
+                        registerLockWaitSession(event.getSession());
+                    }
+                }
+
+                @Override
+                public void postLogout(SessionEvent event) {
+                    unregisterLockWaitSession(event.getSession());
+                }
+            };
+            session.getEventManager().addListener(this.lockWaitListener);
+            if (session.isConnected()) {
+                registerLockWaitSession(session);
+            }
+        }
+    }
+
+    /**
+     * Register the profiler of the cache key lock waits for the session.
+     */
+    protected static void registerLockWaitSession(Session session) {
+        synchronized (LOCK_WAIT_SESSIONS) {
+            LOCK_WAIT_SESSIONS.add(session);
+            ConcurrencyUtil.SINGLETON.setLockWaitProfiler(LOCK_WAIT_PROFILER);
+        }
+    }
+
+    /**
+     * Unregister the profiler of the cache key lock waits for the session,
+     * the profiler is removed with the last session.
+     */
+    protected static void unregisterLockWaitSession(Session session) {
+        synchronized (LOCK_WAIT_SESSIONS) {
+            if (LOCK_WAIT_SESSIONS.remove(session) && LOCK_WAIT_SESSIONS.isEmpty()
+                    && (ConcurrencyUtil.SINGLETON.getLockWaitProfiler() == LOCK_WAIT_PROFILER)) {
+                ConcurrencyUtil.SINGLETON.setLockWaitProfiler(null);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Emit a query event for the execution of the query.
+     */
+    @Override
+    public Object profileExecutionOfQuery(DatabaseQuery query, DataRecord row, AbstractSession session) {
+        QueryEvent event = new QueryEvent();
+        if (!event.isEnabled()) {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        }
+        event.begin();
+        Object result = null;
+        try {
+            result = session.internalExecuteQuery(query, (AbstractRecord)row);
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.session = session.getName();
+                event.query = query.getMonitorName();
+                event.queryClass = query.getClass().getSimpleName();
+                event.sql = query.getSQLString();
+                event.rows = rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Return the number of rows read or modified by the query.
+     */
+    protected long rows(Object result) {
+        if (result == null) {
+            return 0;
+        } else if (result instanceof Collection) {
+            return ((Collection<?>)result).size();
+        } else if (result instanceof Map) {
+            return ((Map<?, ?>)result).size();
+        } else if (result instanceof Number) {
+            // Row count of a modify query.
+            return ((Number)result).longValue();
+        }
+        return 1;
+    }
+
+    /**
+     * INTERNAL:
+     * Start the event of the operation.
+     */
+    @Override
+    public void startOperationProfile(String operationName) {
+        startOperationProfile(operationName, null, SessionProfiler.NONE);
+    }
+
+    /**
+     * INTERNAL:
+     * Start the event of the operation.
+     */
+    @Override
+    public void startOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        EclipseLinkEvent event = buildEvent(operationName);
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.operationName = operationName;
+        ArrayDeque<EclipseLinkEvent> events = this.startedEvents.get();
+        if (events.size() >= MAX_STARTED_EVENTS) {
+            events.clear();
+        }
+        events.push(event);
+        if (this.session != null) {
+            event.session = this.session.getName();
+        }
+        event.operation = operationName.startsWith(TIMER) ? operationName.substring(TIMER.length()) : operationName;
+        if (query != null) {
+            event.query = query.getMonitorName();
+        }
+        event.begin();
+    }
+
+    /**
+     * INTERNAL:
+     * End the event of the operation, the event is committed if its duration is above the threshold.
+     */
+    @Override
+    public void endOperationProfile(String operationName) {
+        ArrayDeque<EclipseLinkEvent> events = this.startedEvents.get();
+        if (events.isEmpty()) {
+            return;
+        }
+        // Operations may be nested, end the last one started.
+        Iterator<EclipseLinkEvent> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            EclipseLinkEvent event = iterator.next();
+            if (event.operationName.equals(operationName)) {
+                iterator.remove();
+                event.commit();
+                return;
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * End the event of the operation, the event is committed if its duration is above the threshold.
+     */
+    @Override
+    public void endOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        endOperationProfile(operationName);
+    }
+
+    /**
+     * Build the event for the operation.
+     */
+    protected EclipseLinkEvent buildEvent(String operationName) {
+        switch (operationName) {
+            case SessionProfiler.ObjectBuilding:
+                return new ObjectBuildingEvent();
+            case SessionProfiler.CacheKeyWait:
+                return new CacheKeyWaitEvent();
+            case SessionProfiler.ConnectionWait:
+                return new ConnectionWaitEvent();
+            case SessionProfiler.UowCommit:
+            case SessionProfiler.UowCalculateChanges:
+            case SessionProfiler.UowCommitToDatabase:
+            case SessionProfiler.Merge:
+                return new UnitOfWorkCommitEvent();
+            case SessionProfiler.CacheCoordination:
+                return new CacheCoordinationEvent();
+            default:
+                return new OperationEvent();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Emit the event for cache hits and misses, and remote command messages.
+     * The other counters are not emitted.
+     */
+    @Override
+    public void occurred(String operationName, AbstractSession session) {
+        if (SessionProfiler.RcmSent.equals(operationName) || SessionProfiler.RcmReceived.equals(operationName)) {
+            RemoteCommandEvent event = new RemoteCommandEvent();
+            if (event.shouldCommit()) {
+                event.session = session.getName();
+                event.sent = SessionProfiler.RcmSent.equals(operationName);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Emit the event for cache hits and misses, and remote command messages.
+     * The other counters are not emitted.
+     */
+    @Override
+    public void occurred(String operationName, DatabaseQuery query, AbstractSession session) {
+        if (SessionProfiler.CacheHits.equals(operationName) || SessionProfiler.CacheMisses.equals(operationName)) {
+            CacheEvent event = new CacheEvent();
+            if (event.shouldCommit()) {
+                event.session = session.getName();
+                event.query = query.getMonitorName();
+                event.entityClass = query.getReferenceClassName();
+                event.hit = SessionProfiler.CacheHits.equals(operationName);
+                event.commit();
+            }
+        } else {
+            occurred(operationName, session);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Values are not emitted.
+     */
+    @Override
+    public void update(String operationName, Object value) {
+    }
+
+    /**
+     * Set the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     * The events of the operations with a higher weight are not emitted.
+     */
+    @Override
+    public void setProfileWeight(int profileWeight) {
+        this.profileWeight = profileWeight;
+    }
+
+    /**
+     * Return the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     */
+    @Override
+    public int getProfileWeight() {
+        return profileWeight;
+    }
+
+    @Override
+    public void initialize() {
+    }
+
+    /**
+     * Base of the events of the profiled operations.
+     */
+    @Category("EclipseLink")
+    public abstract static class EclipseLinkEvent extends Event {
+        @Label("Session")
+        public String session;
+
+        @Label("Operation")
+        public String operation;
+
+        @Label("Query")
+        public String query;
+
+        /** Name of the profiled operation, to match the end of the operation. */
+        transient String operationName;
+    }
+
+    @Name("org.eclipse.persistence.Query")
+    @Label("Query")
+    @Category({"EclipseLink", "Query"})
+    @Description("Execution of a query by a session")
+    public static class QueryEvent extends Event {
+        @Label("Session")
+        public String session;
+
+        @Label("Query")
+        public String query;
+
+        @Label("Query Class")
+        public String queryClass;
+
+        @Label("SQL")
+        public String sql;
+
+        @Label("Rows")
+        @Description("Number of rows or objects read, or of rows modified")
+        public long rows;
+    }
+
+    @Name("org.eclipse.persistence.ObjectBuilding")
+    @Label("Object Building")
+    @Category({"EclipseLink", "Query"})
+    @Description("Building of objects from the rows of a query")
+    @Threshold("1 ms")
+    public static class ObjectBuildingEvent extends EclipseLinkEvent {
+    }
+
+    @Name("org.eclipse.persistence.Cache")
+    @Label("Cache Access")
+    @Category({"EclipseLink", "Cache"})
+    @Description("Cache hit or miss of a read query")
+    public static class CacheEvent extends Event {
+        @Label("Session")
+        public String session;
+
+        @Label("Query")
+        public String query;
+
+        @Label("Entity Class")
+        public String entityClass;
+
+        @Label("Hit")
+        public boolean hit;
+    }
+
+    @Name("org.eclipse.persistence.CacheKeyWait")
+    @Label("Cache Key Wait")
+    @Category({"EclipseLink", "Cache"})
+    @Description("Wait to acquire the lock of a cache key held by another thread")
+    public static class CacheKeyWaitEvent extends EclipseLinkEvent {
+    }
+
+    @Name("org.eclipse.persistence.ConnectionWait")
+    @Label("Connection Wait")
+    @Category({"EclipseLink", "Connection"})
+    @Description("Wait to acquire a connection from an exhausted connection pool")
+    public static class ConnectionWaitEvent extends EclipseLinkEvent {
+    }
+
+    @Name("org.eclipse.persistence.UnitOfWorkCommit")
+    @Label("Unit of Work Commit")
+    @Category({"EclipseLink", "Transaction"})
+    @Description("Commit of a unit of work, or phase of the commit given by the operation")
+    public static class UnitOfWorkCommitEvent extends EclipseLinkEvent {
+    }
+
+    @Name("org.eclipse.persistence.CacheCoordination")
+    @Label("Cache Coordination")
+    @Category({"EclipseLink", "Cache Coordination"})
+    @Description("Propagation or processing of a cache coordination command")
+    public static class CacheCoordinationEvent extends EclipseLinkEvent {
+    }
+
+    @Name("org.eclipse.persistence.RemoteCommand")
+    @Label("Remote Command")
+    @Category({"EclipseLink", "Cache Coordination"})
+    @Description("Cache coordination message sent or received")
+    public static class RemoteCommandEvent extends Event {
+        @Label("Session")
+        public String session;
+
+        @Label("Sent")
+        public boolean sent;
+    }
+
+    @Name("org.eclipse.persistence.Operation")
+    @Label("Operation")
+    @Category("EclipseLink")
+    @Description("Other profiled operation")
+    @Enabled(false)
+    public static class OperationEvent extends EclipseLinkEvent {
+    }
+}
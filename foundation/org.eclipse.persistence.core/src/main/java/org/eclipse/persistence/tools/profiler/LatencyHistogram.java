@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p><b>Purpose</b>: Lock free histogram of latencies, in nanoseconds.
+ * <p>
+ * The values are counted in logarithmic buckets, each power of two is divided in
+ * {@value #SUB_BUCKETS} buckets, so the percentiles are within 12.5% of the exact values.
+ * Recording a value is a few atomic increments, the histogram has a fixed size.
+ *
+ * @see MetricsProfiler
+ * @since EclipseLink 4.1
+ */
+public class LatencyHistogram {
+    protected static final int SUB_BUCKET_BITS = 3;
+    protected static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    protected static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    protected final AtomicLongArray buckets;
+    protected final LongAdder total;
+    protected final LongAccumulator max;
+
+    public LatencyHistogram() {
+        this.buckets = new AtomicLongArray(BUCKETS);
+        this.total = new LongAdder();
+        this.max = new LongAccumulator(Long::max, 0L);
+    }
+
+    /**
+     * Record the latency.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        this.buckets.incrementAndGet(bucket(nanos));
+        this.total.add(nanos);
+        this.max.accumulate(nanos);
+    }
+
+    /**
+     * Return the index of the bucket of the value.
+     */
+    protected static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int)value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int)((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Return the highest value of the bucket.
+     */
+    protected static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long)(SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * Return the number of recorded latencies.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            count += this.buckets.get(index);
+        }
+        return count;
+    }
+
+    /**
+     * Return the sum of the recorded latencies.
+     */
+    public long getTotal() {
+        return this.total.sum();
+    }
+
+    /**
+     * Return the highest recorded latency.
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Return the mean of the recorded latencies.
+     */
+    public long getMean() {
+        long count = getCount();
+        return (count == 0) ? 0 : getTotal() / count;
+    }
+
+    /**
+     * Return the latency below which the percentage of the recorded latencies are,
+     * i.e. 99.9 for the p999 latency.
+     * The value is the upper bound of its bucket, limited to the highest recorded latency.
+     */
+    public long getPercentile(double percentage) {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            counts[index] = this.buckets.get(index);
+            count += counts[index];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long)Math.ceil(count * percentage / 100));
+        long seen = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(index), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(count=" + getCount() + ", p50=" + getPercentile(50)
+                + ", p99=" + getPercentile(99) + ", p999=" + getPercentile(99.9) + ", max=" + getMax() + ")";
+    }
+}
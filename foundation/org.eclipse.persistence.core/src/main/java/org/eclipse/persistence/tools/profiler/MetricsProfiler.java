@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DataRecord;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p><b>Purpose</b>: A low overhead profiler that keeps counters and latency histograms.
+ * <p>
+ * The counters are {@link LongAdder}s and the latencies are recorded in lock free
+ * {@link LatencyHistogram}s, giving the p50/p99/p999 latencies by operation, query and
+ * descriptor (reference class of the query). Nothing is synchronized when profiling, so
+ * the profiler can be left on in production. The number of query and descriptor metrics is
+ * bounded by the max metrics, the metrics of additional queries and descriptors are
+ * aggregated under the {@value #OTHER} name.
+ * <p>
+ * The metrics can be read with the methods of this class, or through the RuntimeServices MBean.
+ * The profiler is enabled through the persistence unit property "eclipselink.profiler=MetricsProfiler",
+ * or by setting it on the session.
+ *
+ * @see org.eclipse.persistence.config.ProfilerType#MetricsProfiler
+ * @see org.eclipse.persistence.services.RuntimeServices#getLatencyMetrics()
+ * @since EclipseLink 4.1
+ */
+public class MetricsProfiler implements SessionProfiler {
+    protected static final String COUNTER = "Counter:";
+    protected static final String TIMER = "Timer:";
+
+    /** Operation of the execution of a query. */
+    public static final String QUERY_EXECUTION = "Timer:QueryExecution";
+    /** Name of the metrics of the queries and descriptors above the max metrics. */
+    public static final String OTHER = "Other";
+    public static final int DEFAULT_MAX_METRICS = 1000;
+
+    protected AbstractSession session;
+    protected int profileWeight;
+    protected int maxMetrics;
+    protected final AtomicInteger numberOfMetrics;
+    /** Latencies by operation. */
+    protected final Map<String, LatencyHistogram> operationLatencies;
+    /** Latencies by operation and query. */
+    protected final Map<String, Map<String, LatencyHistogram>> queryLatencies;
+    /** Latencies by operation and descriptor. */
+    protected final Map<String, Map<String, LatencyHistogram>> descriptorLatencies;
+    /** Counts by operation. */
+    protected final Map<String, LongAdder> counters;
+    /** Counts by operation and query. */
+    protected final Map<String, Map<String, LongAdder>> queryCounters;
+    /** Last value of the updated values. */
+    protected final Map<String, Object> values;
+    protected final ThreadLocal<OperationStack> startedOperations;
+
+    /**
+     * PUBLIC:
+     * Create a new profiler.
+     * The profiler can be registered with a session to record the metrics of its operations.
+     */
+    public MetricsProfiler() {
+        this.profileWeight = SessionProfiler.ALL;
+        this.maxMetrics = DEFAULT_MAX_METRICS;
+        this.numberOfMetrics = new AtomicInteger();
+        this.operationLatencies = new ConcurrentHashMap<>();
+        this.queryLatencies = new ConcurrentHashMap<>();
+        this.descriptorLatencies = new ConcurrentHashMap<>();
+        this.counters = new ConcurrentHashMap<>();
+        this.queryCounters = new ConcurrentHashMap<>();
+        this.values = new ConcurrentHashMap<>();
+        this.startedOperations = ThreadLocal.withInitial(OperationStack::new);
+    }
+
+    /**
+     * Return the maximum number of query and descriptor metrics.
+     */
+    public int getMaxMetrics() {
+        return maxMetrics;
+    }
+
+    /**
+     * Set the maximum number of query and descriptor metrics.
+     */
+    public void setMaxMetrics(int maxMetrics) {
+        this.maxMetrics = maxMetrics;
+    }
+
+    public AbstractSession getSession() {
+        return session;
+    }
+
+    @Override
+    public void setSession(Session session) {
+        this.session = (AbstractSession)session;
+    }
+
+    /**
+     * INTERNAL:
+     * Record the latency of the query execution.
+     */
+    @Override
+    public Object profileExecutionOfQuery(DatabaseQuery query, DataRecord row, AbstractSession session) {
+        if (this.profileWeight < SessionProfiler.NORMAL) {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        }
+        long start = System.nanoTime();
+        try {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        } finally {
+            record(QUERY_EXECUTION, query, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the latency of the operation by operation, query and descriptor.
+     */
+    public void record(String operationName, DatabaseQuery query, long nanos) {
+        LatencyHistogram latencies = this.operationLatencies.get(operationName);
+        if (latencies == null) {
+            latencies = this.operationLatencies.computeIfAbsent(operationName, name -> new LatencyHistogram());
+        }
+        latencies.record(nanos);
+        if (query != null) {
+            getMetric(this.queryLatencies, operationName, query.getMonitorName(), LatencyHistogram::new).record(nanos);
+            String className = query.getReferenceClassName();
+            if (className != null) {
+                getMetric(this.descriptorLatencies, operationName, className, LatencyHistogram::new).record(nanos);
+            }
+        }
+    }
+
+    /**
+     * Return the metric of the operation for the query or descriptor name,
+     * or the {@value #OTHER} metric of the operation if the max metrics is reached.
+     */
+    protected <T> T getMetric(Map<String, Map<String, T>> metrics, String operationName, String name, Supplier<T> factory) {
+        Map<String, T> metricsByName = metrics.get(operationName);
+        if (metricsByName == null) {
+            metricsByName = metrics.computeIfAbsent(operationName, operation -> new ConcurrentHashMap<>());
+        } else {
+            T metric = metricsByName.get(name);
+            if (metric != null) {
+                return metric;
+            }
+        }
+        if (this.numberOfMetrics.get() >= this.maxMetrics) {
+            name = OTHER;
+        }
+        return metricsByName.computeIfAbsent(name, key -> {
+            this.numberOfMetrics.incrementAndGet();
+            return factory.get();
+        });
+    }
+
+    /**
+     * INTERNAL:
+     * Start the operation timing.
+     */
+    @Override
+    public void startOperationProfile(String operationName) {
+        this.startedOperations.get().push(operationName, null, System.nanoTime());
+    }
+
+    /**
+     * INTERNAL:
+     * Start the operation timing.
+     */
+    @Override
+    public void startOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        this.startedOperations.get().push(operationName, query, System.nanoTime());
+    }
+
+    /**
+     * INTERNAL:
+     * End the operation timing.
+     */
+    @Override
+    public void endOperationProfile(String operationName) {
+        long end = System.nanoTime();
+        OperationStack operations = this.startedOperations.get();
+        int index = operations.indexOf(operationName);
+        if (index < 0) {
+            return;
+        }
+        DatabaseQuery query = operations.queries[index];
+        long start = operations.startTimes[index];
+        operations.remove(index);
+        record(operationName, query, end - start);
+    }
+
+    /**
+     * INTERNAL:
+     * End the operation timing.
+     */
+    @Override
+    public void endOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        endOperationProfile(operationName);
+    }
+
+    /**
+     * INTERNAL:
+     * Increment the counter of the operation.
+     */
+    @Override
+    public void occurred(String operationName, AbstractSession session) {
+        if (this.profileWeight < SessionProfiler.NORMAL) {
+            return;
+        }
+        LongAdder counter = this.counters.get(operationName);
+        if (counter == null) {
+            counter = this.counters.computeIfAbsent(operationName, name -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * INTERNAL:
+     * Increment the counters of the operation and of the operation for the query.
+     */
+    @Override
+    public void occurred(String operationName, DatabaseQuery query, AbstractSession session) {
+        if (this.profileWeight < SessionProfiler.NORMAL) {
+            return;
+        }
+        occurred(operationName, session);
+        getMetric(this.queryCounters, operationName, query.getMonitorName(), LongAdder::new).increment();
+    }
+
+    @Override
+    public void update(String operationName, Object value) {
+        this.values.put(operationName, value);
+    }
+
+    /**
+     * Set the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     */
+    @Override
+    public void setProfileWeight(int profileWeight) {
+        this.profileWeight = profileWeight;
+    }
+
+    /**
+     * Return the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     */
+    @Override
+    public int getProfileWeight() {
+        return profileWeight;
+    }
+
+    @Override
+    public void initialize() {
+    }
+
+    /**
+     * PUBLIC:
+     * Return the latencies by operation.
+     */
+    public Map<String, LatencyHistogram> getOperationLatencies() {
+        return operationLatencies;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the latencies by operation, then by query monitor name.
+     */
+    public Map<String, Map<String, LatencyHistogram>> getQueryLatencies() {
+        return queryLatencies;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the latencies by operation, then by descriptor class name.
+     */
+    public Map<String, Map<String, LatencyHistogram>> getDescriptorLatencies() {
+        return descriptorLatencies;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the value of the counters by operation,
+     * and by operation for the queries as "Counter:&lt;query monitor name&gt;:&lt;operation&gt;".
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> counter : this.counters.entrySet()) {
+            result.put(counter.getKey(), counter.getValue().sum());
+        }
+        for (Map.Entry<String, Map<String, LongAdder>> operation : this.queryCounters.entrySet()) {
+            String operationName = operation.getKey().startsWith(COUNTER) ? operation.getKey().substring(COUNTER.length()) : operation.getKey();
+            for (Map.Entry<String, LongAdder> counter : operation.getValue().entrySet()) {
+                result.put(COUNTER + counter.getKey() + ":" + operationName, counter.getValue().sum());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the last values of the updated values, i.e. the connection pool sizes.
+     */
+    public Map<String, Object> getValues() {
+        return values;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the latency metrics as rows of
+     * ["Type", "Name", "Operation", "Count", "Mean", "p50", "p99", "p999", "Max"],
+     * with the latencies in nanoseconds. The type is "Operation", "Query" or "Descriptor".
+     */
+    public List<Object[]> buildLatencyMetrics() {
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> latencies : new TreeMap<>(this.operationLatencies).entrySet()) {
+            rows.add(buildLatencyRow("Operation", "", latencies.getKey(), latencies.getValue()));
+        }
+        addLatencyRows(rows, "Query", this.queryLatencies);
+        addLatencyRows(rows, "Descriptor", this.descriptorLatencies);
+        return rows;
+    }
+
+    protected void addLatencyRows(List<Object[]> rows, String type, Map<String, Map<String, LatencyHistogram>> metrics) {
+        for (Map.Entry<String, Map<String, LatencyHistogram>> operation : new TreeMap<>(metrics).entrySet()) {
+            for (Map.Entry<String, LatencyHistogram> latencies : new TreeMap<>(operation.getValue()).entrySet()) {
+                rows.add(buildLatencyRow(type, latencies.getKey(), operation.getKey(), latencies.getValue()));
+            }
+        }
+    }
+
+    protected Object[] buildLatencyRow(String type, String name, String operationName, LatencyHistogram latencies) {
+        String operation = operationName.startsWith(TIMER) ? operationName.substring(TIMER.length()) : operationName;
+        return new Object[] {type, name, operation, latencies.getCount(), latencies.getMean(),
+                latencies.getPercentile(50), latencies.getPercentile(99), latencies.getPercentile(99.9), latencies.getMax()};
+    }
+
+    /**
+     * PUBLIC:
+     * Return a summary of the latencies and counters.
+     */
+    public String buildSummary() {
+        StringWriter writer = new StringWriter();
+        writer.write("\nMetrics Profiler:");
+        writer.write("\nType\tName\tOperation\tCount\tMean (ns)\tp50 (ns)\tp99 (ns)\tp999 (ns)\tMax (ns)\n");
+        for (Object[] row : buildLatencyMetrics()) {
+            for (int index = 0; index < row.length; index++) {
+                if (index > 0) {
+                    writer.write("\t");
+                }
+                writer.write(String.valueOf(row[index]));
+            }
+            writer.write("\n");
+        }
+        writer.write("Counter\tValue\n");
+        for (Map.Entry<String, Long> counter : getCounters().entrySet()) {
+            writer.write(counter.getKey());
+            writer.write("\t");
+            writer.write(String.valueOf(counter.getValue()));
+            writer.write("\n");
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Log the summary of the metrics to the session's log.
+     */
+    public void dumpResults() {
+        try {
+            this.session.getLog().write(buildSummary());
+            this.session.getLog().flush();
+        } catch (IOException error) {
+            // ignore
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Clear the metrics.
+     */
+    public void reset() {
+        this.operationLatencies.clear();
+        this.queryLatencies.clear();
+        this.descriptorLatencies.clear();
+        this.counters.clear();
+        this.queryCounters.clear();
+        this.values.clear();
+        this.numberOfMetrics.set(0);
+    }
+
+    /**
+     * Operations started by a thread, reused to avoid allocations when profiling.
+     */
+    protected static class OperationStack {
+        /** Maximum number of started operations, as an operation started without end must not leak. */
+        protected static final int MAX_SIZE = 100;
+
+        protected String[] operationNames = new String[8];
+        protected DatabaseQuery[] queries = new DatabaseQuery[8];
+        protected long[] startTimes = new long[8];
+        protected int size;
+
+        protected void push(String operationName, DatabaseQuery query, long startTime) {
+            if (this.size == this.operationNames.length) {
+                if (this.size >= MAX_SIZE) {
+                    clear();
+                } else {
+                    int length = this.size * 2;
+                    this.operationNames = Arrays.copyOf(this.operationNames, length);
+                    this.queries = Arrays.copyOf(this.queries, length);
+                    this.startTimes = Arrays.copyOf(this.startTimes, length);
+                }
+            }
+            this.operationNames[this.size] = operationName;
+            this.queries[this.size] = query;
+            this.startTimes[this.size] = startTime;
+            this.size++;
+        }
+
+        /**
+         * Return the index of the last started operation of the name, -1 if none.
+         */
+        protected int indexOf(String operationName) {
+            for (int index = this.size - 1; index >= 0; index--) {
+                if (this.operationNames[index].equals(operationName)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        protected void remove(int index) {
+            this.size--;
+            for (int next = index; next < this.size; next++) {
+                this.operationNames[next] = this.operationNames[next + 1];
+                this.queries[next] = this.queries[next + 1];
+                this.startTimes[next] = this.startTimes[next + 1];
+            }
+            this.operationNames[this.size] = null;
+            this.queries[this.size] = null;
+        }
+
+        protected void clear() {
+            Arrays.fill(this.operationNames, null);
+            Arrays.fill(this.queries, null);
+            this.size = 0;
+        }
+    }
+}
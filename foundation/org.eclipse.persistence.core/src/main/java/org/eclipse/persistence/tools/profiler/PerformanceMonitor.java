@@ -24,7 +24,11 @@
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.text.NumberFormat;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
@@ -125,6 +129,52 @@ public void dumpResults() {
         }
     }
 
+    /**
+     * Return the number of lazy loads by relationship query, most loaded first.
+     * Each lazy load executes a query for a single object, relationships loaded many
+     * times are N+1 query hotspots that batch fetching should load together.
+     * @see org.eclipse.persistence.sessions.Project#setAutomaticBatchFetchSize(int)
+     */
+    public Map<String, Long> getLazyLoadHotspots() {
+        String suffix = ":" + SessionProfiler.LazyLoads.substring(COUNTER.length());
+        List<Map.Entry<String, Long>> hotspots = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : this.operationTimings.entrySet()) {
+            String operation = entry.getKey();
+            if (operation.startsWith(COUNTER) && operation.endsWith(suffix)
+                    && (operation.length() > COUNTER.length() + suffix.length()) && (entry.getValue() instanceof Long)) {
+                String query = operation.substring(COUNTER.length(), operation.length() - suffix.length());
+                hotspots.add(new AbstractMap.SimpleEntry<>(query, (Long)entry.getValue()));
+            }
+        }
+        hotspots.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> hotspot : hotspots) {
+            result.put(hotspot.getKey(), hotspot.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Log the lazy loads by relationship query to the session's log (System.out), most loaded first.
+     */
+    public void dumpLazyLoadHotspots() {
+        StringWriter writer = new StringWriter();
+        writer.write("\nLazy Load Hotspots:");
+        writer.write("\nQuery\tLazy loads\n");
+        for (Map.Entry<String, Long> hotspot : getLazyLoadHotspots().entrySet()) {
+            writer.write(hotspot.getKey());
+            writer.write("\t");
+            writer.write(String.valueOf(hotspot.getValue()));
+            writer.write("\n");
+        }
+        try {
+            this.session.getLog().write(writer.toString());
+            this.session.getLog().flush();
+        } catch (IOException error) {
+            // ignore
+        }
+    }
+
     /**
      * INTERNAL:
      * End the operation timing.
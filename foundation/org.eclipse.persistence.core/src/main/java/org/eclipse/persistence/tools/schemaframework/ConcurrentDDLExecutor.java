@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.schemaframework;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * INTERNAL:
+ * <p>
+ * <b>Purpose</b>: Execute the DDL of a set of tables on several threads.
+ * <p>
+ * The DDL is executed in dependency order, each step waits for the previous one:
+ * <ol>
+ * <li>the tables, which do not depend on each other as their constraints are created after them,
+ * <li>the unique constraints, which foreign key constraints may reference,
+ * <li>the foreign key constraints. The tables linked by foreign keys are grouped, and the
+ * constraints of a group are created by one thread, so two threads never lock the same tables.
+ * </ol>
+ * The threads are launched through the session's server platform, and each statement is
+ * executed on a pooled connection of the session, which must be a ServerSession.
+ *
+ * @see SchemaManager#setDDLThreads(int)
+ * @since EclipseLink 4.1
+ */
+final class ConcurrentDDLExecutor {
+
+    private final SchemaManager schemaManager;
+    private final AbstractSession session;
+    private final int threads;
+    private final boolean ignoreDatabaseException;
+
+    ConcurrentDDLExecutor(SchemaManager schemaManager, boolean ignoreDatabaseException) {
+        this.schemaManager = schemaManager;
+        this.session = schemaManager.getSession();
+        this.threads = schemaManager.getDDLThreads();
+        this.ignoreDatabaseException = ignoreDatabaseException;
+    }
+
+    /**
+     * Create the tables, then their constraints.
+     */
+    void createTablesAndConstraints(List<TableDefinition> tables) {
+        boolean usesBatchWriting = session.getPlatform().usesBatchWriting();
+        if (usesBatchWriting) {
+            session.getPlatform().setUsesBatchWriting(false);
+        }
+        try {
+            createTables(tables);
+            createConstraints(tables);
+        } finally {
+            if (usesBatchWriting) {
+                session.getPlatform().setUsesBatchWriting(true);
+            }
+        }
+    }
+
+    private void createTables(List<TableDefinition> tables) {
+        List<Runnable> tasks = new ArrayList<>(tables.size());
+        for (final TableDefinition table : tables) {
+            // database schemas are shared by tables, so they are created first
+            schemaManager.createDatabaseSchemaOnDatabase(table);
+            tasks.add(() -> {
+                try {
+                    schemaManager.createObjectOnDatabase(table);
+                    session.getSessionLog().log(SessionLog.FINEST, SessionLog.DDL, "default_tables_created", table.getFullName());
+                } catch (DatabaseException ex) {
+                    session.getSessionLog().log(SessionLog.FINEST, SessionLog.DDL, "default_tables_already_existed", table.getFullName());
+                    throw ex;
+                }
+            });
+        }
+        execute(tasks);
+    }
+
+    private void createConstraints(List<TableDefinition> tables) {
+        List<Runnable> tasks = new ArrayList<>(tables.size());
+        for (final TableDefinition table : tables) {
+            tasks.add(() -> schemaManager.createUniqueConstraints(table));
+        }
+        execute(tasks);
+
+        tasks.clear();
+        for (final List<TableDefinition> group : groupByForeignKeys(tables)) {
+            tasks.add(() -> {
+                for (TableDefinition table : group) {
+                    try {
+                        schemaManager.createForeignConstraints(table);
+                    } catch (DatabaseException ex) {
+                        if (!ignoreDatabaseException) {
+                            throw ex;
+                        }
+                    }
+                }
+            });
+        }
+        execute(tasks);
+    }
+
+    /**
+     * Return the tables grouped with the tables their foreign keys reference, directly or not.
+     */
+    static List<List<TableDefinition>> groupByForeignKeys(List<TableDefinition> tables) {
+        Map<String, String> parents = new HashMap<>();
+        for (TableDefinition table : tables) {
+            String name = table.getFullName().toUpperCase();
+            // the foreign keys may reference the table with or without its qualifier
+            union(parents, name, table.getName().toUpperCase());
+            for (ForeignKeyConstraint foreignKey : table.getForeignKeyMap().values()) {
+                if (foreignKey.getTargetTable() != null) {
+                    union(parents, name, foreignKey.getTargetTable().toUpperCase());
+                }
+            }
+        }
+        Map<String, List<TableDefinition>> groups = new LinkedHashMap<>();
+        for (TableDefinition table : tables) {
+            groups.computeIfAbsent(find(parents, table.getFullName().toUpperCase()), key -> new ArrayList<>()).add(table);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static String find(Map<String, String> parents, String name) {
+        String root = name;
+        String parent;
+        while ((parent = parents.get(root)) != null) {
+            root = parent;
+        }
+        // point the path directly to the root, so later lookups are short
+        while (!name.equals(root)) {
+            parent = parents.put(name, root);
+            name = parent;
+        }
+        return root;
+    }
+
+    private static void union(Map<String, String> parents, String name, String otherName) {
+        String root = find(parents, name);
+        String otherRoot = find(parents, otherName);
+        if (!root.equals(otherRoot)) {
+            parents.put(otherRoot, root);
+        }
+    }
+
+    /**
+     * Run the tasks on the threads and wait for them to complete. A DatabaseException stops
+     * the remaining tasks and is thrown, unless database exceptions are ignored.
+     */
+    private void execute(List<Runnable> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        final Queue<Runnable> queue = new ConcurrentLinkedQueue<>(tasks);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        int workers = Math.min(this.threads, tasks.size());
+        final CountDownLatch done = new CountDownLatch(workers);
+        for (int index = 0; index < workers; index++) {
+            session.getServerPlatform().launchContainerRunnable(() -> {
+                try {
+                    Runnable task;
+                    while ((failure.get() == null) && ((task = queue.poll()) != null)) {
+                        try {
+                            task.run();
+                        } catch (DatabaseException ex) {
+                            if (!ignoreDatabaseException) {
+                                failure.compareAndSet(null, ex);
+                            }
+                        }
+                    }
+                } catch (RuntimeException ex) {
+                    failure.compareAndSet(null, ex);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        try {
+            done.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ConcurrencyException.waitWasInterrupted(ex.getMessage());
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -25,7 +25,9 @@
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.EclipseLinkException;
 import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.sequencing.Sequencing;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
@@ -34,11 +36,17 @@
 import org.eclipse.persistence.sequencing.DefaultSequence;
 import org.eclipse.persistence.sequencing.NativeSequence;
 import org.eclipse.persistence.sequencing.Sequence;
+import org.eclipse.persistence.sessions.server.ServerSession;
 
 import java.io.Writer;
 import java.net.URL;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
 
@@ -71,6 +79,14 @@ public class SchemaManager {
     protected HashSet<String> createdDatabaseSchemasOnDatabase = new HashSet<>();
     protected HashMap<String, DatabaseObjectDefinition> dropDatabaseSchemas = new HashMap<>();
 
+    /** Number of threads that execute the DDL of the tables concurrently, 1 executes it one statement at a time. */
+    protected int ddlThreads = 1;
+    /** Flag to determine if the existing tables are read from the JDBC metadata, instead of checking each table with a query. */
+    protected boolean compareWithDatabaseMetadata = false;
+
+    /** The table types read from the JDBC metadata. */
+    private static final String[] TABLE_TYPES = { "TABLE" };
+
     public SchemaManager(DatabaseSessionImpl session) {
         this.session = session;
     }
@@ -244,6 +260,28 @@ public void createObject(DatabaseObjectDefinition databaseObjectDefinition) thro
         }
     }
 
+    /**
+     * INTERNAL:
+     * Create the database schema of the definition on the database, if it was not already created.
+     * Must be called before the definition is created with {@link #createObjectOnDatabase(DatabaseObjectDefinition)}.
+     */
+    void createDatabaseSchemaOnDatabase(DatabaseObjectDefinition databaseObjectDefinition) throws EclipseLinkException {
+        if (shouldCreateDatabaseSchema(databaseObjectDefinition, createdDatabaseSchemasOnDatabase)) {
+            databaseObjectDefinition.createDatabaseSchemaOnDatabase(getSession(), createdDatabaseSchemasOnDatabase);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Create the definition on the database. Unlike {@link #createObject(DatabaseObjectDefinition)}
+     * this does not change the session's platform, so it may be called by several threads,
+     * the caller must disable batch writing.
+     */
+    void createObjectOnDatabase(DatabaseObjectDefinition databaseObjectDefinition) throws EclipseLinkException {
+        databaseObjectDefinition.createOnDatabase(getSession());
+        databaseObjectDefinition.postCreateObject(getSession(), null, createSQLFiles);
+    }
+
     /**
      * Create all the receiver's sequences on the database for all of the loaded descriptors.
      */
@@ -263,6 +301,52 @@ public void setCreateSQLFiles(boolean genFlag) {
         this.createSQLFiles = genFlag;
     }
 
+    /**
+     * PUBLIC:
+     * Return the number of threads that execute the DDL of the tables concurrently.
+     */
+    public int getDDLThreads() {
+        return ddlThreads;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of threads that execute the DDL of the tables concurrently, default is 1.
+     * The tables are created first, then their unique constraints, then their foreign key constraints,
+     * the foreign key constraints of tables that reference each other are created by the same thread.
+     * Only used when writing to the database through a ServerSession, each statement is executed
+     * on a pooled connection. Other sessions have a single connection and execute one statement at a time.
+     */
+    public void setDDLThreads(int ddlThreads) {
+        this.ddlThreads = ddlThreads;
+    }
+
+    /**
+     * PUBLIC:
+     * Return true if the existing tables are read from the JDBC metadata.
+     */
+    public boolean shouldCompareWithDatabaseMetadata() {
+        return compareWithDatabaseMetadata;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the tables that already exist are read once from the JDBC metadata, so only
+     * the missing tables and their constraints are created. By default each table is checked
+     * with a query before it is created.
+     */
+    public void setCompareWithDatabaseMetadata(boolean compareWithDatabaseMetadata) {
+        this.compareWithDatabaseMetadata = compareWithDatabaseMetadata;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if the DDL of the tables is executed on several threads.
+     */
+    boolean shouldExecuteDDLConcurrently() {
+        return (this.ddlThreads > 1) && shouldWriteToDatabase() && getSession().isServerSession();
+    }
+
     /**
      * Drop and recreate all the receiver's sequences on the database for all of the loaded descriptors.
      */
@@ -478,6 +562,114 @@ public boolean checkTableExists(TableDefinition table) {
         return checkTableExists(table, true);
     }
 
+    /**
+     * Return the full names of the given tables that exist on the database.
+     * The tables are read from the JDBC metadata, once for the current schema
+     * and once for each schema the tables are qualified with.
+     * @param tables database tables meta-data
+     * @return full names of the tables that exist
+     */
+    public Set<String> readExistingTables(Collection<TableDefinition> tables) throws DatabaseException {
+        final Map<String, Set<String>> tableNamesBySchema = new HashMap<>();
+        final Set<String> existingTables = new HashSet<>();
+        // The accessor of a ServerSession is shared by its connection pool, so use a connection of its own.
+        final boolean isServerSession = getSession().isServerSession();
+        final Accessor accessor = isServerSession ? ((ServerSession) getSession()).allocateReadConnection() : getSession().getAccessor();
+        try {
+            for (TableDefinition table : tables) {
+                String qualifier = table.getTable() == null ? table.getQualifier() : table.getTable().getTableQualifier();
+                if (qualifier == null) {
+                    qualifier = "";
+                }
+                Set<String> tableNames = tableNamesBySchema.get(qualifier);
+                if (tableNames == null) {
+                    tableNames = readTableNames(accessor, qualifier);
+                    tableNamesBySchema.put(qualifier, tableNames);
+                }
+                String tableName = table.getTable() == null ? table.getName() : table.getTable().getName();
+                if (tableNames.contains(tableName.toUpperCase())) {
+                    existingTables.add(table.getFullName());
+                }
+            }
+        } finally {
+            if (isServerSession) {
+                getSession().releaseReadConnection(accessor);
+            }
+        }
+        return existingTables;
+    }
+
+    /**
+     * Return the upper case names of the tables of the qualifier, or of the current schema if empty.
+     * The qualifier is a schema, a catalog and a schema separated by a dot, or a catalog
+     * on databases without schemas such as MySQL.
+     */
+    private Set<String> readTableNames(Accessor accessor, String qualifier) throws DatabaseException {
+        List<AbstractRecord> tableInfo;
+        if (qualifier.length() == 0) {
+            tableInfo = accessor.getTableInfo(null, TABLE_TYPES, getSession());
+        } else {
+            final DatabaseMetaData metaData;
+            final boolean usesCatalogs;
+            final String escape;
+            try {
+                metaData = accessor.getConnection().getMetaData();
+                usesCatalogs = !metaData.supportsSchemasInTableDefinitions() && metaData.supportsCatalogsInTableDefinitions();
+                escape = metaData.getSearchStringEscape();
+            } catch (SQLException exception) {
+                throw DatabaseException.sqlException(exception, getSession(), false);
+            }
+            // the metadata is case sensitive, but the qualifier may not be stored as it was given
+            tableInfo = readTableInfo(accessor, qualifier, usesCatalogs, escape);
+            if (tableInfo.isEmpty()) {
+                tableInfo = readTableInfo(accessor, qualifier.toUpperCase(), usesCatalogs, escape);
+            }
+            if (tableInfo.isEmpty()) {
+                tableInfo = readTableInfo(accessor, qualifier.toLowerCase(), usesCatalogs, escape);
+            }
+        }
+        final DatabaseField tableNameLookupField = new DatabaseField("TABLE_NAME");
+        final Set<String> tableNames = new HashSet<>(tableInfo.size());
+        for (AbstractRecord record : tableInfo) {
+            String tableName = (String) record.get(tableNameLookupField);
+            if (tableName != null) {
+                tableNames.add(tableName.toUpperCase());
+            }
+        }
+        return tableNames;
+    }
+
+    /**
+     * Return the metadata of the tables of the qualifier, the schema is a pattern so its wildcards are escaped.
+     */
+    private List<AbstractRecord> readTableInfo(Accessor accessor, String qualifier, boolean usesCatalogs, String escape) throws DatabaseException {
+        if (usesCatalogs) {
+            return accessor.getTableInfo(qualifier, null, null, TABLE_TYPES, getSession());
+        }
+        int index = qualifier.lastIndexOf('.');
+        String catalog = index < 0 ? null : qualifier.substring(0, index);
+        String schema = index < 0 ? qualifier : qualifier.substring(index + 1);
+        return accessor.getTableInfo(catalog, escapeSearchString(schema, escape), null, TABLE_TYPES, getSession());
+    }
+
+    /**
+     * Escape the wildcards of a metadata search pattern.
+     */
+    private static String escapeSearchString(String name, String escape) {
+        if (escape == null || escape.length() == 0) {
+            return name;
+        }
+        StringBuilder builder = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+            if (character == '_' || character == '%' || escape.indexOf(character) >= 0) {
+                builder.append(escape);
+            }
+            builder.append(character);
+        }
+        return builder.toString();
+    }
+
     protected SequenceDefinition buildSequenceDefinition(Sequence sequence) {
         if (sequence.shouldAcquireValueAfterInsert()) {
             return null;
@@ -171,17 +171,28 @@ public void createTables(final DatabaseSession session, final SchemaManager sche
         buildConstraints(schemaManager, build);
 
         final String sequenceTableName = getSequenceTableName(session);
+        final boolean checkExistence = check && CHECK_EXISTENCE && schemaManager.shouldWriteToDatabase();
+        // Read the existing tables at once rather than checking each table with a query.
+        final Set<String> existingTables = checkExistence && schemaManager.shouldCompareWithDatabaseMetadata()
+                ? schemaManager.readExistingTables(getTableDefinitions()) : null;
+        final boolean concurrent = schemaManager.shouldExecuteDDLConcurrently();
         final List<TableDefinition> missingTables = new ArrayList<>();
         for (TableDefinition table : getTableDefinitions()) {
             // Must not create sequence table as done in createSequences.
             if (!table.getName().equals(sequenceTableName)) {
                 boolean alreadyExists = false;
                 // Check if the table already exists, to avoid logging create error.
-                if (check && CHECK_EXISTENCE && schemaManager.shouldWriteToDatabase()) {
+                if (existingTables != null) {
+                    alreadyExists = existingTables.contains(table.getFullName());
+                } else if (checkExistence) {
                     alreadyExists = schemaManager.checkTableExists(table);
                 }
                 if (!alreadyExists) {
                     missingTables.add(table);
+                    if (concurrent) {
+                        // Created with the constraints once all tables are known.
+                        continue;
+                    }
                     try {
                         schemaManager.createObject(table);
                         session.getSessionLog().log(SessionLog.FINEST, SessionLog.DDL, "default_tables_created", table.getFullName());
@@ -195,7 +206,11 @@ public void createTables(final DatabaseSession session, final SchemaManager sche
             }
         }
 
-        createConstraints(missingTables, session, schemaManager, false);
+        if (concurrent) {
+            new ConcurrentDDLExecutor(schemaManager, shouldIgnoreDatabaseException()).createTablesAndConstraints(missingTables);
+        } else {
+            createConstraints(missingTables, session, schemaManager, false);
+        }
 
         schemaManager.createOrReplaceSequences(createSequenceTables, createSequences);
         session.getDatasourcePlatform().initIdentitySequences(session, DEFAULT_IDENTITY_GENERATOR);
@@ -449,6 +449,24 @@ public EJBQueryImpl setFirstResult(int startPosition) {
         return (EJBQueryImpl) super.setFirstResult(startPosition);
     }
 
+    /**
+     * Set the ordering values of the last result of the previous page,
+     * to read the next page with keyset pagination.
+     *
+     * @see org.eclipse.persistence.queries.ReadAllQuery#setPageAfter(List)
+     */
+    @Override
+    public EJBQueryImpl setPageAfter(List<?> pageAfter) {
+        try {
+            entityManager.verifyOpen();
+            this.pageAfter = ((pageAfter == null) || pageAfter.isEmpty()) ? null : new ArrayList<>(pageAfter);
+            return this;
+        } catch (RuntimeException e) {
+            setRollbackOnly();
+            throw e;
+        }
+    }
+
     /**
      * Set the flush mode type to be used for the query execution.
      *
@@ -293,6 +293,9 @@
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
 import org.eclipse.persistence.sessions.server.ReadConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.tools.profiler.FetchGroupTuner;
+import org.eclipse.persistence.tools.profiler.JfrProfiler;
+import org.eclipse.persistence.tools.profiler.MetricsProfiler;
 import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
 import org.eclipse.persistence.tools.profiler.QueryMonitor;
@@ -1160,6 +1163,8 @@ protected void updateRemote(Map m, ClassLoader loader) {
                 remoteSession.setProfiler(this.session.getProfiler());
                 remoteSession.setSessionLog(this.session.getSessionLog());
                 remoteSession.setEventManager(this.session.getEventManager());
+                // The remote session only sees prepared queries, so prepare the lazy ones now.
+                this.session.warmUpJPAQueries();
                 remoteSession.setQueries(this.session.getQueries());
                 remoteSession.setProperties(this.session.getProperties());
                 remoteSession.setName(this.session.getName());
@@ -1319,6 +1324,14 @@ protected void updateProfiler(Map persistenceProperties,ClassLoader loader) {
                 session.setProfiler(new PerformanceMonitor());
                 return;
             }
+            if (newProfilerClassName.equals(ProfilerType.JfrProfiler)) {
+                session.setProfiler(new JfrProfiler());
+                return;
+            }
+            if (newProfilerClassName.equals(ProfilerType.MetricsProfiler)) {
+                session.setProfiler(new MetricsProfiler());
+                return;
+            }
 
             if (newProfilerClassName.equals(ProfilerType.DMSProfiler)) {
                 newProfilerClassName = ProfilerType.DMSProfilerClassName;
@@ -1794,6 +1807,7 @@ public synchronized ClassTransformer predeploy(PersistenceUnitInfo info, Map ext
                 session.setName(this.sessionName);
                 updateTunerPreDeploy(predeployProperties, classLoaderToUse);
                 updateTolerateInvalidJPQL(predeployProperties);
+                updateLazyNamedQueries(predeployProperties);
 
                 if (this.compositeEmSetupImpl == null) {
                     // session name and ServerPlatform must be set prior to setting the loggers.
@@ -2423,6 +2437,23 @@ protected void updateTolerateInvalidJPQL(Map m) {
         }
     }
 
+    /**
+     * Update whether session should prepare JPA named queries on first use
+     * and warm them up in the background after login.
+     */
+    protected void updateLazyNamedQueries(Map m) {
+        String config =
+            PropertiesHandler.getPropertyValueLogDebug(PersistenceUnitProperties.JPQL_LAZY_NAMED_QUERIES, m, this.session);
+        // Named queries are always prepared eagerly if running in validation only mode
+        if (config != null && isValidationOnly(m) == false) {
+            this.session.setShouldPrepareJPAQueriesLazily(config.equals("true"));
+        }
+        config = PropertiesHandler.getPropertyValueLogDebug(PersistenceUnitProperties.JPQL_NAMED_QUERIES_WARM_UP, m, this.session);
+        if (config != null) {
+            this.session.setShouldWarmUpJPAQueries(config.equals("true"));
+        }
+    }
+
     /**
      * Override the default login creation method.
      * If persistenceInfo is available, use the information from it to setup the login
@@ -2835,6 +2866,16 @@ protected void updateSession(Map m, ClassLoader loader) {
                 session.getPlatform().setShouldBindPartialParameters(Boolean.parseBoolean(allowPartialBindString));
             }
 
+            String padINClauseString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JDBC_PAD_IN_CLAUSE_PARAMETERS, m, session);
+            if (padINClauseString != null) {
+                session.getPlatform().setShouldPadINClauseParameters(Boolean.parseBoolean(padINClauseString));
+            }
+
+            String bindINClauseAsArrayString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JDBC_BIND_IN_CLAUSE_AS_ARRAY, m, session);
+            if (bindINClauseAsArrayString != null) {
+                session.getPlatform().setShouldBindINClauseAsArray(Boolean.parseBoolean(bindINClauseAsArrayString));
+            }
+
             updateLogins(m);
         }
         if (!session.getDatasourceLogin().shouldUseExternalTransactionController()) {
@@ -2879,6 +2920,8 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateNativeSQLSetting(m);
             updateSequencing(m);
             updateSequencingStart(m);
+            updateFetchGroupTuning(m);
+            updateAutomaticBatchFetch(m);
             updateAllowNativeSQLQueriesSetting(m);
             updateSQLCastSetting(m);
             updateUppercaseSetting(m);
@@ -2909,6 +2952,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateSerializer(m, loader);
             updateShouldOptimizeResultSetAccess(m);
             updateTolerateInvalidJPQL(m);
+            updateLazyNamedQueries(m);
             updateTenancy(m, loader);
             // ConcurrencyManager properties
             updateConcurrencyManagerWaitTime(m);
@@ -3388,6 +3432,54 @@ protected void updateSequencing(Map m){
                this.session.handleException(ValidationException.invalidBooleanValueForProperty(useTable, PersistenceUnitProperties.SEQUENCING_SEQUENCE_DEFAULT));
            }
         }
+        String prefetchThreshold = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_PREFETCH_THRESHOLD, m, session);
+        try {
+            if (prefetchThreshold != null) {
+                getDatabaseSession().getSequencingControl().setPrefetchThreshold(Integer.parseInt(prefetchThreshold.trim()));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(prefetchThreshold, PersistenceUnitProperties.SEQUENCING_PREFETCH_THRESHOLD, exception));
+        }
+        String maxPrefetchSize = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_PREFETCH_MAX_SIZE, m, session);
+        try {
+            if (maxPrefetchSize != null) {
+                getDatabaseSession().getSequencingControl().setMaxPrefetchSize(Integer.parseInt(maxPrefetchSize.trim()));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(maxPrefetchSize, PersistenceUnitProperties.SEQUENCING_PREFETCH_MAX_SIZE, exception));
+        }
+    }
+
+    /**
+     * Enable the tuning of query fetch groups from the accessed attributes.
+     */
+    protected void updateFetchGroupTuning(Map m) {
+        String tuning = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.FETCH_GROUP_TUNING, m, session);
+        if (tuning != null) {
+            if (tuning.equalsIgnoreCase("true")) {
+                if (this.session.getFetchGroupTuner() == null) {
+                    this.session.setFetchGroupTuner(new FetchGroupTuner());
+                }
+            } else if (tuning.equalsIgnoreCase("false")) {
+                this.session.setFetchGroupTuner(null);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(tuning, PersistenceUnitProperties.FETCH_GROUP_TUNING));
+            }
+        }
+    }
+
+    /**
+     * Configure the automatic batch fetching of lazy relationships.
+     */
+    protected void updateAutomaticBatchFetch(Map m) {
+        String size = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_AUTOMATIC_SIZE, m, session);
+        try {
+            if (size != null) {
+                this.session.getProject().setAutomaticBatchFetchSize(Integer.parseInt(size.trim()));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(size, PersistenceUnitProperties.BATCH_AUTOMATIC_SIZE, exception));
+        }
     }
 
     protected void updateSequencingStart(Map m) {
@@ -4636,6 +4728,7 @@ protected void writeDDL(String ddlGeneration, Map props, DatabaseSessionImpl ses
                 }
 
                 SchemaManager mgr = new SchemaManager(session);
+                updateSchemaManager(mgr, props);
 
                 if (ddlGenerationMode.equals(PersistenceUnitProperties.DDL_DATABASE_GENERATION) || ddlGenerationMode.equals(PersistenceUnitProperties.DDL_BOTH_GENERATION)) {
                     writeDDLToDatabase(mgr, ddlType);
@@ -4766,12 +4859,30 @@ protected void writeDDLToFiles(SchemaManager mgr, String appLocation, Object cre
         mgr.closeDDLWriter();
     }
 
+    /**
+     * INTERNAL:
+     * Set how the schema manager executes the DDL on the database.
+     */
+    protected void updateSchemaManager(SchemaManager mgr, Map props) {
+        String threads = getConfigPropertyAsString(PersistenceUnitProperties.DDL_GENERATION_THREADS, props);
+        if (threads != null) {
+            try {
+                mgr.setDDLThreads(Integer.parseInt(threads.trim()));
+            } catch (NumberFormatException exception) {
+                mgr.getSession().handleException(ValidationException.invalidValueForProperty(threads, PersistenceUnitProperties.DDL_GENERATION_THREADS, exception));
+            }
+        }
+        String metadataDiff = getConfigPropertyAsString(PersistenceUnitProperties.DDL_GENERATION_METADATA_DIFF, props);
+        mgr.setCompareWithDatabaseMetadata(metadataDiff != null && metadataDiff.equalsIgnoreCase("true"));
+    }
+
     /**
      * INTERNAL:
      * Generate and write DDL from the persistence unit metadata to the database.
      */
     protected void writeMetadataDDLToDatabase(TableCreationType tableCreationType, Map props, DatabaseSessionImpl session, ClassLoader classLoader) {
         SchemaManager mgr = new SchemaManager(session);
+        updateSchemaManager(mgr, props);
 
         // Set the create database schemas flag on the schema manager.
         String createSchemas = getConfigPropertyAsString(SCHEMA_GENERATION_CREATE_DATABASE_SCHEMAS, props);
@@ -4786,6 +4897,7 @@ protected void writeMetadataDDLToDatabase(TableCreationType tableCreationType, M
      */
     protected void writeMetadataDDLToScript(TableCreationType tableCreationType, Map props, DatabaseSessionImpl session, ClassLoader classLoader) {
         SchemaManager mgr = new SchemaManager(session);
+        updateSchemaManager(mgr, props);
 
         // Set the create database schemas flag on the schema manager.
         String createSchemas = getConfigPropertyAsString(SCHEMA_GENERATION_CREATE_DATABASE_SCHEMAS, props);
@@ -96,6 +96,8 @@ public class QueryImpl {
     protected Map<String, Parameter<?>> parameters;
     protected int firstResultIndex = UNDEFINED;
     protected int maxResults = UNDEFINED;
+    /** The ordering values of the last result of the previous page, for keyset pagination. */
+    protected List<?> pageAfter;
 
     protected LockModeType lockMode = null;
 
@@ -917,7 +919,7 @@ public void setMaxResultsInternal(int maxResult) {
     }
 
     /**
-     * Configure the firstResult, maxRows and lock mode in the EclipseLink
+     * Configure the firstResult, maxRows, pageAfter and lock mode in the EclipseLink
      * ReadQuery.
      */
     protected void propagateResultProperties() {
@@ -935,6 +937,11 @@ protected void propagateResultProperties() {
                 readQuery = (ReadQuery) getDatabaseQueryInternal();
                 readQuery.setFirstResult(firstResultIndex);
             }
+            if ((pageAfter != null) && readQuery.isReadAllQuery()) {
+                cloneSharedQuery();
+                readQuery = (ReadQuery) getDatabaseQueryInternal();
+                ((ReadAllQuery) readQuery).setPageAfter(pageAfter);
+            }
         }
     }
 
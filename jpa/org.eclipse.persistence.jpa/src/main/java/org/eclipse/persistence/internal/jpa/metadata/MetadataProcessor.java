@@ -61,6 +61,7 @@
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.eclipse.persistence.exceptions.PersistenceUnitLoadingException;
 import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.jpa.EntityManagerFactoryProvider;
 import org.eclipse.persistence.internal.jpa.EntityManagerSetupImpl;
 import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor;
 import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor.Mode;
@@ -344,6 +345,13 @@ protected void initPersistenceUnitClasses() {
             unlistedClasses = PersistenceUnitProcessor.getClassNamesFromURL(persistenceUnitInfo.getPersistenceUnitRootUrl(), m_loader, m_predeployProperties);
         }
 
+        // Read the class metadata ahead in parallel when configured.
+        int parallelism = getMetadataParallelism();
+        if (parallelism > 1) {
+            m_factory.loadMetadataClasses(classNames, false, parallelism);
+            m_factory.loadMetadataClasses(unlistedClasses, true, parallelism);
+        }
+
         // 5 - Go through all the class names we found and add those classes
         // that have not yet been added. Be sure to check that the accessor
         // does not already exist since adding an accessor will merge its
@@ -384,6 +392,23 @@ protected void initPersistenceUnitClasses() {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the number of threads to use to read the class metadata ahead,
+     * 1 meaning classes are read on demand.
+     */
+    protected int getMetadataParallelism() {
+        String parallelism = EntityManagerFactoryProvider.getConfigPropertyAsString(PersistenceUnitProperties.METADATA_PARALLELISM, m_predeployProperties);
+        if (parallelism == null) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(parallelism.trim());
+        } catch (NumberFormatException exception) {
+            throw ValidationException.invalidValueForProperty(parallelism, PersistenceUnitProperties.METADATA_PARALLELISM, exception);
+        }
+    }
+
     /**
      * INTERNAL:
      * This method is responsible for figuring out list of mapping files to
@@ -32,7 +32,11 @@
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import org.eclipse.persistence.asm.ASMFactory;
 import org.eclipse.persistence.asm.AnnotationVisitor;
@@ -160,6 +164,67 @@ protected void buildClassMetadata(MetadataClass metadataClass, String className,
         }
     }
 
+    /**
+     * Read the class metadata for the class name using ASM, without registering
+     * it with this factory. This may be called concurrently.
+     * Return null if the class can not be read, error handling is left to
+     * buildClassMetadata.
+     */
+    protected MetadataClass readClassMetadata(String className, boolean isLazy) {
+        ClassMetadataVisitor visitor = new ClassMetadataVisitor(null, isLazy, false);
+        try (InputStream stream = readResource(className.replace('.', '/') + ".class")) {
+            if (stream == null) {
+                return null;
+            }
+            ClassReader reader = ASMFactory.createClassReader(stream);
+            reader.accept(visitor, new Attribute[0], ClassReader.valueInt("SKIP_CODE") | ClassReader.valueInt("SKIP_DEBUG") | ClassReader.valueInt("SKIP_FRAMES"));
+        } catch (Exception exception) {
+            return null;
+        }
+        return visitor.classMetadata;
+    }
+
+    /**
+     * INTERNAL:
+     * Read ahead the class metadata for the given class names on a fork-join pool.
+     * The class byte codes are parsed in parallel, the results are then registered
+     * in the order of the given class names, so processing stays deterministic.
+     */
+    @Override
+    public void loadMetadataClasses(Collection<String> classNames, boolean isLazy, int parallelism) {
+        List<String> classesToRead = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            // Classes already known (even lazily) are completed on demand, as they may be referenced already.
+            if ((className != null) && !metadataClassExists(className)) {
+                classesToRead.add(className);
+            }
+        }
+        if (classesToRead.size() < 2 || parallelism < 2) {
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        List<MetadataClass> metadataClasses;
+        try {
+            metadataClasses = pool.submit(() -> classesToRead.parallelStream()
+                    .map(className -> readClassMetadata(className, isLazy))
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException exception) {
+            // Leave the classes to be read on demand.
+            return;
+        } finally {
+            pool.shutdown();
+        }
+        for (int index = 0; index < metadataClasses.size(); index++) {
+            MetadataClass metadataClass = metadataClasses.get(index);
+            if ((metadataClass != null) && metadataClass.getName().equals(classesToRead.get(index))) {
+                addMetadataClass(metadataClass);
+            }
+        }
+    }
+
     /**
      * Return the class metadata for the class name.
      */
@@ -265,12 +330,18 @@ public class ClassMetadataVisitor extends EclipseLinkClassVisitor {
         private boolean isLazy;
         private boolean processedMemeber;
         private MetadataClass classMetadata;
+        private boolean shouldRegister;
 
         ClassMetadataVisitor(MetadataClass metadataClass, boolean isLazy) {
+            this(metadataClass, isLazy, true);
+        }
+
+        ClassMetadataVisitor(MetadataClass metadataClass, boolean isLazy, boolean shouldRegister) {
             super();
             super.setCustomClassVisitor(this);
             this.isLazy = isLazy;
             this.classMetadata = metadataClass;
+            this.shouldRegister = shouldRegister;
         }
 
         @Override
@@ -278,7 +349,9 @@ public void visit(int version, int access, String name, String signature, String
             String className = toClassName(name);
             if ((this.classMetadata == null) || !this.classMetadata.getName().equals(className)) {
                 this.classMetadata = new MetadataClass(MetadataAsmFactory.this, className, isLazy);
-                addMetadataClass(this.classMetadata);
+                if (this.shouldRegister) {
+                    addMetadataClass(this.classMetadata);
+                }
             }
             this.classMetadata.setName(className);
             this.classMetadata.setSuperclassName(toClassName(superName));
@@ -14,6 +14,7 @@
 //     James Sutherland - initial impl
 package org.eclipse.persistence.internal.jpa.metadata.accessors.objects;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -116,6 +117,15 @@ protected boolean metadataClassExists(String className) {
      */
     public abstract MetadataClass getMetadataClass(String className, boolean isLazy);
 
+    /**
+     * INTERNAL:
+     * Read ahead the class metadata for the given class names, using up to the
+     * given number of threads. Classes that can not be read ahead are left to
+     * be read on demand by getMetadataClass. By default, nothing is read ahead.
+     */
+    public void loadMetadataClasses(Collection<String> classNames, boolean isLazy, int parallelism) {
+    }
+
     /**
      * INTERNAL:
      */
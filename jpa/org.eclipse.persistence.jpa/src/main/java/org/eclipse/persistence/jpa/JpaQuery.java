@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,6 +15,7 @@
 package org.eclipse.persistence.jpa;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.persistence.queries.Cursor;
 import org.eclipse.persistence.queries.DatabaseQuery;
@@ -62,4 +63,13 @@
      */
     void setDatabaseQuery(DatabaseQuery query);
 
+    /**
+     * PUBLIC:
+     * Set the ordering values of the last result of the previous page, to read the next page
+     * with keyset (seek) pagination instead of setFirstResult.
+     * The values match the first ORDER BY items of the query, which must order the results uniquely.
+     * @see org.eclipse.persistence.queries.ReadAllQuery#setPageAfter(List)
+     */
+    JpaQuery<X> setPageAfter(List<?> pageAfter);
+
 }
@@ -17,8 +17,13 @@
 //       - 500441: Eclipselink core has System.getProperty() calls that are not potentially executed under doPriv()
 package org.eclipse.persistence.jpa.metadata;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Map;
 
@@ -28,8 +33,9 @@
 
 /**
  * <p><b>Purpose</b>: Support serializing/deserializing a project representing application metadata
- * to/from a file.
+ * to/from a file, or deserializing it from a class loader resource generated at build time.
  *
+ * @see ProjectCacheGenerator
  */
 public class FileBasedProjectCache implements ProjectCache {
 
@@ -41,63 +47,69 @@ public FileBasedProjectCache() {
 
     @Override
     public Project retrieveProject(Map<String, ?> properties, ClassLoader loader, SessionLog log) {
-        Project project = null;
-        java.io.ObjectInputStream in = null;
+        String resourceName = (String)getConfigPropertyLogDebug(
+                PersistenceUnitProperties.PROJECT_CACHE_RESOURCE,
+                properties, log);
+        if (resourceName != null && resourceName.length() > 0) {
+            InputStream stream = loader.getResourceAsStream(resourceName);
+            if (stream == null) {
+                log.log(SessionLog.WARNING, SessionLog.JPA, "project_cache_resource_not_found", new Object[] {resourceName});
+                return null;
+            }
+            return readProject(stream, log);
+        }
         String fileName = (String)getConfigPropertyLogDebug(
                 PersistenceUnitProperties.PROJECT_CACHE_FILE,
                 properties, log);
         if (fileName != null && fileName.length() > 0) {
             try {
-                java.io.File file = new java.io.File(fileName);
-                java.io.FileInputStream fis = new java.io.FileInputStream(file);
-                in = new java.io.ObjectInputStream(fis);
-                in.setObjectInputFilter(new FileBasedProjectCacheFilter());
-                project = (Project)in.readObject();
+                return readProject(new FileInputStream(fileName), log);
             } catch (Exception e) {
-              //need exception differentiation,logging and warnings
-              //the project not being cached should be different than an exception from reading the stream
-              log.logThrowable(SessionLog.WARNING, SessionLog.JPA, e);
-            } finally {
-                if (in != null) {
-                    try {
-                        in.close();
-                    } catch (java.io.IOException ignore) {
-                        //ignore exceptions from close
-                    }
-                }
+                //the project not being cached should be different than an exception from reading the stream
+                log.logThrowable(SessionLog.WARNING, SessionLog.JPA, e);
             }
         }
-        return project;
+        return null;
+    }
+
+    /**
+     * Read the serialized project from the stream, and close it.
+     * Return null if the project can not be read.
+     */
+    protected Project readProject(InputStream stream, SessionLog log) {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(stream))) {
+            in.setObjectInputFilter(new FileBasedProjectCacheFilter());
+            return (Project)in.readObject();
+        } catch (Exception e) {
+            //need exception differentiation,logging and warnings
+            log.logThrowable(SessionLog.WARNING, SessionLog.JPA, e);
+            return null;
+        }
     }
 
     @Override
     public void storeProject(Project project, Map<String, ?> properties, SessionLog log) {
+        // A project read from a resource was generated at build time and is never stored.
+        String resourceName = (String)getConfigPropertyLogDebug(
+                PersistenceUnitProperties.PROJECT_CACHE_RESOURCE,
+                properties, log);
+        if (resourceName != null && resourceName.length() > 0) {
+            return;
+        }
         String fileName = (String)getConfigPropertyLogDebug(
                 PersistenceUnitProperties.PROJECT_CACHE_FILE,
                 properties, log);
         if (fileName != null && fileName.length() > 0) {
-            FileOutputStream fos = null;
-            ObjectOutputStream out = null;
             try {
                 File file = new File(fileName);
                 // creates the file
                 file.createNewFile();
-                fos = new FileOutputStream(file);
-                out = new ObjectOutputStream(fos);
-                out.writeObject(project);
+                try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+                    out.writeObject(project);
+                }
             } catch (Exception e) {
                 //the session is still usable, just not cachable so log a warning
                 log.logThrowable(SessionLog.WARNING, SessionLog.JPA, e);
-            } finally {
-                try {
-                    if (out != null) {
-                        out.close();
-                        fos = null;
-                    }
-                    if (fos != null) {
-                        fos.close();
-                    }
-                } catch (java.io.IOException ignore) {}
             }
         }
     }
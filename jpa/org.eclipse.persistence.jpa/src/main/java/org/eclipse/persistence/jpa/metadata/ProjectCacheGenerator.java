@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.jpa.metadata;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.localization.ExceptionLocalization;
+import org.eclipse.persistence.internal.localization.ToStringLocalization;
+import org.eclipse.persistence.jpa.PersistenceProvider;
+
+/**
+ * <p><b>Purpose</b>: Generate at build time the serialized project of a persistence unit,
+ * so the application can be deployed without processing its metadata.
+ * <p>
+ * The persistence unit is deployed in validation only mode (no database connection is needed)
+ * and the processed project is written by {@link FileBasedProjectCache} to the target file.
+ * The file is then packaged with the application and read at runtime by setting
+ * "<code>eclipselink.project-cache</code>" to "<code>java-serialization</code>" and
+ * "<code>eclipselink.project-cache.java-serialization.resource</code>" to its resource name.
+ * The properties used to generate the project (target database, weaving, ...) should match
+ * the ones used at runtime.
+ * <p>
+ * <b>Usage</b>:<br>
+ * &nbsp;&nbsp;ProjectCacheGenerator [-classpath classpath] [-property name=value]... persistence-unit-name target<br>
+ * It can be run from a build, for instance with the exec or antrun maven plugins, after compilation
+ * and static weaving.
+ *
+ * @see PersistenceUnitProperties#PROJECT_CACHE_RESOURCE
+ */
+public class ProjectCacheGenerator {
+
+    public static void main(String[] argv) {
+        ProjectCacheGenerator generator = new ProjectCacheGenerator();
+        if (!generator.processCommandLine(argv)) {
+            generator.printUsage(System.out);
+            System.exit(1);
+        }
+        generator.generate();
+    }
+
+    /** The name of the persistence unit to generate the project of. */
+    private String persistenceUnitName;
+
+    /** The path of the file the serialized project is written to. */
+    private String target;
+
+    /** The persistence unit properties used to process the metadata. */
+    private Map<String, Object> properties = new HashMap<>();
+
+    /** The class loader used to find the persistence unit and its classes. */
+    private ClassLoader classLoader;
+
+    /**
+     * Create a generator to be configured through its setters.
+     */
+    public ProjectCacheGenerator() {
+        this.classLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    /**
+     * Create a generator for the persistence unit, writing the project to the target file.
+     */
+    public ProjectCacheGenerator(String persistenceUnitName, String target) {
+        this();
+        this.persistenceUnitName = persistenceUnitName;
+        this.target = target;
+    }
+
+    public void setClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    public void setProperty(String name, Object value) {
+        this.properties.put(name, value);
+    }
+
+    /**
+     * Deploy the persistence unit without connecting to the database
+     * and write its processed project to the target file.
+     */
+    public void generate() {
+        File targetFile = new File(this.target);
+        if (targetFile.getParentFile() != null) {
+            targetFile.getParentFile().mkdirs();
+        }
+        // A stale project would be read instead of processing the metadata.
+        targetFile.delete();
+
+        Map<String, Object> deployProperties = new HashMap<>(this.properties);
+        deployProperties.remove(PersistenceUnitProperties.PROJECT_CACHE_RESOURCE);
+        deployProperties.put(PersistenceUnitProperties.PROJECT_CACHE, "java-serialization");
+        deployProperties.put(PersistenceUnitProperties.PROJECT_CACHE_FILE, targetFile.getAbsolutePath());
+        deployProperties.put(PersistenceUnitProperties.VALIDATION_ONLY_PROPERTY, "true");
+        deployProperties.put(PersistenceUnitProperties.DEPLOY_ON_STARTUP, "true");
+        deployProperties.put(PersistenceUnitProperties.CLASSLOADER, this.classLoader);
+
+        EntityManagerFactory factory = new PersistenceProvider().createEntityManagerFactory(this.persistenceUnitName, deployProperties);
+        if (factory == null) {
+            throw new PersistenceException(ExceptionLocalization.buildMessage("project_cache_generator_no_persistence_unit", new Object[] {this.persistenceUnitName}));
+        }
+        factory.close();
+        if (!targetFile.exists()) {
+            throw new PersistenceException(ExceptionLocalization.buildMessage("project_cache_generator_no_project_written", new Object[] {this.persistenceUnitName, targetFile.getAbsolutePath()}));
+        }
+    }
+
+    /**
+     * Read the command line options, return false if they are invalid.
+     */
+    boolean processCommandLine(String[] argv) {
+        List<String> arguments = new ArrayList<>(2);
+        for (int index = 0; index < argv.length; index++) {
+            String argument = argv[index];
+            if (argument.equalsIgnoreCase("-classpath") || argument.equalsIgnoreCase("-property")) {
+                if (++index >= argv.length) {
+                    return false;
+                }
+                if (argument.equalsIgnoreCase("-classpath")) {
+                    this.classLoader = buildClassLoader(argv[index]);
+                } else {
+                    int separator = argv[index].indexOf('=');
+                    if (separator < 1) {
+                        return false;
+                    }
+                    setProperty(argv[index].substring(0, separator), argv[index].substring(separator + 1));
+                }
+            } else {
+                arguments.add(argument);
+            }
+        }
+        if (arguments.size() != 2) {
+            return false;
+        }
+        this.persistenceUnitName = arguments.get(0);
+        this.target = arguments.get(1);
+        return true;
+    }
+
+    private ClassLoader buildClassLoader(String classpath) {
+        String[] entries = classpath.split(File.pathSeparator);
+        URL[] urls = new URL[entries.length];
+        try {
+            for (int index = 0; index < entries.length; index++) {
+                urls[index] = new File(entries[index]).toURI().toURL();
+            }
+        } catch (MalformedURLException exception) {
+            throw new IllegalArgumentException(classpath, exception);
+        }
+        return new URLClassLoader(urls, Thread.currentThread().getContextClassLoader());
+    }
+
+    private void printUsage(PrintStream out) {
+        StringBuilder message = new StringBuilder();
+        for (int line = 1; line <= 7; line++) {
+            message.append(ToStringLocalization.buildMessage("projectcachegenerator_commandline_help_message_" + line + "of7"));
+            message.append(System.lineSeparator());
+        }
+        out.print(message);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.internal.jpa.metadata.accessors.objects;
+
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.eclipse.persistence.internal.jpa.metadata.MetadataLogger;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * Checks that reading class metadata ahead in parallel gives the same result as reading it on demand.
+ */
+public class MetadataAsmFactoryTest extends TestCase {
+
+    private static final List<String> CLASS_NAMES = Arrays.asList(
+            "org.eclipse.persistence.internal.jpa.JPAQuery",
+            "org.eclipse.persistence.internal.jpa.QueryImpl",
+            "org.eclipse.persistence.internal.jpa.EJBQueryImpl",
+            "org.eclipse.persistence.internal.jpa.EntityManagerImpl",
+            "org.eclipse.persistence.internal.jpa.metadata.MetadataProcessor",
+            "org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataClass",
+            "org.eclipse.persistence.annotations.Cache",
+            "org.eclipse.persistence.does.not.Exist");
+
+    private MetadataAsmFactory newFactory() {
+        AbstractSession session = (AbstractSession) new Project(new DatabaseLogin()).createDatabaseSession();
+        return new MetadataAsmFactory(new MetadataLogger(session), getClass().getClassLoader());
+    }
+
+    public void testParallelLoadMatchesOnDemandLoad() {
+        MetadataAsmFactory onDemand = newFactory();
+        MetadataAsmFactory parallel = newFactory();
+        parallel.loadMetadataClasses(CLASS_NAMES, false, 4);
+
+        for (String className : CLASS_NAMES) {
+            MetadataClass expected = onDemand.getMetadataClass(className);
+            MetadataClass actual = parallel.getMetadataClass(className);
+            assertEquals(className, expected.getName(), actual.getName());
+            assertEquals(className, expected.getSuperclassName(), actual.getSuperclassName());
+            assertEquals(className, expected.getInterfaces(), actual.getInterfaces());
+            assertEquals(className, expected.getFields().keySet(), actual.getFields().keySet());
+            assertEquals(className, expected.getMethods().keySet(), actual.getMethods().keySet());
+            assertEquals(className, expected.getAnnotations().keySet(), actual.getAnnotations().keySet());
+            assertEquals(className, expected.isLazy(), actual.isLazy());
+        }
+    }
+
+    public void testLoadKeepsKnownClasses() {
+        MetadataAsmFactory factory = newFactory();
+        MetadataClass known = factory.getMetadataClass(CLASS_NAMES.get(0), true);
+        factory.loadMetadataClasses(CLASS_NAMES, false, 4);
+        assertSame(known, factory.getMetadataClass(CLASS_NAMES.get(0), true));
+    }
+}
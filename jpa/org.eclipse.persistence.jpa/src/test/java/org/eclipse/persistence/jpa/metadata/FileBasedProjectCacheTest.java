@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.persistence.jpa.metadata;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+
+public class FileBasedProjectCacheTest extends TestCase {
+
+    private File directory;
+
+    @Override
+    protected void setUp() throws Exception {
+        directory = Files.createTempDirectory("project-cache").toFile();
+    }
+
+    @Override
+    protected void tearDown() {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    public void testRetrieveFromResource() throws Exception {
+        SessionLog log = AbstractSessionLog.getLog();
+        FileBasedProjectCache cache = new FileBasedProjectCache();
+        Project project = new Project(new DatabaseLogin());
+        project.setName("cached");
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_FILE, new File(directory, "project.ser").getAbsolutePath());
+        cache.storeProject(project, properties, log);
+
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_RESOURCE, "project.ser");
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {directory.toURI().toURL()}, null)) {
+            Project cached = cache.retrieveProject(properties, loader, log);
+            assertNotNull(cached);
+            assertEquals("cached", cached.getName());
+
+            properties.put(PersistenceUnitProperties.PROJECT_CACHE_RESOURCE, "missing.ser");
+            assertNull(cache.retrieveProject(properties, loader, log));
+        }
+    }
+
+    public void testNotStoredWithResource() {
+        SessionLog log = AbstractSessionLog.getLog();
+        File file = new File(directory, "project.ser");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_FILE, file.getAbsolutePath());
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_RESOURCE, "project.ser");
+        new FileBasedProjectCache().storeProject(new Project(new DatabaseLogin()), properties, log);
+        assertFalse(file.exists());
+    }
+}
@@ -25,5 +25,6 @@ public class QueryParameters {
     // Paging related query parameters
     public static final String JPARS_PAGING_OFFSET = "offset";
     public static final String JPARS_PAGING_LIMIT = "limit";
+    public static final String JPARS_PAGING_AFTER = "after";
 
 }
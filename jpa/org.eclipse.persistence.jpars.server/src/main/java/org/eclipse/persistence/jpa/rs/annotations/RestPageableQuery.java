@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -37,4 +37,13 @@
      * Specified the default limit.
      */
     int limit() default 100;
+
+    /**
+     * Use keyset pagination instead of offsets. The next page is requested with the 'after' query parameter,
+     * which has the comma separated values of the ORDER BY of the last item of the previous page.
+     * Each value is URL encoded, '~' stands for a null value.
+     * The named query must order the results uniquely, i.e. end its ORDER BY with the id.
+     * Report queries, which select values instead of entities, are paged with offsets.
+     */
+    boolean keyset() default false;
 }
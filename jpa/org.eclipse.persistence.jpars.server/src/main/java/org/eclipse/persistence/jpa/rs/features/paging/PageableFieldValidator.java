@@ -56,11 +56,16 @@ public boolean isFeatureApplicable() throws JPARSException {
         if (paginationData != null) {
             // Field supports pagination, do parameters check
             checkParameters(paginationData.limit());
+            // Keyset pagination is only supported for queries
+            if (queryParameters.containsKey(QueryParameters.JPARS_PAGING_AFTER)) {
+                throw JPARSException.invalidParameter(QueryParameters.JPARS_PAGING_AFTER, (String) queryParameters.get(QueryParameters.JPARS_PAGING_AFTER));
+            }
             return true;
         } else {
             // Pagination is not supported by query. Check that there are no pagination related query parameters.
             if (queryParameters.containsKey(QueryParameters.JPARS_PAGING_LIMIT)
-                    || queryParameters.containsKey(QueryParameters.JPARS_PAGING_OFFSET)) {
+                    || queryParameters.containsKey(QueryParameters.JPARS_PAGING_OFFSET)
+                    || queryParameters.containsKey(QueryParameters.JPARS_PAGING_AFTER)) {
                 throw JPARSException.paginationParameterForNotPageableResource();
             }
             return false;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,20 +15,40 @@
 
 package org.eclipse.persistence.jpa.rs.features.paging;
 
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.internal.helper.ConversionManager;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.jpa.rs.PersistenceContext;
 import org.eclipse.persistence.jpa.rs.QueryParameters;
+import org.eclipse.persistence.jpa.rs.annotations.RestPageableQuery;
 import org.eclipse.persistence.jpa.rs.exceptions.JPARSException;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
 
 import jakarta.ws.rs.core.UriInfo;
 
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Finds out if a named query is pageable and validates paging parameters.
  *
  * @author Dmitry Kornilov
  */
 public final class PageableQueryValidator extends AbstractPagingValidator {
+    private static final String AFTER_SEPARATOR = ",";
+    /** Stands for a null value in the 'after' query parameter, the values are URL encoded so it is never a value. */
+    private static final String AFTER_NULL = "~";
+
     private final PersistenceContext context;
     private final String queryName;
+    private boolean isKeyset;
+    private List<Object> pageAfter;
 
     /**
      * Creates a validator.
@@ -53,15 +73,117 @@ public PageableQueryValidator(PersistenceContext context, String queryName, UriI
     public boolean isFeatureApplicable() throws JPARSException {
         if (context.isQueryPageable(queryName)) {
             // Query supports pagination, do parameters check
-            checkParameters(context.getPageableQuery(queryName).limit());
+            final RestPageableQuery pageableQuery = context.getPageableQuery(queryName);
+            checkParameters(pageableQuery.limit());
+            // Report queries return values, not entities, they are paged with offsets
+            isKeyset = pageableQuery.keyset() && isKeysetQuery(context.getServerSession().getQuery(queryName));
+            final String paramAfter = (String) queryParameters.get(QueryParameters.JPARS_PAGING_AFTER);
+            if (isKeyset) {
+                // Keyset pagination, the page is after the given ORDER BY values instead of an offset
+                if (queryParameters.containsKey(QueryParameters.JPARS_PAGING_OFFSET)) {
+                    throw JPARSException.invalidParameter(QueryParameters.JPARS_PAGING_OFFSET, (String) queryParameters.get(QueryParameters.JPARS_PAGING_OFFSET));
+                }
+                if (paramAfter != null) {
+                    pageAfter = parsePageAfter(paramAfter);
+                }
+            } else if (paramAfter != null) {
+                throw JPARSException.invalidParameter(QueryParameters.JPARS_PAGING_AFTER, paramAfter);
+            }
             return true;
         } else {
             // Pagination is not supported by query. Check that there are no pagination related query parameters.
             if (queryParameters.containsKey(QueryParameters.JPARS_PAGING_LIMIT)
-                    || queryParameters.containsKey(QueryParameters.JPARS_PAGING_OFFSET)) {
+                    || queryParameters.containsKey(QueryParameters.JPARS_PAGING_OFFSET)
+                    || queryParameters.containsKey(QueryParameters.JPARS_PAGING_AFTER)) {
                 throw JPARSException.paginationParameterForNotPageableResource();
             }
             return false;
         }
     }
+
+    /**
+     * Returns true if the query uses keyset pagination. The value is available only after calling isFeatureApplicable method.
+     *
+     * @return true if keyset pagination is used.
+     */
+    public boolean isKeyset() {
+        return isKeyset;
+    }
+
+    /**
+     * Returns the ORDER BY values of the last item of the previous page, or null for the first page.
+     * The value is available only after calling isFeatureApplicable method.
+     *
+     * @return the values of the 'after' query parameter converted to the types of the ORDER BY attributes.
+     */
+    public List<Object> getPageAfter() {
+        return pageAfter;
+    }
+
+    /**
+     * Returns true if the query can be paged with keyset pagination, i.e. reads entities.
+     */
+    private static boolean isKeysetQuery(DatabaseQuery query) {
+        return (query != null) && query.isReadAllQuery() && !query.isReportQuery();
+    }
+
+    /**
+     * Converts the comma separated values of the 'after' query parameter to the types of
+     * the ORDER BY attributes of the query. Each value is URL encoded, '~' stands for null.
+     */
+    private List<Object> parsePageAfter(String paramAfter) {
+        final DatabaseQuery query = context.getServerSession().getQuery(queryName);
+        final String[] values = paramAfter.split(AFTER_SEPARATOR, -1);
+        if (values.length > ((ReadAllQuery) query).getOrderByExpressions().size()) {
+            throw JPARSException.invalidParameter(QueryParameters.JPARS_PAGING_AFTER, paramAfter);
+        }
+        final AbstractSession session = (AbstractSession) context.getServerSession();
+        final ConversionManager conversionManager = session.getDatasourcePlatform().getConversionManager();
+        final List<Expression> orderings = ((ReadAllQuery) query).getOrderByExpressions();
+        final List<Object> result = new ArrayList<>(values.length);
+        try {
+            for (int index = 0; index < values.length; index++) {
+                if (AFTER_NULL.equals(values[index])) {
+                    result.add(null);
+                    continue;
+                }
+                final String value = URLDecoder.decode(values[index], StandardCharsets.UTF_8);
+                final Expression key = ReadAllQuery.getOrderingKey(orderings.get(index));
+                final DatabaseMapping mapping = key.getLeafMapping(query, query.getDescriptor(), session);
+                if ((mapping != null) && mapping.isAbstractDirectMapping()) {
+                    result.add(conversionManager.convertObject(value, ((AbstractDirectMapping) mapping).getAttributeClassification()));
+                } else {
+                    result.add(value);
+                }
+            }
+        } catch (RuntimeException ex) {
+            throw JPARSException.invalidParameter(QueryParameters.JPARS_PAGING_AFTER, paramAfter);
+        }
+        return result;
+    }
+
+    /**
+     * Builds the value of the 'after' query parameter for the page that follows the given item.
+     *
+     * @param context   persistence context
+     * @param query     the query that was executed
+     * @param lastItem  the last item of the page
+     * @return the comma separated, URL encoded ORDER BY values of the item, '~' for a null value.
+     */
+    public static String buildPageAfter(PersistenceContext context, ReadAllQuery query, Object lastItem) {
+        final AbstractSession session = (AbstractSession) context.getServerSession();
+        final ConversionManager conversionManager = session.getDatasourcePlatform().getConversionManager();
+        final StringBuilder after = new StringBuilder();
+        for (Object value : query.extractPageAfter(lastItem, session)) {
+            if (after.length() > 0) {
+                after.append(AFTER_SEPARATOR);
+            }
+            if (value == null) {
+                after.append(AFTER_NULL);
+            } else {
+                after.append(URLEncoder.encode((String) conversionManager.convertObject(value, String.class), StandardCharsets.UTF_8));
+            }
+        }
+        return after.toString();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -94,7 +94,9 @@ private PageableCollection<?> populatePagedCollectionLinks(Map<String, Object> q
         final ItemLinksBuilder itemLinksBuilder = new ItemLinksBuilder();
 
         final int limit = Integer.parseInt((String) queryParams.get(QueryParameters.JPARS_PAGING_LIMIT));
-        final int offset = Integer.parseInt((String) queryParams.get(QueryParameters.JPARS_PAGING_OFFSET));
+        // Keyset pagination has no offset, the next page is given by the 'after' parameter
+        final boolean isKeyset = !queryParams.containsKey(QueryParameters.JPARS_PAGING_OFFSET);
+        final int offset = isKeyset ? 0 : Integer.parseInt((String) queryParams.get(QueryParameters.JPARS_PAGING_OFFSET));
 
         final UriBuilder uriBuilder = UriBuilder.fromUri(uriInfo.getRequestUri());
 
@@ -108,7 +110,13 @@ private PageableCollection<?> populatePagedCollectionLinks(Map<String, Object> q
                 // next link
                 // The uri might have other query/matrix parameters, just replace the limit and offset
                 // for next and prev links and leave the rest untouched
-                uriBuilder.replaceQueryParam(QueryParameters.JPARS_PAGING_OFFSET, String.valueOf(limit + offset));
+                if (isKeyset) {
+                    // The builder keeps percent-encoded characters, so encode the '%' of the URL encoded values
+                    final String after = (String) queryParams.get(QueryParameters.JPARS_PAGING_AFTER);
+                    uriBuilder.replaceQueryParam(QueryParameters.JPARS_PAGING_AFTER, after.replace("%", "%25"));
+                } else {
+                    uriBuilder.replaceQueryParam(QueryParameters.JPARS_PAGING_OFFSET, String.valueOf(limit + offset));
+                }
                 itemLinksBuilder.addNext(uriBuilder.build().toString());
                 resultCollection.setHasMore(true);
             } else {
@@ -134,7 +142,9 @@ private PageableCollection<?> populatePagedCollectionLinks(Map<String, Object> q
         itemLinksBuilder.addSelf(uriInfo.getRequestUri().toString());
 
         resultCollection.setLinks(itemLinksBuilder.build().getLinks());
-        resultCollection.setOffset(offset);
+        if (!isKeyset) {
+            resultCollection.setOffset(offset);
+        }
         resultCollection.setLimit(limit);
 
         return resultCollection;
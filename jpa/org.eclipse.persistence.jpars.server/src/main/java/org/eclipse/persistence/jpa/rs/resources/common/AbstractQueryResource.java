@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -28,6 +28,7 @@
 
 import org.eclipse.persistence.internal.jpa.EJBQueryImpl;
 import org.eclipse.persistence.internal.queries.ReportItem;
+import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.jpa.rs.PersistenceContext;
 import org.eclipse.persistence.jpa.rs.QueryParameters;
 import org.eclipse.persistence.jpa.rs.ReservedWords;
@@ -44,6 +45,7 @@
 import org.eclipse.persistence.jpa.rs.util.JPARSLogger;
 import org.eclipse.persistence.jpa.rs.util.StreamingOutputMarshaller;
 import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.queries.ReportQuery;
 
 /**
@@ -99,7 +101,7 @@ protected Response namedQueryInternal(String version, String persistenceUnit, St
             if (featureSet.isSupported(Feature.PAGING)) {
                 response = processPageableQuery(context, queryName, dbQuery, query, headers, uriInfo);
             } else {
-                response = namedQueryResponse(context, queryName, dbQuery, query, headers, uriInfo, featureSet.getResponseBuilder(Feature.NO_PAGING));
+                response = namedQueryResponse(context, queryName, dbQuery, query, headers, uriInfo, featureSet.getResponseBuilder(Feature.NO_PAGING), false);
             }
 
             return response;
@@ -131,26 +133,34 @@ private Response processPageableQuery(PersistenceContext context, String queryNa
         final PageableQueryValidator validator = new PageableQueryValidator(context, queryName, uriInfo);
         if (validator.isFeatureApplicable()) {
             // Do pagination
-            query.setFirstResult(validator.getOffset());
+            if (validator.isKeyset()) {
+                // The page follows the ORDER BY values of the last item of the previous page
+                ((JpaQuery<?>) query).setPageAfter(validator.getPageAfter());
+            } else {
+                query.setFirstResult(validator.getOffset());
+            }
 
             // Extra one is added to the limit value to check are there more rows or not.
             // It will be removed later on in the response builder.
             query.setMaxResults(validator.getLimit() + 1);
 
-            return namedQueryResponse(context, queryName, dbQuery, query, headers, uriInfo, new PagingResponseBuilder());
+            return namedQueryResponse(context, queryName, dbQuery, query, headers, uriInfo, new PagingResponseBuilder(), validator.isKeyset());
         } else {
             // No pagination
-            return namedQueryResponse(context, queryName, dbQuery, query, headers, uriInfo, new SelfLinksResponseBuilder());
+            return namedQueryResponse(context, queryName, dbQuery, query, headers, uriInfo, new SelfLinksResponseBuilder(), false);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private Response namedQueryResponse(PersistenceContext context, String queryName, DatabaseQuery dbQuery, Query query, HttpHeaders headers, UriInfo uriInfo, FeatureResponseBuilder responseBuilder) {
+    private Response namedQueryResponse(PersistenceContext context, String queryName, DatabaseQuery dbQuery, Query query, HttpHeaders headers, UriInfo uriInfo, FeatureResponseBuilder responseBuilder, boolean isKeyset) {
         // We need to add limit and offset to query parameters because request builder reads it from there
         final Map<String, Object> queryParams = getQueryParameters(uriInfo);
         if (query.getMaxResults() != Integer.MAX_VALUE) {
             queryParams.put(QueryParameters.JPARS_PAGING_LIMIT, String.valueOf(query.getMaxResults() - 1));
-            queryParams.put(QueryParameters.JPARS_PAGING_OFFSET, String.valueOf(query.getFirstResult()));
+            // Keyset pagination has no offset, the response builder reads the next 'after' value instead
+            if (!isKeyset) {
+                queryParams.put(QueryParameters.JPARS_PAGING_OFFSET, String.valueOf(query.getFirstResult()));
+            }
         }
 
         // Fields filtering
@@ -180,6 +190,14 @@ private Response namedQueryResponse(PersistenceContext context, String queryName
 
         List<Object> results = query.getResultList();
         if (results != null) {
+            if (isKeyset) {
+                queryParams.remove(QueryParameters.JPARS_PAGING_AFTER);
+                final int limit = query.getMaxResults() - 1;
+                if (results.size() > limit) {
+                    // The next page follows the last item of this page
+                    queryParams.put(QueryParameters.JPARS_PAGING_AFTER, PageableQueryValidator.buildPageAfter(context, (ReadAllQuery) dbQuery, results.get(limit - 1)));
+                }
+            }
             Object list = responseBuilder.buildReadAllQueryResponse(context, queryParams, results, uriInfo);
             return Response.ok(new StreamingOutputMarshaller(context, list, headers.getAcceptableMediaTypes(), fieldsFilter)).build();
         }
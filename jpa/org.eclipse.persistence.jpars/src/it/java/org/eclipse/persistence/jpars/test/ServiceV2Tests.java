@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,6 +16,7 @@
 
 import org.eclipse.persistence.jpars.test.service.v2.ContextsTest;
 import org.eclipse.persistence.jpars.test.service.v2.EmployeeV2Test;
+import org.eclipse.persistence.jpars.test.service.v2.KeysetPagingTest;
 import org.eclipse.persistence.jpars.test.service.v2.LinksTest;
 import org.eclipse.persistence.jpars.test.service.v2.MarshalUnmarshalV2Test;
 import org.eclipse.persistence.jpars.test.service.v2.MetadataTest;
@@ -29,7 +30,8 @@
         MarshalUnmarshalV2Test.class,
         EmployeeV2Test.class,
         LinksTest.class,
-        ContextsTest.class
+        ContextsTest.class,
+        KeysetPagingTest.class
 })
 public class ServiceV2Tests {
 
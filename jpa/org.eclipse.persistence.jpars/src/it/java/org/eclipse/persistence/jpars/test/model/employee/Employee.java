@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -74,6 +74,9 @@
         @NamedQuery(
                 name = "Employee.findAllPageable",
                 query = "SELECT e FROM Employee e ORDER BY e.id"),
+        @NamedQuery(
+                name = "Employee.findAllKeyset",
+                query = "SELECT e FROM Employee e ORDER BY e.lastName, e.id"),
         @NamedQuery(
                 name = "Employee.deleteAll",
                 query = "DELETE FROM Employee e")
@@ -85,7 +88,8 @@
         @ConversionValue(dataValue = "M", objectValue = "Male"),
         @ConversionValue(dataValue = "F", objectValue = "Female") })
 @RestPageableQueries({
-    @RestPageableQuery(queryName = "Employee.findAllPageable", limit = 20)
+    @RestPageableQuery(queryName = "Employee.findAllPageable", limit = 20),
+    @RestPageableQuery(queryName = "Employee.findAllKeyset", limit = 20, keyset = true)
 })
 public class Employee {
 
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpars.test.service.v2;
+
+import org.eclipse.persistence.jpa.rs.resources.QueryResource;
+import org.eclipse.persistence.jpars.test.BaseJparsTest;
+import org.eclipse.persistence.jpars.test.model.employee.Employee;
+import org.eclipse.persistence.jpars.test.util.TestHttpHeaders;
+import org.eclipse.persistence.jpars.test.util.TestURIInfo;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import jakarta.persistence.EntityManager;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Keyset pagination tests, the next page is requested with the 'after' query parameter.
+ */
+public class KeysetPagingTest extends BaseJparsTest {
+    private static final String QUERY_NAME = "Employee.findAllKeyset";
+    private static final Pattern NEXT_LINK = Pattern.compile("\\{\"rel\":\"next\",\"href\":\"([^\"]+)\"}");
+    private static final Pattern KEYSET_ITEM = Pattern.compile("\"firstName\":\"(Keyset\\d)\"");
+
+    // Ordered by last name, the last names need encoding in the 'after' parameter
+    private static final String[] LAST_NAMES = {"Keyset 100%", "Keyset A & B", "Keyset C, D", "Keyset C, D", "Keyset E"};
+
+    private static QueryResource queryResource;
+    private static final List<Employee> employees = new ArrayList<>();
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        initContext("jpars_employee-static", "v2.0");
+        queryResource = new QueryResource();
+        queryResource.setPersistenceFactory(factory);
+
+        final EntityManager em = context.getEmf().createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < LAST_NAMES.length + 2; i++) {
+                final Employee employee = new Employee();
+                employee.setFirstName("Keyset" + i);
+                // The last two employees have no last name
+                employee.setLastName(i < LAST_NAMES.length ? LAST_NAMES[i] : null);
+                em.persist(employee);
+                employees.add(employee);
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        final EntityManager em = context.getEmf().createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (Employee employee : employees) {
+                em.remove(em.find(Employee.class, employee.getId()));
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Test
+    public void testKeysetPaging() throws URISyntaxException {
+        final List<String> items = new ArrayList<>();
+        String after = null;
+        do {
+            final String response = namedQuery("2", after);
+            final Matcher item = KEYSET_ITEM.matcher(response);
+            while (item.find()) {
+                items.add(item.group(1));
+            }
+            after = getNextAfter(response);
+        } while (after != null && !after.startsWith("~"));
+
+        // Every employee with a last name is read once, the values with ',', '%', '&' and ' ' continue the paging
+        assertEquals(Arrays.asList("Keyset0", "Keyset1", "Keyset2", "Keyset3", "Keyset4"), items.subList(0, LAST_NAMES.length));
+    }
+
+    @Test
+    public void testAfterWithComma() throws URISyntaxException {
+        // The page after the first "Keyset C, D" employee starts with the second one
+        final String after = getNextAfter(namedQuery("1", "Keyset+A+%26+B," + employees.get(1).getId()));
+        assertEquals("Keyset+C%2C+D," + employees.get(2).getId(), after);
+
+        final Matcher item = KEYSET_ITEM.matcher(namedQuery("1", after));
+        assertTrue(item.find());
+        assertEquals("Keyset3", item.group(1));
+    }
+
+    @Test
+    public void testAfterNullValue() throws URISyntaxException {
+        final EntityManager em = context.getEmf().createEntityManager();
+        final long count;
+        try {
+            count = em.createQuery("SELECT count(e) FROM Employee e WHERE e.lastName IS NOT NULL", Long.class).getSingleResult();
+        } finally {
+            em.close();
+        }
+
+        // The page ends with the first employee without a last name
+        final String after = getNextAfter(namedQuery(String.valueOf(count + 1), null));
+        assertNotNull(after);
+        assertTrue(after, after.startsWith("~,"));
+
+        // '~' is read back as null
+        namedQuery("1", after);
+    }
+
+    private String namedQuery(String limit, String after) {
+        final TestURIInfo uriInfo = new TestURIInfo();
+        uriInfo.getQueryParameters().add("limit", limit);
+        if (after != null) {
+            uriInfo.getQueryParameters().add("after", after);
+        }
+        final Response response = queryResource.namedQuery(version, pu, QUERY_NAME,
+                TestHttpHeaders.generateHTTPHeader(MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_JSON), uriInfo);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        return getResponseAsString(response);
+    }
+
+    /**
+     * Returns the 'after' parameter of the next link as the server reads it, or null if there is no next page.
+     */
+    private static String getNextAfter(String response) throws URISyntaxException {
+        final Matcher link = NEXT_LINK.matcher(response);
+        if (!link.find()) {
+            return null;
+        }
+        for (String param : new URI(link.group(1)).getQuery().split("&")) {
+            if (param.startsWith("after=")) {
+                return param.substring("after=".length());
+            }
+        }
+        fail("No 'after' parameter in the next link: " + link.group(1));
+        return null;
+    }
+
+    private static String getResponseAsString(Response response) {
+        final StreamingOutput output = (StreamingOutput) response.getEntity();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            output.write(outputStream);
+        } catch (IOException ex) {
+            fail(ex.toString());
+        }
+        return outputStream.toString();
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jaxb;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.persistence.Version;
+import org.eclipse.persistence.core.sessions.CoreProject;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.MOXySystemProperties;
+import org.eclipse.persistence.jaxb.TypeMappingInfo;
+import org.eclipse.persistence.jaxb.compiler.Generator;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.oxm.XMLConstants;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Store the project generated for a JAXBContext in a directory,
+ * so the next context created on the same classes reads it instead of processing the annotations again.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Key the cache on the EclipseLink version, the context properties and the bytecode of the bound classes
+ * <li> Record the bytecode digests of the classes of the generated descriptors and their attributes,
+ * and ignore a cached project if any of them changed
+ * <li> Only cache contexts whose metadata is entirely in the project, contexts with external bindings,
+ * non string properties, generated classes, element declarations, adapters of the bound types, callbacks or attachments
+ * are generated as before
+ * </ul>
+ * The project is stored with Java serialization, the cache directory must only be writable by the application.
+ *
+ * @see JAXBContextProperties#METADATA_CACHE_DIRECTORY
+ * @since EclipseLink 4.1
+ */
+public final class ContextMetadataCache {
+
+    /** Extension of the cache files. */
+    private static final String FILE_EXTENSION = ".ser";
+
+    /** Properties only set on the marshallers and unmarshallers, they are not part of the key. */
+    private static final Set<String> MARSHALLER_PROPERTIES = new HashSet<>(Arrays.asList(
+            JAXBContextProperties.MEDIA_TYPE,
+            JAXBContextProperties.NAMESPACE_PREFIX_MAPPER,
+            JAXBContextProperties.JSON_ATTRIBUTE_PREFIX,
+            JAXBContextProperties.JSON_INCLUDE_ROOT,
+            JAXBContextProperties.JSON_VALUE_WRAPPER,
+            JAXBContextProperties.JSON_NAMESPACE_SEPARATOR,
+            JAXBContextProperties.JSON_WRAPPER_AS_ARRAY_NAME,
+            JAXBContextProperties.JSON_USE_XSD_TYPES_WITH_PREFIX,
+            JAXBContextProperties.JSON_TYPE_COMPATIBILITY,
+            JAXBContextProperties.JSON_TYPE_ATTRIBUTE_NAME,
+            JAXBContextProperties.OBJECT_GRAPH,
+            JAXBContextProperties.UNMARSHALLING_CASE_INSENSITIVE,
+            JAXBContextProperties.BEAN_VALIDATION_MODE,
+            JAXBContextProperties.BEAN_VALIDATION_FACTORY,
+            JAXBContextProperties.BEAN_VALIDATION_GROUPS,
+            JAXBContextProperties.BEAN_VALIDATION_NO_OPTIMISATION,
+            JAXBContextProperties.MOXY_LOGGING_LEVEL,
+            JAXBContextProperties.MOXY_LOG_PAYLOAD,
+            JAXBContextProperties.METADATA_CACHE_DIRECTORY));
+
+    private final File file;
+    private final String key;
+
+    private ContextMetadataCache(File file, String key) {
+        this.file = file;
+        this.key = key;
+    }
+
+    /**
+     * Return the cache of the context created on the types with the properties,
+     * or null if no cache directory is set or the context cannot be cached.
+     */
+    public static ContextMetadataCache getCache(TypeMappingInfo[] types, Map properties) {
+        Class<?>[] classes = new Class<?>[types.length];
+        for (int index = 0; index < types.length; index++) {
+            TypeMappingInfo type = types[index];
+            // only plain classes, anything else in the TypeMappingInfo is not in the key
+            if (!(type.getType() instanceof Class) || (type.getXmlTagName() != null) || (type.getAnnotations() != null)
+                    || (type.getXmlElement() != null) || type.isNillable() || (type.getElementScope() != TypeMappingInfo.ElementScope.Local)) {
+                return null;
+            }
+            classes[index] = (Class<?>) type.getType();
+        }
+        return getCache(classes, properties);
+    }
+
+    /**
+     * Return the cache of the context created on the classes with the properties,
+     * or null if no cache directory is set or the context cannot be cached.
+     */
+    public static ContextMetadataCache getCache(Class<?>[] classes, Map properties) {
+        File directory = getDirectory(properties);
+        if (directory == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, Version.getVersionString());
+            update(digest, String.valueOf(MOXySystemProperties.xmlIdExtension));
+            update(digest, String.valueOf(MOXySystemProperties.xmlValueExtension));
+            if (properties != null) {
+                Map<String, String> keyProperties = new TreeMap<>();
+                for (Object entry : properties.entrySet()) {
+                    Object name = ((Map.Entry) entry).getKey();
+                    Object value = ((Map.Entry) entry).getValue();
+                    if (MARSHALLER_PROPERTIES.contains(name) || (value == null)) {
+                        continue;
+                    }
+                    if (!(name instanceof String) || JAXBContextProperties.OXM_METADATA_SOURCE.equals(name) || JAXBContextFactory.ECLIPSELINK_OXM_XML_KEY.equals(name)
+                            || !((value instanceof String) || (value instanceof Boolean) || (value instanceof Number) || (value instanceof Character))) {
+                        return null;
+                    }
+                    keyProperties.put((String) name, value.toString());
+                }
+                for (Map.Entry<String, String> entry : keyProperties.entrySet()) {
+                    update(digest, entry.getKey());
+                    update(digest, entry.getValue());
+                }
+            }
+            for (Class<?> next : classes) {
+                if (next.isArray() || next.isPrimitive()) {
+                    return null;
+                }
+                String classDigest = getClassDigest(next);
+                if (classDigest == null) {
+                    return null;
+                }
+                update(digest, next.getName());
+                update(digest, classDigest);
+            }
+            String key = toHex(digest.digest());
+            return new ContextMetadataCache(new File(directory, key + FILE_EXTENSION), key);
+        } catch (NoSuchAlgorithmException | IOException exception) {
+            return null;
+        }
+    }
+
+    private static File getDirectory(Map properties) {
+        Object directory = null;
+        if (properties != null) {
+            directory = properties.get(JAXBContextProperties.METADATA_CACHE_DIRECTORY);
+        }
+        if (directory == null) {
+            directory = MOXySystemProperties.metadataCacheDirectory;
+        }
+        if (directory instanceof File) {
+            return (File) directory;
+        } else if ((directory instanceof String) && !((String) directory).isEmpty()) {
+            return new File((String) directory);
+        }
+        return null;
+    }
+
+    /**
+     * Return the cache file.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Return the cached project, with its classes loaded from the class loader,
+     * or null if it is not cached or any of its classes changed.
+     */
+    public Project retrieveProject(ClassLoader classLoader) {
+        if (!file.isFile()) {
+            return null;
+        }
+        SessionLog log = AbstractSessionLog.getLog();
+        try (ObjectInputStream in = new ContextMetadataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())), classLoader)) {
+            in.setObjectInputFilter(new ContextMetadataFilter());
+            ContextMetadata metadata = (ContextMetadata) in.readObject();
+            if (!key.equals(metadata.key)) {
+                log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_metadata_cache_not_read", new Object[] {file, "key"});
+                return null;
+            }
+            for (Map.Entry<String, String> entry : metadata.classDigests.entrySet()) {
+                Class<?> next = PrivilegedAccessHelper.getClassForName(entry.getKey(), false, classLoader);
+                if (!entry.getValue().equals(getClassDigest(next))) {
+                    log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_metadata_cache_not_read", new Object[] {file, entry.getKey()});
+                    return null;
+                }
+            }
+            for (ClassDescriptor descriptor : metadata.project.getOrderedDescriptors()) {
+                if (metadata.defaultTypeAttributeDescriptors.contains(descriptor.getJavaClassName())) {
+                    // as set up by the MappingsGenerator
+                    XMLConstants.DEFAULT_XML_TYPE_ATTRIBUTE.getXPathFragment().setNamespaceURI(javax.xml.XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+                    descriptor.getInheritancePolicy().setClassIndicatorField(XMLConstants.DEFAULT_XML_TYPE_ATTRIBUTE);
+                }
+            }
+            log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_metadata_cache_read", new Object[] {file});
+            return metadata.project;
+        } catch (Exception exception) {
+            log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_metadata_cache_not_read", new Object[] {file, exception});
+            return null;
+        }
+    }
+
+    /**
+     * Store the project generated for the context, if all its metadata is in the project.
+     * The project must not be initialized yet.
+     */
+    public void storeProject(CoreProject project, Generator generator) {
+        if (generator.hasMarshalCallbacks() || generator.hasUnmarshalCallbacks() || generator.getAnnotationsProcessor().hasSwaRef()
+                || !isEmpty(generator.getMappingsGenerator().getQNamesToGeneratedClasses())
+                || !isEmpty(generator.getMappingsGenerator().getClassToGeneratedClasses())
+                || !isEmpty(generator.getMappingsGenerator().getQNamesToDeclaredClasses())
+                || !isEmpty(generator.getAnnotationsProcessor().getTypeMappingInfosToGeneratedClasses())
+                || !isEmpty(generator.getAnnotationsProcessor().getArrayClassesToGeneratedClasses())
+                || !isEmpty(generator.getAnnotationsProcessor().getCollectionClassesToGeneratedClasses())
+                || hasAdapterClasses(generator.getAnnotationsProcessor().getTypeMappingInfoToAdapterClasses())) {
+            return;
+        }
+        SessionLog log = AbstractSessionLog.getLog();
+        try {
+            ContextMetadata metadata = new ContextMetadata();
+            metadata.key = key;
+            metadata.project = (Project) project;
+            metadata.classDigests = getClassDigests(project);
+            metadata.defaultTypeAttributeDescriptors = new HashSet<>();
+            for (Object next : project.getOrderedDescriptors()) {
+                ClassDescriptor descriptor = (ClassDescriptor) next;
+                if (descriptor.hasInheritance() && (descriptor.getInheritancePolicy().getClassIndicatorField() == XMLConstants.DEFAULT_XML_TYPE_ATTRIBUTE)) {
+                    metadata.defaultTypeAttributeDescriptors.add(descriptor.getJavaClassName());
+                }
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(metadata);
+            }
+            // write to a temporary file first so a concurrent reader never sees a partial file
+            Path directory = file.getParentFile().toPath();
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, key, null);
+            try {
+                Files.write(temporaryFile, bytes.toByteArray());
+                try {
+                    Files.move(temporaryFile, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException exception) {
+                    Files.move(temporaryFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+            log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_metadata_cache_written", new Object[] {file});
+        } catch (Exception exception) {
+            // a project with a value that cannot be serialized is generated every time
+            log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_metadata_cache_not_written", new Object[] {file, exception});
+        }
+    }
+
+    /**
+     * Return the digests of the classes of the descriptors, their superclasses and the classes of their attributes.
+     */
+    private static Map<String, String> getClassDigests(CoreProject project) throws IOException, NoSuchAlgorithmException {
+        Map<String, String> digests = new HashMap<>();
+        for (Object next : project.getOrderedDescriptors()) {
+            ClassDescriptor descriptor = (ClassDescriptor) next;
+            for (Class<?> javaClass = descriptor.getJavaClass(); javaClass != null; javaClass = javaClass.getSuperclass()) {
+                addClassDigest(javaClass, digests);
+            }
+            for (DatabaseMapping mapping : descriptor.getMappings()) {
+                if (mapping.getAttributeClassification() != null) {
+                    addClassDigest(mapping.getAttributeClassification(), digests);
+                }
+            }
+        }
+        return digests;
+    }
+
+    private static void addClassDigest(Class<?> javaClass, Map<String, String> digests) throws IOException, NoSuchAlgorithmException {
+        if (javaClass.isPrimitive() || javaClass.isArray() || (javaClass.getClassLoader() == null) || digests.containsKey(javaClass.getName())) {
+            return;
+        }
+        String digest = getClassDigest(javaClass);
+        if (digest == null) {
+            throw new IOException(javaClass.getName());
+        }
+        digests.put(javaClass.getName(), digest);
+    }
+
+    /**
+     * Return the digest of the bytecode of the class and of its package-info class, or null if the bytecode is not available.
+     */
+    private static String getClassDigest(Class<?> javaClass) throws IOException, NoSuchAlgorithmException {
+        ClassLoader classLoader = javaClass.getClassLoader();
+        if (classLoader == null) {
+            return javaClass.getName();
+        }
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        if (!updateResource(digest, classLoader, javaClass.getName().replace('.', '/') + ".class")) {
+            return null;
+        }
+        // the package annotations change the namespaces of the class
+        String packageName = javaClass.getPackageName();
+        if (!packageName.isEmpty()) {
+            updateResource(digest, classLoader, packageName.replace('.', '/') + "/package-info.class");
+        }
+        return toHex(digest.digest());
+    }
+
+    private static boolean updateResource(MessageDigest digest, ClassLoader classLoader, String resourceName) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(resourceName)) {
+            if (in == null) {
+                return false;
+            }
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, count);
+            }
+            return true;
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte next : bytes) {
+            hex.append(Character.forDigit((next >> 4) & 0xF, 16)).append(Character.forDigit(next & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static boolean isEmpty(Map<?, ?> map) {
+        return (map == null) || map.isEmpty();
+    }
+
+    private static boolean hasAdapterClasses(Map<?, Class<?>> adapterClasses) {
+        if (adapterClasses != null) {
+            for (Class<?> adapterClass : adapterClasses.values()) {
+                if (adapterClass != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The content of a cache file.
+     */
+    private static final class ContextMetadata implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private String key;
+        private Project project;
+        private Map<String, String> classDigests;
+        /** Descriptors whose class indicator is the shared default xsi:type field, that is compared by identity. */
+        private Set<String> defaultTypeAttributeDescriptors;
+    }
+
+    /**
+     * Resolves the classes of the cached project with the class loader of the context.
+     */
+    private static final class ContextMetadataInputStream extends ObjectInputStream {
+        private final ClassLoader classLoader;
+
+        private ContextMetadataInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(description.getName(), false, classLoader);
+            } catch (ClassNotFoundException exception) {
+                return super.resolveClass(description);
+            }
+        }
+    }
+
+    /**
+     * Verify the content of a cache file being read, as for the JPA project cache.
+     */
+    private static final class ContextMetadataFilter implements ObjectInputFilter {
+
+        @Override
+        public Status checkInput(FilterInfo info) {
+            // Skip checks when decision was already made by higher level filter.
+            ObjectInputFilter serialFilter = ObjectInputFilter.Config.getSerialFilter();
+            if (serialFilter != null) {
+                Status status = serialFilter.checkInput(info);
+                if (status != Status.UNDECIDED) {
+                    return status;
+                }
+            }
+            // The only allowed instance on top of the structure is the cache file content
+            if ((info.serialClass() != null) && (info.depth() == 1L) && (info.serialClass() != ContextMetadata.class)) {
+                return Status.REJECTED;
+            }
+            return Status.UNDECIDED;
+        }
+    }
+}
@@ -14,6 +14,8 @@
 //     Matt MacIvor - 2.4 - Initial Implementation
 package org.eclipse.persistence.internal.jaxb;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.lang.reflect.Method;
 
 import org.eclipse.persistence.exceptions.DescriptorException;
@@ -38,7 +40,10 @@ public class CustomAccessorAttributeAccessor extends AttributeAccessor {
 
     public CustomAccessorAttributeAccessor(Object accessor) {
         this.accessor = accessor;
+        initializeMethods();
+    }
 
+    private void initializeMethods() {
         Class<?>[] getMethodParams = new Class<?>[]{Object.class};
         Class<?>[] setMethodParams = new Class<?>[]{Object.class, Object.class};
         try {
@@ -66,4 +71,9 @@ public void setAttributeValueInObject(Object object, Object value) throws Descri
             throw JAXBException.errorInvokingAccessor(this.accessor, "set", ex);
         }
     }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initializeMethods();
+    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jaxb;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+
+import org.eclipse.persistence.exceptions.XMLMarshalException;
+import org.eclipse.persistence.jaxb.JAXBUnmarshaller;
+
+/**
+ * INTERNAL:
+ * <p>
+ * Unmarshals the repeating elements of a document one at a time, so that a
+ * document of any size can be processed without holding it in memory. Only
+ * the element being unmarshalled is read, the reader of the document is
+ * advanced as the iterator is consumed.
+ * </p>
+ * <p>
+ * The elements are always read by one thread at a time. The stream returned
+ * by {@link #stream()} hands them in batches to other threads when it is
+ * parallel, so the rest of the pipeline is split across threads.
+ * </p>
+ *
+ * @since EclipseLink 4.1
+ */
+public abstract class RepeatingElementIterator<T> implements Iterator<T> {
+
+    /** Number of elements handed to another thread by a parallel stream. */
+    private static final int BATCH_SIZE = 128;
+
+    protected final JAXBUnmarshaller unmarshaller;
+    protected final Class<T> declaredType;
+    private boolean advanced;
+    private boolean hasNext;
+
+    protected RepeatingElementIterator(JAXBUnmarshaller unmarshaller, Class<T> declaredType) {
+        this.unmarshaller = unmarshaller;
+        this.declaredType = declaredType;
+    }
+
+    /**
+     * Unmarshal the elements of the given path read from an XMLStreamReader.
+     * The path is the local names of the elements from the root element to the
+     * repeating element, separated by '/'.
+     */
+    public static <T> RepeatingElementIterator<T> forStreamReader(JAXBUnmarshaller unmarshaller, XMLStreamReader streamReader, String path, Class<T> declaredType) {
+        return new StreamReaderIterator<>(unmarshaller, streamReader, path, declaredType);
+    }
+
+    /**
+     * Unmarshal each source returned by the given iterator, for example the
+     * values of a JSON array.
+     */
+    public static <T> RepeatingElementIterator<T> forSources(JAXBUnmarshaller unmarshaller, Iterator<? extends Source> sources, Class<T> declaredType) {
+        return new SourceIterator<>(unmarshaller, sources, declaredType);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!advanced) {
+            try {
+                hasNext = advance();
+            } catch (XMLStreamException e) {
+                throw XMLMarshalException.unmarshalException(e);
+            }
+            advanced = true;
+        }
+        return hasNext;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        advanced = false;
+        try {
+            return (T) unmarshalNext();
+        } catch (JAXBException e) {
+            throw XMLMarshalException.unmarshalException(e);
+        }
+    }
+
+    /**
+     * Return a sequential stream of the elements.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(new BatchSpliterator(), false);
+    }
+
+    /**
+     * Position the document at the next element, return false if there is none.
+     */
+    protected abstract boolean advance() throws XMLStreamException;
+
+    /**
+     * Unmarshal the element the document is positioned at.
+     */
+    protected abstract Object unmarshalNext() throws JAXBException;
+
+    private static final class StreamReaderIterator<T> extends RepeatingElementIterator<T> {
+        private final XMLStreamReader streamReader;
+        private final String[] localNames;
+        /** Number of elements open at the current position. */
+        private int depth;
+        /** Number of the open elements that match the start of the path. */
+        private int matched;
+
+        StreamReaderIterator(JAXBUnmarshaller unmarshaller, XMLStreamReader streamReader, String path, Class<T> declaredType) {
+            super(unmarshaller, declaredType);
+            this.streamReader = streamReader;
+            this.localNames = path.split("/");
+        }
+
+        @Override
+        protected boolean advance() throws XMLStreamException {
+            // after an element is unmarshalled the reader is positioned after its end
+            while (true) {
+                switch (streamReader.getEventType()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        if (matched == depth && depth < localNames.length && localNames[depth].equals(streamReader.getLocalName())) {
+                            if (depth == localNames.length - 1) {
+                                return true;
+                            }
+                            matched++;
+                        }
+                        depth++;
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        depth--;
+                        matched = Math.min(matched, depth);
+                        break;
+                    case XMLStreamConstants.END_DOCUMENT:
+                        return false;
+                    default:
+                        break;
+                }
+                if (!streamReader.hasNext()) {
+                    return false;
+                }
+                streamReader.next();
+            }
+        }
+
+        @Override
+        protected Object unmarshalNext() throws JAXBException {
+            return unmarshaller.unmarshal(streamReader, declaredType).getValue();
+        }
+    }
+
+    private static final class SourceIterator<T> extends RepeatingElementIterator<T> {
+        private final Iterator<? extends Source> sources;
+
+        SourceIterator(JAXBUnmarshaller unmarshaller, Iterator<? extends Source> sources, Class<T> declaredType) {
+            super(unmarshaller, declaredType);
+            this.sources = sources;
+        }
+
+        @Override
+        protected boolean advance() {
+            return sources.hasNext();
+        }
+
+        @Override
+        protected Object unmarshalNext() throws JAXBException {
+            return unmarshaller.unmarshal(sources.next(), declaredType).getValue();
+        }
+    }
+
+    /**
+     * Splits off batches of a fixed size, so a parallel stream never reads
+     * more than a few batches of elements ahead of its consumers.
+     */
+    private final class BatchSpliterator implements Spliterator<T> {
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (!hasNext()) {
+                return false;
+            }
+            action.accept(next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Object[] batch = new Object[BATCH_SIZE];
+            int size = 0;
+            while (size < BATCH_SIZE && hasNext()) {
+                batch[size++] = next();
+            }
+            return size == 0 ? null : Spliterators.spliterator(batch, 0, size, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED;
+        }
+    }
+}
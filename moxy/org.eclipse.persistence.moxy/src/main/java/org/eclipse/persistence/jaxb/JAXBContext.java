@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -26,6 +26,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -60,6 +61,7 @@
 import org.eclipse.persistence.internal.core.helper.CoreClassConstants;
 import org.eclipse.persistence.internal.helper.ConversionManager;
 import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.jaxb.ContextMetadataCache;
 import org.eclipse.persistence.internal.jaxb.JAXBSchemaOutputResolver;
 import org.eclipse.persistence.internal.jaxb.JaxbClassLoader;
 import org.eclipse.persistence.internal.jaxb.ObjectGraphImpl;
@@ -438,6 +440,39 @@ public JAXBUnmarshaller createUnmarshaller() throws jakarta.xml.bind.JAXBExcepti
         return contextState.createUnmarshaller(this);
     }
 
+    /**
+     * Create a JAXBProcessor.  The JAXBProcessor is a thread safe facade that
+     * marshals and unmarshals with pooled JAXBMarshaller and JAXBUnmarshaller
+     * instances, each configured once with the given properties.
+     *
+     * The number of pooled instances is set with the
+     * {@link JAXBContextProperties#PROCESSOR_POOL_SIZE} property of the context.
+     *
+     * @param marshallerProperties properties set on each JAXBMarshaller, may be null
+     * @param unmarshallerProperties properties set on each JAXBUnmarshaller, may be null
+     * @since EclipseLink 4.1
+     */
+    public JAXBProcessor createProcessor(Map<String, ?> marshallerProperties, Map<String, ?> unmarshallerProperties) throws jakarta.xml.bind.JAXBException {
+        return new JAXBProcessor(this, marshallerProperties, unmarshallerProperties, getProcessorPoolSize());
+    }
+
+    private int getProcessorPoolSize() throws PropertyException {
+        Map<?, ?> properties = contextState.properties;
+        Object poolSize = properties == null ? null : properties.get(JAXBContextProperties.PROCESSOR_POOL_SIZE);
+        if (poolSize == null) {
+            return Runtime.getRuntime().availableProcessors() * 2;
+        }
+        try {
+            int size = Integer.parseInt(String.valueOf(poolSize).trim());
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new PropertyException(JAXBContextProperties.PROCESSOR_POOL_SIZE, poolSize);
+    }
+
     /**
      * Create a JAXBValidator.  The JAXBValidator is used to validate Java objects against
      * an XSD.
@@ -538,6 +573,10 @@ public void setQNamesToDeclaredClasses(HashMap<QName, Class<?>> nameToDeclaredCl
      * Get the map for which array class (by name) corresponds to which generated class
      */
     public Map<String, Class<?>> getArrayClassesToGeneratedClasses() {
+        if (contextState.isReadFromMetadataCache()) {
+            // only contexts without generated classes are cached
+            return Collections.emptyMap();
+        }
         if (contextState.getGenerator() == null) {
             return null;
         }
@@ -549,6 +588,9 @@ public Map<String, Class<?>> getArrayClassesToGeneratedClasses() {
      * Get the map for which collection class (by Type) corresponds to which generated class
      */
     public Map<Type, Class<?>> getCollectionClassesToGeneratedClasses() {
+        if (contextState.isReadFromMetadataCache()) {
+            return Collections.emptyMap();
+        }
         if (contextState.getGenerator() == null) {
             return null;
         }
@@ -783,7 +825,8 @@ protected JAXBElement createJAXBElement(QName qname, Class<?> theClass, Object v
      * annotation.
      */
     public boolean hasSwaRef() {
-        return contextState.getGenerator().getAnnotationsProcessor().hasSwaRef();
+        // contexts read from sessions.xml have no generator, contexts with swaRef properties are not cached
+        return !contextState.isReadFromMetadataCache() && contextState.getGenerator() != null && contextState.getGenerator().getAnnotationsProcessor().hasSwaRef();
     }
 
     /**
@@ -794,6 +837,8 @@ public static abstract class JAXBContextInput {
 
         protected Map properties;
         protected ClassLoader classLoader;
+        /** False while the project of a context read from the metadata cache is generated again. */
+        private boolean useMetadataCache = true;
 
         /**
          * Create a new JAXBContextInput with the specified Map of properties and ClassLoader.
@@ -849,6 +894,47 @@ protected Collection<SessionEventListener> sessionEventListeners() {
             return eventListeners;
         }
 
+        /**
+         * Return the state of a context created from the project in the metadata cache,
+         * or null if the project is not cached.
+         */
+        JAXBContextState createContextState(ContextMetadataCache metadataCache, JaxbClassLoader loader, TypeMappingInfo[] typesToBeBound) {
+            Project project = metadataCache.retrieveProject(loader);
+            if (project == null) {
+                return null;
+            }
+            // classes are only serialized by name, as for a project read from deployment XML
+            project.convertClassNamesToClasses(loader);
+            XMLContext xmlContext = new XMLContext(project, loader, sessionEventListeners());
+            ((XMLLogin) xmlContext.getSession().getDatasourceLogin()).setEqualNamespaceResolvers(true);
+
+            JAXBContextState contextState = new JAXBContextState(xmlContext, this, typesToBeBound, properties);
+            for (TypeMappingInfo typeMappingInfo : typesToBeBound) {
+                Type type = typeMappingInfo.getType();
+                if (type instanceof Class) {
+                    typeMappingInfo.setXmlDescriptor((Descriptor) project.getDescriptor((Class) type));
+                }
+            }
+            return contextState;
+        }
+
+        /**
+         * Return the generator of a context read from the metadata cache, by generating its project again.
+         * Only needed by the operations that use the annotations of the bound classes, such as schema generation.
+         */
+        synchronized Generator createGenerator() throws jakarta.xml.bind.JAXBException {
+            useMetadataCache = false;
+            try {
+                return createContextState().getGenerator();
+            } finally {
+                useMetadataCache = true;
+            }
+        }
+
+        boolean useMetadataCache() {
+            return useMetadataCache;
+        }
+
     }
 
     static class ContextPathInput extends JAXBContextInput {
@@ -965,6 +1051,19 @@ private JAXBContextState createContextState(Class<?>[] classesToBeBound, Map<Str
                 }
             }
 
+            ContextMetadataCache metadataCache = useMetadataCache() ? ContextMetadataCache.getCache(classesToBeBound, properties) : null;
+            if (metadataCache != null) {
+                TypeMappingInfo[] typesToBeBound = new TypeMappingInfo[classesToBeBound.length];
+                for (int i = 0; i < classesToBeBound.length; i++) {
+                    typesToBeBound[i] = new TypeMappingInfo();
+                    typesToBeBound[i].setType(classesToBeBound[i]);
+                }
+                JAXBContextState contextState = createContextState(metadataCache, loader, typesToBeBound);
+                if (contextState != null) {
+                    return contextState;
+                }
+            }
+
             JavaModelImpl jModel;
             if (annotationHelper != null) {
                 jModel = new JavaModelImpl(loader, annotationHelper);
@@ -988,13 +1087,13 @@ private JAXBContextState createContextState(Class<?>[] classesToBeBound, Map<Str
             if (properties != null) enableFacetsIfPropertySetTrue(inputImpl, properties);
             try {
                 Generator generator = new Generator(inputImpl, xmlBindings, loader, defaultTargetNamespace, enableXmlAccessorFactory);
-                return createContextState(generator, loader, classesToBeBound, properties);
+                return createContextState(generator, loader, classesToBeBound, properties, metadataCache);
             } catch (Exception ex) {
                 throw new jakarta.xml.bind.JAXBException(ex.getMessage(), ex);
             }
         }
 
-        private JAXBContextState createContextState(Generator generator, JaxbClassLoader loader, Type[] typesToBeBound, Map properties) throws Exception {
+        private JAXBContextState createContextState(Generator generator, JaxbClassLoader loader, Type[] typesToBeBound, Map properties, ContextMetadataCache metadataCache) throws Exception {
             CoreProject proj = generator.generateProject();
             ConversionManager conversionManager = null;
             if (classLoader != null) {
@@ -1012,6 +1111,9 @@ private JAXBContextState createContextState(Generator generator, JaxbClassLoader
                     descriptor.setJavaClass(conversionManager.convertClassNameToClass(descriptor.getJavaClassName()));
                 }
             }
+            if (metadataCache != null) {
+                metadataCache.storeProject(proj, generator);
+            }
 
             XMLPlatform<org.eclipse.persistence.internal.oxm.XMLUnmarshaller> platform = new SAXPlatform();
             platform.getConversionManager().setLoader(loader);
@@ -1139,6 +1241,13 @@ protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBExce
             JaxbClassLoader loader = PrivilegedAccessHelper.callDoPrivileged(
                     () -> new JaxbClassLoader(classLoader, types)
             );
+            ContextMetadataCache metadataCache = useMetadataCache() ? ContextMetadataCache.getCache(typesToBeBound, properties) : null;
+            if (metadataCache != null) {
+                JAXBContextState contextState = createContextState(metadataCache, loader, typesToBeBound);
+                if (contextState != null) {
+                    return contextState;
+                }
+            }
             JavaModelImpl jModel;
             if (annotationHelper != null) {
                 jModel = new JavaModelImpl(loader, annotationHelper);
@@ -1166,14 +1275,14 @@ protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBExce
             try {
                 openToCore(inputImpl);
                 Generator generator = new Generator(inputImpl, typesToBeBound, inputImpl.getJavaClasses(), null, xmlBindings, classLoader, defaultTargetNamespace, enableXmlAccessorFactory);
-                JAXBContextState contextState = createContextState(generator, loader, typesToBeBound, properties);
+                JAXBContextState contextState = createContextState(generator, loader, typesToBeBound, properties, metadataCache);
                 return contextState;
             } catch (Exception ex) {
                 throw new jakarta.xml.bind.JAXBException(ex.getMessage(), ex);
             }
         }
 
-        private JAXBContextState createContextState(Generator generator, JaxbClassLoader loader, TypeMappingInfo[] typesToBeBound, Map properties) throws Exception {
+        private JAXBContextState createContextState(Generator generator, JaxbClassLoader loader, TypeMappingInfo[] typesToBeBound, Map properties, ContextMetadataCache metadataCache) throws Exception {
             CoreProject proj = generator.generateProject();
             ConversionManager conversionManager = null;
             if (classLoader != null) {
@@ -1190,6 +1299,9 @@ private JAXBContextState createContextState(Generator generator, JaxbClassLoader
                     descriptor.setJavaClass(conversionManager.convertClassNameToClass(descriptor.getJavaClassName()));
                 }
             }
+            if (metadataCache != null) {
+                metadataCache.storeProject(proj, generator);
+            }
 
             XMLPlatform<org.eclipse.persistence.internal.oxm.XMLUnmarshaller> platform = new SAXPlatform();
             platform.getConversionManager().setLoader(loader);
@@ -1275,6 +1387,8 @@ protected static class JAXBContextState {
         private Map<Type, TypeMappingInfo> typeToTypeMappingInfo;
         private Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> typeMappingInfoToJavaTypeAdapters;
         private Map properties;
+        /** The input of a context read from the metadata cache, to build its generator when it is needed. */
+        private JAXBContextInput contextInput;
 
         protected JAXBContextState() {
         }
@@ -1315,6 +1429,24 @@ protected JAXBContextState(XMLContext context, Generator generator, TypeMappingI
             }
         }
 
+        /**
+         * Create the state of a context whose project was not generated, but read from the metadata cache.
+         */
+        protected JAXBContextState(XMLContext context, JAXBContextInput contextInput, TypeMappingInfo[] boundTypes, Map properties) {
+            this(context);
+            this.contextInput = contextInput;
+            // only contexts without generated classes, element declarations and adapters are cached
+            this.qNameToGeneratedClasses = new HashMap<>();
+            this.classToGeneratedClasses = new HashMap<>();
+            this.qNamesToDeclaredClasses = new HashMap<>();
+            this.typeMappingInfoToGeneratedType = new HashMap<>();
+            this.typeMappingInfoToJavaTypeAdapters = new HashMap<>();
+            this.boundTypes = boundTypes;
+            if (properties != null) {
+                this.properties = new HashMap(properties);
+            }
+        }
+
         private Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> createAdaptersForAdapterClasses(Map<TypeMappingInfo, Class<?>> typeMappingInfoToAdapterClasses) {
             Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> typeMappingInfoToAdapters = new HashMap<>();
             for (Entry<TypeMappingInfo, Class<?>> entry : typeMappingInfoToAdapterClasses.entrySet()) {
@@ -1424,7 +1556,22 @@ private Map<String, Class<?>> getClassToGeneratedClasses() {
             return classToGeneratedClasses;
         }
 
+        /**
+         * Return true if the project was read from the metadata cache and the generator was not built yet.
+         */
+        private boolean isReadFromMetadataCache() {
+            return generator == null && contextInput != null;
+        }
+
         private Generator getGenerator() {
+            if (generator == null && contextInput != null) {
+                try {
+                    generator = contextInput.createGenerator();
+                } catch (jakarta.xml.bind.JAXBException e) {
+                    throw JAXBException.exceptionDuringSchemaGeneration(e);
+                }
+                contextInput = null;
+            }
             return generator;
         }
 
@@ -1455,7 +1602,7 @@ private Map<TypeMappingInfo, QName> getTypeMappingInfoToSchemaType() {
             if (typeToTypeMappingInfo != null && typeToTypeMappingInfo.size() > 0) {
                 return new HashMap<>();
             }
-            return generator.getAnnotationsProcessor().getTypeMappingInfosToSchemaTypes();
+            return getGenerator().getAnnotationsProcessor().getTypeMappingInfosToSchemaTypes();
         }
 
         private Map<QName, Class<?>> getQNamesToDeclaredClasses() {
@@ -1473,7 +1620,7 @@ private QName getSchemaTypeForTypeMappingInfo(Type type) {
             QName name = null;
             //Check for annotation overrides
             if (type instanceof Class) {
-                name = generator.getAnnotationsProcessor().getUserDefinedSchemaTypes().get(((Class) type).getName());
+                name = getGenerator().getAnnotationsProcessor().getUserDefinedSchemaTypes().get(((Class) type).getName());
                 if (name == null) {
                     Class<?> theClass = (Class) type;
                     //Change default for byte[] to Base64 (JAXB 2.0 default)
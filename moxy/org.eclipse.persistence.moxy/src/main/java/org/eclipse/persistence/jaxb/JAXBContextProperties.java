@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -444,4 +444,37 @@ public static final class Factory {
      * @see org.eclipse.persistence.jaxb.UnmarshallerProperties#MOXY_LOG_PAYLOAD
      */
     public static final String MOXY_LOG_PAYLOAD = "eclipselink.logging.payload.moxy";
+
+    /**
+     * The name of the directory the metadata generated for a JAXBContext is cached in.
+     * When set, the project generated from the annotations of the classes is stored in the directory,
+     * and the next JAXBContext created on the same classes with the same properties reads it
+     * instead of processing the annotations again. The cached project is ignored
+     * when the bytecode of one of its classes or the EclipseLink version changed.
+     *
+     * Contexts with external bindings ({@link #OXM_METADATA_SOURCE}), properties that are not strings,
+     * booleans or numbers, callbacks, attachments or generated wrapper classes are not cached.
+     * The project is stored with Java serialization, the directory must only be writable by the application.
+     *
+     * Usage: set to a {@link String} or {@link java.io.File} directory.
+     * It can be set via system property with name "eclipselink.moxy.metadata-cache.directory" too.
+     * By default no metadata is cached.
+     *
+     * @since EclipseLink 4.1
+     * @see org.eclipse.persistence.jaxb.MOXySystemProperties#METADATA_CACHE_DIRECTORY
+     */
+    public static final String METADATA_CACHE_DIRECTORY = "eclipselink.moxy.metadata-cache.directory";
+
+    /**
+     * The number of JAXBMarshaller and JAXBUnmarshaller instances each {@link JAXBProcessor}
+     * of the context keeps for reuse. Operations that run while all pooled instances are in use
+     * create a new instance, which is discarded afterwards.
+     *
+     * Usage: set to a positive {@link Integer} or its {@link String} value.
+     * By default twice the number of available processors.
+     *
+     * @since EclipseLink 4.1
+     * @see JAXBContext#createProcessor(java.util.Map, java.util.Map)
+     */
+    public static final String PROCESSOR_POOL_SIZE = "eclipselink.moxy.processor.pool-size";
 }
@@ -14,7 +14,11 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.jaxb;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.EnumSet;
+import java.util.Map;
 import java.util.Iterator;
 
 import org.eclipse.persistence.exceptions.DescriptorException;
@@ -116,4 +120,18 @@ public Object convertDataValueToObjectValue(Object fieldValue, Session session)
         }
     }
 
+    /**
+     * The field to attribute values are transient in the superclass, they are
+     * written here as the generated metadata of a JAXB context may be serialized.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(fieldToAttributeValues);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        fieldToAttributeValues = (Map) in.readObject();
+    }
+
 }
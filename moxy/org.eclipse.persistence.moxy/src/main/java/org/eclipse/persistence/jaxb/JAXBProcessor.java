@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jaxb;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import jakarta.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * <p><b>Purpose:</b> Provide thread safe marshal and unmarshal operations for
+ * a JAXBContext.</p>
+ * <p>JAXBMarshaller and JAXBUnmarshaller instances are not thread safe, and
+ * creating one per operation configures its XMLMarshaller, namespace resolvers
+ * and escape handlers again each time. A JAXBProcessor is configured once, with
+ * the properties of its marshallers and unmarshallers, and may then be shared by
+ * any number of threads. Each operation borrows a configured instance from a
+ * pool and returns it when done, an instance that failed is discarded.</p>
+ * <p>The pooled instances are never exposed, so their configuration cannot be
+ * changed after the processor is created. Each instance is pooled with the
+ * context state it was created for, when the metadata of a refreshable context
+ * is refreshed the instances created before are discarded, including the ones
+ * in use during the refresh.</p>
+ * <p>The size of the pool is set with the
+ * {@link JAXBContextProperties#PROCESSOR_POOL_SIZE} property of the context.</p>
+ *
+ * @see JAXBContext#createProcessor(Map, Map)
+ * @since EclipseLink 4.1
+ */
+public class JAXBProcessor {
+
+    private final JAXBContext jaxbContext;
+    private final Map<String, ?> marshallerProperties;
+    private final Map<String, ?> unmarshallerProperties;
+    private final BlockingQueue<PooledInstance<JAXBMarshaller>> marshallers;
+    private final BlockingQueue<PooledInstance<JAXBUnmarshaller>> unmarshallers;
+
+    JAXBProcessor(JAXBContext jaxbContext, Map<String, ?> marshallerProperties, Map<String, ?> unmarshallerProperties, int poolSize) throws JAXBException {
+        this.jaxbContext = jaxbContext;
+        this.marshallerProperties = marshallerProperties == null ? Collections.emptyMap() : new HashMap<>(marshallerProperties);
+        this.unmarshallerProperties = unmarshallerProperties == null ? Collections.emptyMap() : new HashMap<>(unmarshallerProperties);
+        this.marshallers = new ArrayBlockingQueue<>(poolSize);
+        this.unmarshallers = new ArrayBlockingQueue<>(poolSize);
+        // create one of each, so invalid properties are reported here
+        marshallers.offer(borrowMarshaller());
+        unmarshallers.offer(borrowUnmarshaller());
+    }
+
+    public JAXBContext getJAXBContext() {
+        return jaxbContext;
+    }
+
+    public void marshal(Object object, OutputStream outputStream) throws JAXBException {
+        PooledInstance<JAXBMarshaller> marshaller = borrowMarshaller();
+        marshaller.instance.marshal(object, outputStream);
+        release(marshallers, marshaller);
+    }
+
+    public void marshal(Object object, Writer writer) throws JAXBException {
+        PooledInstance<JAXBMarshaller> marshaller = borrowMarshaller();
+        marshaller.instance.marshal(object, writer);
+        release(marshallers, marshaller);
+    }
+
+    public void marshal(Object object, Result result) throws JAXBException {
+        PooledInstance<JAXBMarshaller> marshaller = borrowMarshaller();
+        marshaller.instance.marshal(object, result);
+        release(marshallers, marshaller);
+    }
+
+    public void marshal(Object object, XMLStreamWriter streamWriter) throws JAXBException {
+        PooledInstance<JAXBMarshaller> marshaller = borrowMarshaller();
+        marshaller.instance.marshal(object, streamWriter);
+        release(marshallers, marshaller);
+    }
+
+    public Object unmarshal(InputStream inputStream) throws JAXBException {
+        PooledInstance<JAXBUnmarshaller> unmarshaller = borrowUnmarshaller();
+        Object value = unmarshaller.instance.unmarshal(inputStream);
+        release(unmarshallers, unmarshaller);
+        return value;
+    }
+
+    public Object unmarshal(Reader reader) throws JAXBException {
+        PooledInstance<JAXBUnmarshaller> unmarshaller = borrowUnmarshaller();
+        Object value = unmarshaller.instance.unmarshal(reader);
+        release(unmarshallers, unmarshaller);
+        return value;
+    }
+
+    public Object unmarshal(Source source) throws JAXBException {
+        PooledInstance<JAXBUnmarshaller> unmarshaller = borrowUnmarshaller();
+        Object value = unmarshaller.instance.unmarshal(source);
+        release(unmarshallers, unmarshaller);
+        return value;
+    }
+
+    /**
+     * Unmarshal the document as the given type, the root element of the
+     * document is ignored.
+     */
+    public <T> T unmarshal(InputStream inputStream, Class<T> declaredType) throws JAXBException {
+        return unmarshal(new StreamSource(inputStream), declaredType);
+    }
+
+    /**
+     * Unmarshal the document as the given type, the root element of the
+     * document is ignored.
+     */
+    public <T> T unmarshal(Reader reader, Class<T> declaredType) throws JAXBException {
+        return unmarshal(new StreamSource(reader), declaredType);
+    }
+
+    /**
+     * Unmarshal the document as the given type, the root element of the
+     * document is ignored.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T unmarshal(Source source, Class<T> declaredType) throws JAXBException {
+        PooledInstance<JAXBUnmarshaller> unmarshaller = borrowUnmarshaller();
+        T value = (T) unmarshaller.instance.unmarshal(source, declaredType).getValue();
+        release(unmarshallers, unmarshaller);
+        return value;
+    }
+
+    /**
+     * Unmarshal the element the stream reader is positioned at as the given type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T unmarshal(XMLStreamReader streamReader, Class<T> declaredType) throws JAXBException {
+        PooledInstance<JAXBUnmarshaller> unmarshaller = borrowUnmarshaller();
+        T value = (T) unmarshaller.instance.unmarshal(streamReader, declaredType).getValue();
+        release(unmarshallers, unmarshaller);
+        return value;
+    }
+
+    private PooledInstance<JAXBMarshaller> borrowMarshaller() throws JAXBException {
+        JAXBContext.JAXBContextState contextState = jaxbContext.contextState;
+        PooledInstance<JAXBMarshaller> marshaller;
+        while ((marshaller = marshallers.poll()) != null) {
+            if (marshaller.contextState == contextState) {
+                return marshaller;
+            }
+        }
+        return new PooledInstance<>(createMarshaller(), contextState);
+    }
+
+    private PooledInstance<JAXBUnmarshaller> borrowUnmarshaller() throws JAXBException {
+        JAXBContext.JAXBContextState contextState = jaxbContext.contextState;
+        PooledInstance<JAXBUnmarshaller> unmarshaller;
+        while ((unmarshaller = unmarshallers.poll()) != null) {
+            if (unmarshaller.contextState == contextState) {
+                return unmarshaller;
+            }
+        }
+        return new PooledInstance<>(createUnmarshaller(), contextState);
+    }
+
+    /**
+     * Return the instance to the pool, unless the metadata of the context
+     * was refreshed since it was created.
+     */
+    private <T> void release(BlockingQueue<PooledInstance<T>> pool, PooledInstance<T> pooledInstance) {
+        if (pooledInstance.contextState == jaxbContext.contextState) {
+            pool.offer(pooledInstance);
+        }
+    }
+
+    private JAXBMarshaller createMarshaller() throws JAXBException {
+        JAXBMarshaller marshaller = jaxbContext.createMarshaller();
+        for (Map.Entry<String, ?> entry : marshallerProperties.entrySet()) {
+            marshaller.setProperty(entry.getKey(), entry.getValue());
+        }
+        return marshaller;
+    }
+
+    private JAXBUnmarshaller createUnmarshaller() throws JAXBException {
+        JAXBUnmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        for (Map.Entry<String, ?> entry : unmarshallerProperties.entrySet()) {
+            unmarshaller.setProperty(entry.getKey(), entry.getValue());
+        }
+        return unmarshaller;
+    }
+
+    /**
+     * A pooled instance and the context state it was created for.
+     */
+    private static final class PooledInstance<T> {
+        private final T instance;
+        private final JAXBContext.JAXBContextState contextState;
+
+        private PooledInstance(T instance, JAXBContext.JAXBContextState contextState) {
+            this.instance = instance;
+            this.contextState = contextState;
+        }
+    }
+
+}
@@ -30,6 +30,7 @@
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.stream.Stream;
 
 import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
@@ -44,6 +45,7 @@
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXSource;
 import javax.xml.validation.Schema;
 
 import org.eclipse.persistence.core.queries.CoreAttributeGroup;
@@ -52,6 +54,7 @@
 import org.eclipse.persistence.internal.core.helper.CoreClassConstants;
 import org.eclipse.persistence.internal.jaxb.IDResolverWrapper;
 import org.eclipse.persistence.internal.jaxb.ObjectGraphImpl;
+import org.eclipse.persistence.internal.jaxb.RepeatingElementIterator;
 import org.eclipse.persistence.internal.jaxb.WrappedValue;
 import org.eclipse.persistence.internal.jaxb.many.ManyValue;
 import org.eclipse.persistence.internal.oxm.Constants;
@@ -76,6 +79,7 @@
 import org.eclipse.persistence.oxm.NamespacePrefixMapper;
 import org.eclipse.persistence.oxm.NamespaceResolver;
 import org.eclipse.persistence.oxm.XMLUnmarshaller;
+import org.eclipse.persistence.oxm.json.JsonParserSource;
 import org.eclipse.persistence.oxm.record.UnmarshalRecord;
 import org.w3c.dom.Node;
 import org.xml.sax.Attributes;
@@ -801,6 +805,74 @@ public ValidationEventHandler getEventHandler() throws JAXBException {
         return validationEventHandler;
     }
 
+    /**
+     * Unmarshal the repeating elements found at the given path of a document
+     * one at a time. Each element is read from the stream reader and
+     * unmarshalled when the iterator is advanced, so a large document never
+     * has to be held in memory.
+     *
+     * @param streamReader a reader positioned before the root element of the document
+     * @param path the local names of the elements from the root element to the
+     * repeating element, separated by '/', for example "orders/order"
+     * @param declaredType the type of the repeating element
+     * @since EclipseLink 4.1
+     */
+    public <T> Iterator<T> unmarshalIterator(XMLStreamReader streamReader, String path, Class<T> declaredType) {
+        if (null == streamReader || null == path || null == declaredType) {
+            throw new IllegalArgumentException();
+        }
+        return RepeatingElementIterator.forStreamReader(this, streamReader, path, declaredType);
+    }
+
+    /**
+     * Unmarshal the repeating elements found at the given path of a document
+     * one at a time. The source is either a StAXSource created from an
+     * XMLStreamReader, with the path as for
+     * {@link #unmarshalIterator(XMLStreamReader, String, Class)}, or a
+     * JsonParserSource, with the path being the names of the objects leading
+     * to the array of the repeating values, separated by '/', or an empty
+     * string for an array at the root of the document.
+     *
+     * @since EclipseLink 4.1
+     */
+    public <T> Iterator<T> unmarshalIterator(Source source, String path, Class<T> declaredType) {
+        if (null == source || null == path || null == declaredType) {
+            throw new IllegalArgumentException();
+        }
+        if (source instanceof StAXSource) {
+            if (null != ((StAXSource) source).getXMLStreamReader()) {
+                return unmarshalIterator(((StAXSource) source).getXMLStreamReader(), path, declaredType);
+            }
+        } else if (source instanceof JsonParserSource) {
+            return RepeatingElementIterator.forSources(this, ((JsonParserSource) source).getArrayValues(path), declaredType);
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Return the repeating elements found at the given path of a document as
+     * a stream, see {@link #unmarshalIterator(XMLStreamReader, String, Class)}.
+     * The elements are read in document order by one thread at a time; when
+     * the stream is made parallel they are handed in batches to other threads
+     * for the rest of the pipeline.
+     *
+     * @since EclipseLink 4.1
+     */
+    public <T> Stream<T> unmarshalStream(XMLStreamReader streamReader, String path, Class<T> declaredType) {
+        return ((RepeatingElementIterator<T>) unmarshalIterator(streamReader, path, declaredType)).stream();
+    }
+
+    /**
+     * Return the repeating elements found at the given path of a document as
+     * a stream, see {@link #unmarshalIterator(Source, String, Class)} and
+     * {@link #unmarshalStream(XMLStreamReader, String, Class)}.
+     *
+     * @since EclipseLink 4.1
+     */
+    public <T> Stream<T> unmarshalStream(Source source, String path, Class<T> declaredType) {
+        return ((RepeatingElementIterator<T>) unmarshalIterator(source, path, declaredType)).stream();
+    }
+
     /**
      * Set a property on the JAXBUnmarshaller. Attempting to set any unsupported
      * property will result in a jakarta.xml.bind.PropertyException.
@@ -78,6 +78,14 @@ public final class MOXySystemProperties {
      */
     public static final String MOXY_LOG_PAYLOAD = "eclipselink.logging.payload.moxy";
 
+    /**
+     * Directory the metadata generated for a JAXBContext is cached in, when not set on the context.
+     *
+     * @since EclipseLink 4.1
+     * @see org.eclipse.persistence.jaxb.JAXBContextProperties#METADATA_CACHE_DIRECTORY
+     */
+    public static final String METADATA_CACHE_DIRECTORY = JAXBContextProperties.METADATA_CACHE_DIRECTORY;
+
 
     public static final Boolean xmlIdExtension = getBoolean(XML_ID_EXTENSION);
 
@@ -91,6 +99,8 @@ public final class MOXySystemProperties {
 
     public static final Boolean moxyLogPayload = PrivilegedAccessHelper.getSystemPropertyBoolean(MOXY_LOG_PAYLOAD, false);
 
+    public static final String metadataCacheDirectory = PrivilegedAccessHelper.getSystemProperty(METADATA_CACHE_DIRECTORY);
+
     /**
      * Returns value of system property.
      *
@@ -43,6 +43,7 @@
 import org.eclipse.persistence.testing.jaxb.unmarshaller.autodetect.AutoDetectFailsTestCases;
 import org.eclipse.persistence.testing.jaxb.unmarshaller.autodetect.AutoDetectMediaTypeTestCases;
 import org.eclipse.persistence.testing.jaxb.unmarshaller.autodetect.AutoDetectSmallDocTestCases;
+import org.eclipse.persistence.testing.jaxb.unmarshaller.iterator.RepeatingElementUnmarshalTestCases;
 import org.eclipse.persistence.testing.jaxb.unmarshaller.space.UnmarshalWithSpaceEventTestCases;
 import org.eclipse.persistence.testing.jaxb.unmarshaller.validation.ValidationTestCases;
 import org.eclipse.persistence.testing.jaxb.uri.ChildURITestCases;
@@ -124,6 +125,7 @@ public static Test suite() {
         suite.addTestSuite(XmlPathWithXmlAttributeTestCases.class);
         suite.addTestSuite(RepeatedUnmarshalTestCases.class);
         suite.addTestSuite(JSONUnmarshalTestCases.class);
+        suite.addTestSuite(RepeatingElementUnmarshalTestCases.class);
         suite.addTestSuite(JSONUnmarshalAutoDetectTestCases.class);
         suite.addTestSuite(DefaultValueTestCases.class);
         suite.addTestSuite(ValidationTestCases.class);
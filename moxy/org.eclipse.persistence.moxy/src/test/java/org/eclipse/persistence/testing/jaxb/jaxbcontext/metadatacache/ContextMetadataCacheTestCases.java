@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.jaxb.jaxbcontext.metadatacache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.SchemaOutputResolver;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.Result;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import junit.framework.TestCase;
+
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+
+public class ContextMetadataCacheTestCases extends TestCase {
+
+    private File cacheDirectory;
+
+    public ContextMetadataCacheTestCases(String name) {
+        super(name);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        cacheDirectory = Files.createTempDirectory("metadatacache").toFile();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        File[] files = cacheDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        cacheDirectory.delete();
+    }
+
+    private Map<String, Object> getProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JAXBContextProperties.METADATA_CACHE_DIRECTORY, cacheDirectory.getPath());
+        return properties;
+    }
+
+    private Customer getControlObject() {
+        Customer customer = new Customer();
+        customer.id = 123;
+        customer.name = "Jane Doe";
+        CanadianAddress address = new CanadianAddress();
+        address.street = "1 Any Street";
+        address.province = "Ontario";
+        customer.address = address;
+        customer.phoneNumbers.add("555-1111");
+        customer.phoneNumbers.add("555-2222");
+        return customer;
+    }
+
+    private String marshal(JAXBContext context, Object object) throws Exception {
+        StringWriter writer = new StringWriter();
+        context.createMarshaller().marshal(object, writer);
+        return writer.toString();
+    }
+
+    private String generateSchema(JAXBContext context) throws Exception {
+        final StringWriter writer = new StringWriter();
+        context.generateSchema(new SchemaOutputResolver() {
+            @Override
+            public Result createOutput(String namespaceUri, String suggestedFileName) throws IOException {
+                StreamResult result = new StreamResult(writer);
+                result.setSystemId(suggestedFileName);
+                return result;
+            }
+        });
+        return writer.toString();
+    }
+
+    public void testContextReadFromCache() throws Exception {
+        Class<?>[] classes = new Class<?>[] { Customer.class };
+        JAXBContext generatedContext = JAXBContextFactory.createContext(classes, getProperties());
+        assertEquals(1, cacheDirectory.listFiles().length);
+        long lastModified = cacheDirectory.listFiles()[0].lastModified();
+
+        JAXBContext cachedContext = JAXBContextFactory.createContext(classes, getProperties());
+        assertEquals(1, cacheDirectory.listFiles().length);
+        assertEquals(lastModified, cacheDirectory.listFiles()[0].lastModified());
+
+        String xml = marshal(generatedContext, getControlObject());
+        assertEquals(xml, marshal(cachedContext, getControlObject()));
+
+        Customer customer = (Customer) cachedContext.createUnmarshaller().unmarshal(new StringReader(xml));
+        assertEquals(123, customer.id);
+        assertEquals("Jane Doe", customer.name);
+        assertEquals(2, customer.phoneNumbers.size());
+        assertTrue(customer.address instanceof CanadianAddress);
+        assertEquals("Ontario", ((CanadianAddress) customer.address).province);
+    }
+
+    public void testTypedUnmarshalFromCachedContext() throws Exception {
+        Class<?>[] classes = new Class<?>[] { Customer.class };
+        JAXBContext generatedContext = JAXBContextFactory.createContext(classes, getProperties());
+        String xml = marshal(generatedContext, getControlObject());
+        JAXBContext cachedContext = JAXBContextFactory.createContext(classes, getProperties());
+
+        JAXBElement<Customer> element = cachedContext.createUnmarshaller().unmarshal(new StreamSource(new StringReader(xml)), Customer.class);
+        assertEquals(123, element.getValue().id);
+        assertEquals("Ontario", ((CanadianAddress) element.getValue().address).province);
+
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+        element = cachedContext.createUnmarshaller().unmarshal(document, Customer.class);
+        assertEquals("Jane Doe", element.getValue().name);
+        assertEquals(2, element.getValue().phoneNumbers.size());
+
+        assertNull("The project should not be generated to unmarshal to a class", getGenerator(cachedContext));
+    }
+
+    private Object getGenerator(JAXBContext context) throws Exception {
+        Field contextStateField = org.eclipse.persistence.jaxb.JAXBContext.class.getDeclaredField("contextState");
+        contextStateField.setAccessible(true);
+        Object contextState = contextStateField.get(context);
+        Field generatorField = contextState.getClass().getDeclaredField("generator");
+        generatorField.setAccessible(true);
+        return generatorField.get(contextState);
+    }
+
+    public void testSchemaGeneratedFromCachedContext() throws Exception {
+        Class<?>[] classes = new Class<?>[] { Customer.class };
+        JAXBContext generatedContext = JAXBContextFactory.createContext(classes, getProperties());
+        JAXBContext cachedContext = JAXBContextFactory.createContext(classes, getProperties());
+        assertEquals(generateSchema(generatedContext), generateSchema(cachedContext));
+    }
+
+    public void testOutOfDateCacheFileIgnored() throws Exception {
+        Class<?>[] classes = new Class<?>[] { Customer.class };
+        JAXBContext generatedContext = JAXBContextFactory.createContext(classes, getProperties());
+        File cacheFile = cacheDirectory.listFiles()[0];
+        long length = cacheFile.length();
+        Files.write(cacheFile.toPath(), new byte[] {1, 2, 3});
+
+        JAXBContext context = JAXBContextFactory.createContext(classes, getProperties());
+        assertEquals(marshal(generatedContext, getControlObject()), marshal(context, getControlObject()));
+        assertEquals(length, cacheFile.length());
+    }
+
+    public void testContextWithDifferentPropertiesCachedSeparately() throws Exception {
+        Class<?>[] classes = new Class<?>[] { Customer.class };
+        JAXBContextFactory.createContext(classes, getProperties());
+        Map<String, Object> properties = getProperties();
+        properties.put(JAXBContextProperties.DEFAULT_TARGET_NAMESPACE, "urn:customer");
+        JAXBContextFactory.createContext(classes, properties);
+        assertEquals(2, cacheDirectory.listFiles().length);
+    }
+
+    public void testContextWithBindingsNotCached() throws Exception {
+        Map<String, Object> properties = getProperties();
+        properties.put(JAXBContextProperties.OXM_METADATA_SOURCE, "org/eclipse/persistence/testing/jaxb/jaxbcontext/metadatacache/customer-oxm.xml");
+        JAXBContextFactory.createContext(new Class<?>[] { Customer.class }, properties);
+        assertEquals(0, cacheDirectory.listFiles().length);
+    }
+
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.jaxb.jaxbcontext.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.PropertyException;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.jaxb.JAXBContext;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBProcessor;
+import org.eclipse.persistence.jaxb.MarshallerProperties;
+import org.eclipse.persistence.jaxb.UnmarshallerProperties;
+import org.eclipse.persistence.testing.jaxb.refresh.Root;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class JAXBProcessorTestCases extends TestCase {
+
+    private JAXBContext jaxbContext;
+
+    public JAXBProcessorTestCases(String name) {
+        super(name);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        jaxbContext = (JAXBContext) JAXBContextFactory.createContext(new Class<?>[] { Order.class }, null);
+    }
+
+    private Order getControlObject(int id) {
+        Order order = new Order();
+        order.id = id;
+        order.items.add("item" + id);
+        order.items.add("other" + id);
+        return order;
+    }
+
+    private String marshal(JAXBProcessor processor, Object object) throws JAXBException {
+        StringWriter writer = new StringWriter();
+        processor.marshal(object, writer);
+        return writer.toString();
+    }
+
+    public void testXMLRoundTrip() throws Exception {
+        Map<String, Object> marshallerProperties = new HashMap<>();
+        marshallerProperties.put(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        JAXBProcessor processor = jaxbContext.createProcessor(marshallerProperties, null);
+
+        String xml = marshal(processor, getControlObject(1));
+        assertEquals("<order id=\"1\"><item>item1</item><item>other1</item></order>", xml);
+        Order order = (Order) processor.unmarshal(new StringReader(xml));
+        assertEquals(1, order.id);
+        assertEquals(getControlObject(1).items, order.items);
+    }
+
+    public void testJSONRoundTrip() throws Exception {
+        Map<String, Object> marshallerProperties = new HashMap<>();
+        marshallerProperties.put(MarshallerProperties.MEDIA_TYPE, "application/json");
+        marshallerProperties.put(MarshallerProperties.JSON_INCLUDE_ROOT, Boolean.FALSE);
+        Map<String, Object> unmarshallerProperties = new HashMap<>();
+        unmarshallerProperties.put(UnmarshallerProperties.MEDIA_TYPE, "application/json");
+        unmarshallerProperties.put(UnmarshallerProperties.JSON_INCLUDE_ROOT, Boolean.FALSE);
+        JAXBProcessor processor = jaxbContext.createProcessor(marshallerProperties, unmarshallerProperties);
+
+        String json = marshal(processor, getControlObject(2));
+        assertEquals("{\"id\":2,\"item\":[\"item2\",\"other2\"]}", json);
+        Order order = processor.unmarshal(new StringReader(json), Order.class);
+        assertEquals(2, order.id);
+        assertEquals(getControlObject(2).items, order.items);
+        // the pooled instances keep their configuration
+        assertEquals(json, marshal(processor, getControlObject(2)));
+    }
+
+    public void testConcurrentUse() throws Exception {
+        Map<String, Object> marshallerProperties = new HashMap<>();
+        marshallerProperties.put(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        final JAXBProcessor processor = jaxbContext.createProcessor(marshallerProperties, null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Order>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final int id = i;
+                futures.add(executor.submit(new Callable<Order>() {
+                    @Override
+                    public Order call() throws Exception {
+                        return (Order) processor.unmarshal(new StringReader(marshal(processor, getControlObject(id))));
+                    }
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Order order = futures.get(i).get();
+                assertEquals(i, order.id);
+                assertEquals(getControlObject(i).items, order.items);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testFailedOperationDoesNotAffectOthers() throws Exception {
+        JAXBProcessor processor = jaxbContext.createProcessor(null, null);
+        try {
+            processor.unmarshal(new StringReader("<order id=\"1\">"));
+            fail("An exception should have been thrown");
+        } catch (JAXBException e) {
+            // expected
+        }
+        Order order = (Order) processor.unmarshal(new StringReader("<order id=\"3\"/>"));
+        assertEquals(3, order.id);
+    }
+
+    public void testInvalidProperty() throws Exception {
+        Map<String, Object> marshallerProperties = new HashMap<>();
+        marshallerProperties.put("invalid.property", Boolean.TRUE);
+        try {
+            jaxbContext.createProcessor(marshallerProperties, null);
+            fail("An exception should have been thrown");
+        } catch (JAXBException e) {
+            // expected
+        }
+    }
+
+    public void testPoolSizeProperty() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JAXBContextProperties.PROCESSOR_POOL_SIZE, "1");
+        JAXBContext context = (JAXBContext) JAXBContextFactory.createContext(new Class<?>[] { Order.class }, properties);
+        Map<String, Object> marshallerProperties = new HashMap<>();
+        marshallerProperties.put(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        final JAXBProcessor processor = context.createProcessor(marshallerProperties, null);
+
+        // the operations that do not find a pooled instance use a new one
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Order>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                final int id = i;
+                futures.add(executor.submit(() -> (Order) processor.unmarshal(new StringReader(marshal(processor, getControlObject(id))))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(i, futures.get(i).get().id);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testInvalidPoolSizeProperty() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JAXBContextProperties.PROCESSOR_POOL_SIZE, 0);
+        JAXBContext context = (JAXBContext) JAXBContextFactory.createContext(new Class<?>[] { Order.class }, properties);
+        try {
+            context.createProcessor(null, null);
+            fail("An exception should have been thrown");
+        } catch (PropertyException e) {
+            // expected
+        }
+    }
+
+    public void testRefreshMetadataWhileBorrowed() throws Exception {
+        ClassLoader classLoader = getClass().getClassLoader();
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        Document metadataDocument;
+        try (InputStream metadataStream = classLoader.getResourceAsStream("org/eclipse/persistence/testing/jaxb/refresh/metadata.xml")) {
+            metadataDocument = dbf.newDocumentBuilder().parse(metadataStream);
+        }
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JAXBContextProperties.OXM_METADATA_SOURCE, metadataDocument);
+        final JAXBContext context = (JAXBContext) JAXBContextFactory.createContext(new Class<?>[] { Root.class }, properties);
+        Map<String, Object> marshallerProperties = new HashMap<>();
+        marshallerProperties.put(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        final JAXBProcessor processor = context.createProcessor(marshallerProperties, null);
+
+        final Root root = new Root();
+        root.setName("R");
+        final Element xmlElement = (Element) metadataDocument.getElementsByTagNameNS("http://www.eclipse.org/eclipselink/xsds/persistence/oxm", "xml-element").item(0);
+        // the metadata is refreshed while the marshaller and unmarshaller are borrowed
+        Writer writer = new Writer() {
+            private boolean refreshed;
+
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                if (!refreshed) {
+                    refreshed = true;
+                    xmlElement.setAttribute("name", "after-name");
+                    try {
+                        context.refreshMetadata();
+                        // another operation borrows an instance before the current one is returned
+                        assertEquals("<root><after-name>R</after-name></root>", marshal(processor, root));
+                    } catch (JAXBException e) {
+                        throw new IOException(e);
+                    }
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        processor.marshal(root, writer);
+        // each of the pooled marshallers uses the new metadata
+        for (int i = 0; i < 3; i++) {
+            assertEquals("<root><after-name>R</after-name></root>", marshal(processor, root));
+        }
+
+        StringReader reader = new StringReader("<root><after-name>R</after-name></root>") {
+            private boolean refreshed;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                if (!refreshed) {
+                    refreshed = true;
+                    xmlElement.setAttribute("name", "last-name");
+                    try {
+                        context.refreshMetadata();
+                        assertEquals(root, processor.unmarshal(new StringReader("<root><last-name>R</last-name></root>")));
+                    } catch (JAXBException e) {
+                        throw new IOException(e);
+                    }
+                }
+                return super.read(cbuf, off, len);
+            }
+        };
+        processor.unmarshal(reader);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(root, processor.unmarshal(new StringReader("<root><last-name>R</last-name></root>")));
+        }
+        assertEquals("<root><last-name>R</last-name></root>", marshal(processor, root));
+    }
+
+}
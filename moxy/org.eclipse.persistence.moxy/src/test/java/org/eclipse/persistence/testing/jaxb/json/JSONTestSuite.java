@@ -22,6 +22,7 @@
 import org.eclipse.persistence.testing.jaxb.json.array.ArrayTestCases;
 import org.eclipse.persistence.testing.jaxb.json.attribute.*;
 import org.eclipse.persistence.testing.jaxb.json.characters.EscapeCharactersTestCases;
+import org.eclipse.persistence.testing.jaxb.json.characters.PrimitiveCharactersTestCases;
 import org.eclipse.persistence.testing.jaxb.json.characters.UTF8TestCases;
 import org.eclipse.persistence.testing.jaxb.json.characters.UsAsciiTestCases;
 import org.eclipse.persistence.testing.jaxb.json.emptyroot.EmptyNullMarshalUnmarshalTestCases;
@@ -41,6 +42,7 @@
 import org.eclipse.persistence.testing.jaxb.json.norootelement.NoRootElementNSTestCases;
 import org.eclipse.persistence.testing.jaxb.json.norootelement.NoRootElementTestCases;
 import org.eclipse.persistence.testing.jaxb.json.padding.JSONWithPaddingTestCases;
+import org.eclipse.persistence.testing.jaxb.json.parser.JsonParserTestCases;
 import org.eclipse.persistence.testing.jaxb.json.rootlevellist.RootLevelListTestCases;
 import org.eclipse.persistence.testing.jaxb.json.type.*;
 import org.eclipse.persistence.testing.jaxb.json.unmapped.JsonUnmappedTestCases;
@@ -82,12 +84,14 @@ public static Test suite() {
           suite.addTestSuite(XMLValuePropValueFirstInJSONTestCases.class);
           suite.addTestSuite(NumberTestCases.class);
           suite.addTestSuite(EscapeCharactersTestCases.class);
+          suite.addTestSuite(PrimitiveCharactersTestCases.class);
           suite.addTestSuite(UsAsciiTestCases.class);
           suite.addTestSuite(UTF8TestCases.class);
           suite.addTest(RootLevelListTestCases.suite());
           suite.addTestSuite(EmptyNullMarshalUnmarshalTestCases.class);
           suite.addTestSuite(InheritanceNoRootTestCases.class);
           suite.addTest(JSONWithPaddingTestCases.suite());
+          suite.addTestSuite(JsonParserTestCases.class);
           suite.addTest(AnyTestCases.suite());
           suite.addTest(ArrayTestCases.suite());
           suite.addTest(AllWrapperTestCases.suite());
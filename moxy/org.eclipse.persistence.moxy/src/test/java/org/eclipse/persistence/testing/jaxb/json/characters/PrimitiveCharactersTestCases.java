@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.jaxb.json.characters;
+
+import java.util.Arrays;
+
+import org.eclipse.persistence.testing.jaxb.json.JSONMarshalUnmarshalTestCases;
+
+/**
+ * Boolean and integral number values are written straight to the output by
+ * JSONWriterRecord, this covers each type, their bounds, null and nil values.
+ */
+public class PrimitiveCharactersTestCases extends JSONMarshalUnmarshalTestCases {
+    private final static String JSON_RESOURCE = "org/eclipse/persistence/testing/jaxb/json/characters/primitiveCharacters.json";
+
+    public PrimitiveCharactersTestCases(String name) throws Exception {
+        super(name);
+        setClasses(new Class<?>[]{PrimitiveHolder.class});
+        setControlJSON(JSON_RESOURCE);
+    }
+
+    @Override
+    protected Object getControlObject() {
+        PrimitiveHolder holder = new PrimitiveHolder();
+        holder.attributeValue = -5;
+        holder.intValue = Integer.MIN_VALUE;
+        holder.integerValue = Integer.MAX_VALUE;
+        holder.longValue = Long.MIN_VALUE;
+        holder.longWrapperValue = Long.MAX_VALUE;
+        holder.shortValue = Short.MIN_VALUE;
+        holder.shortWrapperValue = Short.MAX_VALUE;
+        holder.byteValue = 0;
+        holder.byteWrapperValue = Byte.MIN_VALUE;
+        holder.booleanValue = true;
+        holder.booleanWrapperValue = Boolean.FALSE;
+        holder.nullValue = null;
+        holder.nilValue = null;
+        holder.stringTypedValue = 7;
+        holder.integers = Arrays.asList(1, -10, 100);
+        return holder;
+    }
+
+}
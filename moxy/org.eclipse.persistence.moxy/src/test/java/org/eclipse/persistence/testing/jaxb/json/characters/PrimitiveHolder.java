@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.jaxb.json.characters;
+
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlSchemaType;
+import jakarta.xml.bind.annotation.XmlType;
+
+@XmlRootElement
+@XmlType(propOrder = {"intValue", "integerValue", "longValue", "longWrapperValue", "shortValue", "shortWrapperValue",
+        "byteValue", "byteWrapperValue", "booleanValue", "booleanWrapperValue", "nullValue", "nilValue",
+        "stringTypedValue", "integers"})
+public class PrimitiveHolder {
+    @XmlAttribute
+    public Integer attributeValue;
+    public int intValue;
+    public Integer integerValue;
+    public long longValue;
+    public Long longWrapperValue;
+    public short shortValue;
+    public Short shortWrapperValue;
+    public byte byteValue;
+    public Byte byteWrapperValue;
+    public boolean booleanValue;
+    public Boolean booleanWrapperValue;
+    public Integer nullValue;
+    @XmlElement(nillable = true)
+    public Long nilValue;
+    @XmlSchemaType(name = "string")
+    public Integer stringTypedValue;
+    public List<Integer> integers;
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof PrimitiveHolder)) {
+            return false;
+        }
+        PrimitiveHolder other = (PrimitiveHolder) obj;
+        return Objects.equals(attributeValue, other.attributeValue)
+                && intValue == other.intValue
+                && Objects.equals(integerValue, other.integerValue)
+                && longValue == other.longValue
+                && Objects.equals(longWrapperValue, other.longWrapperValue)
+                && shortValue == other.shortValue
+                && Objects.equals(shortWrapperValue, other.shortWrapperValue)
+                && byteValue == other.byteValue
+                && Objects.equals(byteWrapperValue, other.byteWrapperValue)
+                && booleanValue == other.booleanValue
+                && Objects.equals(booleanWrapperValue, other.booleanWrapperValue)
+                && Objects.equals(nullValue, other.nullValue)
+                && Objects.equals(nilValue, other.nilValue)
+                && Objects.equals(stringTypedValue, other.stringTypedValue)
+                && Objects.equals(integers, other.integers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(intValue, integerValue, longValue);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.jaxb.json.parser;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import javax.xml.transform.stream.StreamSource;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBUnmarshaller;
+import org.eclipse.persistence.jaxb.UnmarshallerProperties;
+import org.eclipse.persistence.oxm.MediaType;
+import org.eclipse.persistence.oxm.json.JsonParserSource;
+
+/**
+ * Unmarshalling of root objects and arrays from a character stream and from
+ * JsonParser instances, including parsers that only implement the events API.
+ */
+public class JsonParserTestCases extends TestCase {
+
+    private static final String OBJECT = "{\"item\":{\"name\":\"first\",\"count\":1,\"tags\":[\"a\",\"b\"]}}";
+    private static final String ARRAY = "[{\"name\":\"first\",\"count\":1},{\"name\":\"second\",\"count\":2,\"tags\":[]}]";
+
+    private JAXBUnmarshaller unmarshaller;
+    private JAXBUnmarshaller noRootUnmarshaller;
+
+    public JsonParserTestCases(String name) {
+        super(name);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JAXBContextProperties.MEDIA_TYPE, MediaType.APPLICATION_JSON);
+        org.eclipse.persistence.jaxb.JAXBContext context = (org.eclipse.persistence.jaxb.JAXBContext) JAXBContextFactory.createContext(new Class<?>[] {Item.class}, properties);
+        unmarshaller = context.createUnmarshaller();
+        noRootUnmarshaller = context.createUnmarshaller();
+        noRootUnmarshaller.setProperty(UnmarshallerProperties.JSON_INCLUDE_ROOT, false);
+    }
+
+    public void testRootObject() throws Exception {
+        assertFirst((Item) unmarshaller.unmarshal(new StreamSource(new StringReader(OBJECT))));
+    }
+
+    public void testRootObjectFromParser() throws Exception {
+        assertFirst((Item) unmarshaller.unmarshal(new JsonParserSource(Json.createParser(new StringReader(OBJECT)))));
+    }
+
+    public void testRootArray() throws Exception {
+        assertItems(noRootUnmarshaller.unmarshal(new StreamSource(new StringReader(ARRAY)), Item.class));
+    }
+
+    public void testRootArrayFromParser() throws Exception {
+        assertItems(noRootUnmarshaller.unmarshal(new JsonParserSource(Json.createParser(new StringReader(ARRAY))), Item.class));
+    }
+
+    public void testEventsOnlyParser() throws Exception {
+        assertFirst((Item) unmarshaller.unmarshal(new JsonParserSource(new EventsOnlyJsonParser(OBJECT))));
+        assertItems(noRootUnmarshaller.unmarshal(new JsonParserSource(new EventsOnlyJsonParser(ARRAY)), Item.class));
+    }
+
+    public void testTrailingGarbage() {
+        assertRejected(OBJECT + " garbage");
+        assertRejected(ARRAY + "]");
+    }
+
+    public void testTrailingValue() {
+        assertRejected(OBJECT + OBJECT);
+        assertRejected(ARRAY + " 1");
+    }
+
+    public void testEmptyDocument() {
+        assertRejected("   ");
+    }
+
+    public void testReaderClosed() throws Exception {
+        final boolean[] closed = new boolean[1];
+        StringReader reader = new StringReader(OBJECT) {
+            @Override
+            public void close() {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        unmarshaller.unmarshal(reader);
+        assertTrue("The parser created for the reader should be closed", closed[0]);
+    }
+
+    private void assertRejected(String json) {
+        try {
+            noRootUnmarshaller.unmarshal(new StreamSource(new StringReader(json)), Item.class);
+            fail("The document should be rejected: " + json);
+        } catch (JAXBException | RuntimeException expected) {
+            // the parser reports the invalid content
+        }
+        try {
+            unmarshaller.unmarshal(new JsonParserSource(new EventsOnlyJsonParser(json)));
+            fail("The document should be rejected by an events only parser: " + json);
+        } catch (JAXBException | RuntimeException expected) {
+            // the parser reports the invalid content
+        }
+    }
+
+    private void assertFirst(Item item) {
+        assertEquals("first", item.name);
+        assertEquals(1, item.count);
+        assertEquals(Arrays.asList("a", "b"), item.tags);
+    }
+
+    private void assertItems(JAXBElement<?> element) {
+        List<?> items = (List<?>) element.getValue();
+        assertEquals(2, items.size());
+        assertEquals("first", ((Item) items.get(0)).name);
+        assertEquals(1, ((Item) items.get(0)).count);
+        assertEquals("second", ((Item) items.get(1)).name);
+        assertEquals(2, ((Item) items.get(1)).count);
+    }
+
+    /**
+     * A parser implementing only the methods JSON-P requires, so the optional
+     * value and stream methods throw UnsupportedOperationException.
+     */
+    private static final class EventsOnlyJsonParser implements JsonParser {
+
+        private final JsonParser parser;
+
+        EventsOnlyJsonParser(String json) {
+            this.parser = Json.createParser(new StringReader(json));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return parser.hasNext();
+        }
+
+        @Override
+        public Event next() {
+            return parser.next();
+        }
+
+        @Override
+        public String getString() {
+            return parser.getString();
+        }
+
+        @Override
+        public boolean isIntegralNumber() {
+            return parser.isIntegralNumber();
+        }
+
+        @Override
+        public int getInt() {
+            return parser.getInt();
+        }
+
+        @Override
+        public long getLong() {
+            return parser.getLong();
+        }
+
+        @Override
+        public BigDecimal getBigDecimal() {
+            return parser.getBigDecimal();
+        }
+
+        @Override
+        public JsonLocation getLocation() {
+            return parser.getLocation();
+        }
+
+        @Override
+        public void close() {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.jaxb.unmarshaller.iterator;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.xml.bind.JAXBContext;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stax.StAXSource;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBUnmarshaller;
+import org.eclipse.persistence.jaxb.UnmarshallerProperties;
+import org.eclipse.persistence.oxm.MediaType;
+import org.eclipse.persistence.oxm.json.JsonParserSource;
+
+public class RepeatingElementUnmarshalTestCases extends TestCase {
+
+    private static final String XML =
+            "<purchaseOrders>" +
+            "<header><purchaseOrder id=\"0\"/></header>" +
+            "<purchaseOrder id=\"1\"><item>a</item><item>b</item></purchaseOrder>" +
+            "<purchaseOrder id=\"2\"/>" +
+            "<archive><purchaseOrder id=\"9\"/></archive>" +
+            "<purchaseOrder id=\"3\"><item>c</item></purchaseOrder>" +
+            "</purchaseOrders>";
+
+    private static final String JSON =
+            "{\"header\":{\"purchaseOrder\":[{\"id\":0}]}," +
+            "\"purchaseOrders\":{\"count\":3,\"purchaseOrder\":[" +
+            "{\"id\":1,\"item\":[\"a\",\"b\"]},{\"id\":2},{\"id\":3,\"item\":[\"c\"]}]}}";
+
+    private JAXBContext jaxbContext;
+
+    public RepeatingElementUnmarshalTestCases(String name) {
+        super(name);
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        jaxbContext = JAXBContextFactory.createContext(new Class<?>[] { PurchaseOrder.class }, null);
+    }
+
+    private JAXBUnmarshaller createJSONUnmarshaller() throws Exception {
+        JAXBUnmarshaller unmarshaller = (JAXBUnmarshaller) jaxbContext.createUnmarshaller();
+        unmarshaller.setProperty(UnmarshallerProperties.MEDIA_TYPE, MediaType.APPLICATION_JSON);
+        unmarshaller.setProperty(UnmarshallerProperties.JSON_INCLUDE_ROOT, false);
+        return unmarshaller;
+    }
+
+    private XMLStreamReader createStreamReader(String xml) throws Exception {
+        return XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml));
+    }
+
+    private void assertPurchaseOrders(Iterator<PurchaseOrder> iterator) {
+        List<PurchaseOrder> purchaseOrders = new ArrayList<>();
+        iterator.forEachRemaining(purchaseOrders::add);
+        assertEquals(3, purchaseOrders.size());
+        assertEquals(1, purchaseOrders.get(0).id);
+        assertEquals(List.of("a", "b"), purchaseOrders.get(0).items);
+        assertEquals(2, purchaseOrders.get(1).id);
+        assertTrue(purchaseOrders.get(1).items.isEmpty());
+        assertEquals(3, purchaseOrders.get(2).id);
+        assertEquals(List.of("c"), purchaseOrders.get(2).items);
+    }
+
+    public void testXMLStreamReader() throws Exception {
+        JAXBUnmarshaller unmarshaller = (JAXBUnmarshaller) jaxbContext.createUnmarshaller();
+        assertPurchaseOrders(unmarshaller.unmarshalIterator(createStreamReader(XML), "purchaseOrders/purchaseOrder", PurchaseOrder.class));
+    }
+
+    public void testStAXSource() throws Exception {
+        JAXBUnmarshaller unmarshaller = (JAXBUnmarshaller) jaxbContext.createUnmarshaller();
+        StAXSource source = new StAXSource(createStreamReader(XML));
+        assertPurchaseOrders(unmarshaller.unmarshalIterator(source, "purchaseOrders/purchaseOrder", PurchaseOrder.class));
+    }
+
+    public void testXMLPathNotFound() throws Exception {
+        JAXBUnmarshaller unmarshaller = (JAXBUnmarshaller) jaxbContext.createUnmarshaller();
+        Iterator<PurchaseOrder> iterator = unmarshaller.unmarshalIterator(createStreamReader(XML), "orders/purchaseOrder", PurchaseOrder.class);
+        assertFalse(iterator.hasNext());
+    }
+
+    public void testJsonParser() throws Exception {
+        JsonParserSource source = new JsonParserSource(Json.createParser(new StringReader(JSON)));
+        assertPurchaseOrders(createJSONUnmarshaller().unmarshalIterator(source, "purchaseOrders/purchaseOrder", PurchaseOrder.class));
+    }
+
+    public void testJsonParserRootArray() throws Exception {
+        String json = "[{\"id\":1,\"item\":[\"a\",\"b\"]},{\"id\":2},{\"id\":3,\"item\":[\"c\"]}]";
+        JsonParserSource source = new JsonParserSource(Json.createParser(new StringReader(json)));
+        assertPurchaseOrders(createJSONUnmarshaller().unmarshalIterator(source, "", PurchaseOrder.class));
+    }
+
+    public void testJsonPathNotFound() throws Exception {
+        JsonParserSource source = new JsonParserSource(Json.createParser(new StringReader(JSON)));
+        Iterator<PurchaseOrder> iterator = createJSONUnmarshaller().unmarshalIterator(source, "purchaseOrders/count", PurchaseOrder.class);
+        assertFalse(iterator.hasNext());
+    }
+
+    public void testParallelStream() throws Exception {
+        int count = 1000;
+        StringBuilder xml = new StringBuilder("<purchaseOrders>");
+        for (int i = 1; i <= count; i++) {
+            xml.append("<purchaseOrder id=\"").append(i).append("\"><item>").append(i).append("</item></purchaseOrder>");
+        }
+        xml.append("</purchaseOrders>");
+        JAXBUnmarshaller unmarshaller = (JAXBUnmarshaller) jaxbContext.createUnmarshaller();
+        List<Integer> ids = unmarshaller.unmarshalStream(createStreamReader(xml.toString()), "purchaseOrders/purchaseOrder", PurchaseOrder.class)
+                .parallel()
+                .filter(purchaseOrder -> purchaseOrder.items.get(0).equals(String.valueOf(purchaseOrder.id)))
+                .map(purchaseOrder -> purchaseOrder.id)
+                .toList();
+        assertEquals(count, ids.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i + 1, ids.get(i).intValue());
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.indirection;
+
+import java.util.Map;
+
+import org.eclipse.persistence.indirection.IndirectList;
+import org.eclipse.persistence.indirection.IndirectMap;
+import org.eclipse.persistence.indirection.NonSynchronizedIndirectList;
+import org.eclipse.persistence.indirection.NonSynchronizedIndirectMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the synchronized IndirectList and IndirectMap with their non synchronized
+ * alternatives for the single threaded access typical of domain objects:
+ * populating the collection as done while building objects, then reading it.
+ */
+@State(Scope.Benchmark)
+public class IndirectCollectionBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private IndirectList<Integer> indirectList;
+    private IndirectList<Integer> nonSynchronizedIndirectList;
+    private IndirectMap<Integer, Integer> indirectMap;
+    private IndirectMap<Integer, Integer> nonSynchronizedIndirectMap;
+
+    @Setup
+    public void prepare() {
+        indirectList = populate(new IndirectList<>());
+        nonSynchronizedIndirectList = populate(new NonSynchronizedIndirectList<>());
+        indirectMap = populate(new IndirectMap<>());
+        nonSynchronizedIndirectMap = populate(new NonSynchronizedIndirectMap<>());
+    }
+
+    @Benchmark
+    public void testIndirectListPopulate(Blackhole bh) {
+        bh.consume(populate(new IndirectList<>()));
+    }
+
+    @Benchmark
+    public void testNonSynchronizedIndirectListPopulate(Blackhole bh) {
+        bh.consume(populate(new NonSynchronizedIndirectList<>()));
+    }
+
+    @Benchmark
+    public void testIndirectListRead(Blackhole bh) {
+        read(indirectList, bh);
+    }
+
+    @Benchmark
+    public void testNonSynchronizedIndirectListRead(Blackhole bh) {
+        read(nonSynchronizedIndirectList, bh);
+    }
+
+    @Benchmark
+    public void testIndirectMapPopulate(Blackhole bh) {
+        bh.consume(populate(new IndirectMap<>()));
+    }
+
+    @Benchmark
+    public void testNonSynchronizedIndirectMapPopulate(Blackhole bh) {
+        bh.consume(populate(new NonSynchronizedIndirectMap<>()));
+    }
+
+    @Benchmark
+    public void testIndirectMapRead(Blackhole bh) {
+        read(indirectMap, bh);
+    }
+
+    @Benchmark
+    public void testNonSynchronizedIndirectMapRead(Blackhole bh) {
+        read(nonSynchronizedIndirectMap, bh);
+    }
+
+    private IndirectList<Integer> populate(IndirectList<Integer> list) {
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private IndirectMap<Integer, Integer> populate(IndirectMap<Integer, Integer> map) {
+        for (int i = 0; i < size; i++) {
+            map.put(i, i);
+        }
+        return map;
+    }
+
+    private void read(IndirectList<Integer> list, Blackhole bh) {
+        for (Integer element : list) {
+            bh.consume(element);
+        }
+        for (int i = 0; i < list.size(); i++) {
+            bh.consume(list.get(i));
+        }
+        bh.consume(list.contains(size - 1));
+    }
+
+    private void read(IndirectMap<Integer, Integer> map, Blackhole bh) {
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            bh.consume(entry.getValue());
+        }
+        for (int i = 0; i < size; i++) {
+            bh.consume(map.get(i));
+        }
+        bh.consume(map.containsKey(size - 1));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,6 +15,7 @@
 package org.eclipse.persistence.testing.perf.json.marshal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -49,12 +50,37 @@ public class JsonMarshalBenchmark {
 
     private JAXBContext jaxbContext;
 
+    private Employee employee;
+
     /*
      * Initial setup.
      */
     @Setup
     public void prepare() throws Exception {
         prepareJAXBContext();
+        prepareEmployee();
+    }
+
+    /*
+     * Marshals directly to a stream, which is written by JSONWriterRecord.
+     */
+    @Benchmark
+    public void testJsonMarshalToOutputStream(Blackhole bh) throws Exception {
+        Marshaller marshaller = jaxbContext.createMarshaller();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(256);
+        marshaller.marshal(employee, baos);
+        bh.consume(baos);
+    }
+
+    /*
+     * Marshals directly to a writer, which is written by JSONWriterRecord.
+     */
+    @Benchmark
+    public void testJsonMarshalToWriter(Blackhole bh) throws Exception {
+        Marshaller marshaller = jaxbContext.createMarshaller();
+        StringWriter writer = new StringWriter(256);
+        marshaller.marshal(employee, writer);
+        bh.consume(writer);
     }
 
     @Benchmark
@@ -119,6 +145,20 @@ public void testJsonMarshal(Blackhole bh) throws Exception {
         bh.consume(baos);
     }
 
+    private void prepareEmployee() {
+        employee = new Employee();
+        employee.setId(1);
+        employee.setFirstName("Jane");
+        employee.setLastName("Doe \"Jr.\"");
+        String[] types = {"cell", "work", "home"};
+        for (int i = 0; i < types.length; i++) {
+            PhoneNumber phoneNumber = new PhoneNumber();
+            phoneNumber.setType(types[i]);
+            phoneNumber.setNumber("555-" + (1111 * (i + 1)));
+            employee.getPhoneNumbers().add(phoneNumber);
+        }
+    }
+
     private void prepareJAXBContext() throws Exception {
 
         Map<String, Object> jaxbProperties = new HashMap<String, Object>(2);
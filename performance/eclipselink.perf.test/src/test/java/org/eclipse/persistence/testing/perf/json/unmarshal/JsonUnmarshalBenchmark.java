@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -31,6 +31,7 @@
 import javax.xml.transform.stream.StreamSource;
 
 import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.oxm.json.JsonParserSource;
 import org.eclipse.persistence.oxm.json.JsonStructureSource;
 import org.eclipse.persistence.testing.perf.json.model.Employee;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -140,6 +141,26 @@ public void testJsonMOXyUnmarshal(Blackhole bh) throws Exception {
 
     }
 
+    @Benchmark
+    public void testJsonParserSourceUnmarshal(Blackhole bh) throws Exception {
+        InputStream inputStream = null;
+        try {
+            inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(INPUT_JSON);
+            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+            JsonParserSource parserSource = new JsonParserSource(Json.createParser(inputStream));
+            @SuppressWarnings("unchecked")
+            List<Employee> employees = (List<Employee>) unmarshaller.unmarshal(parserSource, Employee.class).getValue();
+            bh.consume(employees);
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw e;
+        } finally {
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        }
+    }
+
     @Benchmark
     public void testJsonParser(Blackhole bh) throws Exception {
         InputStream inputStream = null;
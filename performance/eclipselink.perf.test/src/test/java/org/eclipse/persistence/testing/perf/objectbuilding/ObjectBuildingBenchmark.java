@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.objectbuilding;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares building the attributes of objects from rows by iterating the mappings of the descriptor
+ * with the builder class generated for the mappings, for a wide row of numeric, date and string columns.
+ */
+@State(Scope.Benchmark)
+public class ObjectBuildingBenchmark {
+
+    public static class Trade {
+        public Long id;
+        public Integer quantity;
+        public BigDecimal price;
+        public BigDecimal amount;
+        public Double rate;
+        public Long accountId;
+        public Integer status;
+        public Timestamp created;
+        public Timestamp updated;
+        public String currency;
+        public String symbol;
+        public String trader;
+    }
+
+    private static final String[] ATTRIBUTES = {"id", "quantity", "price", "amount", "rate", "accountId", "status",
+            "created", "updated", "currency", "symbol", "trader"};
+
+    @Param({"false", "true"})
+    public boolean generated;
+
+    private DatabaseSessionImpl session;
+    private ObjectBuilder objectBuilder;
+    private ReadAllQuery query;
+    private List<AbstractRecord> rows;
+
+    @Setup
+    public void prepare() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Trade.class);
+        descriptor.addTableName("TRADE");
+        descriptor.addPrimaryKeyFieldName("TRADE.ID");
+        for (String attribute : ATTRIBUTES) {
+            DirectToFieldMapping mapping = new DirectToFieldMapping();
+            mapping.setAttributeName(attribute);
+            mapping.setFieldName("TRADE." + attribute.toUpperCase());
+            descriptor.addMapping(mapping);
+        }
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        objectBuilder = descriptor.getObjectBuilder();
+        objectBuilder.setShouldUseAttributesBuilder(generated);
+        query = new ReadAllQuery(Trade.class);
+
+        // Rows as returned by JDBC, numbers need conversion to the attribute types.
+        Vector<DatabaseField> fields = descriptor.getAllFields();
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        rows = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            Object[] values = new Object[fieldsArray.length];
+            for (int fieldIndex = 0; fieldIndex < fieldsArray.length; fieldIndex++) {
+                String name = fieldsArray[fieldIndex].getName();
+                if (name.equals("CURRENCY") || name.equals("SYMBOL") || name.equals("TRADER")) {
+                    values[fieldIndex] = name + index;
+                } else if (name.equals("CREATED") || name.equals("UPDATED")) {
+                    values[fieldIndex] = now;
+                } else {
+                    values[fieldIndex] = BigDecimal.valueOf(index);
+                }
+            }
+            rows.add(new ArrayRecord(fields, fieldsArray, values));
+        }
+    }
+
+    @Benchmark
+    public void testBuildAttributesIntoObject(Blackhole bh) {
+        for (AbstractRecord row : rows) {
+            Trade trade = new Trade();
+            objectBuilder.buildAttributesIntoObject(trade, null, row, query, null, null, false, session);
+            bh.consume(trade);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.sdo;
+
+import org.eclipse.persistence.sdo.DefaultValueStore;
+import org.eclipse.persistence.sdo.PrimitiveValueStore;
+import org.eclipse.persistence.sdo.SDOConstants;
+import org.eclipse.persistence.sdo.SDODataObject;
+import org.eclipse.persistence.sdo.ValueStore;
+import org.eclipse.persistence.sdo.helper.SDOHelperContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import commonj.sdo.DataObject;
+import commonj.sdo.Property;
+import commonj.sdo.Type;
+import commonj.sdo.helper.HelperContext;
+
+/**
+ * Measures reading and setting SDO DataObject values by path and by property,
+ * with the values of the primitive properties stored boxed or unboxed.
+ */
+@State(Scope.Benchmark)
+public class SDOPathBenchmark {
+
+    private static final String URI = "http://www.example.org/order";
+
+    @Param({"false", "true"})
+    public boolean primitiveValueStore;
+
+    private DataObject order;
+    private Property quantityProperty;
+    private int counter;
+
+    @Setup
+    public void prepare() {
+        HelperContext helperContext = new SDOHelperContext();
+        Type intType = helperContext.getTypeHelper().getType(SDOConstants.SDO_URL, "Int");
+        Type doubleType = helperContext.getTypeHelper().getType(SDOConstants.SDO_URL, "Double");
+        Type stringType = helperContext.getTypeHelper().getType(SDOConstants.SDO_URL, "String");
+
+        DataObject lineDescription = helperContext.getDataFactory().create(SDOConstants.SDO_URL, SDOConstants.TYPE);
+        lineDescription.set("uri", URI);
+        lineDescription.set("name", "Line");
+        addProperty(lineDescription, "product", stringType);
+        addProperty(lineDescription, "quantity", intType);
+        addProperty(lineDescription, "price", doubleType);
+        Type lineType = helperContext.getTypeHelper().define(lineDescription);
+
+        DataObject orderDescription = helperContext.getDataFactory().create(SDOConstants.SDO_URL, SDOConstants.TYPE);
+        orderDescription.set("uri", URI);
+        orderDescription.set("name", "Order");
+        addProperty(orderDescription, "id", intType);
+        addProperty(orderDescription, "customer", stringType);
+        addProperty(orderDescription, "line", lineType).setBoolean("containment", true);
+        Type orderType = helperContext.getTypeHelper().define(orderDescription);
+
+        order = createDataObject(helperContext, orderType);
+        order.setInt("id", 1);
+        order.setString("customer", "Bob");
+        DataObject line = createDataObject(helperContext, lineType);
+        order.setDataObject("line", line);
+        line.setString("product", "Widget");
+        line.setInt("quantity", 10);
+        line.setDouble("price", 2.5);
+        quantityProperty = lineType.getProperty("quantity");
+    }
+
+    private static DataObject addProperty(DataObject typeDescription, String name, Type type) {
+        DataObject property = typeDescription.createDataObject("property");
+        property.set("name", name);
+        property.set("type", type);
+        return property;
+    }
+
+    private DataObject createDataObject(HelperContext helperContext, Type type) {
+        SDODataObject dataObject = (SDODataObject) helperContext.getDataFactory().create(type);
+        ValueStore valueStore = primitiveValueStore ? new PrimitiveValueStore() : new DefaultValueStore();
+        dataObject._setCurrentValueStore(valueStore);
+        valueStore.initialize(dataObject);
+        return dataObject;
+    }
+
+    @Benchmark
+    public void testGetByPath(Blackhole bh) {
+        bh.consume(order.getInt("line/quantity"));
+        bh.consume(order.getDouble("line/price"));
+        bh.consume(order.getString("line/product"));
+    }
+
+    @Benchmark
+    public void testSetByPath() {
+        order.setInt("line/quantity", counter++);
+    }
+
+    @Benchmark
+    public void testGetByProperty(Blackhole bh) {
+        bh.consume(order.getDataObject("line").getInt(quantityProperty));
+    }
+}
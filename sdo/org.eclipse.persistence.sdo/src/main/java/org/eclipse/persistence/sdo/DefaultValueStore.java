@@ -142,6 +142,14 @@ public boolean[] getTypePropertiesIsSetStatus() {
         return typePropertiesIsSetStatus;
     }
 
+    /**
+     * INTERNAL:
+     * @return the DataObject this ValueStore was initialized for
+     */
+    DataObject getDataObject() {
+        return dataObject;
+    }
+
     /**
      * INTERNAL:
      * @param openContentValues
@@ -177,7 +185,7 @@ public ValueStore copy() {
         /**
          * Implementer: SDODataObject.resetChanges()
          */
-        DefaultValueStore anOriginalValueStore = new DefaultValueStore();
+        DefaultValueStore anOriginalValueStore = newValueStore();
         anOriginalValueStore.dataObject = dataObject;
 
         boolean[] currentIsSet = getTypePropertiesIsSetStatus();
@@ -209,6 +217,14 @@ public ValueStore copy() {
         return anOriginalValueStore;
     }
 
+    /**
+     * INTERNAL:
+     * Return a new ValueStore of this class for {@link #copy()}, with any state of the subclass copied.
+     */
+    protected DefaultValueStore newValueStore() {
+        return new DefaultValueStore();
+    }
+
     /**
      *  Indicates if a given ValueStore is equal to this.  The following
      *  attributes are tested for equality:
@@ -219,6 +235,9 @@ public ValueStore copy() {
      */
     @Override
     public boolean equals(Object obj) {
+        if (obj instanceof JournalValueStore) {
+            return obj.equals(this);
+        }
         DefaultValueStore dvs;
         try {
             dvs = (DefaultValueStore) obj;
@@ -283,7 +302,15 @@ public int hashCode() {
         Object[] typePropertyValues = getTypePropertyValues();
         boolean[] typePropertiesIsSetStatus = getTypePropertiesIsSetStatus();
         int result = dataObject != null ? dataObject.hashCode() : 0;
-        result = 31 * result + (typePropertyValues != null ? Arrays.hashCode(typePropertyValues) : 0);
+        if (typePropertyValues != null) {
+            // hash the values returned by getDeclaredProperty, which subclasses may store differently
+            int valuesHash = 1;
+            for (int i = 0; i < typePropertyValues.length; i++) {
+                Object value = getDeclaredProperty(i);
+                valuesHash = 31 * valuesHash + (value != null ? value.hashCode() : 0);
+            }
+            result = 31 * result + valuesHash;
+        }
         result = 31 * result + (typePropertiesIsSetStatus != null ? Arrays.hashCode(typePropertiesIsSetStatus) : 0);
         result = 31 * result + getOpenContentValues().hashCode();
         return result;
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sdo;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import commonj.sdo.DataObject;
+import commonj.sdo.Property;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>:ValueStore of a DataObject that was changed while change summary logging,
+ * that records only the changed values.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Keep the ValueStore of the DataObject at its first change unchanged, as the original ValueStore of the change summary
+ * <li> Record the values of the declared properties that are set or unset afterwards, in a journal sorted on the property index
+ * <li> Copy the open content values only when an open content property is set or unset
+ * <li> Read the values that are not in the journal from the original ValueStore
+ * </ul>
+ * Changing a DataObject then costs one journal entry per changed property, instead of a copy of all its values.
+ *
+ * @see SDOChangeSummary#getOriginalValueStores()
+ * @since EclipseLink 4.1
+ */
+public class JournalValueStore implements ValueStore {
+    /** Initial number of entries of the journal. */
+    private static final int INITIAL_JOURNAL_SIZE = 4;
+
+    /** The ValueStore of the DataObject at its first change, which is never modified through the journal. */
+    private DefaultValueStore originalValueStore;
+
+    /** Sorted indexes of the declared properties in the journal. */
+    private int[] journalIndexes;
+    private Object[] journalValues;
+    private boolean[] journalIsSet;
+    private int journalSize;
+
+    /** Open content values, null until an open content property is set or unset. */
+    private Map openContentValues;
+
+    public JournalValueStore(DefaultValueStore originalValueStore) {
+        this.originalValueStore = originalValueStore;
+    }
+
+    /**
+     * Return if changes to the ValueStore can be recorded in a journal.
+     * Only the default ValueStores are journaled, any other ValueStore is copied as before.
+     */
+    public static boolean isJournaled(ValueStore aValueStore) {
+        return (aValueStore != null) && ((aValueStore.getClass() == DefaultValueStore.class) || (aValueStore.getClass() == PrimitiveValueStore.class));
+    }
+
+    /**
+     * Return the ValueStore this journal records the changes of.
+     */
+    public DefaultValueStore getOriginalValueStore() {
+        return originalValueStore;
+    }
+
+    /**
+     * Return the number of declared properties in the journal.
+     */
+    public int getJournalSize() {
+        return journalSize;
+    }
+
+    private int indexOf(int propertyIndex) {
+        if (journalSize == 0) {
+            return -1;
+        }
+        return Arrays.binarySearch(journalIndexes, 0, journalSize, propertyIndex);
+    }
+
+    private void record(int propertyIndex, Object value, boolean isSet) {
+        int position = indexOf(propertyIndex);
+        if (position < 0) {
+            position = -(position + 1);
+            if (journalIndexes == null) {
+                journalIndexes = new int[INITIAL_JOURNAL_SIZE];
+                journalValues = new Object[INITIAL_JOURNAL_SIZE];
+                journalIsSet = new boolean[INITIAL_JOURNAL_SIZE];
+            } else if (journalSize == journalIndexes.length) {
+                int newLength = journalSize * 2;
+                journalIndexes = Arrays.copyOf(journalIndexes, newLength);
+                journalValues = Arrays.copyOf(journalValues, newLength);
+                journalIsSet = Arrays.copyOf(journalIsSet, newLength);
+            }
+            int moved = journalSize - position;
+            if (moved > 0) {
+                System.arraycopy(journalIndexes, position, journalIndexes, position + 1, moved);
+                System.arraycopy(journalValues, position, journalValues, position + 1, moved);
+                System.arraycopy(journalIsSet, position, journalIsSet, position + 1, moved);
+            }
+            journalIndexes[position] = propertyIndex;
+            journalSize++;
+        }
+        journalValues[position] = value;
+        journalIsSet[position] = isSet;
+    }
+
+    @Override
+    public Object getDeclaredProperty(int propertyIndex) {
+        int position = indexOf(propertyIndex);
+        if (position >= 0) {
+            return journalValues[position];
+        }
+        return originalValueStore.getDeclaredProperty(propertyIndex);
+    }
+
+    @Override
+    public Object getOpenContentProperty(Property property) {
+        return getOpenContentValues().get(property);
+    }
+
+    @Override
+    public void setDeclaredProperty(int propertyIndex, Object value) {
+        record(propertyIndex, value, true);
+    }
+
+    @Override
+    public void setOpenContentProperty(Property property, Object value) {
+        getChangedOpenContentValues().put(property, value);
+    }
+
+    //  Do not implement this function unless the valueStore handles its own object wrapping
+    @Override
+    public void setManyProperty(Property property, Object value) {
+    }
+
+    @Override
+    public boolean isSetDeclaredProperty(int propertyIndex) {
+        int position = indexOf(propertyIndex);
+        if (position >= 0) {
+            return journalIsSet[position];
+        }
+        return originalValueStore.isSetDeclaredProperty(propertyIndex);
+    }
+
+    @Override
+    public boolean isSetOpenContentProperty(Property property) {
+        return getOpenContentValues().containsKey(property);
+    }
+
+    @Override
+    public void unsetDeclaredProperty(int propertyIndex) {
+        Property prop = ((SDODataObject)originalValueStore.getDataObject()).getInstanceProperty(propertyIndex);
+        // as in the DefaultValueStore the list of a many property is kept
+        Object value = prop.isMany() ? getDeclaredProperty(propertyIndex) : null;
+        record(propertyIndex, value, false);
+    }
+
+    @Override
+    public void unsetOpenContentProperty(Property property) {
+        getChangedOpenContentValues().remove(property);
+    }
+
+    /**
+     * The values of the DataObject are reinitialized in a new ValueStore,
+     * the original ValueStore is left unchanged.
+     */
+    @Override
+    public void initialize(DataObject aDataObject) {
+        DefaultValueStore aValueStore = originalValueStore.newValueStore();
+        aValueStore.initialize(aDataObject);
+        originalValueStore = aValueStore;
+        journalIndexes = null;
+        journalValues = null;
+        journalIsSet = null;
+        journalSize = 0;
+        openContentValues = null;
+    }
+
+    /**
+     * INTERNAL:
+     * Keep the current value of the property in the journal, before the value of the original ValueStore is changed.
+     * @param property a declared or open content property of the DataObject
+     */
+    public void keepCurrentValue(Property property) {
+        if (property.isOpenContent()) {
+            getChangedOpenContentValues();
+        } else {
+            int propertyIndex = ((SDOProperty)property).getIndexInType();
+            if (indexOf(propertyIndex) < 0) {
+                record(propertyIndex, originalValueStore.getDeclaredProperty(propertyIndex), originalValueStore.isSetDeclaredProperty(propertyIndex));
+            }
+        }
+    }
+
+    /**
+     * Return the open content values, the original ones until an open content property is changed.
+     */
+    private Map getOpenContentValues() {
+        if (openContentValues == null) {
+            return originalValueStore.getOpenContentValues();
+        }
+        return openContentValues;
+    }
+
+    private Map getChangedOpenContentValues() {
+        if (openContentValues == null) {
+            openContentValues = new HashMap(originalValueStore.getOpenContentValues());
+        }
+        return openContentValues;
+    }
+
+    /**
+     * Get a copy of the ValueStore with the changes in the journal applied,
+     * changes made to the copy do not impact this ValueStore or the original ValueStore.
+     */
+    @Override
+    public ValueStore copy() {
+        DefaultValueStore aValueStore = (DefaultValueStore)originalValueStore.copy();
+        applyTo(aValueStore);
+        return aValueStore;
+    }
+
+    /**
+     * INTERNAL:
+     * Apply the changes in the journal to the original ValueStore and return it.
+     * Only called once the original ValueStore is no longer referenced by a change summary.
+     */
+    public DefaultValueStore commit() {
+        applyTo(originalValueStore);
+        return originalValueStore;
+    }
+
+    private void applyTo(DefaultValueStore aValueStore) {
+        for (int i = 0; i < journalSize; i++) {
+            aValueStore.setDeclaredProperty(journalIndexes[i], journalValues[i]);
+            if (!journalIsSet[i]) {
+                aValueStore.unsetDeclaredProperty(journalIndexes[i]);
+            }
+        }
+        if (openContentValues != null) {
+            aValueStore.setOpenContentValues(new HashMap(openContentValues));
+        }
+    }
+
+    /**
+     * Return the number of declared property values, as in the original ValueStore.
+     */
+    private int getDeclaredPropertyCount() {
+        Object[] values = originalValueStore.getTypePropertyValues();
+        return (values == null) ? 0 : values.length;
+    }
+
+    /**
+     * Indicates if the given ValueStore has the same data object and values as this journal,
+     * with the same equality as the {@link DefaultValueStore}.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        DataObject otherDataObject;
+        int otherCount;
+        Map otherOpenContentValues;
+        if (obj instanceof JournalValueStore) {
+            JournalValueStore other = (JournalValueStore)obj;
+            otherDataObject = other.originalValueStore.getDataObject();
+            otherCount = other.getDeclaredPropertyCount();
+            otherOpenContentValues = other.getOpenContentValues();
+        } else if (obj instanceof DefaultValueStore) {
+            DefaultValueStore other = (DefaultValueStore)obj;
+            otherDataObject = other.getDataObject();
+            Object[] values = other.getTypePropertyValues();
+            otherCount = (values == null) ? 0 : values.length;
+            otherOpenContentValues = other.getOpenContentValues();
+        } else {
+            return false;
+        }
+        if ((otherDataObject != originalValueStore.getDataObject()) || (otherCount != getDeclaredPropertyCount())) {
+            return false;
+        }
+        ValueStore other = (ValueStore)obj;
+        for (int i = 0; i < otherCount; i++) {
+            if (other.isSetDeclaredProperty(i) != isSetDeclaredProperty(i)) {
+                return false;
+            }
+            Object otherValue = other.getDeclaredProperty(i);
+            Object thisValue = getDeclaredProperty(i);
+            if ((otherValue == null) ? (thisValue != null) : !otherValue.equals(thisValue)) {
+                return false;
+            }
+        }
+        Map thisOpenContentValues = getOpenContentValues();
+        if (otherOpenContentValues.size() != thisOpenContentValues.size()) {
+            return false;
+        }
+        for (Iterator<Map.Entry> entries = otherOpenContentValues.entrySet().iterator(); entries.hasNext();) {
+            Map.Entry entry = entries.next();
+            Object thisValue = thisOpenContentValues.get(entry.getKey());
+            if ((entry.getValue() == null) ? (thisValue != null) : !entry.getValue().equals(thisValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the same hash code as a DefaultValueStore with the same values.
+     */
+    @Override
+    public int hashCode() {
+        DataObject dataObject = originalValueStore.getDataObject();
+        int result = dataObject != null ? dataObject.hashCode() : 0;
+        int count = getDeclaredPropertyCount();
+        if (originalValueStore.getTypePropertyValues() != null) {
+            int valuesHash = 1;
+            for (int i = 0; i < count; i++) {
+                Object value = getDeclaredProperty(i);
+                valuesHash = 31 * valuesHash + (value != null ? value.hashCode() : 0);
+            }
+            result = 31 * result + valuesHash;
+        }
+        boolean[] isSetStatus = originalValueStore.getTypePropertiesIsSetStatus();
+        int isSetHash = 0;
+        if (isSetStatus != null) {
+            isSetHash = 1;
+            for (int i = 0; i < isSetStatus.length; i++) {
+                isSetHash = 31 * isSetHash + (isSetDeclaredProperty(i) ? 1231 : 1237);
+            }
+        }
+        result = 31 * result + isSetHash;
+        result = 31 * result + getOpenContentValues().hashCode();
+        return result;
+    }
+}
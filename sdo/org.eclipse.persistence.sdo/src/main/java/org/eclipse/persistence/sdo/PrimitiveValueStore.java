@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sdo;
+
+import java.util.List;
+
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+
+import commonj.sdo.DataObject;
+import commonj.sdo.Property;
+
+/**
+ * <p><b>Purpose</b>:ValueStore that stores the values of primitive declared properties unboxed.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Store the values of single valued boolean, byte, char, short, int, long, float and double properties
+ * in a long[] instead of as wrapper objects, other values are stored as in the DefaultValueStore
+ * <li> Return wrapper objects for the primitive values through the ValueStore interface
+ * </ul>
+ * A DataObject with many numeric values then retains one long per value, instead of a wrapper object
+ * and a reference to it.
+ *
+ * @see SDOSystemProperties#SDO_PRIMITIVE_VALUE_STORE
+ * @since EclipseLink 4.1
+ */
+public class PrimitiveValueStore extends DefaultValueStore {
+    static final byte NONE = 0;
+    static final byte BOOLEAN = 1;
+    static final byte BYTE = 2;
+    static final byte CHAR = 3;
+    static final byte SHORT = 4;
+    static final byte INT = 5;
+    static final byte LONG = 6;
+    static final byte FLOAT = 7;
+    static final byte DOUBLE = 8;
+
+    /** Marks the declared property values that are stored in primitiveValues. */
+    private static final Object PRIMITIVE_VALUE = new Object();
+
+    private static final boolean isEnabled = PrivilegedAccessHelper.getSystemPropertyBoolean(SDOSystemProperties.SDO_PRIMITIVE_VALUE_STORE, false);
+
+    private byte[] primitiveKinds;
+    private long[] primitiveValues;
+
+    public PrimitiveValueStore() {
+    }
+
+    /**
+     * Return if new DataObjects should store their values in a PrimitiveValueStore.
+     */
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the primitive kind of each of the properties.
+     * The kinds only select the values that are stored unboxed, a value is stored unboxed
+     * only if its wrapper class matches the kind, so it is always returned unchanged.
+     */
+    static byte[] buildPrimitiveKinds(List properties) {
+        byte[] kinds = new byte[properties.size()];
+        for (int index = 0; index < kinds.length; index++) {
+            Property property = (Property)properties.get(index);
+            if (!property.isMany() && (property.getType() != null) && property.getType().isDataType()) {
+                kinds[index] = getPrimitiveKind(property.getType().getInstanceClass());
+            }
+        }
+        return kinds;
+    }
+
+    private static byte getPrimitiveKind(Class<?> instanceClass) {
+        if (instanceClass == null || !instanceClass.isPrimitive()) {
+            return NONE;
+        } else if (instanceClass == boolean.class) {
+            return BOOLEAN;
+        } else if (instanceClass == byte.class) {
+            return BYTE;
+        } else if (instanceClass == char.class) {
+            return CHAR;
+        } else if (instanceClass == short.class) {
+            return SHORT;
+        } else if (instanceClass == int.class) {
+            return INT;
+        } else if (instanceClass == long.class) {
+            return LONG;
+        } else if (instanceClass == float.class) {
+            return FLOAT;
+        } else if (instanceClass == double.class) {
+            return DOUBLE;
+        }
+        return NONE;
+    }
+
+    @Override
+    public void initialize(DataObject aDataObject) {
+        super.initialize(aDataObject);
+        byte[] kinds = ((SDOType)aDataObject.getType()).getPrimitivePropertyKinds();
+        for (byte kind : kinds) {
+            if (kind != NONE) {
+                primitiveKinds = kinds;
+                primitiveValues = new long[kinds.length];
+                return;
+            }
+        }
+        primitiveKinds = null;
+        primitiveValues = null;
+    }
+
+    @Override
+    public Object getDeclaredProperty(int propertyIndex) {
+        Object value = super.getDeclaredProperty(propertyIndex);
+        if (value == PRIMITIVE_VALUE) {
+            return toObject(primitiveKinds[propertyIndex], primitiveValues[propertyIndex]);
+        }
+        return value;
+    }
+
+    @Override
+    public void setDeclaredProperty(int propertyIndex, Object value) {
+        if ((primitiveKinds != null) && (propertyIndex < primitiveKinds.length) && (value != null)) {
+            byte kind = primitiveKinds[propertyIndex];
+            if ((kind != NONE) && (getValueKind(value) == kind)) {
+                primitiveValues[propertyIndex] = toBits(kind, value);
+                super.setDeclaredProperty(propertyIndex, PRIMITIVE_VALUE);
+                return;
+            }
+        }
+        super.setDeclaredProperty(propertyIndex, value);
+    }
+
+    /**
+     * Return the primitive kind of the wrapper object.
+     */
+    private static byte getValueKind(Object value) {
+        Class<?> valueClass = value.getClass();
+        if (valueClass == Integer.class) {
+            return INT;
+        } else if (valueClass == Long.class) {
+            return LONG;
+        } else if (valueClass == Double.class) {
+            return DOUBLE;
+        } else if (valueClass == Boolean.class) {
+            return BOOLEAN;
+        } else if (valueClass == Float.class) {
+            return FLOAT;
+        } else if (valueClass == Short.class) {
+            return SHORT;
+        } else if (valueClass == Byte.class) {
+            return BYTE;
+        } else if (valueClass == Character.class) {
+            return CHAR;
+        }
+        return NONE;
+    }
+
+    private static long toBits(byte kind, Object value) {
+        switch (kind) {
+            case BOOLEAN:
+                return ((Boolean)value) ? 1L : 0L;
+            case CHAR:
+                return (Character)value;
+            case FLOAT:
+                return Float.floatToRawIntBits((Float)value);
+            case DOUBLE:
+                return Double.doubleToRawLongBits((Double)value);
+            default:
+                return ((Number)value).longValue();
+        }
+    }
+
+    private static Object toObject(byte kind, long bits) {
+        switch (kind) {
+            case BOOLEAN:
+                return bits != 0L;
+            case BYTE:
+                return (byte)bits;
+            case CHAR:
+                return (char)bits;
+            case SHORT:
+                return (short)bits;
+            case INT:
+                return (int)bits;
+            case LONG:
+                return bits;
+            case FLOAT:
+                return Float.intBitsToFloat((int)bits);
+            default:
+                return Double.longBitsToDouble(bits);
+        }
+    }
+
+    @Override
+    protected DefaultValueStore newValueStore() {
+        PrimitiveValueStore aValueStore = new PrimitiveValueStore();
+        aValueStore.primitiveKinds = primitiveKinds;
+        if (primitiveValues != null) {
+            aValueStore.primitiveValues = primitiveValues.clone();
+        }
+        return aValueStore;
+    }
+}
@@ -25,6 +25,7 @@
 import commonj.sdo.Property;
 import commonj.sdo.Sequence;
 import commonj.sdo.helper.HelperContext;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.sdo.helper.ListWrapper;
 import org.eclipse.persistence.sdo.helper.SDOCopyHelper;
 
@@ -61,9 +62,9 @@ public class SDOChangeSummary implements ChangeSummary {
     private Map unsetPropsMap;
 
     /** To implement ChangeSummary undo we require a copy of the original state of our model.
-     * The originalValueStores will be populated when we start logging - it will then point to the
-     * currentValueStore while the currentValueStore will be shallow copied (its child ValueStores
-     * are shared between both ValueStores)
+     * The originalValueStores will be populated on the first change of a DataObject - it will then point to the
+     * currentValueStore while the currentValueStore will be a {@link JournalValueStore} recording the changed values
+     * over it, or a shallow copy of it for other ValueStores (its child ValueStores are shared between both ValueStores)
      */
     private Map originalValueStores;// HashMap<DataObject, ValueStore>
     private Map originalElements;
@@ -72,6 +73,12 @@ public class SDOChangeSummary implements ChangeSummary {
     private Map oldContainer;// Key is DataObject, value is DataObject
     private Map oldContainmentProperty;// Key is DataObject, value is Property
 
+    /** Record the old containers only for the DataObjects whose container changed. */
+    private static final boolean shouldRecordChangedContainers = PrivilegedAccessHelper.getSystemPropertyBoolean(SDOSystemProperties.SDO_CHANGE_SUMMARY_RECORD_CHANGED_CONTAINERS, false);
+
+    /** Set once logging is turned on, from then on changed containers are recorded unless logging is paused. */
+    private boolean isRecordingContainers;
+
     /** Cache map of originalSequences {@code Map<DataObject, Sequence>} */
     private Map oldSequences;// Key is DataObject, value is Sequence
 
@@ -198,7 +205,8 @@ public void setOldContainer(SDODataObject aKey, DataObject aValue) {
 
     /**
      * INTERNAL:
-     *
+     * Return the old containers recorded for the DataObjects whose container changed,
+     * see {@link #getOldContainer(DataObject)} for the old container of any DataObject.
      * @return
      */
     public Map getOldContainers() {
@@ -510,6 +518,7 @@ public void beginLogging() {
         if (!logging) {
             logging = true;
             loggingMapping = true;
+            isRecordingContainers = true;
             resetChanges();
             rootDataObject.resetChanges();
         }
@@ -524,6 +533,7 @@ public void resumeLogging() {
             logging = true;
             loggingMapping = true;
         }
+        isRecordingContainers = true;
     }
 
     /**
@@ -546,6 +556,7 @@ public void endLogging() {
     public void pauseLogging() {
         logging = false;
         loggingMapping = false;
+        isRecordingContainers = false;
     }
 
     /**
@@ -698,7 +709,13 @@ private Setting buildAndAddOldSetting(SDODataObject dataObject, Property propert
      */
     @Override
     public SDODataObject getOldContainer(DataObject dataObject) {
-        return (SDODataObject) oldContainer.get(dataObject);
+        if (oldContainer.containsKey(dataObject)) {
+            return (SDODataObject) oldContainer.get(dataObject);
+        }
+        if (hasUnchangedContainer(dataObject)) {
+            return ((SDODataObject) dataObject).getContainer();
+        }
+        return null;
     }
 
     /**
@@ -709,7 +726,45 @@ public SDODataObject getOldContainer(DataObject dataObject) {
      */
     @Override
     public SDOProperty getOldContainmentProperty(DataObject dataObject) {
-        return (SDOProperty) oldContainmentProperty.get(dataObject);
+        if (oldContainmentProperty.containsKey(dataObject)) {
+            return (SDOProperty) oldContainmentProperty.get(dataObject);
+        }
+        if (hasUnchangedContainer(dataObject)) {
+            return ((SDODataObject) dataObject).getContainmentProperty();
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return whether the container of the DataObject in the tree of this ChangeSummary has not changed since logging began,
+     * so its old container is its current container.
+     */
+    private boolean hasUnchangedContainer(DataObject dataObject) {
+        return shouldRecordChangedContainers && (dataObject instanceof SDODataObject) && (((SDODataObject) dataObject).getChangeSummary() == this) && !isCreated(dataObject);
+    }
+
+    /**
+     * INTERNAL:
+     * Return whether the old containers are recorded only for the DataObjects whose container changed,
+     * instead of for every DataObject in the tree when logging begins.
+     * @see SDOSystemProperties#SDO_CHANGE_SUMMARY_RECORD_CHANGED_CONTAINERS
+     */
+    public static boolean shouldRecordChangedContainers() {
+        return shouldRecordChangedContainers;
+    }
+
+    /**
+     * INTERNAL:
+     * Record the container and containment property of the DataObject before they first change,
+     * when only the changed containers are recorded.
+     * @param dataObject a DataObject whose container or containment property is about to change
+     */
+    public void recordOldContainer(SDODataObject dataObject) {
+        if (shouldRecordChangedContainers && isRecordingContainers && (dataObject.getContainer() != null) && !oldContainer.containsKey(dataObject) && !isCreated(dataObject)) {
+            oldContainer.put(dataObject, dataObject.getContainer());
+            oldContainmentProperty.put(dataObject, dataObject.getContainmentProperty());
+        }
     }
 
     /**
@@ -956,6 +1011,7 @@ public Object getPropertyInternal(DataObject dataObject, Property property) {
      */
     public void setPropertyInternal(DataObject dataObject, Property property, Object value) {
         ValueStore vs = (ValueStore)originalValueStores.get(dataObject);
+        keepCurrentValue(dataObject, vs, property);
         if (property.isOpenContent()) {
             vs.setOpenContentProperty(property, value);
         } else {
@@ -963,6 +1019,18 @@ public void setPropertyInternal(DataObject dataObject, Property property, Object
         }
     }
 
+    /**
+     * INTERNAL:
+     * The current ValueStore of a changed DataObject may read the values that did not change from
+     * the original ValueStore, keep the current value before the original one is changed.
+     */
+    private void keepCurrentValue(DataObject dataObject, ValueStore originalValueStore, Property property) {
+        ValueStore currentValueStore = ((SDODataObject)dataObject)._getCurrentValueStore();
+        if ((currentValueStore instanceof JournalValueStore) && (((JournalValueStore)currentValueStore).getOriginalValueStore() == originalValueStore)) {
+            ((JournalValueStore)currentValueStore).keepCurrentValue(property);
+        }
+    }
+
     /**
      * INTERNAL:
      * Return the map of original ValueStores keyed on
@@ -1013,6 +1081,7 @@ public boolean isDirty(SDOSequence aSequence) {
      */
   public void unsetPropertyInternal(DataObject dataObject, Property property) {
         ValueStore vs = (ValueStore)originalValueStores.get(dataObject);
+        keepCurrentValue(dataObject, vs, property);
         if (property.isMany()) {
             ListWrapper currentValue = (ListWrapper)dataObject.getList(property);
             originalElements.put(currentValue, new ArrayList());
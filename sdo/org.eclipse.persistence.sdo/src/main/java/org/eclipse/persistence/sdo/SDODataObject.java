@@ -23,6 +23,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.xml.namespace.QName;
 
@@ -97,7 +98,7 @@ public SDODataObject() {
         // however if it is called we will initialize the default implementation of the currentValueStore Map
         // initialize Map Implementation
         // set currentValueStore Map implementation (replace any that was set in the constructor in newInstance() above)
-        _setCurrentValueStore(new DefaultValueStore());
+        _setCurrentValueStore(PrimitiveValueStore.isEnabled() ? new PrimitiveValueStore() : new DefaultValueStore());
     }
 
     /**
@@ -1908,9 +1909,19 @@ private void updateChangeSummaryWithOriginalValues() {
         if (isLogging() && (!getChangeSummary().isDirty(this)) && (!getChangeSummary().isCreated(this))) {
             // dont copy containers of many props
             // original valuestore becomes current one (from null)
-            getChangeSummary().getOriginalValueStores().put(this, _getCurrentValueStore());
-            // we make a shallow copy of the current valuestore arrays at this level in the tree
-            currentValueStore = _getCurrentValueStore().copy();
+            ValueStore anOriginalValueStore = _getCurrentValueStore();
+            if (anOriginalValueStore instanceof JournalValueStore) {
+                // changes journaled for a previous log are applied before the original is kept
+                anOriginalValueStore = ((JournalValueStore)anOriginalValueStore).commit();
+            }
+            getChangeSummary().getOriginalValueStores().put(this, anOriginalValueStore);
+            if (JournalValueStore.isJournaled(anOriginalValueStore)) {
+                // record only the values changed from now on, over the unchanged original valuestore
+                currentValueStore = new JournalValueStore((DefaultValueStore)anOriginalValueStore);
+            } else {
+                // we make a shallow copy of the current valuestore arrays at this level in the tree
+                currentValueStore = anOriginalValueStore.copy();
+            }
 
             // handle Sequences only in UC2 where we have modified the container object - not when only the sequence is dirty
             if (getType().isSequenced()) {
@@ -1929,12 +1940,17 @@ private void updateChangeSummaryWithOriginalValues() {
      * the tree to initialize all DataObjects rooted at this DataObject.
      */
     public void resetChanges() {
-        // fill all oldSettings when logging is turned on
-        if ((container != null) && (containmentPropertyName != null) && (changeSummary != null)) {
+        // fill all oldSettings when logging is turned on, unless the old container is recorded when it first changes
+        if ((container != null) && (containmentPropertyName != null) && (changeSummary != null) && !SDOChangeSummary.shouldRecordChangedContainers()) {
             changeSummary.setOldContainer(this, container);
             changeSummary.setOldContainmentProperty(this, container.getInstanceProperty(containmentPropertyName));
         }
 
+        // apply the changes journaled for a previous log, the original valueStore is no longer referenced
+        if ((currentValueStore instanceof JournalValueStore) && ((changeSummary == null) || !changeSummary.isDirty(this))) {
+            currentValueStore = ((JournalValueStore)currentValueStore).commit();
+        }
+
         // Note: valueStores will not be switched and originalValueStore will continue to be null until the first modification
         // initialize empty list for current dataObject
         for(int x=0, instancePropertiesSize=instanceProperties.size(); x<instancePropertiesSize; x++) {
@@ -2023,6 +2039,9 @@ public ValueStore _getCurrentValueStore() {
      * @param aContainer the DataObject which is the container of this DataObject.
      */
     public void _setContainer(DataObject aContainer) {
+        if ((changeSummary != null) && (container != aContainer)) {
+            changeSummary.recordOldContainer(this);
+        }
         container = (SDODataObject) aContainer;
     }
 
@@ -2319,6 +2338,9 @@ public Object convertObjectToValue(Property property, int position, Class<?> cls
      * @param aContainmentPropertyName the name of the property on the containing DataObject which has this DataObject as a value.
      */
     public void _setContainmentPropertyName(String aContainmentPropertyName) {
+        if ((changeSummary != null) && !Objects.equals(containmentPropertyName, aContainmentPropertyName)) {
+            changeSummary.recordOldContainer(this);
+        }
         containmentPropertyName = aContainmentPropertyName;
     }
 
@@ -41,4 +41,27 @@ private SDOSystemProperties() {
      * Default value is {@code 1 000 000}.
      */
     public static final String SDO_HELPER_CONTEXTS_MAX_SIZE = "eclipselink.sdo.helper.contexts.max.size";
+
+    /**
+     * Property controls if DataObjects store the values of single valued primitive properties
+     * (boolean, byte, char, short, int, long, float and double) unboxed.
+     *
+     * <p>
+     * See {@link org.eclipse.persistence.sdo.PrimitiveValueStore} for more details.
+     * Default value is {@code false}.
+     * </p>
+     */
+    public static final String SDO_PRIMITIVE_VALUE_STORE = "eclipselink.sdo.primitive.value.store";
+
+    /**
+     * Property controls if change summaries record the old container of a DataObject only when its container
+     * first changes, instead of for every DataObject in the tree when logging begins.
+     *
+     * <p>
+     * The old container of a DataObject whose container did not change is then its current container,
+     * and {@link org.eclipse.persistence.sdo.SDOChangeSummary#getOldContainers()} holds only the changed ones.
+     * Default value is {@code false}.
+     * </p>
+     */
+    public static final String SDO_CHANGE_SUMMARY_RECORD_CHANGED_CONTAINERS = "eclipselink.sdo.change.summary.record.changed.containers";
 }
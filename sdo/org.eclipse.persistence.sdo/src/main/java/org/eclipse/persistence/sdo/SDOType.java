@@ -25,7 +25,9 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.xml.namespace.QName;
+import org.eclipse.persistence.sdo.helper.CompiledPath;
 import org.eclipse.persistence.sdo.helper.SDOClassLoader;
 import org.eclipse.persistence.sdo.helper.SDOHelperContext;
 import org.eclipse.persistence.sdo.helper.SDOTypeHelper;
@@ -86,6 +88,15 @@ public class SDOType implements Type, Serializable {
     private List appInfoElements;
     private Map appInfoMap;
 
+    /** Maximum number of compiled paths cached for a type, so generated paths cannot grow the cache without bound. */
+    private static final int MAX_COMPILED_PATHS = 1000;
+
+    /** Simple paths used to access DataObjects of this type, compiled on first use */
+    private transient Map<String, CompiledPath> compiledPaths;
+
+    /** Primitive kind of each property, used by the PrimitiveValueStore */
+    private transient byte[] primitivePropertyKinds;
+
     /** Open Content setOpen constants */
     private static final String ANY_MAPPING_ATTRIBUTE_NAME = "openContentProperties";
     private static final String ANY_MAPPING_GET_METHOD_NAME = "_getOpenContentPropertiesWithXMLRoots";
@@ -637,6 +648,42 @@ public void removeDeclaredProperties(Property p) {
         getDeclaredProperties().remove(p);
         getDeclaredPropertiesMap().remove(p.getName());
         getProperties().remove(p);
+        compiledPaths = null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the compiled form of a simple path used to access DataObjects of this type,
+     * or null if the path must be evaluated by the XPathEngine.
+     */
+    public CompiledPath getCompiledPath(String path) {
+        Map<String, CompiledPath> paths = compiledPaths;
+        if (paths == null) {
+            paths = new ConcurrentHashMap<>();
+            compiledPaths = paths;
+        }
+        CompiledPath compiledPath = paths.get(path);
+        if (compiledPath == null) {
+            compiledPath = CompiledPath.compile(path);
+            if ((compiledPath != null) && (paths.size() < MAX_COMPILED_PATHS)) {
+                paths.put(path, compiledPath);
+            }
+        }
+        return compiledPath;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the primitive kind of each property of this type.
+     */
+    byte[] getPrimitivePropertyKinds() {
+        byte[] kinds = primitivePropertyKinds;
+        List properties = getProperties();
+        if ((kinds == null) || (kinds.length != properties.size())) {
+            kinds = PrimitiveValueStore.buildPrimitiveKinds(properties);
+            primitivePropertyKinds = kinds;
+        }
+        return kinds;
     }
 
     /**
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sdo.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.sdo.SDOType;
+
+import commonj.sdo.DataObject;
+import commonj.sdo.Property;
+import commonj.sdo.Type;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: A simple SDO path, such as "a/b[2]/@c" or "a/b.1/c", parsed once into
+ * the property name and position of each step.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Parse paths made only of property names, positions and attribute markers,
+ * other paths are evaluated by the {@link XPathEngine}
+ * <li> Resolve the declared property of each step once per type, instead of looking it up by name on every access
+ * <li> Navigate the steps of the path with the same results as the {@link XPathEngine}
+ * </ul>
+ *
+ * @see SDOType#getCompiledPath(String)
+ * @since EclipseLink 4.1
+ */
+public final class CompiledPath {
+    /** Longest position that is parsed, longer positions are left to the XPathEngine. */
+    private static final int MAX_POSITION_DIGITS = 9;
+
+    private final String[] propertyNames;
+    private final int[] positions;
+
+    /** The declared property of each step, for the type it was last resolved against. */
+    private final ResolvedProperty[] resolvedProperties;
+
+    private CompiledPath(String[] propertyNames, int[] positions) {
+        this.propertyNames = propertyNames;
+        this.positions = positions;
+        this.resolvedProperties = new ResolvedProperty[propertyNames.length];
+    }
+
+    /**
+     * Parse the path, or return null if it is not a simple path.
+     * Paths with namespace prefixes, queries, "..", "/" or empty steps are not simple.
+     */
+    public static CompiledPath compile(String path) {
+        if ((path == null) || path.isEmpty()) {
+            return null;
+        }
+        List<String> names = new ArrayList<>();
+        List<Integer> stepPositions = new ArrayList<>();
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = path.length();
+            }
+            String step = path.substring(start, end);
+            if (!compileStep(step, names, stepPositions)) {
+                return null;
+            }
+            start = end + 1;
+        }
+        int size = names.size();
+        int[] positions = new int[size];
+        for (int index = 0; index < size; index++) {
+            positions[index] = stepPositions.get(index);
+        }
+        return new CompiledPath(names.toArray(new String[size]), positions);
+    }
+
+    /**
+     * Parse one step as "name", "@name", "name.n" (zero based) or "name[n]" (one based).
+     */
+    private static boolean compileStep(String step, List<String> names, List<Integer> positions) {
+        int nameStart = step.startsWith("@") ? 1 : 0;
+        int nameEnd = step.length();
+        int position = -1;
+        if (step.endsWith("]")) {
+            int openBracket = step.indexOf('[');
+            if ((openBracket == -1) || !isNumber(step, openBracket + 1, step.length() - 1) || (step.charAt(openBracket + 1) == '0')) {
+                return false;
+            }
+            position = Integer.parseInt(step.substring(openBracket + 1, step.length() - 1)) - 1;
+            nameEnd = openBracket;
+        } else {
+            int dot = step.indexOf('.');
+            if (dot != -1) {
+                if (!isNumber(step, dot + 1, step.length())) {
+                    return false;
+                }
+                position = Integer.parseInt(step.substring(dot + 1));
+                nameEnd = dot;
+            }
+        }
+        if (nameEnd <= nameStart) {
+            return false;
+        }
+        for (int index = nameStart; index < nameEnd; index++) {
+            char next = step.charAt(index);
+            if ((next == ':') || (next == '@') || (next == '.') || (next == '[') || (next == ']') || (next == '=')) {
+                return false;
+            }
+        }
+        names.add(step.substring(nameStart, nameEnd));
+        positions.add(position);
+        return true;
+    }
+
+    private static boolean isNumber(String step, int start, int end) {
+        if ((end <= start) || ((end - start) > MAX_POSITION_DIGITS)) {
+            return false;
+        }
+        for (int index = start; index < end; index++) {
+            char next = step.charAt(index);
+            if ((next < '0') || (next > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the number of steps in the path.
+     */
+    public int size() {
+        return propertyNames.length;
+    }
+
+    /**
+     * Return the property name of the step.
+     */
+    public String getPropertyName(int step) {
+        return propertyNames[step];
+    }
+
+    /**
+     * Return the zero based position of the step, or -1 if the step has no position.
+     */
+    public int getPosition(int step) {
+        return positions[step];
+    }
+
+    /**
+     * Return the property of the step for the DataObject, as DataObject.getInstanceProperty(String) would.
+     * Declared properties are cached for the type of the DataObject, open content properties are looked up every time.
+     */
+    public Property getProperty(int step, DataObject dataObject) {
+        Type type = dataObject.getType();
+        ResolvedProperty resolved = resolvedProperties[step];
+        if ((resolved != null) && (resolved.type == type)) {
+            return resolved.property;
+        }
+        Property property = dataObject.getInstanceProperty(propertyNames[step]);
+        if ((property != null) && (type != null) && (type.getProperty(propertyNames[step]) == property)) {
+            resolvedProperties[step] = new ResolvedProperty(type, property);
+        }
+        return property;
+    }
+
+    /**
+     * Return the value at the end of the path.
+     */
+    public Object get(DataObject caller) {
+        return get(caller, propertyNames.length);
+    }
+
+    /**
+     * Return the value at the end of the first steps of the path.
+     * As in the XPathEngine, a null or list value before the last step fails with an exception.
+     */
+    public Object get(DataObject caller, int steps) {
+        Object value = caller;
+        for (int step = 0; step < steps; step++) {
+            DataObject dataObject = (DataObject) value;
+            Property property = getProperty(step, dataObject);
+            if (property == null) {
+                value = null;
+            } else if (property.isMany() && (positions[step] > -1)) {
+                value = dataObject.getList(property).get(positions[step]);
+            } else {
+                value = dataObject.get(property);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * The declared property of a step for a type, replaced as a whole so it can be read without locking.
+     */
+    private static final class ResolvedProperty {
+        private final Type type;
+        private final Property property;
+
+        private ResolvedProperty(Type type, Property property) {
+            this.type = type;
+            this.property = property;
+        }
+    }
+}
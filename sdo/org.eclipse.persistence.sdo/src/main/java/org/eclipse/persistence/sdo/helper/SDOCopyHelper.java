@@ -22,6 +22,7 @@
 import java.util.Map;
 
 import org.eclipse.persistence.sdo.DefaultValueStore;
+import org.eclipse.persistence.sdo.PrimitiveValueStore;
 import org.eclipse.persistence.sdo.SDOChangeSummary;
 import org.eclipse.persistence.sdo.SDODataObject;
 import org.eclipse.persistence.sdo.SDOProperty;
@@ -479,7 +480,7 @@ private void processContainmentSequencesPrivate(Map doMap, SDOChangeSummary cs)
      * @return
      */
     private ValueStore createValueStore() {
-        return new DefaultValueStore();
+        return PrimitiveValueStore.isEnabled() ? new PrimitiveValueStore() : new DefaultValueStore();
     }
 
     /**
@@ -16,6 +16,7 @@
 
 import commonj.sdo.ChangeSummary;
 import commonj.sdo.DataObject;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -129,112 +130,148 @@ public void beforeMarshal(Object obj) {
                          +xpathChangeSumProp + SDOConstants.SDO_XPATH_SEPARATOR_FRAGMENT;
 
             //MODIFIED && DELETED
-            List deletedXPaths = new ArrayList();
-            Document document = XMLPlatformFactory.getInstance().getXMLPlatform().createDocument();
-            Element csNode = null;
+            //the deleted xpaths are written before the modified elements, so they are collected first
+            //and each modified element is only built when it is written
             List modifiedItems = changeSummary.getModified();
-            int modifiedSize = modifiedItems.size();
-            List newNodes = new ArrayList(modifiedSize);
-            SDODataObject nextModifiedDO = null;
-
-            //Iterate through CS modified items
-            for (int i = 0; i < modifiedSize; i++) {
-                nextModifiedDO = (SDODataObject)modifiedItems.get(i);
-                String sdoPrefix = typeHelper.getPrefix(SDOConstants.SDO_URL);
-
-                //List unsetPropNames = new ArrayList();
-                String uri = getURI(nextModifiedDO);
-                String qualifiedName = getQualifiedName(nextModifiedDO);
-                String sdoRefPrefix = SDOConstants.SDO_CHANGESUMMARY_REF_PATH_PREFIX + SDOConstants.SDO_XPATH_SEPARATOR_FRAGMENT;
-
-                if (uri == null) {
-                    csNode = document.createElement(qualifiedName);
-                } else {
-                    csNode = document.createElementNS(uri, qualifiedName);
-                }
+            String sdoPrefix = typeHelper.getPrefix(SDOConstants.SDO_URL);
+            List deletedXPaths = new ArrayList();
+            for (int i = 0, modifiedSize = modifiedItems.size(); i < modifiedSize; i++) {
+                addDeletedXPaths(changeSummary, (SDODataObject)modifiedItems.get(i), deletedXPaths, xpathToCS);
+            }
 
-                String nextPath = getPathFromAncestor(nextModifiedDO, (SDODataObject)marshalledObject, changeSummary);
-                //Add sdoRef attribute...all modified objects written should have this
-                if(nextPath == SDOConstants.EMPTY_STRING) {
-                    //if this is the root, just put the root element
-                    csNode.setAttributeNS(SDOConstants.SDO_URL, sdoPrefix +//
-                            SDOConstants.SDO_XPATH_NS_SEPARATOR_FRAGMENT +//
-                            SDOConstants.CHANGESUMMARY_REF,//
-                            sdoRefPrefix + rootElementName);
+            changeSummary.setDeletedXPaths(deletedXPaths);
+            changeSummary.setModifiedDoms(new ModifiedElementList(changeSummary, modifiedItems, marshalledObject, sdoPrefix, rootElementName));
+        }
+    }
 
+    /**
+     * Add the xpaths of the deleted DataObjects in the old values of the modified DataObject,
+     * in the order they are written by {@link #buildModifiedElement}.
+     */
+    private void addDeletedXPaths(SDOChangeSummary changeSummary, SDODataObject modifiedObject, List deletedXPaths, String xpathToCS) {
+        List nextDOSettings = changeSummary.getOldValues(modifiedObject);
+        for (int j = 0; j < nextDOSettings.size(); j++) {
+            SDOSetting nextSetting = (SDOSetting)nextDOSettings.get(j);
+            if (nextSetting.isSet() && !nextSetting.getProperty().getType().isDataType()) {
+                if (nextSetting.getProperty().isMany()) {
+                    List values = (List)nextSetting.getValue();
+                    for (int k = 0; k < values.size(); k++) {
+                        addDeletedXPath(changeSummary, modifiedObject, (DataObject)values.get(k), deletedXPaths, xpathToCS);
+                    }
                 } else {
-                    csNode.setAttributeNS(SDOConstants.SDO_URL, sdoPrefix +//
-                                      SDOConstants.SDO_XPATH_NS_SEPARATOR_FRAGMENT +//
-                                      SDOConstants.CHANGESUMMARY_REF,//
-                                      sdoRefPrefix + rootElementName + "/" + nextPath);
+                    addDeletedXPath(changeSummary, modifiedObject, (DataObject)nextSetting.getValue(), deletedXPaths, xpathToCS);
                 }
+            }
+        }
+    }
 
-                //Bug6346754 Add all namespaces if they are not yet declared above.
-                Vector namespaces = nextModifiedDO.getType().getXmlDescriptor().getNonNullNamespaceResolver().getNamespaces();
-                for (int j = 0; j < namespaces.size(); j++) {
-                    Namespace next = (Namespace)namespaces.get(j);
-                    if (declareNamespace(next.getNamespaceURI(), next.getPrefix(), changeSummary.getRootObject())) {
-                        csNode.setAttributeNS(javax.xml.XMLConstants.XMLNS_ATTRIBUTE_NS_URI, javax.xml.XMLConstants.XMLNS_ATTRIBUTE + XMLConstants.COLON + next.getPrefix(), next.getNamespaceURI());
-                    }
-                }
+    private void addDeletedXPath(SDOChangeSummary cs, SDODataObject modifiedObject, DataObject value, List deletedXPaths, String xpathToCS) {
+        if (value == null) {
+            return;
+        }
+        Object original = cs.getReverseDeletedMap().get(value);
+        if ((original != null) && cs.isDeleted((DataObject)original)) {
+            String pathToNode = getPathFromAncestor(((SDODataObject)original), modifiedObject, cs);
+            String containerPath = getQualifiedName(modifiedObject);
+            deletedXPaths.add(xpathToCS + containerPath + SDOConstants.SDO_XPATH_SEPARATOR_FRAGMENT + pathToNode);
+        }
+    }
+
+    /**
+     * Build the element written in the change summary for the modified DataObject, with its old values.
+     */
+    private Element buildModifiedElement(Document document, SDOChangeSummary changeSummary, SDODataObject nextModifiedDO, Object marshalledObject,//
+                                         String sdoPrefix, String rootElementName) {
+        Element csNode = null;
+
+        //List unsetPropNames = new ArrayList();
+        String uri = getURI(nextModifiedDO);
+        String qualifiedName = getQualifiedName(nextModifiedDO);
+        String sdoRefPrefix = SDOConstants.SDO_CHANGESUMMARY_REF_PATH_PREFIX + SDOConstants.SDO_XPATH_SEPARATOR_FRAGMENT;
+
+        if (uri == null) {
+            csNode = document.createElement(qualifiedName);
+        } else {
+            csNode = document.createElementNS(uri, qualifiedName);
+        }
+
+        String nextPath = getPathFromAncestor(nextModifiedDO, (SDODataObject)marshalledObject, changeSummary);
+        //Add sdoRef attribute...all modified objects written should have this
+        if(nextPath == SDOConstants.EMPTY_STRING) {
+            //if this is the root, just put the root element
+            csNode.setAttributeNS(SDOConstants.SDO_URL, sdoPrefix +//
+                    SDOConstants.SDO_XPATH_NS_SEPARATOR_FRAGMENT +//
+                    SDOConstants.CHANGESUMMARY_REF,//
+                    sdoRefPrefix + rootElementName);
+
+        } else {
+            csNode.setAttributeNS(SDOConstants.SDO_URL, sdoPrefix +//
+                              SDOConstants.SDO_XPATH_NS_SEPARATOR_FRAGMENT +//
+                              SDOConstants.CHANGESUMMARY_REF,//
+                              sdoRefPrefix + rootElementName + "/" + nextPath);
+        }
 
-                List nextDOSettings = changeSummary.getOldValues(nextModifiedDO);
-                DOMRecord row = new DOMRecord(csNode);
-
-                Session session = ((SDOXMLHelper)typeHelper.getHelperContext().getXMLHelper()).getXmlContext().getSession();
-                row.setSession((AbstractSession) session);
-
-                //Iterate through SDOSettings for the current modified Object
-                SDOSetting nextSetting = null;
-                for (int j = 0; j < nextDOSettings.size(); j++) {
-                    nextSetting = (SDOSetting)nextDOSettings.get(j);
-                    if (nextSetting.isSet()) {
-                        if (!nextSetting.getProperty().getType().isDataType()) {
-                            if (nextSetting.getProperty().isMany()) {
-                                List values = (List)nextSetting.getValue();
-                                for (int k = 0; k < values.size(); k++) {
-                                    doMarshal(nextSetting.getProperty(), (DataObject)values.get(k),//
-                                              changeSummary, csNode, nextModifiedDO, deletedXPaths, xpathToCS, sdoPrefix, rootElementName);
-                                }
-                            } else {
-                                doMarshal(nextSetting.getProperty(), (DataObject)nextSetting.getValue(),//
-                                          changeSummary, csNode, nextModifiedDO, deletedXPaths, xpathToCS, sdoPrefix, rootElementName);
-                            }
-                        } else {
-                            //This writes out simple values
-                            Object value = nextSetting.getValue();
-
-                            if (value == null) {
-                                //Marshal out xsi:nil=true
-                                marshalNilAttribute(nextSetting.getProperty(), row);
-                            } else {
-                                String xPath = getXPathForProperty(nextSetting.getProperty());
-                                XMLField field = new XMLField(xPath);
-                                field.setNamespaceResolver(typeHelper.getNamespaceResolver());
-                                row.put(field, value);
-                            }
+        //Bug6346754 Add all namespaces if they are not yet declared above.
+        Vector namespaces = nextModifiedDO.getType().getXmlDescriptor().getNonNullNamespaceResolver().getNamespaces();
+        for (int j = 0; j < namespaces.size(); j++) {
+            Namespace next = (Namespace)namespaces.get(j);
+            if (declareNamespace(next.getNamespaceURI(), next.getPrefix(), changeSummary.getRootObject())) {
+                csNode.setAttributeNS(javax.xml.XMLConstants.XMLNS_ATTRIBUTE_NS_URI, javax.xml.XMLConstants.XMLNS_ATTRIBUTE + XMLConstants.COLON + next.getPrefix(), next.getNamespaceURI());
+            }
+        }
+
+        List nextDOSettings = changeSummary.getOldValues(nextModifiedDO);
+        DOMRecord row = new DOMRecord(csNode);
+
+        Session session = ((SDOXMLHelper)typeHelper.getHelperContext().getXMLHelper()).getXmlContext().getSession();
+        row.setSession((AbstractSession) session);
+
+        //Iterate through SDOSettings for the current modified Object
+        SDOSetting nextSetting = null;
+        for (int j = 0; j < nextDOSettings.size(); j++) {
+            nextSetting = (SDOSetting)nextDOSettings.get(j);
+            if (nextSetting.isSet()) {
+                if (!nextSetting.getProperty().getType().isDataType()) {
+                    if (nextSetting.getProperty().isMany()) {
+                        List values = (List)nextSetting.getValue();
+                        for (int k = 0; k < values.size(); k++) {
+                            doMarshal(nextSetting.getProperty(), (DataObject)values.get(k),//
+                                      changeSummary, csNode, nextModifiedDO, marshalledObject, sdoPrefix, rootElementName);
                         }
+                    } else {
+                        doMarshal(nextSetting.getProperty(), (DataObject)nextSetting.getValue(),//
+                                  changeSummary, csNode, nextModifiedDO, marshalledObject, sdoPrefix, rootElementName);
                     }
-                }
+                } else {
+                    //This writes out simple values
+                    Object value = nextSetting.getValue();
 
-                List unsetPropNames = changeSummary.getUnsetProps(nextModifiedDO);
-                if (!unsetPropNames.isEmpty()) {
-                    XMLConversionManager xmlConversionManager = ((SDOXMLHelper)typeHelper.getHelperContext().getXMLHelper()).getXmlConversionManager();
-                    String unsetPropsString = xmlConversionManager.convertObject(unsetPropNames, String.class);
-                    csNode.setAttributeNS(SDOConstants.SDO_URL, sdoPrefix +//
-                                          SDOConstants.SDO_XPATH_NS_SEPARATOR_FRAGMENT +//
-                                          SDOConstants.CHANGESUMMARY_UNSET, unsetPropsString);
+                    if (value == null) {
+                        //Marshal out xsi:nil=true
+                        marshalNilAttribute(nextSetting.getProperty(), row);
+                    } else {
+                        String xPath = getXPathForProperty(nextSetting.getProperty());
+                        XMLField field = new XMLField(xPath);
+                        field.setNamespaceResolver(typeHelper.getNamespaceResolver());
+                        row.put(field, value);
+                    }
                 }
-                newNodes.add(csNode);
             }
+        }
 
-            changeSummary.setDeletedXPaths(deletedXPaths);
-            changeSummary.setModifiedDoms(newNodes);
+        List unsetPropNames = changeSummary.getUnsetProps(nextModifiedDO);
+        if (!unsetPropNames.isEmpty()) {
+            XMLConversionManager xmlConversionManager = ((SDOXMLHelper)typeHelper.getHelperContext().getXMLHelper()).getXmlConversionManager();
+            String unsetPropsString = xmlConversionManager.convertObject(unsetPropNames, String.class);
+            csNode.setAttributeNS(SDOConstants.SDO_URL, sdoPrefix +//
+                                  SDOConstants.SDO_XPATH_NS_SEPARATOR_FRAGMENT +//
+                                  SDOConstants.CHANGESUMMARY_UNSET, unsetPropsString);
         }
+        return csNode;
     }
 
     private void doMarshal(SDOProperty prop, DataObject value, SDOChangeSummary cs,//
-                           Element csNode, SDODataObject modifiedObject, List deletedXPaths, String xpathToCS, String sdoPrefix, String rootElementName) {
+                           Element csNode, SDODataObject modifiedObject, Object marshalledObject, String sdoPrefix, String rootElementName) {
         if (value == null) {
             //Marshal out xsi:nil=true
             DOMRecord row = new DOMRecord(csNode);
@@ -262,11 +299,7 @@ private void doMarshal(SDOProperty prop, DataObject value, SDOChangeSummary cs,/
         }
 
         if (isDeleted) {
-            String pathToNode = getPathFromAncestor(((SDODataObject)original), modifiedObject, cs);
-            String containerPath = null;
-            containerPath = getQualifiedName(modifiedObject);
-            deletedXPaths.add(xpathToCS + containerPath + SDOConstants.SDO_XPATH_SEPARATOR_FRAGMENT + pathToNode);
-
+            //the xpath of the deleted DataObject was added by addDeletedXPath
             XMLRoot xmlroot = new XMLRoot();
             xmlroot.setObject(value);//set the object to the deep copy
             xmlroot.setNamespaceURI(uri);
@@ -612,4 +645,39 @@ private void copyNamespaces(NamespaceResolver source, NamespaceResolver target)
             target.setDefaultNamespaceURI(source.getDefaultNamespaceURI());
         }
     }
+
+    /**
+     * The elements of the modified DataObjects of a change summary, each built when it is read,
+     * so the elements of a large change summary are not all held in memory while it is written.
+     */
+    private final class ModifiedElementList extends AbstractList {
+        private final SDOChangeSummary changeSummary;
+        private final List modifiedItems;
+        private final Object marshalledObject;
+        private final String sdoPrefix;
+        private final String rootElementName;
+        private Document document;
+
+        private ModifiedElementList(SDOChangeSummary changeSummary, List modifiedItems, Object marshalledObject,//
+                                    String sdoPrefix, String rootElementName) {
+            this.changeSummary = changeSummary;
+            this.modifiedItems = modifiedItems;
+            this.marshalledObject = marshalledObject;
+            this.sdoPrefix = sdoPrefix;
+            this.rootElementName = rootElementName;
+        }
+
+        @Override
+        public Object get(int index) {
+            if (document == null) {
+                document = XMLPlatformFactory.getInstance().getXMLPlatform().createDocument();
+            }
+            return buildModifiedElement(document, changeSummary, (SDODataObject)modifiedItems.get(index), marshalledObject, sdoPrefix, rootElementName);
+        }
+
+        @Override
+        public int size() {
+            return modifiedItems.size();
+        }
+    }
 }
@@ -24,6 +24,7 @@
 import org.eclipse.persistence.oxm.XMLConstants;
 import org.eclipse.persistence.sdo.SDOConstants;
 import org.eclipse.persistence.sdo.SDODataObject;
+import org.eclipse.persistence.sdo.SDOType;
 
 import commonj.sdo.DataObject;
 import commonj.sdo.Property;
@@ -105,6 +106,10 @@ public Object get(String path, DataObject caller) {// path like "a/b/c"
         if (path.equals(SDOConstants.SDO_XPATH_TO_ROOT)) {
             return ((SDODataObject)caller).getRootObject();
         }
+        CompiledPath compiledPath = getCompiledPath(path, caller);
+        if (compiledPath != null) {
+            return compiledPath.get(caller);
+        }
         path = getLocalName(path);
 
         int index = path.indexOf('/');
@@ -136,6 +141,23 @@ public Object get(String path, DataObject caller) {// path like "a/b/c"
      * @return          true if operation is isset and property's value is set, otherwise false.
      */
     private boolean processPath(String path, Object value, DataObject caller, boolean convertValue, int _case) {
+        CompiledPath compiledPath = getCompiledPath(path, caller);
+        if (compiledPath != null) {
+            int last = compiledPath.size() - 1;
+            String lastPropertyName = compiledPath.getPropertyName(last);
+            DataObject lastDataObject;
+            if (last > 0) {
+                Object lastObject = compiledPath.get(caller, last);
+                if (lastObject == null || lastObject instanceof ListWrapper) {
+                    throw SDOException.cannotPerformOperationOnProperty(lastPropertyName, path);
+                }
+                lastDataObject = (SDODataObject) lastObject;
+            } else {
+                lastDataObject = caller;
+            }
+            Property lastProperty = compiledPath.getProperty(last, lastDataObject);
+            return setIsSetUnSet(lastProperty, lastPropertyName, lastDataObject, value, compiledPath.getPosition(last), convertValue, _case);
+        }
         path = getLocalName(path);
         int lastSlashIndex = path.lastIndexOf('/');
         String frag;
@@ -179,7 +201,21 @@ private boolean setIsSetUnSet(String frag, String path, DataObject caller, Objec
             lastDataObject = caller;
         }
         Property lastProperty = lastDataObject.getInstanceProperty(lastPropertyName);// get property of this dataobject
+        return setIsSetUnSet(lastProperty, lastPropertyName, lastDataObject, value, numInLastProperty, convertValue, _case);
+    }
 
+    /**According to the requirement, correspondingly perform isset, unset or set function on the resolved property.
+     *
+     * @param lastProperty      the property to operate on, or null if the DataObject does not have it
+     * @param lastPropertyName  the name of the property
+     * @param lastDataObject    the DataObject, owner of the property
+     * @param value             the value to be set as the target property's value
+     * @param numInLastProperty the index number in the value list of the above property
+     * @param convertValue     boolean used for set if we should convert the value
+     * @param _case             an int value indicating what kind of operation to use: set, isset or unset.
+     * @return                  true if operation is isset and property's value is set, otherwise false.
+     */
+    private boolean setIsSetUnSet(Property lastProperty, String lastPropertyName, DataObject lastDataObject, Object value, int numInLastProperty, boolean convertValue, int _case) {
         switch (_case) {
         case SET:
             if (lastProperty == null) {
@@ -266,6 +302,22 @@ private void set(Property lastProperty, DataObject lastDataObject, int numInLast
         }
     }
 
+    /** Return the compiled form of the path for the type of the caller, or null if the path is not simple.
+     *
+     * @param path      the String representation of path based access
+     * @param caller    the DataObject that pass path information in
+     * @return          the compiled path, or null
+     */
+    private CompiledPath getCompiledPath(String path, DataObject caller) {
+        if (caller instanceof SDODataObject) {
+            SDOType type = ((SDODataObject)caller).getType();
+            if (type != null) {
+                return type.getCompiledPath(path);
+            }
+        }
+        return null;
+    }
+
     private String getLocalName(String qualifiedName) {
         int index = qualifiedName.indexOf(':');
         if (index > -1) {
@@ -505,9 +557,32 @@ public Object convertObjectToValueByPath(String path, Class<?> cls, DataObject c
             String lastPropertyName;
             Property lastProperty;
             int numInLastProperty = -1;
+            CompiledPath compiledPath = getCompiledPath(path, caller);
 
             // to do: if "/" or ".." lastDataObject = container or root
-            if (-1 < lastSlashIndex) {// case 1 "a/b/c"
+            if (compiledPath != null) {
+                int last = compiledPath.size() - 1;
+                numInLastProperty = compiledPath.getPosition(last);
+                if (last > 0) {
+                    // as caller.getDataObject(path) for the path of the last DataObject
+                    Object lastObject;
+                    try {
+                        lastObject = compiledPath.get(caller, last);
+                    } catch (Exception e) {
+                        lastObject = null;
+                    }
+                    if (lastObject instanceof ListWrapper) {
+                        lastObject = ((ListWrapper)lastObject).get(0);
+                    }
+                    lastDataObject = (SDODataObject)lastObject;
+                } else {
+                    lastDataObject = (SDODataObject)caller;
+                }
+                if(lastDataObject == null){
+                  return null;
+                }
+                lastProperty = compiledPath.getProperty(last, lastDataObject);
+            } else if (-1 < lastSlashIndex) {// case 1 "a/b/c"
                 String frag = path.substring(lastSlashIndex + 1);
                 int indexOfDot = frag.lastIndexOf('.');
                 int indexOfOpenBracket = frag.lastIndexOf('[');
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.sdo.model.changesummary;
+
+import junit.textui.TestRunner;
+import org.eclipse.persistence.sdo.JournalValueStore;
+import org.eclipse.persistence.sdo.ValueStore;
+
+public class ChangeSummaryJournalValueStoreTest extends ChangeSummaryTestCases {
+
+    public ChangeSummaryJournalValueStoreTest(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        String[] arguments = { "-c", "org.eclipse.persistence.testing.sdo.model.changesummary.ChangeSummaryJournalValueStoreTest" };
+        TestRunner.main(arguments);
+    }
+
+    // purpose: the first change after logging keeps the ValueStore as the original one
+    // and records only the changed property in the journal
+    public void testChangeRecordedInJournal() {
+        changeSummary.beginLogging();
+        ValueStore aValueStore = root._getCurrentValueStore();
+        root.set(rootProperty1, "changed");
+
+        assertSame(aValueStore, changeSummary.getOriginalValueStores().get(root));
+        assertTrue(root._getCurrentValueStore() instanceof JournalValueStore);
+        JournalValueStore aJournal = (JournalValueStore)root._getCurrentValueStore();
+        assertSame(aValueStore, aJournal.getOriginalValueStore());
+        assertEquals(1, aJournal.getJournalSize());
+
+        assertEquals("changed", root.get(rootProperty1));
+        assertFalse(aValueStore.isSetDeclaredProperty(rootProperty1.getIndexInType()));
+        assertSame(containedDataObject, root.get(rootProperty));
+    }
+
+    // purpose: changing the same property again does not grow the journal
+    public void testSameChangeRecordedOnce() {
+        changeSummary.beginLogging();
+        root.set(rootProperty1, "first");
+        root.set(rootProperty1, "second");
+        root.unset(rootProperty1);
+
+        JournalValueStore aJournal = (JournalValueStore)root._getCurrentValueStore();
+        assertEquals(1, aJournal.getJournalSize());
+        assertFalse(root.isSet(rootProperty1));
+        assertFalse(aJournal.getOriginalValueStore().isSetDeclaredProperty(rootProperty1.getIndexInType()));
+    }
+
+    // purpose: undo restores the original ValueStore
+    public void testUndoChangesRestoresOriginalValueStore() {
+        changeSummary.beginLogging();
+        ValueStore aValueStore = root._getCurrentValueStore();
+        root.set(rootProperty1, "changed");
+        changeSummary.undoChanges();
+
+        assertSame(aValueStore, root._getCurrentValueStore());
+        assertFalse(root.isSet(rootProperty1));
+        assertSame(containedDataObject, root.get(rootProperty));
+    }
+
+    // purpose: a copy of the journal has the current values and is equal to it
+    public void testCopyEqualsJournal() {
+        changeSummary.beginLogging();
+        root.set(rootProperty1, "changed");
+        JournalValueStore aJournal = (JournalValueStore)root._getCurrentValueStore();
+        ValueStore aCopy = aJournal.copy();
+
+        assertFalse(aCopy instanceof JournalValueStore);
+        assertEquals("changed", aCopy.getDeclaredProperty(rootProperty1.getIndexInType()));
+        assertTrue(aCopy.equals(aJournal));
+        assertTrue(aJournal.equals(aCopy));
+        assertEquals(aCopy.hashCode(), aJournal.hashCode());
+        assertFalse(aJournal.equals(aJournal.getOriginalValueStore()));
+    }
+
+    // purpose: the journal is applied to the ValueStore when logging begins again
+    public void testJournalCommittedOnBeginLogging() {
+        changeSummary.beginLogging();
+        root.set(rootProperty1, "changed");
+        changeSummary.endLogging();
+        changeSummary.beginLogging();
+
+        assertFalse(root._getCurrentValueStore() instanceof JournalValueStore);
+        assertEquals("changed", root.get(rootProperty1));
+        assertTrue(changeSummary.getOriginalValueStores().isEmpty());
+    }
+}
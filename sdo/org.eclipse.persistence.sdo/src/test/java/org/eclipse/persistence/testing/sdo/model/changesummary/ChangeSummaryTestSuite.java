@@ -61,6 +61,7 @@ public static Test suite() {
         suite.addTest(new TestSuite(ChangeSummaryXSDWithCSonChildUndoTestCases.class));// Undo tests that use an XML schema to load types
         suite.addTest(new TestSuite(ChangeSummaryXSDWithCSonRootUndoTestCases.class));// Undo tests that use an XML schema to load types
         suite.addTest(new TestSuite(ChangeSummaryUndoChangeTest.class));// Undo tests that use DataFactory model to load types
+        suite.addTest(new TestSuite(ChangeSummaryJournalValueStoreTest.class));
         // 20070211: 1 extra failure until #5876860 is fixed
         suite.addTest(new TestSuite(ChangeSummaryXSDTestCases.class));// to be removed when we have all tests extracted
         // the following hybrid Model/XML tests will contain 1 model test and 10 inherited from the XML suite
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.sdo.model.dataobject;
+
+import org.eclipse.persistence.sdo.PrimitiveValueStore;
+import org.eclipse.persistence.sdo.SDOConstants;
+import org.eclipse.persistence.sdo.SDOProperty;
+import org.eclipse.persistence.sdo.ValueStore;
+import org.eclipse.persistence.sdo.helper.CompiledPath;
+
+public class SDODataObjectCompiledPathTest extends SDODataObjectConversionWithPathTestCases {
+    public SDODataObjectCompiledPathTest(String name) {
+        super(name);
+    }
+
+    public void testCompile() {
+        CompiledPath compiledPath = CompiledPath.compile("a/@b/c[2]/d.3");
+        assertEquals(4, compiledPath.size());
+        assertEquals("a", compiledPath.getPropertyName(0));
+        assertEquals("b", compiledPath.getPropertyName(1));
+        assertEquals("c", compiledPath.getPropertyName(2));
+        assertEquals("d", compiledPath.getPropertyName(3));
+        assertEquals(-1, compiledPath.getPosition(0));
+        assertEquals(-1, compiledPath.getPosition(1));
+        assertEquals(1, compiledPath.getPosition(2));
+        assertEquals(3, compiledPath.getPosition(3));
+
+        // paths that are left to the XPathEngine
+        assertNull(CompiledPath.compile("ns:a/b"));
+        assertNull(CompiledPath.compile("a/.."));
+        assertNull(CompiledPath.compile("a[b=1]/c"));
+        assertNull(CompiledPath.compile("/a"));
+        assertNull(CompiledPath.compile("a/"));
+        assertNull(CompiledPath.compile("a[0]"));
+        assertNull(CompiledPath.compile("a.b"));
+    }
+
+    public void testCompiledPathCachedOnType() {
+        property_c = new SDOProperty(aHelperContext);
+        property_c.setName(PROPERTY_NAME_C);
+        property_c.setType(SDOConstants.SDO_INT);
+        type_c.addDeclaredProperty(property_c);
+        dataObject_c._setType(type_c);
+
+        dataObject_a.setInt(propertyPath_a_b_c, 5);
+        assertEquals(5, dataObject_a.getInt(propertyPath_a_b_c));
+        assertEquals(5, dataObject_a.get(propertyPath_a_b_c));
+        assertTrue(dataObject_a.isSet(propertyPath_a_b_c));
+        assertSame(type_a.getCompiledPath(propertyPath_a_b_c), type_a.getCompiledPath(propertyPath_a_b_c));
+
+        dataObject_a.unset(propertyPath_a_b_c);
+        assertFalse(dataObject_a.isSet(propertyPath_a_b_c));
+    }
+
+    public void testPrimitiveValueStore() {
+        property_c = new SDOProperty(aHelperContext);
+        property_c.setName(PROPERTY_NAME_C);
+        property_c.setType(SDOConstants.SDO_DOUBLE);
+        type_c.addDeclaredProperty(property_c);
+        dataObject_c._setType(type_c);
+        PrimitiveValueStore valueStore = new PrimitiveValueStore();
+        dataObject_c._setCurrentValueStore(valueStore);
+        valueStore.initialize(dataObject_c);
+
+        dataObject_c.setDouble(property_c, 2.5);
+        int index = property_c.getIndexInType();
+        assertFalse("The value should be stored unboxed", valueStore.getTypePropertyValues()[index] instanceof Double);
+        assertEquals(2.5, dataObject_c.getDouble(property_c));
+        assertEquals(2.5, dataObject_a.getDouble(propertyPath_a_b_c));
+
+        ValueStore copy = valueStore.copy();
+        assertEquals(valueStore, copy);
+        assertEquals(valueStore.hashCode(), copy.hashCode());
+        dataObject_c.setDouble(property_c, 3.5);
+        assertEquals(2.5, copy.getDeclaredProperty(index));
+
+        dataObject_c.unset(property_c);
+        assertFalse(dataObject_c.isSet(property_c));
+        assertEquals(0.0, dataObject_c.getDouble(property_c));
+    }
+}
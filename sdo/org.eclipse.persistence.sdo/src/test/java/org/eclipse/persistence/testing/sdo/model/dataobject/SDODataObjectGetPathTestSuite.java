@@ -65,6 +65,7 @@ public static Test suite() {
         suite.addTest(new TestSuite(SDODataObjectGetListByPositionalPathTest.class));
 
         suite.addTest(new TestSuite(SDODataObjectGetPathTest.class));
+        suite.addTest(new TestSuite(SDODataObjectCompiledPathTest.class));
 
         return suite;
     }